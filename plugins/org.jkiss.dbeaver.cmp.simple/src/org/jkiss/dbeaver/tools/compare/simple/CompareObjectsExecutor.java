@@ -32,6 +32,7 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.SubTaskProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.jkiss.dbeaver.model.struct.DBStructPrefetcher;
 import org.jkiss.dbeaver.runtime.properties.*;
 
 import java.util.*;
@@ -295,12 +296,16 @@ public class CompareObjectsExecutor {
         List<DBNDatabaseNode[]> allChildren = new ArrayList<>(nodeCount);
         // Use submonitor to avoid huge number of tasks
         DBRProgressMonitor subMonitor = new SubTaskProgressMonitor(monitor);
+        // Cache structure if possible. Compared containers are read in parallel
+        List<DBSObjectContainer> containers = new ArrayList<>(nodeCount);
+        for (DBNDatabaseNode node : nodes) {
+            if (node.getObject() instanceof DBSObjectContainer container) {
+                containers.add(container);
+            }
+        }
+        DBStructPrefetcher.cacheStructure(subMonitor, containers, DBSObjectContainer.STRUCT_ALL);
         for (int i = 0; i < nodeCount; i++) {
             DBNDatabaseNode node = nodes.get(i);
-            // Cache structure if possible
-            if (node.getObject() instanceof DBSObjectContainer) {
-                ((DBSObjectContainer) node.getObject()).cacheStructure(subMonitor, DBSObjectContainer.STRUCT_ALL);
-            }
             try {
                 DBNDatabaseNode[] children = node.getChildren(subMonitor);
                 allChildren.add(children);
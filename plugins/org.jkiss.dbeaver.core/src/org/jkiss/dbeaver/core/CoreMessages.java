@@ -298,6 +298,12 @@ public class CoreMessages extends NLS {
     public static String pref_page_database_general_group_performance;
     public static String pref_page_database_general_checkbox_disable_extra_metadata;
     public static String pref_page_database_general_checkbox_disable_extra_metadata_tip;
+    public static String pref_page_database_general_checkbox_metadata_snapshot;
+    public static String pref_page_database_general_checkbox_metadata_snapshot_tip;
+    public static String pref_page_database_general_checkbox_incremental_refresh;
+    public static String pref_page_database_general_checkbox_incremental_refresh_tip;
+    public static String pref_page_database_general_label_prefetch_connections;
+    public static String pref_page_database_general_label_prefetch_connections_tip;
     public static String pref_page_database_general_checkbox_rollback_on_error;
     public static String pref_page_database_general_checkbox_show_row_count;
     public static String pref_page_database_general_group_metadata;
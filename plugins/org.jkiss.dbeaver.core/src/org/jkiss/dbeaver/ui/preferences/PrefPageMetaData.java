@@ -42,6 +42,9 @@ public class PrefPageMetaData extends TargetPrefPage
     private Button readExpensiveCheck;
     private Combo separateMetaConnectionCombo;
     private Button disableExtraMetadataRead;
+    private Button useMetadataSnapshot;
+    private Button incrementalRefreshCheck;
+    private Spinner prefetchConnectionsSpinner;
     private Button caseSensitiveNamesCheck;
     private Button serverSideFiltersCheck;
     private Button addExtraDDLInfo;
@@ -60,6 +63,9 @@ public class PrefPageMetaData extends TargetPrefPage
             store.contains(ModelPreferences.META_SEPARATE_CONNECTION) ||
             store.contains(ModelPreferences.META_CASE_SENSITIVE) ||
             store.contains(ModelPreferences.META_DISABLE_EXTRA_READ) ||
+            store.contains(ModelPreferences.META_USE_SNAPSHOT) ||
+            store.contains(ModelPreferences.META_INCREMENTAL_REFRESH) ||
+            store.contains(ModelPreferences.META_PREFETCH_CONNECTIONS) ||
             store.contains(ModelPreferences.META_USE_SERVER_SIDE_FILTERS)
             ;
     }
@@ -145,6 +151,25 @@ public class PrefPageMetaData extends TargetPrefPage
                 CoreMessages.pref_page_database_general_checkbox_show_row_count_tip,
                 false,
                 1);
+            useMetadataSnapshot = UIUtils.createCheckbox(
+                performanceGroup,
+                CoreMessages.pref_page_database_general_checkbox_metadata_snapshot,
+                CoreMessages.pref_page_database_general_checkbox_metadata_snapshot_tip,
+                false,
+                1);
+            incrementalRefreshCheck = UIUtils.createCheckbox(
+                performanceGroup,
+                CoreMessages.pref_page_database_general_checkbox_incremental_refresh,
+                CoreMessages.pref_page_database_general_checkbox_incremental_refresh_tip,
+                false,
+                1);
+            prefetchConnectionsSpinner = UIUtils.createLabelSpinner(
+                UIUtils.createComposite(performanceGroup, 2),
+                CoreMessages.pref_page_database_general_label_prefetch_connections,
+                CoreMessages.pref_page_database_general_label_prefetch_connections_tip,
+                3,
+                1,
+                16);
         }
 
         return composite;
@@ -160,6 +185,9 @@ public class PrefPageMetaData extends TargetPrefPage
             ));
             caseSensitiveNamesCheck.setSelection(store.getBoolean(ModelPreferences.META_CASE_SENSITIVE));
             disableExtraMetadataRead.setSelection(store.getBoolean(ModelPreferences.META_DISABLE_EXTRA_READ));
+            useMetadataSnapshot.setSelection(store.getBoolean(ModelPreferences.META_USE_SNAPSHOT));
+            incrementalRefreshCheck.setSelection(store.getBoolean(ModelPreferences.META_INCREMENTAL_REFRESH));
+            prefetchConnectionsSpinner.setSelection(store.getInt(ModelPreferences.META_PREFETCH_CONNECTIONS));
             addExtraDDLInfo.setSelection(store.getBoolean(ModelPreferences.META_EXTRA_DDL_INFO));
             serverSideFiltersCheck.setSelection(store.getBoolean(ModelPreferences.META_USE_SERVER_SIDE_FILTERS));
 
@@ -179,6 +207,9 @@ public class PrefPageMetaData extends TargetPrefPage
             );
             store.setValue(ModelPreferences.META_CASE_SENSITIVE, caseSensitiveNamesCheck.getSelection());
             store.setValue(ModelPreferences.META_DISABLE_EXTRA_READ, disableExtraMetadataRead.getSelection());
+            store.setValue(ModelPreferences.META_USE_SNAPSHOT, useMetadataSnapshot.getSelection());
+            store.setValue(ModelPreferences.META_INCREMENTAL_REFRESH, incrementalRefreshCheck.getSelection());
+            store.setValue(ModelPreferences.META_PREFETCH_CONNECTIONS, prefetchConnectionsSpinner.getSelection());
             store.setValue(ModelPreferences.META_EXTRA_DDL_INFO, addExtraDDLInfo.getSelection());
             store.setValue(ModelPreferences.META_USE_SERVER_SIDE_FILTERS, serverSideFiltersCheck.getSelection());
 
@@ -195,6 +226,9 @@ public class PrefPageMetaData extends TargetPrefPage
         store.setToDefault(ModelPreferences.META_SEPARATE_CONNECTION);
         store.setToDefault(ModelPreferences.META_CASE_SENSITIVE);
         store.setToDefault(ModelPreferences.META_DISABLE_EXTRA_READ);
+        store.setToDefault(ModelPreferences.META_USE_SNAPSHOT);
+        store.setToDefault(ModelPreferences.META_INCREMENTAL_REFRESH);
+        store.setToDefault(ModelPreferences.META_PREFETCH_CONNECTIONS);
         store.setToDefault(ModelPreferences.META_USE_SERVER_SIDE_FILTERS);
         store.setToDefault(ModelPreferences.META_EXTRA_DDL_INFO);
     }
@@ -208,6 +242,9 @@ public class PrefPageMetaData extends TargetPrefPage
         ));
         caseSensitiveNamesCheck.setSelection(store.getDefaultBoolean(ModelPreferences.META_CASE_SENSITIVE));
         disableExtraMetadataRead.setSelection(store.getDefaultBoolean(ModelPreferences.META_DISABLE_EXTRA_READ));
+        useMetadataSnapshot.setSelection(store.getDefaultBoolean(ModelPreferences.META_USE_SNAPSHOT));
+        incrementalRefreshCheck.setSelection(store.getDefaultBoolean(ModelPreferences.META_INCREMENTAL_REFRESH));
+        prefetchConnectionsSpinner.setSelection(store.getDefaultInt(ModelPreferences.META_PREFETCH_CONNECTIONS));
         addExtraDDLInfo.setSelection(store.getDefaultBoolean(ModelPreferences.META_EXTRA_DDL_INFO));
         serverSideFiltersCheck.setSelection(store.getDefaultBoolean(ModelPreferences.META_USE_SERVER_SIDE_FILTERS));
         super.performDefaults();
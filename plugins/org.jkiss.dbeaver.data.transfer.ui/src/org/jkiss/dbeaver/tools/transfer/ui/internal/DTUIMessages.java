@@ -41,6 +41,8 @@ public class DTUIMessages extends NLS {
     public static String database_consumer_wizard_transfer_checkbox_tooltip;
     public static String database_consumer_wizard_truncate_checkbox_label;
     public static String database_consumer_wizard_truncate_checkbox_description;
+    public static String database_consumer_wizard_use_checkpoints_label;
+    public static String database_consumer_wizard_use_checkpoints_description;
     public static String database_consumer_wizard_disable_referential_integrity_label;
     public static String database_consumer_wizard_disable_referential_integrity_tip_start;
     public static String database_consumer_wizard_performance_group_label;
@@ -62,6 +64,12 @@ public class DTUIMessages extends NLS {
     public static String database_consumer_wizard_ignore_duplicate_rows_tip;
     public static String database_consumer_wizard_use_bulk_load_label;
     public static String database_consumer_wizard_use_bulk_load_description;
+    public static String database_consumer_wizard_bulk_load_streaming_label;
+    public static String database_consumer_wizard_bulk_load_streaming_description;
+    public static String database_consumer_wizard_bulk_load_binary_format_label;
+    public static String database_consumer_wizard_bulk_load_binary_format_description;
+    public static String database_consumer_wizard_bulk_load_relaxed_durability_label;
+    public static String database_consumer_wizard_bulk_load_relaxed_durability_description;
     public static String database_consumer_wizard_on_duplicate_key_insert_method_text;
     public static String database_consumer_wizard_link_label_replace_method_wiki;
     public static String database_consumer_wizard_label_replace_method_not_supported;
@@ -101,9 +109,11 @@ public class DTUIMessages extends NLS {
     public static String database_producer_page_extract_settings_description;
     public static String database_producer_page_extract_settings_threads_num_text_tooltip;
     public static String database_producer_page_extract_settings_new_connection_checkbox_tooltip;
+    public static String database_producer_page_extract_settings_pipelined_checkbox_tooltip;
     public static String database_producer_page_extract_settings_row_count_checkbox_tooltip;
     public static String database_producer_page_extract_settings_text_fetch_size_label;
     public static String database_producer_page_extract_settings_text_fetch_size_tooltip;
+    public static String database_producer_page_extract_settings_parallel_slices_tooltip;
 
     public static String database_producer_page_input_objects_name;
     public static String database_producer_page_input_objects_title;
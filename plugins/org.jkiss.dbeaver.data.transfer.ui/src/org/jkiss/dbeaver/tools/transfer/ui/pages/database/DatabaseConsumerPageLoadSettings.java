@@ -73,6 +73,9 @@ public class DatabaseConsumerPageLoadSettings extends DataTransferPageNodeSettin
     private Button useBatchCheck;
     private Button ignoreDuplicateRows;
     private Button useBulkLoadCheck;
+    private Button bulkLoadStreamingCheck;
+    private Button bulkLoadBinaryFormatCheck;
+    private Button bulkLoadRelaxedDurabilityCheck;
     private List<SQLDialectInsertReplaceMethod> availableInsertMethodsDescriptors;
     private final Map<String, EventProcessorComposite<?>> processors = new HashMap<>();
 
@@ -119,6 +122,19 @@ public class DatabaseConsumerPageLoadSettings extends DataTransferPageNodeSettin
                 }
             });
 
+            final Button useCheckpointsCheck = UIUtils.createCheckbox(
+                loadSettings,
+                DTUIMessages.database_consumer_wizard_use_checkpoints_label,
+                DTUIMessages.database_consumer_wizard_use_checkpoints_description,
+                settings.isUseCheckpoints(),
+                2);
+            useCheckpointsCheck.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    settings.setUseCheckpoints(useCheckpointsCheck.getSelection());
+                }
+            });
+
             loadUISettingsForDisableReferentialIntegrityCheckbox();
             settings.setDisableReferentialIntegrity(isDisablingReferentialIntegritySupported && settings.isDisableReferentialIntegrity());
             disableReferentialIntegrity = UIUtils.createCheckbox(
@@ -345,13 +361,65 @@ public class DatabaseConsumerPageLoadSettings extends DataTransferPageNodeSettin
                         }
                     }
                     onDuplicateKeyInsertMethods.setEnabled(!checkSelection);
+                    updateBulkLoadOptionsEnablement();
+                }
+            });
+
+            bulkLoadStreamingCheck = UIUtils.createCheckbox(
+                performanceSettings,
+                DTUIMessages.database_consumer_wizard_bulk_load_streaming_label,
+                DTUIMessages.database_consumer_wizard_bulk_load_streaming_description,
+                settings.isBulkLoadStreaming(),
+                4);
+            bulkLoadStreamingCheck.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    settings.setBulkLoadStreaming(bulkLoadStreamingCheck.getSelection());
+                }
+            });
+            bulkLoadBinaryFormatCheck = UIUtils.createCheckbox(
+                performanceSettings,
+                DTUIMessages.database_consumer_wizard_bulk_load_binary_format_label,
+                DTUIMessages.database_consumer_wizard_bulk_load_binary_format_description,
+                settings.isBulkLoadBinaryFormat(),
+                4);
+            bulkLoadBinaryFormatCheck.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    settings.setBulkLoadBinaryFormat(bulkLoadBinaryFormatCheck.getSelection());
                 }
             });
+            bulkLoadRelaxedDurabilityCheck = UIUtils.createCheckbox(
+                performanceSettings,
+                DTUIMessages.database_consumer_wizard_bulk_load_relaxed_durability_label,
+                DTUIMessages.database_consumer_wizard_bulk_load_relaxed_durability_description,
+                settings.isBulkLoadRelaxedDurability(),
+                4);
+            bulkLoadRelaxedDurabilityCheck.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    settings.setBulkLoadRelaxedDurability(bulkLoadRelaxedDurabilityCheck.getSelection());
+                }
+            });
+            updateBulkLoadOptionsEnablement();
         }
 
         setControl(composite);
     }
 
+    private void updateBulkLoadOptionsEnablement() {
+        boolean bulkLoadEnabled = buttonIsAvailable(useBulkLoadCheck) && useBulkLoadCheck.getSelection();
+        if (buttonIsAvailable(bulkLoadStreamingCheck)) {
+            bulkLoadStreamingCheck.setEnabled(bulkLoadEnabled);
+        }
+        if (buttonIsAvailable(bulkLoadBinaryFormatCheck)) {
+            bulkLoadBinaryFormatCheck.setEnabled(bulkLoadEnabled);
+        }
+        if (buttonIsAvailable(bulkLoadRelaxedDurabilityCheck)) {
+            bulkLoadRelaxedDurabilityCheck.setEnabled(bulkLoadEnabled);
+        }
+    }
+
     private boolean buttonIsAvailable(Button button) {
         return button != null && !button.isDisposed();
     }
@@ -437,6 +505,7 @@ public class DatabaseConsumerPageLoadSettings extends DataTransferPageNodeSettin
                 disableButton(useBulkLoadCheck);
                 settings.setUseBulkLoad(false);
             }
+            updateBulkLoadOptionsEnablement();
         }
 
         loadInsertMethods();
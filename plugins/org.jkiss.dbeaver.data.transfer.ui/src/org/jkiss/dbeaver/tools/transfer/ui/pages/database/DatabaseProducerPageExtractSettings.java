@@ -49,10 +49,12 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
     private Label segmentSizeLabel;
     private Text segmentSizeText;
     private Button newConnectionCheckbox;
+    private Button pipelinedCheckbox;
     private Button rowCountCheckbox;
     private Button selectedColumnsOnlyCheckbox;
     private Button selectedRowsOnlyCheckbox;
     private Text fetchSizeText;
+    private Text parallelSlicesText;
 
     public DatabaseProducerPageExtractSettings() {
         super(DTUIMessages.database_producer_page_extract_settings_name_and_title);
@@ -130,6 +132,14 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
                 }
             });
 
+            pipelinedCheckbox = UIUtils.createCheckbox(generalSettings, DTMessages.data_transfer_wizard_output_checkbox_pipelined, DTUIMessages.database_producer_page_extract_settings_pipelined_checkbox_tooltip, false, 4);
+            pipelinedCheckbox.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    getWizard().getSettings().setPipelinedTransfer(pipelinedCheckbox.getSelection());
+                }
+            });
+
             rowCountCheckbox = UIUtils.createCheckbox(generalSettings, DTMessages.data_transfer_wizard_output_checkbox_select_row_count, DTUIMessages.database_producer_page_extract_settings_row_count_checkbox_tooltip, true, 4);
             rowCountCheckbox.addSelectionListener(new SelectionAdapter() {
                 @Override
@@ -147,6 +157,13 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
                 settings.setFetchSize(Integer.parseInt(fetchSizeText.getText()));
             });
 
+            parallelSlicesText = UIUtils.createLabelText(generalSettings, DTMessages.data_transfer_wizard_output_label_parallel_slices, "", SWT.BORDER);
+            parallelSlicesText.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING));
+            ((GridData)parallelSlicesText.getLayoutData()).widthHint = UIUtils.getFontHeight(parallelSlicesText) * 10;
+            parallelSlicesText.setToolTipText(DTUIMessages.database_producer_page_extract_settings_parallel_slices_tooltip);
+            parallelSlicesText.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.ENGLISH));
+            parallelSlicesText.addModifyListener(e -> settings.setParallelSlices(CommonUtils.toInt(parallelSlicesText.getText(), 1)));
+
             IStructuredSelection curSelection = getWizard().getCurrentSelection();
             boolean hasSelection = curSelection != null && !curSelection.isEmpty() && curSelection.getFirstElement() instanceof DBDCellValue;
 
@@ -228,6 +245,7 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
 
         threadsNumText.setText(String.valueOf(getWizard().getSettings().getMaxJobCount()));
         newConnectionCheckbox.setSelection(settings.isOpenNewConnections());
+        pipelinedCheckbox.setSelection(getWizard().getSettings().isPipelinedTransfer());
         rowCountCheckbox.setSelection(settings.isQueryRowCount());
 
         if (segmentSizeText != null) {
@@ -238,6 +256,7 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
             }
         }
         fetchSizeText.setText(String.valueOf(settings.getFetchSize()));
+        parallelSlicesText.setText(String.valueOf(settings.getParallelSlices()));
         if (selectedColumnsOnlyCheckbox != null) {
             selectedColumnsOnlyCheckbox.setSelection(settings.isSelectedColumnsOnly());
         }
@@ -0,0 +1,179 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.task.DBTTask;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Data transfer task checkpoint.
+ * <p>
+ * Keeps progress committed by each pipe: the last committed key for reads ordered by key
+ * or the number of committed rows for stream imports. Checkpoint is stored in the task state folder,
+ * so the next run of an interrupted task can continue from the committed position.
+ * Checkpoint is removed when the task finishes successfully.
+ */
+public class DataTransferCheckpoint {
+
+    private static final Log log = Log.getLog(DataTransferCheckpoint.class);
+
+    private static final String CHECKPOINT_FILE_NAME = "transfer-checkpoint.properties";
+
+    private static final String PROP_KEY = ".key";
+    private static final String PROP_ROWS = ".rows";
+    private static final String PROP_COMPLETED = ".completed";
+
+    private final Path file;
+    private final Properties state = new Properties();
+    private final Map<String, Position> preparedPositions = new HashMap<>();
+
+    private record Position(@Nullable String key, long rows) {
+    }
+
+    private DataTransferCheckpoint(@NotNull Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Opens checkpoint of the specified task. Loads state of the previous interrupted run if it exists.
+     *
+     * @return checkpoint or null if task can't keep state between runs
+     */
+    @Nullable
+    public static DataTransferCheckpoint open(@NotNull DBTTask task) {
+        Path stateFolder = task.getRunStateFolder();
+        if (stateFolder == null) {
+            return null;
+        }
+        DataTransferCheckpoint checkpoint = new DataTransferCheckpoint(stateFolder.resolve(CHECKPOINT_FILE_NAME));
+        if (Files.exists(checkpoint.file)) {
+            try (Reader reader = Files.newBufferedReader(checkpoint.file, StandardCharsets.UTF_8)) {
+                checkpoint.state.load(reader);
+                log.debug("Resume data transfer from checkpoint '" + checkpoint.file + "'");
+            } catch (IOException e) {
+                log.warn("Error reading data transfer checkpoint. Transfer will be started from the beginning", e);
+                checkpoint.state.clear();
+            }
+        }
+        return checkpoint;
+    }
+
+    @NotNull
+    public static String getPipeKey(@NotNull DataTransferPipe pipe) {
+        return pipe.getProducer().getObjectName() + " -> " + pipe.getConsumer().getObjectName();
+    }
+
+    public synchronized boolean isCompleted(@NotNull String pipeKey) {
+        return CommonUtils.getBoolean(state.getProperty(pipeKey + PROP_COMPLETED), false);
+    }
+
+    /**
+     * Returns the last committed key value or null if nothing was committed by key
+     */
+    @Nullable
+    public synchronized String getCommittedKey(@NotNull String pipeKey) {
+        return state.getProperty(pipeKey + PROP_KEY);
+    }
+
+    public synchronized long getCommittedRows(@NotNull String pipeKey) {
+        return CommonUtils.toLong(state.getProperty(pipeKey + PROP_ROWS));
+    }
+
+    /**
+     * Saves committed position of the pipe
+     *
+     * @param key  last committed key or null if rows aren't ordered by key
+     * @param rows total number of committed rows
+     */
+    public synchronized void commit(@NotNull String pipeKey, @Nullable String key, long rows) {
+        if (key == null) {
+            state.remove(pipeKey + PROP_KEY);
+        } else {
+            state.setProperty(pipeKey + PROP_KEY, key);
+        }
+        state.setProperty(pipeKey + PROP_ROWS, String.valueOf(rows));
+        save();
+    }
+
+    /**
+     * Remembers position of rows which were sent to the target but weren't committed yet
+     * (e.g. bulk load which commits data only at the end).
+     * Position is saved by {@link #commitPrepared(String)} once target commits the data.
+     * Prepared position is lost if the task fails, so the next run continues from the last committed position.
+     */
+    public synchronized void prepare(@NotNull String pipeKey, @Nullable String key, long rows) {
+        preparedPositions.put(pipeKey, new Position(key, rows));
+    }
+
+    /**
+     * Saves position remembered by {@link #prepare(String, String, long)}
+     */
+    public synchronized void commitPrepared(@NotNull String pipeKey) {
+        Position position = preparedPositions.remove(pipeKey);
+        if (position != null) {
+            commit(pipeKey, position.key(), position.rows());
+        }
+    }
+
+    public synchronized void complete(@NotNull String pipeKey) {
+        preparedPositions.remove(pipeKey);
+        state.remove(pipeKey + PROP_KEY);
+        state.remove(pipeKey + PROP_ROWS);
+        state.setProperty(pipeKey + PROP_COMPLETED, Boolean.TRUE.toString());
+        save();
+    }
+
+    /**
+     * Removes checkpoint. Next task run will start from the beginning.
+     */
+    public synchronized void delete() {
+        state.clear();
+        preparedPositions.clear();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Error deleting data transfer checkpoint '" + file + "'", e);
+        }
+    }
+
+    private void save() {
+        // Write into a temp file first, so a crash during save doesn't corrupt the previous checkpoint
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                state.store(writer, "Data transfer checkpoint");
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Error saving data transfer checkpoint '" + file + "'", e);
+        }
+    }
+}
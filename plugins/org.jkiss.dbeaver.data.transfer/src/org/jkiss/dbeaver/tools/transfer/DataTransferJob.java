@@ -127,7 +127,19 @@ public class DataTransferJob extends AbstractJob {
                 CommonUtils.truncateString(inputName, 200),
                 CommonUtils.truncateString(outputName, 200)), 1);
 
+        DataTransferCheckpoint checkpoint = settings.getCheckpoint();
+        String checkpointKey = checkpoint == null ? null : DataTransferCheckpoint.getPipeKey(transferPipe);
+        if (checkpoint != null && checkpoint.isCompleted(checkpointKey)) {
+            log.debug("Skip " + inputName + " -> " + outputName + ": it was transferred by the previous task run");
+            monitor.done();
+            return true;
+        }
+
         IDataTransferSettings nodeSettings = settings.getNodeSettings(settings.getProducer());
+        DataTransferPipeStatistics pipeStatistics = transferPipe.getStatistics();
+        if (pipeStatistics != null) {
+            pipeStatistics.start();
+        }
         try {
             //consumer.initTransfer(producer.getDatabaseObject(), consumerSettings, );
 
@@ -138,12 +150,21 @@ public class DataTransferJob extends AbstractJob {
             totalStatistics.accumulate(consumer.getStatistics());
 
             consumer.finishTransfer(monitor, false);
+            if (checkpoint != null && !monitor.isCanceled()) {
+                checkpoint.complete(checkpointKey);
+            }
             return true;
         } catch (Exception e) {
             consumer.finishTransfer(monitor, e, task, false);
             log.error("Error transferring data from " + inputName + " to " + outputName, e);
             throw e;
         } finally {
+            if (pipeStatistics != null) {
+                pipeStatistics.finish();
+                if (!pipeStatistics.isEmpty()) {
+                    log.info("Transfer statistics " + inputName + " -> " + outputName + ": " + pipeStatistics.getSummary());
+                }
+            }
             monitor.done();
         }
 
@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.tools.transfer;
 
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.tools.transfer.registry.DataTransferProcessorDescriptor;
 
@@ -28,6 +29,7 @@ public class DataTransferPipe {
 
     private IDataTransferProducer producer;
     private IDataTransferConsumer consumer;
+    private DataTransferPipeStatistics statistics;
 
     public DataTransferPipe(IDataTransferProducer producer, IDataTransferConsumer consumer)
     {
@@ -55,6 +57,14 @@ public class DataTransferPipe {
         this.consumer = consumer;
     }
 
+    /**
+     * Returns statistics of the pipe or null if pipe wasn't initialized
+     */
+    @Nullable
+    public DataTransferPipeStatistics getStatistics() {
+        return statistics;
+    }
+
     public void initPipe(DataTransferSettings settings, int pipeIndex, int totalPipes) throws DBException {
         if (consumer == null || producer == null) {
             throw new DBException("Empty pipe");
@@ -69,6 +79,13 @@ public class DataTransferPipe {
         parameters.orderNumber = pipeIndex;
         parameters.totalConsumers = totalPipes;
         parameters.startTimestamp = new Date();
+        parameters.pipelined = settings.isPipelinedTransfer();
+        statistics = new DataTransferPipeStatistics();
+        parameters.statistics = statistics;
+        parameters.checkpoint = settings.getCheckpoint();
+        if (parameters.checkpoint != null) {
+            parameters.checkpointKey = DataTransferCheckpoint.getPipeKey(this);
+        }
         consumer.initTransfer(
             producer.getDatabaseObject(),
             consumerSettings,
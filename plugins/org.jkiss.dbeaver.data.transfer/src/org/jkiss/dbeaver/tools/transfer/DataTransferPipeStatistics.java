@@ -0,0 +1,270 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.exec.DBCStatistics;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
+import org.jkiss.utils.ByteNumberFormat;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-stage timers and counters of a data transfer pipe.
+ * <p>
+ * Fetch is the time producer spends between rows passed to consumer (reading result set, parsing input).
+ * Other stages are measured by consumer. In pipelined transfer write, flush and commit are measured
+ * in the writer thread, so stage times may overlap fetch time.
+ */
+public class DataTransferPipeStatistics {
+
+    public enum Stage {
+        FETCH("fetch"),
+        TRANSFORM("transform"),
+        WRITE("write"),
+        FLUSH("flush"),
+        COMMIT("commit");
+
+        private final String title;
+
+        Stage(String title) {
+            this.title = title;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+
+    private static final long PROGRESS_UPDATE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private volatile long startTime = System.nanoTime();
+    private final LongAdder[] stageTimes = new LongAdder[Stage.values().length];
+    private final LongAdder rows = new LongAdder();
+    private final AtomicLong bytes = new AtomicLong();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder batchRows = new LongAdder();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private volatile long endTime;
+    private volatile long nextProgressTime = startTime + PROGRESS_UPDATE_INTERVAL;
+    // Accessed by producer thread only
+    private long fetchStartTime;
+
+    public DataTransferPipeStatistics() {
+        for (int i = 0; i < stageTimes.length; i++) {
+            stageTimes[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Adds time elapsed since the start time (in nanoseconds) to the specified stage.
+     *
+     * @return current time, which can be used as the start time of the next stage
+     */
+    public long addTime(@NotNull Stage stage, long stageStartTime) {
+        long time = System.nanoTime();
+        stageTimes[stage.ordinal()].add(time - stageStartTime);
+        return time;
+    }
+
+    /**
+     * Marks the moment when producer starts fetching the next row
+     */
+    public void startFetch() {
+        fetchStartTime = System.nanoTime();
+    }
+
+    /**
+     * Marks the moment when producer passed row to consumer. Accounts time since {@link #startFetch()} as fetch.
+     *
+     * @return current time
+     */
+    public long endFetch() {
+        if (fetchStartTime == 0) {
+            return System.nanoTime();
+        }
+        long time = addTime(Stage.FETCH, fetchStartTime);
+        fetchStartTime = 0;
+        return time;
+    }
+
+    public void addRows(long count) {
+        rows.add(count);
+    }
+
+    /**
+     * Sets total number of bytes written by consumer
+     */
+    public void setBytes(long count) {
+        bytes.set(count);
+    }
+
+    public void addBatch(long size) {
+        if (size <= 0) {
+            return;
+        }
+        batchCount.increment();
+        batchRows.add(size);
+        maxBatchSize.accumulateAndGet(size, Math::max);
+    }
+
+    /**
+     * Starts timer. Pipe may be initialized long before the transfer actually starts.
+     */
+    public void start() {
+        startTime = System.nanoTime();
+        nextProgressTime = startTime + PROGRESS_UPDATE_INTERVAL;
+    }
+
+    /**
+     * Stops timer. Rates are calculated for the time between start and finish.
+     */
+    public void finish() {
+        if (endTime == 0) {
+            endTime = System.nanoTime();
+        }
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    public long getStageTime(@NotNull Stage stage) {
+        return TimeUnit.NANOSECONDS.toMillis(stageTimes[stage.ordinal()].sum());
+    }
+
+    public long getElapsedTime() {
+        long end = endTime == 0 ? System.nanoTime() : endTime;
+        return TimeUnit.NANOSECONDS.toMillis(end - startTime);
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public long getAverageBatchSize() {
+        long count = batchCount.sum();
+        return count == 0 ? 0 : batchRows.sum() / count;
+    }
+
+    public boolean isEmpty() {
+        return rows.sum() == 0 && bytes.get() == 0;
+    }
+
+    /**
+     * Returns true once per progress update interval. Progress message shouldn't be updated more often.
+     */
+    public boolean isProgressUpdateNeeded() {
+        long time = System.nanoTime();
+        if (time < nextProgressTime) {
+            return false;
+        }
+        nextProgressTime = time + PROGRESS_UPDATE_INTERVAL;
+        return true;
+    }
+
+    /**
+     * Short message for the progress monitor: rates and shares of stages
+     */
+    @NotNull
+    public String getProgressMessage() {
+        StringBuilder message = new StringBuilder();
+        message.append(String.format("%,d rows (", getRows())).append(formatRates()).append(")");
+        long totalStageTime = 0;
+        for (LongAdder stageTime : stageTimes) {
+            totalStageTime += stageTime.sum();
+        }
+        if (totalStageTime > 0) {
+            StringJoiner stages = new StringJoiner(", ", ": ", "").setEmptyValue("");
+            for (Stage stage : Stage.values()) {
+                long percent = stageTimes[stage.ordinal()].sum() * 100 / totalStageTime;
+                if (percent > 0) {
+                    stages.add(stage.getTitle() + " " + percent + "%");
+                }
+            }
+            message.append(stages);
+        }
+        return message.toString();
+    }
+
+    /**
+     * Full statistics for the task log
+     */
+    @NotNull
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%,d rows in ", getRows()))
+            .append(RuntimeUtils.formatExecutionTime(getElapsedTime()))
+            .append(" (").append(formatRates()).append(")");
+        StringJoiner stages = new StringJoiner(", ", "; ", "").setEmptyValue("");
+        for (Stage stage : Stage.values()) {
+            long stageTime = getStageTime(stage);
+            if (stageTime > 0) {
+                stages.add(stage.getTitle() + " " + RuntimeUtils.formatExecutionTime(stageTime));
+            }
+        }
+        summary.append(stages);
+        if (getBatchCount() > 0) {
+            summary.append(String.format("; %,d batches, avg %,d rows, max %,d rows", getBatchCount(), getAverageBatchSize(), getMaxBatchSize()));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Adds stage times and counters to the execution statistics info
+     */
+    public void accumulateInfo(@NotNull DBCStatistics statistics) {
+        for (Stage stage : Stage.values()) {
+            addInfoValue(statistics, "Transfer " + stage.getTitle() + " time (ms)", getStageTime(stage));
+        }
+        if (getBytes() > 0) {
+            addInfoValue(statistics, "Bytes written", getBytes());
+        }
+        if (getBatchCount() > 0) {
+            addInfoValue(statistics, "Batches executed", getBatchCount());
+        }
+    }
+
+    private static void addInfoValue(@NotNull DBCStatistics statistics, @NotNull String name, long value) {
+        Object prevValue = statistics.getInfo().get(name);
+        statistics.addInfo(name, prevValue instanceof Number number ? number.longValue() + value : value);
+    }
+
+    @NotNull
+    private String formatRates() {
+        long elapsed = Math.max(getElapsedTime(), 1);
+        StringBuilder rates = new StringBuilder();
+        rates.append(String.format("%,d rows/s", getRows() * 1000 / elapsed));
+        long bytesWritten = getBytes();
+        if (bytesWritten > 0) {
+            rates.append(", ").append(new ByteNumberFormat().format(bytesWritten * 1000 / elapsed)).append("/s");
+        }
+        return rates.toString();
+    }
+
+}
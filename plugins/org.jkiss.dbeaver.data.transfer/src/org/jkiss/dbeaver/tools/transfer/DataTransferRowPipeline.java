@@ -0,0 +1,261 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDContent;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded row pipeline between data transfer reader and writer.
+ * <p>
+ * Reader thread adds rows which are grouped into blocks and put in a bounded queue.
+ * Writer job drains the queue and passes rows to the row writer in the original order.
+ * Reader blocks when queue is full. Both sides stop when the transfer monitor is canceled.
+ * Rows must not reference the source cursor: LOB locators are read after the cursor has moved,
+ * so such rows are written in the reader thread (see {@link #hasContentValues(Object[])}).
+ * Once {@link #finish()} or {@link #abort()} returns the writer doesn't run anymore, so the caller
+ * may use (commit, rollback or close) the target session.
+ */
+public class DataTransferRowPipeline {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1000;
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final List<Object[]> END_OF_DATA = Collections.emptyList();
+
+    public interface RowWriter {
+        void writeRow(@NotNull Object[] row) throws DBCException;
+    }
+
+    private final String name;
+    private final DBRProgressMonitor monitor;
+    private final RowWriter rowWriter;
+    private final int blockSize;
+    private final BlockingQueue<List<Object[]>> queue;
+    private final CountDownLatch writerFinished = new CountDownLatch(1);
+
+    private WriterJob writerJob;
+    private volatile Thread writerThread;
+    private List<Object[]> currentBlock;
+    private volatile boolean aborted;
+    private volatile Throwable writerError;
+
+    public DataTransferRowPipeline(@NotNull String name, @NotNull DBRProgressMonitor monitor, @NotNull RowWriter rowWriter) {
+        this(name, monitor, rowWriter, DEFAULT_BLOCK_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public DataTransferRowPipeline(
+        @NotNull String name,
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull RowWriter rowWriter,
+        int blockSize,
+        int queueCapacity
+    ) {
+        this.name = name;
+        this.monitor = monitor;
+        this.rowWriter = rowWriter;
+        this.blockSize = blockSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.currentBlock = new ArrayList<>(blockSize);
+    }
+
+    /**
+     * Checks whether source attributes contain LOBs. Their values are cursor locators.
+     */
+    public static boolean hasContentAttributes(@NotNull DBDAttributeBinding[] attributes) {
+        for (DBDAttributeBinding attribute : attributes) {
+            if (attribute != null && attribute.getDataKind() == DBPDataKind.CONTENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether row contains content values which can't be read after the reader moved to the next row.
+     */
+    public static boolean hasContentValues(@NotNull Object[] row) {
+        for (Object value : row) {
+            if (value instanceof DBDContent) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void start() {
+        writerJob = new WriterJob();
+        writerJob.schedule();
+    }
+
+    /**
+     * Adds row to the pipeline. Blocks if writer is behind the reader for more than queue capacity.
+     */
+    public void addRow(@NotNull Object[] row) throws DBCException {
+        try {
+            checkWriterError();
+            currentBlock.add(row);
+            if (currentBlock.size() >= blockSize) {
+                putBlock(currentBlock);
+                currentBlock = new ArrayList<>(blockSize);
+            }
+        } catch (DBCException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    /**
+     * Sends all pending rows to the writer and waits until they are written.
+     */
+    public void finish() throws DBCException {
+        try {
+            if (!currentBlock.isEmpty()) {
+                putBlock(currentBlock);
+                currentBlock = new ArrayList<>(blockSize);
+            }
+            putBlock(END_OF_DATA);
+            try {
+                while (!writerFinished.await(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    if (monitor.isCanceled()) {
+                        throw new DBCException("Data transfer canceled");
+                    }
+                }
+            } catch (InterruptedException e) {
+                throw new DBCException("Data transfer interrupted", e);
+            }
+            checkWriterError();
+        } catch (DBCException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    /**
+     * Stops writer and drops all pending rows.
+     * Interrupts the writer if it is in the middle of a block and waits until it exits.
+     */
+    public void abort() {
+        aborted = true;
+        queue.clear();
+        if (writerJob == null || writerJob.cancel()) {
+            // Writer wasn't started or has already finished
+            return;
+        }
+        Thread thread = writerThread;
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+        }
+        awaitWriter();
+    }
+
+    private void awaitWriter() {
+        if (writerThread == Thread.currentThread()) {
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                writerFinished.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void putBlock(@NotNull List<Object[]> block) throws DBCException {
+        try {
+            while (!queue.offer(block, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                if (monitor.isCanceled()) {
+                    throw new DBCException("Data transfer canceled");
+                }
+                checkWriterError();
+            }
+        } catch (InterruptedException e) {
+            throw new DBCException("Data transfer interrupted", e);
+        }
+    }
+
+    private void checkWriterError() throws DBCException {
+        Throwable error = writerError;
+        if (error instanceof DBCException dbce) {
+            throw dbce;
+        } else if (error != null) {
+            throw new DBCException("Error writing data", error);
+        } else if (aborted) {
+            throw new DBCException("Data transfer aborted");
+        }
+    }
+
+    private class WriterJob extends AbstractJob {
+
+        WriterJob() {
+            super(name);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor jobMonitor) {
+            writerThread = Thread.currentThread();
+            try {
+                while (!aborted && !monitor.isCanceled()) {
+                    List<Object[]> block = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    if (block == null) {
+                        continue;
+                    }
+                    if (block == END_OF_DATA) {
+                        break;
+                    }
+                    for (Object[] row : block) {
+                        rowWriter.writeRow(row);
+                    }
+                }
+            } catch (Throwable e) {
+                writerError = e;
+                aborted = true;
+                // Unblock reader
+                queue.clear();
+            } finally {
+                writerThread = null;
+                // Clear interrupt raised by abort, thread belongs to the job pool
+                Thread.interrupted();
+                writerFinished.countDown();
+            }
+            return Status.OK_STATUS;
+        }
+    }
+}
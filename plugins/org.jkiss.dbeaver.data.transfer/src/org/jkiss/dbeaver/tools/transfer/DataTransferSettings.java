@@ -78,6 +78,8 @@ public class DataTransferSettings implements DBTTaskSettings<DBPObject> {
     private boolean consumerOptional;
     private boolean producerOptional;
     private int maxJobCount = DEFAULT_THREADS_NUM;
+    private boolean pipelinedTransfer;
+    private transient DataTransferCheckpoint checkpoint;
 
     private transient boolean nodeSettingsLoaded = false;
 
@@ -311,6 +313,7 @@ public class DataTransferSettings implements DBTTaskSettings<DBPObject> {
     public void loadSettings(Map<String, Object> config) {
         this.setMaxJobCount(CommonUtils.toInt(config.get("maxJobCount"), DataTransferSettings.DEFAULT_THREADS_NUM));
         this.setShowFinalMessage(CommonUtils.getBoolean(config.get("showFinalMessage"), this.isShowFinalMessage()));
+        this.setPipelinedTransfer(CommonUtils.getBoolean(config.get("pipelinedTransfer"), false));
 
         DataTransferNodeDescriptor savedConsumer = null, savedProducer = null, processorNode = null;
         {
@@ -691,6 +694,29 @@ public class DataTransferSettings implements DBTTaskSettings<DBPObject> {
         }
     }
 
+    /**
+     * Pipelined transfer reads rows and writes them to the consumer in separate threads
+     */
+    public boolean isPipelinedTransfer() {
+        return pipelinedTransfer;
+    }
+
+    public void setPipelinedTransfer(boolean pipelinedTransfer) {
+        this.pipelinedTransfer = pipelinedTransfer;
+    }
+
+    /**
+     * Returns checkpoint of the running resumable task or null
+     */
+    @Nullable
+    public DataTransferCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    public void setCheckpoint(@Nullable DataTransferCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
     public boolean isShowFinalMessage() {
         return showFinalMessage;
     }
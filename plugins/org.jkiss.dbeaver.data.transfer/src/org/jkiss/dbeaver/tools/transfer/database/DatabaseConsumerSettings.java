@@ -59,12 +59,16 @@ public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
     private boolean transferAutoGeneratedColumns = true;
     private boolean truncateBeforeLoad = false;
     private boolean openTableOnFinish = true;
+    private boolean useCheckpoints = false;
     private boolean useMultiRowInsert;
     private int multiRowInsertBatch = 500;
     private boolean skipBindValues;
     private boolean disableUsingBatches = false;
     private boolean ignoreDuplicateRows;
     private boolean useBulkLoad = false;
+    private boolean bulkLoadStreaming = false;
+    private boolean bulkLoadBinaryFormat = false;
+    private boolean bulkLoadRelaxedDurability = false;
     private String onDuplicateKeyInsertMethodId;
     private boolean disableReferentialIntegrity;
     private final Map<String, Map<String, Object>> eventProcessors = new HashMap<>();
@@ -210,6 +214,41 @@ public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
         this.useBulkLoad = useBulkLoad;
     }
 
+    public boolean isBulkLoadStreaming() {
+        return bulkLoadStreaming;
+    }
+
+    public void setBulkLoadStreaming(boolean bulkLoadStreaming) {
+        this.bulkLoadStreaming = bulkLoadStreaming;
+    }
+
+    public boolean isBulkLoadBinaryFormat() {
+        return bulkLoadBinaryFormat;
+    }
+
+    public void setBulkLoadBinaryFormat(boolean bulkLoadBinaryFormat) {
+        this.bulkLoadBinaryFormat = bulkLoadBinaryFormat;
+    }
+
+    public boolean isBulkLoadRelaxedDurability() {
+        return bulkLoadRelaxedDurability;
+    }
+
+    public void setBulkLoadRelaxedDurability(boolean bulkLoadRelaxedDurability) {
+        this.bulkLoadRelaxedDurability = bulkLoadRelaxedDurability;
+    }
+
+    /**
+     * Task saves committed position of each pipe, so interrupted task run may be resumed
+     */
+    public boolean isUseCheckpoints() {
+        return useCheckpoints;
+    }
+
+    public void setUseCheckpoints(boolean useCheckpoints) {
+        this.useCheckpoints = useCheckpoints;
+    }
+
     @Nullable
     public DBPDataSource getTargetDataSource(DatabaseMappingObject attrMapping) {
         DBSObjectContainer container = getContainer();
@@ -240,8 +279,12 @@ public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
         transferAutoGeneratedColumns = CommonUtils.getBoolean(settings.get("transferAutoGeneratedColumns"), transferAutoGeneratedColumns);
         disableReferentialIntegrity = CommonUtils.getBoolean(settings.get("disableReferentialIntegrity"), disableReferentialIntegrity);
         useBulkLoad = CommonUtils.getBoolean(settings.get("useBulkLoad"), useBulkLoad);
+        bulkLoadStreaming = CommonUtils.getBoolean(settings.get("bulkLoadStreaming"), bulkLoadStreaming);
+        bulkLoadBinaryFormat = CommonUtils.getBoolean(settings.get("bulkLoadBinaryFormat"), bulkLoadBinaryFormat);
+        bulkLoadRelaxedDurability = CommonUtils.getBoolean(settings.get("bulkLoadRelaxedDurability"), bulkLoadRelaxedDurability);
         truncateBeforeLoad = CommonUtils.getBoolean(settings.get("truncateBeforeLoad"), truncateBeforeLoad);
         openTableOnFinish = CommonUtils.getBoolean(settings.get("openTableOnFinish"), openTableOnFinish);
+        useCheckpoints = CommonUtils.getBoolean(settings.get("useCheckpoints"), useCheckpoints);
 
         List<DataTransferPipe> dataPipes = dataTransferSettings.getDataPipes();
         {
@@ -313,8 +356,12 @@ public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
         settings.put("transferAutoGeneratedColumns", transferAutoGeneratedColumns);
         settings.put("disableReferentialIntegrity", disableReferentialIntegrity);
         settings.put("useBulkLoad", useBulkLoad);
+        settings.put("bulkLoadStreaming", bulkLoadStreaming);
+        settings.put("bulkLoadBinaryFormat", bulkLoadBinaryFormat);
+        settings.put("bulkLoadRelaxedDurability", bulkLoadRelaxedDurability);
         settings.put("truncateBeforeLoad", truncateBeforeLoad);
         settings.put("openTableOnFinish", openTableOnFinish);
+        settings.put("useCheckpoints", useCheckpoints);
 
         // Load all data mappings
         Map<String, Object> mappings = new LinkedHashMap<>();
@@ -352,7 +399,13 @@ public class DatabaseConsumerSettings implements IDataTransferConsumerSettings {
         DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_transfer_auto_generated_columns, transferAutoGeneratedColumns);
         DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_disable_referential_integrity, disableReferentialIntegrity);
         DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_use_bulk_load, useBulkLoad);
+        if (useBulkLoad) {
+            DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_bulk_load_streaming, bulkLoadStreaming);
+            DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_bulk_load_binary_format, bulkLoadBinaryFormat);
+            DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_bulk_load_relaxed_durability, bulkLoadRelaxedDurability);
+        }
         DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_truncate_before_load, truncateBeforeLoad);
+        DTUtils.addSummary(summary, DTMessages.database_consumer_settings_option_use_checkpoints, useCheckpoints);
 
         return summary.toString();
     }
@@ -37,6 +37,7 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
 
     private static final int DEFAULT_SEGMENT_SIZE = 100000;
     private static final int DEFAULT_FETCH_SIZE = 10000;
+    private static final int MAX_PARALLEL_SLICES = 64;
 
     private int segmentSize = DEFAULT_SEGMENT_SIZE;
 
@@ -46,6 +47,7 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
     private boolean selectedColumnsOnly = false;
     private ExtractType extractType = ExtractType.SINGLE_QUERY;
     private int fetchSize = DEFAULT_FETCH_SIZE;
+    private int parallelSlices = 1;
 
     public DatabaseProducerSettings() {
     }
@@ -76,6 +78,18 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
         this.fetchSize = fetchSize;
     }
 
+    /**
+     * Number of key-range slices a single table is split into.
+     * Each slice is read by its own job on its own connection. Values less than 2 disable slicing.
+     */
+    public int getParallelSlices() {
+        return parallelSlices;
+    }
+
+    public void setParallelSlices(int parallelSlices) {
+        this.parallelSlices = Math.max(1, Math.min(parallelSlices, MAX_PARALLEL_SLICES));
+    }
+
     public boolean isSelectedRowsOnly() {
         return selectedRowsOnly;
     }
@@ -113,6 +127,7 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
         extractType = CommonUtils.valueOf(ExtractType.class, (String) settings.get("extractType"), extractType);
         segmentSize = CommonUtils.toInt(settings.get("segmentSize"), DEFAULT_SEGMENT_SIZE);
         fetchSize = CommonUtils.toInt(settings.get("fetchSize"), fetchSize);
+        setParallelSlices(CommonUtils.toInt(settings.get("parallelSlices"), 1));
         openNewConnections = CommonUtils.toBoolean(settings.get("openNewConnections"));
         queryRowCount = CommonUtils.toBoolean(settings.get("queryRowCount"));
         selectedColumnsOnly = CommonUtils.toBoolean(settings.get("selectedColumnsOnly"));
@@ -124,6 +139,7 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
         settings.put("extractType", extractType.name());
         settings.put("segmentSize", segmentSize);
         settings.put("fetchSize", fetchSize);
+        settings.put("parallelSlices", parallelSlices);
         settings.put("openNewConnections", openNewConnections);
         settings.put("queryRowCount", queryRowCount);
         settings.put("selectedColumnsOnly", selectedColumnsOnly);
@@ -136,6 +152,9 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
 
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_new_connection, openNewConnections);
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_label_extract_type, extractType.name());
+        if (parallelSlices > 1) {
+            DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_label_parallel_slices, String.valueOf(parallelSlices));
+        }
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_select_row_count, queryRowCount);
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_selected_rows_only, selectedRowsOnly);
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_selected_columns_only, selectedColumnsOnly);
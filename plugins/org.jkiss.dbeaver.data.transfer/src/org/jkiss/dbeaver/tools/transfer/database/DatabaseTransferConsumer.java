@@ -50,6 +50,7 @@ import org.jkiss.dbeaver.tools.transfer.*;
 import org.jkiss.dbeaver.tools.transfer.internal.DTMessages;
 import org.jkiss.dbeaver.tools.transfer.registry.DataTransferEventProcessorDescriptor;
 import org.jkiss.dbeaver.tools.transfer.registry.DataTransferRegistry;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamEntityMapping;
 import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
@@ -80,6 +81,20 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     private DBSDataBulkLoader.BulkLoadManager bulkLoadManager;
     private long rowsExported = 0;
     private boolean ignoreErrors = false;
+    private boolean pipelined;
+    private DataTransferRowPipeline rowPipeline;
+    private DataTransferPipeStatistics pipeStatistics = new DataTransferPipeStatistics();
+    // Number of exported rows at the moment of the last batch execution
+    private long batchStartRow;
+
+    private DataTransferCheckpoint checkpoint;
+    private String checkpointKey;
+    // Source attribute which defines rows order. Set by producer which reads rows ordered by key
+    private String checkpointKeyAttribute;
+    private int checkpointKeyIndex = -1;
+    private Object lastWrittenKey;
+    private long committedRowsBefore;
+    private long rowsToSkip;
 
     private List<DBSAttributeBase> targetAttributes;
     private boolean useIsolatedConnection;
@@ -138,6 +153,27 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
         return columnMappings;
     }
 
+    /**
+     * Returns checkpoint of the resumable task or null if this transfer is not resumable
+     */
+    @Nullable
+    public DataTransferCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    @Nullable
+    public String getCheckpointKey() {
+        return checkpointKey;
+    }
+
+    /**
+     * Sets source attribute by which rows are ordered. Its value in the last committed row is saved in checkpoint.
+     * Must be called by producer before the fetch start.
+     */
+    public void setCheckpointKeyAttribute(@Nullable String checkpointKeyAttribute) {
+        this.checkpointKeyAttribute = checkpointKeyAttribute;
+    }
+
     @Override
     public DBSObject getDatabaseObject() {
         if (targetObjectContainer != null) {
@@ -186,7 +222,11 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
         AbstractExecutionSource executionSource = new AbstractExecutionSource(containerMapping.getSource(), targetContext, this);
 
         DBSDataManipulator targetObject = getTargetObject();
-        if (targetObject != null && !isPreview && offset <= 0 && settings.isTruncateBeforeLoad() && (containerMapping == null || containerMapping.getMappingType() == DatabaseMappingType.existing)) {
+        boolean resumed = checkpoint != null && checkpoint.getCommittedRows(checkpointKey) > 0;
+        if (resumed) {
+            log.debug("Resume transfer to '" + getObjectName() + "' after " + checkpoint.getCommittedRows(checkpointKey) + " committed rows");
+        }
+        if (targetObject != null && !isPreview && !resumed && offset <= 0 && settings.isTruncateBeforeLoad() && (containerMapping == null || containerMapping.getMappingType() == DatabaseMappingType.existing)) {
             // Truncate target tables
             // Note: all implementations support truncate in some way (e.g. DELETE FROM)
             // even if DBSDataManipulator.FEATURE_DATA_TRUNCATE is reported to be not supported.
@@ -281,9 +321,16 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
         }
         DBSAttributeBase[] attributes = targetAttributes.toArray(new DBSAttributeBase[0]);
 
+        if (checkpoint != null && !isPreview) {
+            initCheckpoint();
+        }
+
         Map<String, Object> options = new HashMap<>();
         options.put(DBSDataManipulator.OPTION_USE_MULTI_INSERT, settings.isUseMultiRowInsert());
         options.put(DBSDataManipulator.OPTION_SKIP_BIND_VALUES, settings.isSkipBindValues());
+        options.put(DBSDataBulkLoader.OPTION_STREAM_ROWS, settings.isBulkLoadStreaming());
+        options.put(DBSDataBulkLoader.OPTION_BINARY_FORMAT, settings.isBulkLoadBinaryFormat());
+        options.put(DBSDataBulkLoader.OPTION_RELAXED_DURABILITY, settings.isBulkLoadRelaxedDurability());
 
         if (!isPreview && targetObject != null) {
             if (settings.isUseBulkLoad()) {
@@ -312,6 +359,52 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
             previewRows = new ArrayList<>();
             executeBatch = new PreviewBatch();
         }
+
+        if (pipelined && !isPreview && !session.getDataSource().getInfo().isDynamicMetadata() &&
+            !DataTransferRowPipeline.hasContentAttributes(rsAttributes))
+        {
+            // Value conversion, batch execution and commits are performed in a separate writer thread
+            rowPipeline = new DataTransferRowPipeline(
+                "Write data to " + getObjectName(),
+                session.getProgressMonitor(),
+                row -> {
+                    long startTime = System.nanoTime();
+                    convertRow(session, null, row);
+                    pipeStatistics.addTime(DataTransferPipeStatistics.Stage.TRANSFORM, startTime);
+                    writeRow(row);
+                });
+            rowPipeline.start();
+        }
+        batchStartRow = rowsExported;
+        pipeStatistics.startFetch();
+    }
+
+    private void initCheckpoint() {
+        lastWrittenKey = null;
+        checkpointKeyIndex = -1;
+        committedRowsBefore = checkpoint.getCommittedRows(checkpointKey);
+        rowsToSkip = 0;
+        if (checkpointKeyAttribute != null) {
+            // Producer reads rows ordered by key and skips already committed keys
+            for (ColumnMapping column : columnMappings) {
+                if (column != null && column.targetIndex >= 0 && column.valueTransformer == null &&
+                    checkpointKeyAttribute.equalsIgnoreCase(column.sourceAttr.getName()))
+                {
+                    checkpointKeyIndex = column.targetIndex;
+                    break;
+                }
+            }
+            if (checkpointKeyIndex < 0) {
+                log.debug("Key column '" + checkpointKeyAttribute + "' isn't transferred as is. Checkpoints are disabled for '" + getObjectName() + "'");
+                checkpoint = null;
+            }
+        } else if (getSourceObject() instanceof StreamEntityMapping) {
+            // Stream rows order is stable, skip rows committed by the previous run
+            rowsToSkip = committedRowsBefore;
+        } else {
+            log.debug("Source '" + getSourceObject() + "' isn't read in stable order. Checkpoints are disabled for '" + getObjectName() + "'");
+            checkpoint = null;
+        }
     }
 
     private boolean isSkipColumn(DBDAttributeBinding attr) {
@@ -322,6 +415,13 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
 
     @Override
     public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+        long fetchedTime = pipeStatistics.endFetch();
+        if (rowsToSkip > 0) {
+            // Row was committed by the previous task run
+            rowsToSkip--;
+            pipeStatistics.startFetch();
+            return;
+        }
         final Object document;
 
         if (session.getDataSource().getInfo().isDynamicMetadata()) {
@@ -352,15 +452,45 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
                 // No value handler - get raw value
                 attrValue = resultSet.getAttributeValue(i);
             }
+            rowValues[column.targetIndex] = attrValue;
+        }
 
-            if (containerMapping != null && containerMapping.getTarget() instanceof DBSDocumentContainer) {
-                rowValues[column.targetIndex] = attrValue;
-            } else {
+        if (rowPipeline != null && DataTransferRowPipeline.hasContentValues(rowValues)) {
+            // LOB values are read from the source cursor, write this and the following rows in the reader thread
+            log.debug("LOB values in '" + getObjectName() + "'. Continue without writer thread");
+            try {
+                rowPipeline.finish();
+            } finally {
+                rowPipeline = null;
+            }
+        }
+        if (rowPipeline != null) {
+            // Target values are converted by the writer, it owns the target session
+            pipeStatistics.addTime(DataTransferPipeStatistics.Stage.TRANSFORM, fetchedTime);
+            rowPipeline.addRow(rowValues);
+        } else {
+            convertRow(session, document, rowValues);
+            pipeStatistics.addTime(DataTransferPipeStatistics.Stage.TRANSFORM, fetchedTime);
+            writeRow(rowValues);
+        }
+        pipeStatistics.startFetch();
+    }
+
+    /**
+     * Converts source values to target values and applies value transformers.
+     * Target value handlers use the target session, so it must be called in the thread which writes rows.
+     */
+    private void convertRow(@NotNull DBCSession session, @Nullable Object document, @NotNull Object[] rowValues) throws DBCException {
+        if (!(containerMapping != null && containerMapping.getTarget() instanceof DBSDocumentContainer)) {
+            for (ColumnMapping column : columnMappings) {
+                if (column == null || column.targetIndex < 0) {
+                    continue;
+                }
                 DatabaseMappingAttribute targetAttr = column.targetAttr;
                 rowValues[column.targetIndex] = column.targetValueHandler.getValueFromObject(
                     targetSession,
                     targetAttr.getTarget() == null ? targetAttr.getSource() : targetAttr.getTarget(),
-                    attrValue,
+                    rowValues[column.targetIndex],
                     false, false);
             }
         }
@@ -387,18 +517,30 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
                 }
             }
         }
+    }
 
+    private void writeRow(@NotNull Object[] rowValues) throws DBCException {
+        long startTime = System.nanoTime();
         if (bulkLoadManager != null) {
             bulkLoadManager.addRow(targetSession, rowValues);
         } else {
             executeBatch.add(rowValues);
         }
+        pipeStatistics.addTime(DataTransferPipeStatistics.Stage.WRITE, startTime);
+        pipeStatistics.addRows(1);
 
+        if (checkpointKeyIndex >= 0) {
+            lastWrittenKey = rowValues[checkpointKeyIndex];
+        }
         rowsExported++;
         // No need. monitor is incremented in data reader
         //session.getProgressMonitor().worked(1);
 
         insertBatch(false);
+
+        if (!isPreview && pipeStatistics.isProgressUpdateNeeded()) {
+            targetSession.getProgressMonitor().subTask("Insert rows: " + pipeStatistics.getProgressMessage());
+        }
     }
 
     private void insertBatch(boolean force) throws DBCException {
@@ -414,16 +556,17 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
 
         if (bulkLoadManager != null) {
             if (needCommit) {
+                long startTime = System.nanoTime();
                 bulkLoadManager.flushRows(targetSession);
+                pipeStatistics.addTime(DataTransferPipeStatistics.Stage.FLUSH, startTime);
+                addBatchStatistics();
+                // Bulk loaders commit data in finishBulkLoad, checkpoint is saved after it
+                saveCheckpoint(force);
             }
             return;
         } else {
             boolean disableUsingBatches = settings.isDisableUsingBatches();
             if ((needCommit || disableUsingBatches) && executeBatch != null) {
-                if (DBFetchProgress.monitorFetchProgress(rowsExported)) {
-                    targetSession.getProgressMonitor().subTask("Insert rows (" + rowsExported + ")");
-                }
-
                 Map<String, Object> options = new HashMap<>();
                 options.put(DBSDataManipulator.OPTION_DISABLE_BATCHES, disableUsingBatches);
                 options.put(DBSDataManipulator.OPTION_MULTI_INSERT_BATCH_SIZE, settings.getMultiRowInsertBatch());
@@ -452,10 +595,13 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
                     retryInsert = false;
                     try {
                         DBExecUtils.tryExecuteRecover(targetSession, targetSession.getDataSource(), param -> {
+                            long startTime = System.nanoTime();
                             try {
                                 statistics.accumulate(executeBatch.execute(targetSession, options));
                             } catch (Throwable e) {
                                 throw new InvocationTargetException(e);
+                            } finally {
+                                pipeStatistics.addTime(DataTransferPipeStatistics.Stage.FLUSH, startTime);
                             }
                         });
                     } catch (Throwable e) {
@@ -498,25 +644,68 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
                         }
                     }
                 } while (retryInsert);
+                addBatchStatistics();
             }
         }
         if (settings.isUseTransactions() && needCommit && !targetSession.getProgressMonitor().isCanceled()) {
             DBCTransactionManager txnManager = DBUtils.getTransactionManager(targetSession.getExecutionContext());
             if (txnManager != null && txnManager.isSupportsTransactions() && !txnManager.isAutoCommit()) {
                 targetSession.getProgressMonitor().subTask("Commit changes");
+                long startTime = System.nanoTime();
                 txnManager.commit(targetSession);
+                pipeStatistics.addTime(DataTransferPipeStatistics.Stage.COMMIT, startTime);
             }
         }
+        if (needCommit) {
+            saveCheckpoint(force);
+        }
+    }
+
+    private void addBatchStatistics() {
+        pipeStatistics.addBatch(rowsExported - batchStartRow);
+        batchStartRow = rowsExported;
+    }
+
+    private void saveCheckpoint(boolean force) {
+        if (checkpoint == null || targetSession.getProgressMonitor().isCanceled()) {
+            return;
+        }
+        if (!force && rowsExported % settings.getCommitAfterRows() != 0) {
+            // Commit of a single row (e.g. when duplicates are ignored), don't write checkpoint that often
+            return;
+        }
+        String key = null;
+        if (checkpointKeyIndex >= 0) {
+            if (!(lastWrittenKey instanceof Number number)) {
+                return;
+            }
+            key = DBValueFormatting.convertNumberToNativeString(number, false);
+        }
+        if (bulkLoadManager != null) {
+            checkpoint.prepare(checkpointKey, key, committedRowsBefore + rowsExported);
+        } else {
+            checkpoint.commit(checkpointKey, key, committedRowsBefore + rowsExported);
+        }
     }
 
     @Override
     public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
         try {
+            if (rowPipeline != null) {
+                try {
+                    rowPipeline.finish();
+                } finally {
+                    rowPipeline = null;
+                }
+            }
             if (rowsExported > 0) {
                 insertBatch(true);
             }
             if (bulkLoadManager != null) {
                 bulkLoadManager.finishBulkLoad(targetSession);
+                if (checkpoint != null) {
+                    checkpoint.commitPrepared(checkpointKey);
+                }
             } else if (executeBatch != null) {
                 executeBatch.close();
                 executeBatch = null;
@@ -590,6 +779,10 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     }
 
     private void closeExporter() {
+        if (rowPipeline != null) {
+            rowPipeline.abort();
+            rowPipeline = null;
+        }
         if (!isPreview && targetSession != null && oldAutoCommit != null) {
             try {
                 DBCTransactionManager txnManager = DBUtils.getTransactionManager(targetSession.getExecutionContext());
@@ -628,6 +821,12 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     public void initTransfer(@NotNull DBSObject sourceObject, @Nullable DatabaseConsumerSettings settings, @NotNull TransferParameters parameters, @Nullable IDataTransferProcessor processor, @Nullable Map<String, Object> processorProperties, @Nullable DBPProject project) {
         this.settings = settings;
         this.containerMapping = settings.getDataMapping((DBSDataContainer) sourceObject);
+        this.pipelined = parameters.pipelined;
+        if (parameters.statistics != null) {
+            this.pipeStatistics = parameters.statistics;
+        }
+        this.checkpoint = parameters.checkpoint;
+        this.checkpointKey = parameters.checkpointKey;
     }
 
     @Override
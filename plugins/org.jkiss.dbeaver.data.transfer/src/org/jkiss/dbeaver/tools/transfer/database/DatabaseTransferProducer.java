@@ -18,6 +18,10 @@
 package org.jkiss.dbeaver.tools.transfer.database;
 
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
@@ -25,12 +29,15 @@ import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.app.DBPProject;
 import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.impl.DataSourceContextProvider;
 import org.jkiss.dbeaver.model.meta.DBSerializable;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
 import org.jkiss.dbeaver.model.sql.SQLQuery;
 import org.jkiss.dbeaver.model.sql.SQLQueryContainer;
 import org.jkiss.dbeaver.model.sql.SQLScriptContext;
@@ -38,9 +45,11 @@ import org.jkiss.dbeaver.model.sql.SQLScriptElement;
 import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
 import org.jkiss.dbeaver.model.task.DBTTask;
 import org.jkiss.dbeaver.model.task.DBTaskUtils;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.tools.transfer.DataTransferCheckpoint;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferNodePrimary;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferProcessor;
@@ -54,6 +63,7 @@ import org.jkiss.utils.CommonUtils;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -247,11 +257,25 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
                             }
 
                         }
+                        DBDDataFilter readFilter = dataFilter;
+                        boolean resumable = false;
+                        if (!selectiveExportFromUI &&
+                            consumer instanceof DatabaseTransferConsumer databaseConsumer &&
+                            databaseConsumer.getCheckpoint() != null &&
+                            dataContainer instanceof DBSEntity entity)
+                        {
+                            DBDDataFilter checkpointFilter = makeCheckpointFilter(monitor, entity, databaseConsumer);
+                            if (checkpointFilter != null) {
+                                readFilter = checkpointFilter;
+                                resumable = true;
+                            }
+                        }
+
                         long totalRows = 0;
                         if (settings.isQueryRowCount() && dataContainer.isFeatureSupported(DBSDataContainer.FEATURE_DATA_COUNT)) {
                             monitor.beginTask(DTMessages.data_transfer_wizard_job_task_retrieve, 1);
                             try {
-                                totalRows = dataContainer.countData(transferSource, session, dataFilter, readFlags);
+                                totalRows = dataContainer.countData(transferSource, session, readFilter, readFlags);
                             } catch (Throwable e) {
                                 log.warn("Can't retrieve row count from '" + dataContainer.getName() + "'", e);
                                 try {
@@ -273,16 +297,28 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
                             monitor.subTask("Read data");
 
                             // Perform export
-                            if (settings.getExtractType() == DatabaseProducerSettings.ExtractType.SINGLE_QUERY) {
+                            List<DBDDataFilter> sliceFilters = null;
+                            // Slices are read in parallel, so there is no single committed key to resume from
+                            if (!selectiveExportFromUI && !resumable && newConnection && settings.getParallelSlices() > 1 && dataContainer instanceof DBSEntity entity) {
+                                try {
+                                    sliceFilters = DatabaseTransferUtils.makeKeyRangeSliceFilters(session, entity, dataFilter, settings.getParallelSlices());
+                                } catch (Throwable e) {
+                                    log.warn("Can't split '" + dataContainer.getName() + "' into slices. Read it in single query", e);
+                                }
+                            }
+                            if (sliceFilters != null) {
+                                // Read key-range slices in parallel, each on its own connection
+                                transferDataSlices(monitor, context, consumer, sliceFilters, readFlags, settings.getFetchSize(), forceDataReadTransactions);
+                            } else if (settings.getExtractType() == DatabaseProducerSettings.ExtractType.SINGLE_QUERY) {
                                 // Just do it in single query
-                                producerStatistics.accumulate(dataContainer.readData(transferSource, session, consumer, dataFilter, -1, -1, readFlags, settings.getFetchSize()));
+                                producerStatistics.accumulate(dataContainer.readData(transferSource, session, consumer, readFilter, -1, -1, readFlags, settings.getFetchSize()));
                             } else {
                                 // Read all data by segments
                                 long offset = 0;
                                 int segmentSize = settings.getSegmentSize();
                                 for (; ; ) {
                                     DBCStatistics statistics = dataContainer.readData(
-                                        transferSource, session, consumer, dataFilter, offset, segmentSize, readFlags, settings.getFetchSize());
+                                        transferSource, session, consumer, readFilter, offset, segmentSize, readFlags, settings.getFetchSize());
                                     if (statistics == null || statistics.getRowsFetched() < segmentSize) {
                                         // Done
                                         break;
@@ -321,6 +357,149 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
         });
     }
 
+    /**
+     * Makes filter which reads rows ordered by the entity key, starting after the key committed by the previous task run.
+     * Consumer saves key of each committed row in checkpoint.
+     */
+    @Nullable
+    private DBDDataFilter makeCheckpointFilter(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity entity,
+        @NotNull DatabaseTransferConsumer consumer
+    ) {
+        DataTransferCheckpoint checkpoint = consumer.getCheckpoint();
+        String checkpointKey = consumer.getCheckpointKey();
+        if (checkpoint == null || checkpointKey == null) {
+            return null;
+        }
+        try {
+            DBSEntityAttribute keyAttribute = DatabaseTransferUtils.getNumericKeyAttribute(monitor, entity);
+            if (keyAttribute == null) {
+                log.debug("Table '" + entity.getName() + "' doesn't have numeric key. It can't be resumed from checkpoint");
+                return null;
+            }
+            DBDDataFilter checkpointFilter = DatabaseTransferUtils.makeCheckpointFilter(
+                keyAttribute, dataFilter, checkpoint.getCommittedKey(checkpointKey));
+            if (checkpointFilter != null) {
+                consumer.setCheckpointKeyAttribute(keyAttribute.getName());
+            }
+            return checkpointFilter;
+        } catch (DBException e) {
+            log.warn("Can't read key of '" + entity.getName() + "'. It can't be resumed from checkpoint", e);
+            return null;
+        }
+    }
+
+    private void transferDataSlices(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCExecutionContext sourceContext,
+        @NotNull IDataTransferConsumer consumer,
+        @NotNull List<DBDDataFilter> sliceFilters,
+        long readFlags,
+        int fetchSize,
+        boolean useTransactions
+    ) throws DBException {
+        final DatabaseTransferSliceReceiver sliceReceiver = new DatabaseTransferSliceReceiver(consumer, sliceFilters.size());
+        final JobGroup group = new JobGroup("Read " + dataContainer.getName() + " slices", sliceFilters.size(), sliceFilters.size());
+        final List<SliceReadJob> jobs = new ArrayList<>(sliceFilters.size());
+        for (int i = 0; i < sliceFilters.size(); i++) {
+            SliceReadJob job = new SliceReadJob(i, sourceContext, sliceReceiver, sliceFilters.get(i), readFlags, fetchSize, useTransactions);
+            job.setJobGroup(group);
+            job.schedule();
+            jobs.add(job);
+        }
+        try {
+            group.join(0, new ProxyProgressMonitor(monitor));
+        } catch (InterruptedException | OperationCanceledException e) {
+            group.cancel();
+            throw new DBCException("Sliced data read canceled");
+        }
+        DBException error = null;
+        for (SliceReadJob job : jobs) {
+            IStatus result = job.getResult();
+            if (result != null && result.getException() != null) {
+                if (error == null) {
+                    error = new DBException("Error reading data slice", result.getException());
+                } else {
+                    error.addSuppressed(result.getException());
+                }
+            }
+            if (job.statistics != null) {
+                producerStatistics.accumulate(job.statistics);
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Reads one key-range slice of the data container on its own isolated connection
+     */
+    private class SliceReadJob extends AbstractJob {
+        private final DBCExecutionContext sourceContext;
+        private final DBDDataReceiver receiver;
+        private final DBDDataFilter sliceFilter;
+        private final long readFlags;
+        private final int fetchSize;
+        private final boolean useTransactions;
+        private DBCStatistics statistics;
+
+        SliceReadJob(
+            int index,
+            @NotNull DBCExecutionContext sourceContext,
+            @NotNull DBDDataReceiver receiver,
+            @NotNull DBDDataFilter sliceFilter,
+            long readFlags,
+            int fetchSize,
+            boolean useTransactions
+        ) {
+            super("Read slice [" + index + "] of " + dataContainer.getName());
+            this.sourceContext = sourceContext;
+            this.receiver = receiver;
+            this.sliceFilter = sliceFilter;
+            this.readFlags = readFlags;
+            this.fetchSize = fetchSize;
+            this.useTransactions = useTransactions;
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            DBCExecutionContext sliceContext = null;
+            boolean readStarted = false;
+            try {
+                DBPDataSource dataSource = dataContainer.getDataSource();
+                sliceContext = DBUtils.getObjectOwnerInstance(dataContainer).openIsolatedContext(monitor, "Data transfer producer slice", sourceContext);
+                DBExecUtils.setExecutionContextDefaults(monitor, dataSource, sliceContext, defaultCatalog, null, defaultSchema);
+                try (DBCSession session = sliceContext.openSession(monitor, DBCExecutionPurpose.UTIL, DTMessages.data_transfer_wizard_job_task_export)) {
+                    session.enableLogging(false);
+                    if (useTransactions) {
+                        DBCTransactionManager txnManager = DBUtils.getTransactionManager(sliceContext);
+                        if (txnManager != null && txnManager.isSupportsTransactions()) {
+                            txnManager.setAutoCommit(monitor, false);
+                        }
+                    }
+                    readStarted = true;
+                    statistics = dataContainer.readData(
+                        new AbstractExecutionSource(dataContainer, sliceContext, receiver),
+                        session, receiver, sliceFilter, -1, -1, readFlags, fetchSize);
+                }
+            } catch (Throwable e) {
+                return GeneralUtils.makeExceptionStatus(e);
+            } finally {
+                if (!readStarted) {
+                    // Slice reader must be closed anyway, otherwise merged fetch never ends
+                    receiver.close();
+                }
+                if (sliceContext != null) {
+                    sliceContext.close();
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         return obj instanceof DatabaseTransferProducer &&
@@ -0,0 +1,107 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.database;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Merges rows of several concurrently read slices into a single data receiver.
+ * Target receiver sees exactly one fetchStart/fetchEnd/close sequence.
+ * Rows are delivered under a lock, so target receiver doesn't need to be thread-safe.
+ */
+class DatabaseTransferSliceReceiver implements DBDDataReceiver {
+
+    private static final Log log = Log.getLog(DatabaseTransferSliceReceiver.class);
+
+    private record SliceFetch(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+    }
+
+    private final DBDDataReceiver target;
+    private final Object sync = new Object();
+    private int activeSlices;
+    private boolean fetchStarted;
+    // Finished fetches of slices which are not closed yet. Slice is read and closed in the same thread.
+    private final Map<Thread, SliceFetch> finishedFetches = new HashMap<>();
+
+    DatabaseTransferSliceReceiver(@NotNull DBDDataReceiver target, int sliceCount) {
+        this.target = target;
+        this.activeSlices = sliceCount;
+    }
+
+    @Override
+    public void fetchStart(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, long offset, long maxRows) throws DBCException {
+        synchronized (sync) {
+            if (!fetchStarted) {
+                target.fetchStart(session, resultSet, offset, maxRows);
+                fetchStarted = true;
+            }
+        }
+    }
+
+    @Override
+    public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+        synchronized (sync) {
+            target.fetchRow(session, resultSet);
+        }
+    }
+
+    @Override
+    public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+        synchronized (sync) {
+            finishedFetches.put(Thread.currentThread(), new SliceFetch(session, resultSet));
+        }
+    }
+
+    /**
+     * Slice finished. The last closed slice ends fetch in target receiver.
+     * Fetch is ended with the session of the closing slice: it happens in the slice reader thread,
+     * while its session is still open. Sessions of other slices may be closed at this moment.
+     */
+    @Override
+    public void close() {
+        synchronized (sync) {
+            SliceFetch sliceFetch = finishedFetches.remove(Thread.currentThread());
+            activeSlices--;
+            if (activeSlices > 0) {
+                return;
+            }
+            try {
+                if (fetchStarted) {
+                    if (sliceFetch != null) {
+                        target.fetchEnd(sliceFetch.session(), sliceFetch.resultSet());
+                    } else {
+                        // The last slice failed before fetch, its session is not available
+                        log.debug("Sliced fetch ended without result set, skip fetch end");
+                    }
+                }
+            } catch (Throwable e) {
+                log.error("Error while finishing sliced fetch", e);
+            } finally {
+                finishedFetches.clear();
+                target.close();
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.*;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.edit.*;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.DBObjectNameCaseTransformer;
@@ -44,6 +45,8 @@ import org.jkiss.utils.BeanUtils;
 import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.Pair;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
 
 /**
@@ -608,6 +611,176 @@ public class DatabaseTransferUtils {
         return DATA_TYPE_STRING;
     }
 
+    /**
+     * Splits entity data into key-range slices.
+     * Entity must have single-column integral identifier. Each returned filter is a copy of the source filter
+     * extended with a key range condition. First and last slices are open-ended so the whole key space is covered.
+     *
+     * @return slice filters or null if entity can't be sliced
+     */
+    @Nullable
+    public static List<DBDDataFilter> makeKeyRangeSliceFilters(
+        @NotNull DBCSession session,
+        @NotNull DBSEntity entity,
+        @Nullable DBDDataFilter dataFilter,
+        int sliceCount
+    ) throws DBException {
+        if (sliceCount < 2) {
+            return null;
+        }
+        if (dataFilter != null && dataFilter.isAnyConstraint() && dataFilter.hasConditions()) {
+            // Slice condition can't be combined with disjunctive filter
+            return null;
+        }
+        DBSEntityAttribute keyAttribute = getNumericKeyAttribute(session.getProgressMonitor(), entity);
+        if (keyAttribute == null || (keyAttribute.getScale() != null && keyAttribute.getScale() > 0)) {
+            // Fractional keys can't be split into integral ranges
+            return null;
+        }
+        String keyName = DBUtils.getQuotedIdentifier(keyAttribute);
+        String query = "SELECT MIN(" + keyName + "),MAX(" + keyName + ") FROM " +
+            DBUtils.getObjectFullName(entity, DBPEvaluationContext.DML);
+
+        BigInteger minValue, maxValue;
+        try (DBCStatement dbStat = DBUtils.makeStatement(session, query, false)) {
+            if (!dbStat.executeStatement()) {
+                return null;
+            }
+            try (DBCResultSet dbResult = dbStat.openResultSet()) {
+                if (dbResult == null || !dbResult.nextRow()) {
+                    return null;
+                }
+                // Null for empty table or non-integral values
+                minValue = toIntegralKeyValue(dbResult.getAttributeValue(0));
+                maxValue = toIntegralKeyValue(dbResult.getAttributeValue(1));
+                if (minValue == null || maxValue == null) {
+                    return null;
+                }
+            }
+        }
+        List<String> conditions = makeKeyRangeConditions(keyName, minValue, maxValue, sliceCount);
+        if (conditions == null) {
+            return null;
+        }
+
+        List<DBDDataFilter> sliceFilters = new ArrayList<>(sliceCount);
+        for (String condition : conditions) {
+            DBDDataFilter sliceFilter = dataFilter == null ? new DBDDataFilter() : new DBDDataFilter(dataFilter);
+            if (CommonUtils.isEmpty(sliceFilter.getWhere())) {
+                sliceFilter.setWhere(condition.toString());
+            } else {
+                sliceFilter.setWhere("(" + sliceFilter.getWhere() + ") AND " + condition);
+            }
+            sliceFilters.add(sliceFilter);
+        }
+        return sliceFilters;
+    }
+
+    /**
+     * Makes key range conditions which split [minValue, maxValue] into slices of equal width.
+     * The first and the last conditions are open-ended, so keys outside of the range are read too.
+     * Arbitrary precision arithmetic is used, so ranges of BIGINT or DECIMAL keys do not overflow.
+     *
+     * @return conditions or null if range is too narrow for the slice count
+     */
+    @Nullable
+    public static List<String> makeKeyRangeConditions(
+        @NotNull String keyName,
+        @NotNull BigInteger minValue,
+        @NotNull BigInteger maxValue,
+        int sliceCount
+    ) {
+        if (sliceCount < 2) {
+            return null;
+        }
+        BigInteger step = maxValue.subtract(minValue).divide(BigInteger.valueOf(sliceCount));
+        if (step.signum() <= 0) {
+            return null;
+        }
+        List<String> conditions = new ArrayList<>(sliceCount);
+        for (int i = 0; i < sliceCount; i++) {
+            StringBuilder condition = new StringBuilder();
+            if (i > 0) {
+                condition.append(keyName).append(">=").append(minValue.add(step.multiply(BigInteger.valueOf(i))));
+            }
+            if (i < sliceCount - 1) {
+                if (i > 0) {
+                    condition.append(" AND ");
+                }
+                condition.append(keyName).append("<").append(minValue.add(step.multiply(BigInteger.valueOf(i + 1))));
+            }
+            conditions.add(condition.toString());
+        }
+        return conditions;
+    }
+
+    /**
+     * Converts key value to integer. Returns null for nulls and for values with fractional part.
+     */
+    @Nullable
+    public static BigInteger toIntegralKeyValue(@Nullable Object value) {
+        if (value instanceof BigInteger bigInteger) {
+            return bigInteger;
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        } else if (value instanceof BigDecimal bigDecimal) {
+            try {
+                return bigDecimal.toBigIntegerExact();
+            } catch (ArithmeticException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns single-column numeric identifier of the entity or null if entity doesn't have one
+     */
+    @Nullable
+    public static DBSEntityAttribute getNumericKeyAttribute(@NotNull DBRProgressMonitor monitor, @NotNull DBSEntity entity) throws DBException {
+        List<? extends DBSEntityAttribute> keyAttributes = DBUtils.getBestTableIdentifier(monitor, entity);
+        if (keyAttributes.size() != 1 || keyAttributes.get(0).getDataKind() != DBPDataKind.NUMERIC) {
+            return null;
+        }
+        return keyAttributes.get(0);
+    }
+
+    /**
+     * Makes filter which reads entity data ordered by the key, starting after the committed key value.
+     * Used to resume interrupted transfer from checkpoint.
+     *
+     * @return resume filter or null if source filter can't be combined with key order
+     */
+    @Nullable
+    public static DBDDataFilter makeCheckpointFilter(
+        @NotNull DBSEntityAttribute keyAttribute,
+        @Nullable DBDDataFilter dataFilter,
+        @Nullable String committedKey
+    ) {
+        if (dataFilter != null && (dataFilter.hasOrdering() || (dataFilter.isAnyConstraint() && dataFilter.hasConditions()))) {
+            return null;
+        }
+        String keyName = DBUtils.getQuotedIdentifier(keyAttribute);
+        DBDDataFilter checkpointFilter = dataFilter == null ? new DBDDataFilter() : new DBDDataFilter(dataFilter);
+        checkpointFilter.setOrder(keyName);
+        if (committedKey != null) {
+            String condition;
+            try {
+                // Key is stored in a file, never put it into the query as is
+                condition = keyName + ">" + new BigDecimal(committedKey).toPlainString();
+            } catch (NumberFormatException e) {
+                log.warn("Bad checkpoint key value '" + committedKey + "'");
+                return null;
+            }
+            if (CommonUtils.isEmpty(checkpointFilter.getWhere())) {
+                checkpointFilter.setWhere(condition);
+            } else {
+                checkpointFilter.setWhere("(" + checkpointFilter.getWhere() + ") AND " + condition);
+            }
+        }
+        return checkpointFilter;
+    }
+
     private static void ensureHasEditMetadataPermission(@NotNull DBPDataSourceContainer container) throws DBCException {
         if (!container.hasModifyPermission(DBPDataSourcePermission.PERMISSION_EDIT_METADATA)) {
             throw new DBCException("New table creation in database [" + container.getName() + "] restricted by connection configuration");
@@ -31,9 +31,11 @@ public class DTMessages extends NLS {
     public static String data_transfer_wizard_job_task_export_table_data;
     public static String data_transfer_wizard_job_task_retrieve;
     public static String data_transfer_wizard_output_checkbox_compress;
+    public static String data_transfer_wizard_output_label_compression_format;
     public static String data_transfer_wizard_output_checkbox_split_files;
     public static String data_transfer_wizard_output_checkbox_split_files_tip;
     public static String data_transfer_wizard_output_checkbox_new_connection;
+    public static String data_transfer_wizard_output_checkbox_pipelined;
     public static String data_transfer_wizard_output_checkbox_select_row_count;
     public static String data_transfer_wizard_output_checkbox_selected_columns_only;
     public static String data_transfer_wizard_output_checkbox_selected_rows_only;
@@ -57,6 +59,7 @@ public class DTMessages extends NLS {
     public static String data_transfer_wizard_output_label_insert_bom_tooltip;
     public static String data_transfer_wizard_output_label_max_threads;
     public static String data_transfer_wizard_output_label_segment_size;
+    public static String data_transfer_wizard_output_label_parallel_slices;
     public static String data_transfer_wizard_output_label_add_to_end_of_file;
     public static String data_transfer_wizard_output_label_add_to_end_of_file_tip;
     public static String data_transfer_wizard_output_error_empty_output_directory;
@@ -141,7 +144,11 @@ public class DTMessages extends NLS {
     public static String database_consumer_settings_option_transfer_auto_generated_columns;
     public static String database_consumer_settings_option_disable_referential_integrity;
     public static String database_consumer_settings_option_use_bulk_load;
+    public static String database_consumer_settings_option_bulk_load_streaming;
+    public static String database_consumer_settings_option_bulk_load_binary_format;
+    public static String database_consumer_settings_option_bulk_load_relaxed_durability;
     public static String database_consumer_settings_option_truncate_before_load;
+    public static String database_consumer_settings_option_use_checkpoints;
 
     public static String data_transfer_settings_title_find_producer;
     public static String data_transfer_settings_message_find_data_producer;
@@ -0,0 +1,261 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.*;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * GZIP output stream which compresses data on a pool of worker threads.
+ * <p>
+ * Input is split into fixed-size blocks. Each block is deflated independently, primed with the last 32K
+ * of the previous block as a dictionary, and finished with a sync flush, so compressed blocks
+ * can be concatenated into a single deflate stream (the same approach as pigz uses).
+ * Compressed blocks are written to the underlying stream in the original order.
+ * The writer thread only copies data and computes CRC.
+ * <p>
+ * Blocks are compressed on an executor which is shared by all streams and has one thread per processor,
+ * so several files compressed at once don't multiply compression threads.
+ * Stream parallelism limits only the number of blocks the stream compresses at once.
+ * <p>
+ * The result is a regular single-member GZIP file.
+ */
+public class ParallelGZIPOutputStream extends OutputStream {
+
+    public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final int PROCESSOR_COUNT = Runtime.getRuntime().availableProcessors();
+    private static final ExecutorService sharedExecutor = createSharedExecutor();
+    private static final byte[] GZIP_HEADER = {
+        0x1f, (byte) 0x8b,  // Magic number
+        Deflater.DEFLATED,  // Compression method
+        0,                  // Flags
+        0, 0, 0, 0,         // Modification time
+        0,                  // Extra flags
+        0                   // Operating system
+    };
+
+    private final OutputStream out;
+    private final int level;
+    private final int blockSize;
+    private final int maxPendingBlocks;
+    private final ExecutorService executor;
+    private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+    private final CRC32 crc = new CRC32();
+
+    private byte[] block;
+    private int blockLength;
+    private byte[] prevBlock;
+    private int prevBlockLength;
+    private long totalLength;
+    private boolean finished;
+
+    public ParallelGZIPOutputStream(@NotNull OutputStream out) throws IOException {
+        this(out, PROCESSOR_COUNT);
+    }
+
+    public ParallelGZIPOutputStream(@NotNull OutputStream out, int parallelism) throws IOException {
+        this(out, Deflater.DEFAULT_COMPRESSION, DEFAULT_BLOCK_SIZE, parallelism, sharedExecutor);
+    }
+
+    public ParallelGZIPOutputStream(
+        @NotNull OutputStream out,
+        int level,
+        int blockSize,
+        int parallelism,
+        @NotNull ExecutorService executor
+    ) throws IOException {
+        if (blockSize < DICTIONARY_SIZE) {
+            throw new IllegalArgumentException("Block size must be at least " + DICTIONARY_SIZE + " bytes");
+        }
+        this.out = out;
+        this.level = level;
+        this.blockSize = blockSize;
+        this.maxPendingBlocks = Math.max(1, parallelism) * 2;
+        this.executor = executor;
+        this.block = new byte[blockSize];
+        out.write(GZIP_HEADER);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        block[blockLength++] = (byte) b;
+        if (blockLength == blockSize) {
+            submitBlock(false);
+        }
+    }
+
+    @Override
+    public void write(@NotNull byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            int count = Math.min(len, blockSize - blockLength);
+            System.arraycopy(b, off, block, blockLength, count);
+            blockLength += count;
+            off += count;
+            len -= count;
+            if (blockLength == blockSize) {
+                submitBlock(false);
+            }
+        }
+    }
+
+    /**
+     * Writes blocks which are already compressed. Doesn't wait for blocks which are still being compressed
+     * and doesn't flush the current block, so frequent flushes don't affect compression.
+     */
+    @Override
+    public void flush() throws IOException {
+        while (!pendingBlocks.isEmpty() && pendingBlocks.peekFirst().isDone()) {
+            writeBlock(pendingBlocks.pollFirst());
+        }
+        out.flush();
+    }
+
+    /**
+     * Compresses the remaining data and writes GZIP trailer without closing the underlying stream
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        submitBlock(true);
+        while (!pendingBlocks.isEmpty()) {
+            writeBlock(pendingBlocks.pollFirst());
+        }
+        long checksum = crc.getValue();
+        byte[] trailer = new byte[8];
+        for (int i = 0; i < 4; i++) {
+            trailer[i] = (byte) (checksum >> (i * 8));
+            trailer[i + 4] = (byte) (totalLength >> (i * 8));
+        }
+        out.write(trailer);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            for (Future<byte[]> pendingBlock : pendingBlocks) {
+                pendingBlock.cancel(true);
+            }
+            pendingBlocks.clear();
+            out.close();
+        }
+    }
+
+    @NotNull
+    private static ExecutorService createSharedExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            PROCESSOR_COUNT,
+            PROCESSOR_COUNT,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> {
+                Thread thread = new Thread(r, "GZIP compression worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        // Threads are released when nothing is compressed
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (finished) {
+            throw new IOException("Stream is already finished");
+        }
+    }
+
+    private void submitBlock(boolean last) throws IOException {
+        final byte[] data = block;
+        final int length = blockLength;
+        final byte[] dictionary = prevBlock;
+        final int dictionaryEnd = prevBlockLength;
+        crc.update(data, 0, length);
+        totalLength += length;
+
+        // Block arrays are not reused: the current block is read by the next worker as a dictionary
+        prevBlock = data;
+        prevBlockLength = length;
+        block = last ? null : new byte[blockSize];
+        blockLength = 0;
+
+        pendingBlocks.addLast(executor.submit(() -> deflateBlock(data, length, dictionary, dictionaryEnd, last)));
+        while (pendingBlocks.size() > maxPendingBlocks) {
+            writeBlock(pendingBlocks.pollFirst());
+        }
+    }
+
+    private void writeBlock(@NotNull Future<byte[]> pendingBlock) throws IOException {
+        try {
+            out.write(pendingBlock.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Compression interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException("Error compressing data", e.getCause());
+        }
+    }
+
+    @NotNull
+    private byte[] deflateBlock(@NotNull byte[] data, int length, @Nullable byte[] dictionary, int dictionaryEnd, boolean last) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionary != null) {
+                int dictionaryLength = Math.min(DICTIONARY_SIZE, dictionaryEnd);
+                deflater.setDictionary(dictionary, dictionaryEnd - dictionaryLength, dictionaryLength);
+            }
+            deflater.setInput(data, 0, length);
+            ByteArrayOutputStream result = new ByteArrayOutputStream(length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int count = deflater.deflate(buffer);
+                    result.write(buffer, 0, count);
+                }
+            } else {
+                // Sync flush aligns the block end on a byte boundary, so the next block can be appended as is
+                int count;
+                do {
+                    count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    result.write(buffer, 0, count);
+                } while (count == buffer.length);
+            }
+            return result.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -111,12 +111,28 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
         }
     }
 
+    public enum CompressionFormat {
+        ZIP("zip"),
+        GZIP("gz");
+
+        private final String extension;
+
+        CompressionFormat(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
     public static final String PROP_EXTRACT_IMAGES = "extractImages";
     public static final String PROP_FILE_EXTENSION = "extension";
 
     private static final String SETTING_VALUE_FORMAT = "valueFormat"; //$NON-NLS-1$
     private static final String DATA_FILE_CONFLICT_BEHAVIOR = "dataFileConflictBehavior"; //$NON-NLS-1$
     private static final String BLOB_FILE_CONFLICT_BEHAVIOR = "blobFileConflictBehavior"; //$NON-NLS-1$
+    private static final String COMPRESSION_FORMAT = "compressionFormat"; //$NON-NLS-1$
 
     private LobExtractType lobExtractType = LobExtractType.INLINE;
     private LobEncoding lobEncoding = LobEncoding.BINARY;
@@ -135,6 +151,8 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
     private boolean outputClipboard = false;
     private boolean useSingleFile = false;
     private boolean compressResults = false;
+    @NotNull
+    private CompressionFormat compressionFormat = CompressionFormat.ZIP;
     private boolean splitOutFiles = false;
     private long maxOutFileSize = 10 * 1000 * 1000;
     private final Map<DBSDataContainer, StreamMappingContainer> dataMappings = new LinkedHashMap<>();
@@ -244,6 +262,15 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
         this.compressResults = compressResults;
     }
 
+    @NotNull
+    public CompressionFormat getCompressionFormat() {
+        return compressionFormat;
+    }
+
+    public void setCompressionFormat(@NotNull CompressionFormat compressionFormat) {
+        this.compressionFormat = compressionFormat;
+    }
+
     public boolean isSplitOutFiles() {
         return splitOutFiles;
     }
@@ -329,6 +356,11 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
         );
 
         compressResults = CommonUtils.getBoolean(settings.get("compressResults"), compressResults);
+        compressionFormat = CommonUtils.valueOf(
+            CompressionFormat.class,
+            CommonUtils.toString(settings.get(COMPRESSION_FORMAT)),
+            CompressionFormat.ZIP
+        );
         splitOutFiles = CommonUtils.getBoolean(settings.get("splitOutFiles"), splitOutFiles);
         maxOutFileSize = CommonUtils.toLong(settings.get("maxOutFileSize"), maxOutFileSize);
 
@@ -416,6 +448,7 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
         settings.put("useSingleFile", useSingleFile);
 
         settings.put("compressResults", compressResults);
+        settings.put(COMPRESSION_FORMAT, compressionFormat.name());
         settings.put("splitOutFiles", splitOutFiles);
         settings.put("maxOutFileSize", maxOutFileSize);
 
@@ -459,6 +492,9 @@ public class StreamConsumerSettings implements IDataTransferConsumerSettings {
         }
 
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_compress, compressResults);
+        if (compressResults) {
+            DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_label_compression_format, compressionFormat.name());
+        }
 
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_settings_label_binaries, lobExtractType);
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_settings_label_encoding, lobEncoding);
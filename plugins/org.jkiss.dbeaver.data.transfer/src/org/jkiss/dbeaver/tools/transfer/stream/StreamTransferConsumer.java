@@ -44,6 +44,8 @@ import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.runtime.ui.DBPPlatformUI.UserChoiceResponse;
 import org.jkiss.dbeaver.tools.transfer.DTConstants;
 import org.jkiss.dbeaver.tools.transfer.DTUtils;
+import org.jkiss.dbeaver.tools.transfer.DataTransferPipeStatistics;
+import org.jkiss.dbeaver.tools.transfer.DataTransferRowPipeline;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferEventProcessor;
 import org.jkiss.dbeaver.tools.transfer.internal.DTActivator;
@@ -132,6 +134,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
     private OutputStream outputStream;
     private ZipOutputStream zipStream;
+    private ParallelGZIPOutputStream gzipStream;
     private PrintWriter writer;
     private int multiFileNumber;
     private long bytesWritten = 0;
@@ -150,6 +153,10 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
     private final List<Path> outputFiles = new ArrayList<>();
     private StatOutputStream statStream;
+    private DataTransferRowPipeline rowPipeline;
+    private DataTransferPipeStatistics pipeStatistics = new DataTransferPipeStatistics();
+    // Size of output files which are already closed
+    private long closedFilesBytes;
     
     public StreamTransferConsumer() {
     }
@@ -192,15 +199,90 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         }
 
         initialized = true;
+
+        if (parameters.pipelined && !(settings.getLobExtractType() == StreamConsumerSettings.LobExtractType.INLINE &&
+            DataTransferRowPipeline.hasContentAttributes(columnBindings)))
+        {
+            // Inline LOBs are read by exporter, so they must stay in the reader thread
+            rowPipeline = new DataTransferRowPipeline(
+                "Export data to " + getObjectName(),
+                session.getProgressMonitor(),
+                row -> exportTargetRow(session, resultSet, row));
+            rowPipeline.start();
+        }
+        pipeStatistics.startFetch();
     }
 
     @Override
     public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+        long fetchedTime = pipeStatistics.endFetch();
+        Object[] targetRow;
+        try {
+            targetRow = fetchTargetRow(session, resultSet);
+        } catch (IOException e) {
+            throw new DBCException("IO error", e);
+        } catch (Throwable e) {
+            throw new DBCException("Error while exporting table row", e);
+        }
+        pipeStatistics.addTime(DataTransferPipeStatistics.Stage.TRANSFORM, fetchedTime);
+        if (rowPipeline != null && DataTransferRowPipeline.hasContentValues(targetRow)) {
+            // Text LOBs are passed to exporter as is, export this and the following rows in the reader thread
+            log.debug("LOB values in '" + getObjectName() + "'. Continue without writer thread");
+            try {
+                rowPipeline.finish();
+            } finally {
+                rowPipeline = null;
+            }
+        }
+        if (rowPipeline != null) {
+            rowPipeline.addRow(targetRow);
+        } else {
+            exportTargetRow(session, resultSet, targetRow);
+        }
+        pipeStatistics.startFetch();
+    }
+
+    private Object[] fetchTargetRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBException, IOException {
+        // Get values
+        Object[] srcRow = fetchRow(session, resultSet, columnMetas);
+        Object[] targetRow;
+        targetRow = new Object[columnBindings.length];
+        for (int i = 0; i < columnBindings.length; i++) {
+            DBDAttributeBinding column = columnBindings[i];
+            Object value = DBUtils.getAttributeValue(column, columnMetas, srcRow);
+            if (value instanceof DBDContent) {
+                // Check for binary type export
+                if (!ContentUtils.isTextContent((DBDContent) value)) {
+                    switch (settings.getLobExtractType()) {
+                        case SKIP:
+                            // Set it it null
+                            value = null;
+                            break;
+                        case INLINE:
+                            // Just pass content to exporter
+                            break;
+                        case FILES:
+                            if (!settings.isOutputClipboard()) {
+                                // Save content to file and pass file reference to exporter
+                                value = saveContentToFile(session.getProgressMonitor(), (DBDContent) value);
+                            }
+                            break;
+                    }
+                }
+            }
+            targetRow[i] = value;
+        }
+        return targetRow;
+    }
+
+    private void exportTargetRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, @NotNull Object[] targetRow) throws DBCException {
         try {
             // Check for file split
             if (settings.isSplitOutFiles() && !parameters.isBinary && !firstRow) {
+                long startTime = System.nanoTime();
                 writer.flush();
-                if (bytesWritten >= settings.getMaxOutFileSize()) {
+                pipeStatistics.addTime(DataTransferPipeStatistics.Stage.FLUSH, startTime);
+                if (getOutFileSize() >= settings.getMaxOutFileSize()) {
                     // First add footer for the previous file
                     exportFooterInFile(session.getProgressMonitor());
                     // Make new file with the header
@@ -209,38 +291,17 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
                 }
             }
 
-            // Get values
-            Object[] srcRow = fetchRow(session, resultSet, columnMetas);
-            Object[] targetRow;
-            targetRow = new Object[columnBindings.length];
-            for (int i = 0; i < columnBindings.length; i++) {
-                DBDAttributeBinding column = columnBindings[i];
-                Object value = DBUtils.getAttributeValue(column, columnMetas, srcRow);
-                if (value instanceof DBDContent) {
-                    // Check for binary type export
-                    if (!ContentUtils.isTextContent((DBDContent) value)) {
-                        switch (settings.getLobExtractType()) {
-                            case SKIP:
-                                // Set it it null
-                                value = null;
-                                break;
-                            case INLINE:
-                                // Just pass content to exporter
-                                break;
-                            case FILES:
-                                if (!settings.isOutputClipboard()) {
-                                    // Save content to file and pass file reference to exporter
-                                    value = saveContentToFile(session.getProgressMonitor(), (DBDContent) value);
-                                }
-                                break;
-                        }
-                    }
-                }
-                targetRow[i] = value;
-            }
             // Export row
+            long startTime = System.nanoTime();
             processor.exportRow(session, resultSet, targetRow);
+            pipeStatistics.addTime(DataTransferPipeStatistics.Stage.WRITE, startTime);
+            pipeStatistics.addRows(1);
             firstRow = false;
+
+            if (pipeStatistics.isProgressUpdateNeeded()) {
+                pipeStatistics.setBytes(closedFilesBytes + getBytesWritten());
+                session.getProgressMonitor().subTask("Export rows: " + pipeStatistics.getProgressMessage());
+            }
         } catch (IOException e) {
             throw new DBCException("IO error", e);
         } catch (Throwable e) {
@@ -270,10 +331,21 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
     @Override
     public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+        if (rowPipeline != null) {
+            try {
+                rowPipeline.finish();
+            } finally {
+                rowPipeline = null;
+            }
+        }
     }
 
     @Override
     public void close() {
+        if (rowPipeline != null) {
+            rowPipeline.abort();
+            rowPipeline = null;
+        }
         columnBindings = null;
     }
     
@@ -382,7 +454,11 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
                 openOutputStreams(session.getProgressMonitor());
             }
         } catch (IOException e) {
-            closeExporter();
+            try {
+                closeExporter();
+            } catch (IOException e1) {
+                e.addSuppressed(e1);
+            }
             throw new DBCException("Data transfer IO error", e);
         }
 
@@ -394,7 +470,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         }
     }
 
-    private void closeExporter() {
+    private void closeExporter() throws IOException {
         if (exportSite != null) {
             try {
                 exportSite.flush();
@@ -510,10 +586,19 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         this.outputStream = this.statStream = new StatOutputStream(outputStream);
 
         if (settings.isCompressResults()) {
-            log.debug("\tUse ZIP compression");
-            this.zipStream = new ZipOutputStream(this.outputStream);
-            this.zipStream.putNextEntry(new ZipEntry(getOutputFileName()));
-            this.outputStream = zipStream;
+            switch (settings.getCompressionFormat()) {
+                case GZIP -> {
+                    log.debug("\tUse GZIP compression");
+                    this.gzipStream = new ParallelGZIPOutputStream(this.outputStream);
+                    this.outputStream = gzipStream;
+                }
+                default -> {
+                    log.debug("\tUse ZIP compression");
+                    this.zipStream = new ZipOutputStream(this.outputStream);
+                    this.zipStream.putNextEntry(new ZipEntry(getOutputFileName()));
+                    this.outputStream = zipStream;
+                }
+            }
         }
 
         // If we need to split files - use stream wrapper to calculate file size
@@ -538,36 +623,60 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         }
     }
 
-    private void closeOutputStreams() {
+    private void closeOutputStreams() throws IOException {
         log.debug("\tClose output stream");
+        long startTime = System.nanoTime();
         if (this.writer != null) {
             this.writer.flush();
         }
 
-        // Finish zip stream
+        // Finish compressed stream. Without the trailer the output file is broken, so errors are reported to the caller
+        IOException finishError = null;
         if (zipStream != null) {
             try {
                 zipStream.closeEntry();
+                zipStream.finish();
             } catch (IOException e) {
-                log.debug(e);
+                finishError = e;
             }
+            zipStream = null;
+        }
+        if (gzipStream != null) {
             try {
-                zipStream.finish();
+                gzipStream.finish();
             } catch (IOException e) {
-                log.debug(e);
+                finishError = e;
             }
-            zipStream = null;
+            gzipStream = null;
         }
 
         if (outputStream != null) {
             try {
                 outputStream.flush();
             } catch (IOException e) {
-                log.debug(e);
+                if (finishError == null) {
+                    finishError = e;
+                } else {
+                    finishError.addSuppressed(e);
+                }
             }
             ContentUtils.close(outputStream);
             outputStream = null;
         }
+        pipeStatistics.addTime(DataTransferPipeStatistics.Stage.FLUSH, startTime);
+        if (statStream != null) {
+            closedFilesBytes += statStream.getBytesWritten();
+            pipeStatistics.setBytes(closedFilesBytes);
+            statStream = null;
+        }
+        if (finishError != null) {
+            throw finishError;
+        }
+    }
+
+    private long getOutFileSize() {
+        // Compressed output is split by the size of compressed data, i.e. by the actual file size
+        return settings.isCompressResults() ? getBytesWritten() : bytesWritten;
     }
 
     private void createNewOutFile(DBRProgressMonitor monitor) throws IOException {
@@ -592,6 +701,9 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     ) {
         this.dataContainer = (DBSDataContainer) sourceObject;
         this.parameters = parameters;
+        if (parameters.statistics != null) {
+            this.pipeStatistics = parameters.statistics;
+        }
         this.processor = processor;
         this.settings = settings;
         this.processorProperties = processorProperties;
@@ -619,16 +731,21 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     }
 
     @Override
-    public void finishTransfer(DBRProgressMonitor monitor, boolean last) {
+    public void finishTransfer(DBRProgressMonitor monitor, boolean last) throws DBException {
         finishTransfer(monitor, null, last);
     }
 
     @Override
-    public void finishTransfer(@NotNull DBRProgressMonitor monitor, @Nullable Throwable error, @Nullable DBTTask task, boolean last) {
+    public void finishTransfer(@NotNull DBRProgressMonitor monitor, @Nullable Throwable error, @Nullable DBTTask task, boolean last) throws DBException {
         if (!last && error == null) {
             exportFooterInFile(monitor);
 
-            closeExporter();
+            try {
+                closeExporter();
+            } catch (IOException e) {
+                // Fail the transfer, the output file is incomplete
+                throw new DBException("Error finishing output file '" + outputFile + "'", e);
+            }
             return;
         }
 
@@ -797,7 +914,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         }
         String fileName = getOutputFileName(suffix);
         if (settings.isCompressResults()) {
-            fileName += ".zip";
+            fileName += "." + settings.getCompressionFormat().getExtension();
         }
         return dir.resolve(fileName);
     }
@@ -43,7 +43,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Date;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -96,7 +95,9 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
     private DBDAttributeBinding[] columns;
     private DataExporterArrayFormat dataExporterArrayFormat;
 
-    private final StringBuilder buffer = new StringBuilder();
+    // Row is formatted and escaped in place and then written at once
+    private final StringBuilder rowBuffer = new StringBuilder();
+    private char[] writeBuffer = new char[1024];
 
     @Override
     public void init(IStreamDataExporterSite site) throws DBException
@@ -214,8 +215,10 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
                     if (cs == null) {
                         writeCellValue(DBConstants.NULL_VALUE_LABEL, false);
                     } else if (ContentUtils.isTextContent(content)) {
+                        flushRow();
                         writeCellValue(cs.getContentReader());
                     } else {
+                        flushRow();
 //                        out.write(quoteChar);
                         getSite().writeBinaryData(cs);
 //                        out.write(quoteChar);
@@ -225,36 +228,47 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
                     DTUtils.closeContents(resultSet, content);
                 }
             } else {
-                String stringValue = super.getValueDisplayString(column, row[i]);
-                boolean quote = false;
-                if (column.getDataKind() == DBPDataKind.ARRAY) {
-                    stringValue = editArrayPrefixAndSuffix(dataExporterArrayFormat, stringValue);
+                Object value = row[i];
+                boolean isNull = DBUtils.isNullValue(value);
+                // Value is formatted straight into the row buffer
+                int cellStart = rowBuffer.length();
+                if (isNull) {
+                    // Null is written as null string, its display string is not used
+                } else if (column.getDataKind() == DBPDataKind.ARRAY) {
+                    String arrayValue = editArrayPrefixAndSuffix(dataExporterArrayFormat, super.getValueDisplayString(column, value));
+                    if (arrayValue != null) {
+                        rowBuffer.append(arrayValue);
+                    }
+                } else {
+                    super.appendValueDisplayString(rowBuffer, column, value);
                 }
+                boolean notEmpty = rowBuffer.length() > cellStart;
+                boolean quote = false;
 
                 if (quoteStrategy == QuoteStrategy.DISABLED) {
-                    if (!stringValue.isEmpty() && !(row[i] instanceof Number) && !(row[i] instanceof Date) && Character.isDigit(stringValue.charAt(0))) {
+                    if (notEmpty && !(value instanceof Number) && !(value instanceof Date) && Character.isDigit(rowBuffer.charAt(cellStart))) {
                         // Quote string values which starts from number
                         quote = true;
                     }
                 } else if (quoteStrategy == QuoteStrategy.STRINGS) {
-                    if (!stringValue.isEmpty() && !(row[i] instanceof Number) && !(row[i] instanceof Date)) {
+                    if (notEmpty && !(value instanceof Number) && !(value instanceof Date)) {
                         quote = true;
                     }
                 } else if (quoteStrategy == QuoteStrategy.ALL_BUT_NUMBERS) {
-                    if (!(row[i] instanceof Number)) {
+                    if (!(value instanceof Number)) {
                         quote = true;
                     }
                 } else if (quoteStrategy == QuoteStrategy.ALL_BUT_NULLS) {
-                    if (!DBUtils.isNullValue(row[i])) {
+                    if (!isNull) {
                         quote = true;
                     }
                 }
-                if (DBUtils.isNullValue(row[i])) {
+                if (isNull) {
                     if (CommonUtils.isNotEmpty(nullString)) {
                         writeCellValue(nullString, quote);
                     }
                 } else {
-                    writeCellValue(stringValue, quote);
+                    escapeCellValue(cellStart, quote);
                 }
             }
             if (i < row.length - 1) {
@@ -319,48 +333,93 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
     }
 
     private void writeCellValue(String value, boolean quote)
+    {
+        int cellStart = rowBuffer.length();
+        rowBuffer.append(value);
+        escapeCellValue(cellStart, quote);
+    }
+
+    /**
+     * Escapes and quotes cell value which occupies the row buffer tail (starting from cellStart).
+     * Quotes are inserted in place, so value is not copied to temporary strings.
+     */
+    private void escapeCellValue(int cellStart, boolean quote)
     {
         if (!useQuotes) {
             quote = false;
         }
         // check for needed quote
-        final boolean hasQuotes = useQuotes && value.indexOf(quoteChar) != -1;
+        final boolean hasQuotes = useQuotes && rowBuffer.indexOf(String.valueOf(quoteChar), cellStart) != -1;
 
         if (CommonUtils.isNotEmpty(lineFeedEscapeString)) {
-            if (value.indexOf('\n') != -1) {
-                value = LINE_BREAK_REGEX.matcher(value).replaceAll(lineFeedEscapeString);
+            if (rowBuffer.indexOf("\n", cellStart) != -1) {
+                String value = rowBuffer.substring(cellStart);
+                rowBuffer.setLength(cellStart);
+                rowBuffer.append(LINE_BREAK_REGEX.matcher(value).replaceAll(lineFeedEscapeString));
             }
         }
 
-        if (quoteStrategy == QuoteStrategy.ALL || (useQuotes && value.isEmpty())) {
+        int cellEnd = rowBuffer.length();
+        if (quoteStrategy == QuoteStrategy.ALL || (useQuotes && cellEnd == cellStart)) {
             quote = true;
         } else if (!quote) {
             if (hasQuotes ||
-                value.contains(delimiter) ||
-                value.indexOf('\r') != -1 ||
-                value.indexOf('\n') != -1 ||
-                value.contains(rowDelimiter))
+                rowBuffer.indexOf(delimiter, cellStart) != -1 ||
+                rowBuffer.indexOf("\r", cellStart) != -1 ||
+                rowBuffer.indexOf("\n", cellStart) != -1 ||
+                rowBuffer.indexOf(rowDelimiter, cellStart) != -1)
             {
                 quote = true;
             }
         }
 
-        if (quote && hasQuotes) {
-            // escape quotes with double quotes
-            buffer.setLength(0);
-            for (int i = 0; i < value.length(); i++) {
-                char c = value.charAt(i);
-                if (c == quoteChar) {
-                    buffer.append(quoteChar);
+        boolean wrap = quote && useQuotes;
+        // escape quotes with double quotes
+        boolean doubleQuotes = quote && hasQuotes;
+        int extraChars = wrap ? 2 : 0;
+        if (doubleQuotes) {
+            for (int i = cellStart; i < cellEnd; i++) {
+                if (rowBuffer.charAt(i) == quoteChar) {
+                    extraChars++;
                 }
-                buffer.append(c);
             }
-            value = buffer.toString();
         }
-        PrintWriter out = getWriter();
-        if (quote && useQuotes) out.write(quoteChar);
-        out.write(value);
-        if (quote && useQuotes) out.write(quoteChar);
+        if (extraChars == 0) {
+            return;
+        }
+        // Shift value to the right filling the gaps from the end
+        rowBuffer.setLength(cellEnd + extraChars);
+        int target = cellEnd + extraChars - 1;
+        if (wrap) {
+            rowBuffer.setCharAt(target--, quoteChar);
+        }
+        for (int i = cellEnd - 1; i >= cellStart; i--) {
+            char c = rowBuffer.charAt(i);
+            rowBuffer.setCharAt(target--, c);
+            if (doubleQuotes && c == quoteChar) {
+                rowBuffer.setCharAt(target--, quoteChar);
+            }
+        }
+        if (wrap) {
+            rowBuffer.setCharAt(target, quoteChar);
+        }
+    }
+
+    /**
+     * Writes formatted part of the row
+     */
+    private void flushRow()
+    {
+        int length = rowBuffer.length();
+        if (length == 0) {
+            return;
+        }
+        if (writeBuffer.length < length) {
+            writeBuffer = new char[Math.max(length, writeBuffer.length * 2)];
+        }
+        rowBuffer.getChars(0, length, writeBuffer, 0);
+        getWriter().write(writeBuffer, 0, length);
+        rowBuffer.setLength(0);
     }
 
     private void writeCellValue(Reader reader) throws IOException
@@ -390,12 +449,13 @@ public class DataExporterCSV extends StreamExporterAbstract implements IAppendab
 
     private void writeDelimiter()
     {
-        getWriter().write(delimiter);
+        rowBuffer.append(delimiter);
     }
 
     private void writeRowLimit()
     {
-        getWriter().write(rowDelimiter);
+        rowBuffer.append(rowDelimiter);
+        flushRow();
     }
 
 }
@@ -0,0 +1,198 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.exporter;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDContent;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataExporterSite;
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetColumn;
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetCompression;
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetFileWriter;
+import org.jkiss.dbeaver.utils.ContentUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.IOException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parquet exporter.
+ * <p>
+ * Column types are derived from result set metadata. Values of unsupported types are exported as strings.
+ */
+public class DataExporterParquet extends StreamExporterAbstract {
+
+    private static final String PROP_COMPRESSION = "compression";
+    private static final String PROP_ROW_GROUP_SIZE = "rowGroupSize";
+    private static final String PROP_DICTIONARY_ENCODING = "dictionaryEncoding";
+
+    // Max decimal precision which fits INT64
+    private static final int MAX_LONG_DECIMAL_PRECISION = 18;
+    private static final int MAX_DECIMAL_PRECISION = 38;
+
+    private ParquetCompression compression;
+    private int rowGroupSize;
+    private boolean dictionaryEncoding;
+
+    private DBDAttributeBinding[] columns;
+    private ParquetColumn[] parquetColumns;
+    // Columns exported as display strings
+    private boolean[] stringColumns;
+    private ParquetFileWriter writer;
+    private Object[] rowBuffer;
+
+    @Override
+    public void init(IStreamDataExporterSite site) throws DBException {
+        super.init(site);
+        compression = CommonUtils.valueOf(
+            ParquetCompression.class,
+            CommonUtils.toString(site.getProperties().get(PROP_COMPRESSION)).toUpperCase(Locale.ENGLISH),
+            ParquetCompression.GZIP);
+        if (compression == ParquetCompression.SNAPPY) {
+            compression = ParquetCompression.GZIP;
+        }
+        rowGroupSize = CommonUtils.toInt(site.getProperties().get(PROP_ROW_GROUP_SIZE), ParquetFileWriter.DEFAULT_ROW_GROUP_SIZE);
+        dictionaryEncoding = CommonUtils.getBoolean(site.getProperties().get(PROP_DICTIONARY_ENCODING), true);
+    }
+
+    @Override
+    public void exportHeader(DBCSession session) throws DBException, IOException {
+        columns = getSite().getAttributes();
+        parquetColumns = new ParquetColumn[columns.length];
+        stringColumns = new boolean[columns.length];
+        Set<String> columnNames = new HashSet<>();
+        for (int i = 0; i < columns.length; i++) {
+            DBDAttributeBinding column = columns[i];
+            String name = CommonUtils.isEmpty(column.getLabel()) ? column.getName() : column.getLabel();
+            // Parquet column names must be unique
+            String uniqueName = name;
+            for (int suffix = 1; !columnNames.add(uniqueName); suffix++) {
+                uniqueName = name + "_" + suffix;
+            }
+            parquetColumns[i] = makeParquetColumn(column, uniqueName);
+            stringColumns[i] = parquetColumns[i].getLogicalType() == ParquetColumn.LogicalType.STRING;
+        }
+        List<ParquetColumn> columnList = new ArrayList<>(List.of(parquetColumns));
+        writer = new ParquetFileWriter(getOutputStream(), columnList, compression, rowGroupSize, dictionaryEncoding);
+        rowBuffer = new Object[columns.length];
+    }
+
+    @NotNull
+    private static ParquetColumn makeParquetColumn(@NotNull DBDAttributeBinding column, @NotNull String name) {
+        switch (column.getDataKind()) {
+            case BOOLEAN:
+                return new ParquetColumn(name, ParquetColumn.PhysicalType.BOOLEAN, ParquetColumn.LogicalType.NONE);
+            case NUMERIC:
+                switch (column.getTypeID()) {
+                    case Types.TINYINT:
+                    case Types.SMALLINT:
+                    case Types.INTEGER:
+                        return new ParquetColumn(name, ParquetColumn.PhysicalType.INT32, ParquetColumn.LogicalType.NONE);
+                    case Types.BIGINT:
+                        return new ParquetColumn(name, ParquetColumn.PhysicalType.INT64, ParquetColumn.LogicalType.NONE);
+                    case Types.REAL:
+                        return new ParquetColumn(name, ParquetColumn.PhysicalType.FLOAT, ParquetColumn.LogicalType.NONE);
+                    case Types.FLOAT:
+                    case Types.DOUBLE:
+                        return new ParquetColumn(name, ParquetColumn.PhysicalType.DOUBLE, ParquetColumn.LogicalType.NONE);
+                    case Types.DECIMAL:
+                    case Types.NUMERIC: {
+                        int precision = CommonUtils.toInt(column.getPrecision());
+                        int scale = CommonUtils.toInt(column.getScale());
+                        if (precision <= 0 || precision > MAX_DECIMAL_PRECISION || scale < 0 || scale > precision) {
+                            // Unknown or unbounded precision - keep exact textual representation
+                            return new ParquetColumn(name, ParquetColumn.PhysicalType.BYTE_ARRAY, ParquetColumn.LogicalType.STRING);
+                        }
+                        return new ParquetColumn(
+                            name,
+                            precision <= MAX_LONG_DECIMAL_PRECISION ? ParquetColumn.PhysicalType.INT64 : ParquetColumn.PhysicalType.BYTE_ARRAY,
+                            ParquetColumn.LogicalType.DECIMAL,
+                            precision,
+                            scale,
+                            0);
+                    }
+                    default:
+                        return new ParquetColumn(name, ParquetColumn.PhysicalType.DOUBLE, ParquetColumn.LogicalType.NONE);
+                }
+            case DATETIME:
+                switch (column.getTypeID()) {
+                    case Types.DATE:
+                        return new ParquetColumn(name, ParquetColumn.PhysicalType.INT32, ParquetColumn.LogicalType.DATE);
+                    case Types.TIMESTAMP:
+                        return new ParquetColumn(name, ParquetColumn.PhysicalType.INT64, ParquetColumn.LogicalType.TIMESTAMP_MICROS);
+                    default:
+                        // Time and timestamps with time zone are exported as strings
+                        return new ParquetColumn(name, ParquetColumn.PhysicalType.BYTE_ARRAY, ParquetColumn.LogicalType.STRING);
+                }
+            case BINARY:
+                return new ParquetColumn(name, ParquetColumn.PhysicalType.BYTE_ARRAY, ParquetColumn.LogicalType.NONE);
+            default:
+                return new ParquetColumn(name, ParquetColumn.PhysicalType.BYTE_ARRAY, ParquetColumn.LogicalType.STRING);
+        }
+    }
+
+    @Override
+    public void exportRow(DBCSession session, DBCResultSet resultSet, Object[] row) throws DBException, IOException {
+        for (int i = 0; i < columns.length; i++) {
+            Object value = row[i];
+            if (value instanceof DBDContent content) {
+                if (content.isNull()) {
+                    value = null;
+                } else if (ContentUtils.isTextContent(content)) {
+                    value = ContentUtils.getContentStringValue(session.getProgressMonitor(), content);
+                } else {
+                    value = ContentUtils.getContentBinaryValue(session.getProgressMonitor(), content);
+                }
+            }
+            if (DBUtils.isNullValue(value)) {
+                value = null;
+            } else if (stringColumns[i] && !(value instanceof String)) {
+                value = getValueDisplayString(columns[i], value);
+            } else if (parquetColumns[i].getPhysicalType() == ParquetColumn.PhysicalType.BYTE_ARRAY &&
+                parquetColumns[i].getLogicalType() == ParquetColumn.LogicalType.NONE &&
+                !(value instanceof byte[])) {
+                value = getValueDisplayString(columns[i], value);
+            }
+            rowBuffer[i] = value;
+        }
+        writer.writeRow(rowBuffer);
+    }
+
+    @Override
+    public void exportFooter(DBRProgressMonitor monitor) throws DBException, IOException {
+        if (writer != null) {
+            writer.finish();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        writer = null;
+        rowBuffer = null;
+        super.dispose();
+    }
+}
@@ -50,6 +50,7 @@ public class DataExporterTXT extends StreamExporterAbstract implements IAppendab
         private final PrintWriter writer;
         private final DBRProgressMonitor monitor;
         private final StringBuilder stringBuilder = new StringBuilder();
+        private char[] chars = new char[1024];
 
         public ExportTextTarget(PrintWriter writer, DBRProgressMonitor monitor) {
             this.writer = writer;
@@ -60,7 +61,12 @@ public class DataExporterTXT extends StreamExporterAbstract implements IAppendab
          * Write string builder content to print writer
          */
         public void flush() {
-            writer.write(stringBuilder.toString());
+            int length = stringBuilder.length();
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            stringBuilder.getChars(0, length, chars, 0);
+            writer.write(chars, 0, length);
             stringBuilder.setLength(0);
         }
         
@@ -430,12 +436,17 @@ public class DataExporterTXT extends StreamExporterAbstract implements IAppendab
     }
 
     private String getCellString(DBDAttributeBinding attr, Object value) {
-        final String displayString = attr.getValueHandler().getValueDisplayString(attr, value, getValueExportFormat(attr));
-
         if (DBUtils.isNullValue(value)) {
             return showNulls ? DBConstants.NULL_VALUE_LABEL : "";
         }
-        return CommonUtils.getSingleLineString(displayString);
+        final String displayString = getValueDisplayString(attr, value);
+        for (int i = 0; i < displayString.length(); i++) {
+            if (displayString.charAt(i) < ' ') {
+                return CommonUtils.getSingleLineString(displayString);
+            }
+        }
+        // Nothing to replace, don't copy the string
+        return displayString;
     }
 
     private static String getAttributeName(DBDAttributeBinding attr) {
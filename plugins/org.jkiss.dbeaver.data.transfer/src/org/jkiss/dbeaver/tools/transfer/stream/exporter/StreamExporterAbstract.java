@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.tools.transfer.stream.exporter;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
@@ -67,6 +68,17 @@ public abstract class StreamExporterAbstract implements IStreamDataExporter {
         return valueHandler.getValueDisplayString(column, value, getValueExportFormat(column));
     }
 
+    /**
+     * Appends value display string to the buffer
+     */
+    protected void appendValueDisplayString(
+        @NotNull StringBuilder buffer,
+        @NotNull DBDAttributeBinding column,
+        Object value)
+    {
+        column.getValueHandler().appendValueDisplayString(buffer, column, value, getValueExportFormat(column));
+    }
+
     protected DBDDisplayFormat getValueExportFormat(DBDAttributeBinding column) {
         if (this.exportFormat == null) {
             this.exportFormat = getSite().getExportFormat();
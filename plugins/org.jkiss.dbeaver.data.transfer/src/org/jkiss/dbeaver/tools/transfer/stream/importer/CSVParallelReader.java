@@ -0,0 +1,245 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.importer;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.utils.csv.CSVParser;
+import org.jkiss.utils.csv.CSVReader;
+
+import java.io.CharArrayReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.*;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * CSV reader which parses a memory-mapped file in parallel.
+ * <p>
+ * File is split into chunks which end at record boundaries. Boundaries are found by a sequential byte scan
+ * which tracks quote state, so quoted values with line feeds are never split. Chunks are decoded and parsed
+ * on a fork-join pool, records are returned in file order.
+ * <p>
+ * Byte scan requires a charset where delimiter, quote, escape and line feed characters are single bytes
+ * which never appear inside multibyte sequences, see {@link #isSupported(Charset, char...)}.
+ */
+public class CSVParallelReader implements Closeable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    // Chunk may grow if a single record is bigger than the chunk size
+    private static final int MAX_CHUNK_SIZE = 256 * 1024 * 1024;
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final char delimiter;
+    private final char quoteChar;
+    private final char escapeChar;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+    private final ForkJoinPool pool;
+
+    private final long fileSize;
+    private long scanPosition;
+    private final Deque<ForkJoinTask<List<String[]>>> pendingChunks = new ArrayDeque<>();
+    private Iterator<String[]> currentChunk = Collections.emptyIterator();
+
+    public CSVParallelReader(
+        @NotNull Path file,
+        @NotNull Charset charset,
+        char delimiter,
+        char quoteChar,
+        char escapeChar,
+        int parallelism,
+        int chunkSize
+    ) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.charset = charset;
+        this.delimiter = delimiter;
+        this.quoteChar = quoteChar;
+        this.escapeChar = escapeChar;
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = parallelism + 1;
+        this.pool = new ForkJoinPool(parallelism);
+        this.fileSize = channel.size();
+
+        if (fileSize >= UTF8_BOM.length && StandardCharsets.UTF_8.equals(charset)) {
+            MappedByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, UTF8_BOM.length);
+            if (head.get(0) == UTF8_BOM[0] && head.get(1) == UTF8_BOM[1] && head.get(2) == UTF8_BOM[2]) {
+                scanPosition = UTF8_BOM.length;
+            }
+        }
+    }
+
+    /**
+     * Checks whether file in the specified charset can be split by a byte scan
+     */
+    public static boolean isSupported(@NotNull Charset charset, char... specialChars) {
+        for (char c : specialChars) {
+            if (c >= 0x80) {
+                return false;
+            }
+        }
+        String name = charset.name().toUpperCase(Locale.ENGLISH);
+        return StandardCharsets.UTF_8.equals(charset) ||
+            StandardCharsets.US_ASCII.equals(charset) ||
+            name.startsWith("ISO-8859-") ||
+            name.startsWith("WINDOWS-125");
+    }
+
+    /**
+     * Reads next record. Empty lines are returned as is, like {@link CSVReader#readNext()} does.
+     *
+     * @return record values or null on end of file
+     */
+    @Nullable
+    public String[] readNext() throws IOException {
+        while (!currentChunk.hasNext()) {
+            schedulePendingChunks();
+            ForkJoinTask<List<String[]>> task = pendingChunks.pollFirst();
+            if (task == null) {
+                return null;
+            }
+            try {
+                currentChunk = task.get().iterator();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("CSV parsing interrupted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException ioe) {
+                    throw ioe;
+                }
+                throw new IOException("Error parsing CSV chunk", cause);
+            }
+        }
+        // Allow consumed chunk to be collected as soon as possible
+        String[] record = currentChunk.next();
+        if (!currentChunk.hasNext()) {
+            currentChunk = Collections.emptyIterator();
+            schedulePendingChunks();
+        }
+        return record;
+    }
+
+    private void schedulePendingChunks() throws IOException {
+        while (pendingChunks.size() < maxPendingChunks && scanPosition < fileSize) {
+            long chunkStart = scanPosition;
+            long chunkEnd = findChunkEnd(chunkStart);
+            scanPosition = chunkEnd;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunkStart, chunkEnd - chunkStart);
+            boolean lastChunk = chunkEnd >= fileSize;
+            pendingChunks.addLast(pool.submit(() -> parseChunk(buffer, lastChunk)));
+        }
+    }
+
+    /**
+     * Finds the end of the chunk which starts at the record boundary.
+     * The end is a position after the last line feed which is not inside a quoted value.
+     */
+    private long findChunkEnd(long chunkStart) throws IOException {
+        for (long windowSize = chunkSize; ; windowSize *= 2) {
+            long windowEnd = Math.min(fileSize, chunkStart + windowSize);
+            if (windowEnd >= fileSize) {
+                return fileSize;
+            }
+            if (windowSize > MAX_CHUNK_SIZE) {
+                throw new IOException("Can't find CSV record boundary in " + MAX_CHUNK_SIZE +
+                    " bytes at position " + chunkStart + ". Disable parallel parsing to import this file.");
+            }
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, chunkStart, windowEnd - chunkStart);
+            int boundary = findLastRecordBoundary(window, (int) (windowEnd - chunkStart));
+            if (boundary > 0) {
+                return chunkStart + boundary;
+            }
+        }
+    }
+
+    private int findLastRecordBoundary(@NotNull MappedByteBuffer window, int length) {
+        int quote = quoteChar == CSVParser.NULL_CHARACTER ? -1 : quoteChar;
+        int escape = escapeChar == CSVParser.NULL_CHARACTER ? -1 : escapeChar;
+        boolean inQuotes = false;
+        int lastBoundary = -1;
+        for (int i = 0; i < length; i++) {
+            int b = window.get(i) & 0xFF;
+            if (b == escape && escape != quote && i + 1 < length) {
+                // Escape affects only the next quote or escape character
+                int next = window.get(i + 1) & 0xFF;
+                if (next == quote || next == escape) {
+                    i++;
+                    continue;
+                }
+            }
+            if (b == quote) {
+                inQuotes = !inQuotes;
+            } else if (b == '\n' && !inQuotes) {
+                lastBoundary = i + 1;
+            }
+        }
+        return lastBoundary;
+    }
+
+    @NotNull
+    private List<String[]> parseChunk(@NotNull MappedByteBuffer buffer, boolean lastChunk) throws IOException {
+        CharBuffer chars;
+        try {
+            chars = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(buffer);
+        } catch (CharacterCodingException e) {
+            throw new IOException("Error decoding CSV data", e);
+        }
+        List<String[]> records = new ArrayList<>();
+        try (CSVReader reader = new CSVReader(
+            new CharArrayReader(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining()),
+            delimiter,
+            quoteChar,
+            escapeChar)
+        ) {
+            for (String[] record = reader.readNext(); record != null; record = reader.readNext()) {
+                records.add(record);
+            }
+            if (reader.getParser().isPending()) {
+                throw new IOException(lastChunk ?
+                    "Un-terminated quote sequence was detected" :
+                    "Quote sequence crosses CSV chunk boundary. Disable parallel parsing to import this file.");
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (ForkJoinTask<List<String[]>> task : pendingChunks) {
+            task.cancel(true);
+        }
+        pendingChunks.clear();
+        currentChunk = Collections.emptyIterator();
+        pool.shutdownNow();
+        channel.close();
+    }
+}
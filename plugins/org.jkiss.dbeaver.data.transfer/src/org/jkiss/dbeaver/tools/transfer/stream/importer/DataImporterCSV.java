@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.tools.transfer.stream.importer;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBFetchProgress;
@@ -40,6 +41,8 @@ import org.jkiss.utils.io.BOMInputStream;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -58,7 +61,15 @@ public class DataImporterCSV extends StreamImporterAbstract {
     private static final String PROP_EMPTY_STRING_NULL = "emptyStringNull";
     private static final String PROP_ESCAPE_CHAR = "escapeChar";
     private static final String PROP_TRIM_WHITESPACES = "trimWhitespaces";
+    private static final String PROP_PARALLEL_PARSING = "parallelParsing";
     public static final int READ_BUFFER_SIZE = 255 * 1024;
+    // Smaller files are parsed faster by a single reader
+    private static final long PARALLEL_PARSING_MIN_FILE_SIZE = 16 * 1024 * 1024;
+
+    @FunctionalInterface
+    private interface LineReader {
+        String[] readNext() throws IOException;
+    }
 
     public enum HeaderPosition {
         none,
@@ -166,15 +177,16 @@ public class DataImporterCSV extends StreamImporterAbstract {
 
     private CSVReader openCSVReader(Reader reader, Map<String, Object> processorProperties) {
         String delimiter = StreamTransferUtils.getDelimiterString(processorProperties, PROP_DELIMITER);
-        String quoteChar = CommonUtils.toString(processorProperties.get(PROP_QUOTE_CHAR));
-        if (CommonUtils.isEmpty(quoteChar)) {
-            quoteChar = String.valueOf(CSVParser.NULL_CHARACTER);
-        }
-        String escapeChar = CommonUtils.toString(processorProperties.get(PROP_ESCAPE_CHAR));
-        if (CommonUtils.isEmpty(escapeChar)) {
-            escapeChar = String.valueOf(CSVParser.NULL_CHARACTER);
-        }
-        return new CSVReader(reader, delimiter.charAt(0), quoteChar.charAt(0), escapeChar.charAt(0));
+        return new CSVReader(
+            reader,
+            delimiter.charAt(0),
+            getSpecialChar(processorProperties, PROP_QUOTE_CHAR),
+            getSpecialChar(processorProperties, PROP_ESCAPE_CHAR));
+    }
+
+    private static char getSpecialChar(Map<String, Object> processorProperties, String propName) {
+        String value = CommonUtils.toString(processorProperties.get(propName));
+        return CommonUtils.isEmpty(value) ? CSVParser.NULL_CHARACTER : value.charAt(0);
     }
 
     private Reader openStreamReader(InputStream inputStream, Map<String, Object> processorProperties, boolean useBufferedStream) throws UnsupportedEncodingException {
@@ -209,10 +221,6 @@ public class DataImporterCSV extends StreamImporterAbstract {
         IStreamDataImporterSite site = getSite();
         StreamEntityMapping entityMapping = site.getSourceObject();
         Map<String, Object> properties = site.getProcessorProperties();
-        HeaderPosition headerPosition = getHeaderPosition(properties);
-        boolean emptyStringNull = CommonUtils.getBoolean(properties.get(PROP_EMPTY_STRING_NULL), false);
-        boolean trimWhitespaces = CommonUtils.getBoolean(properties.get(PROP_TRIM_WHITESPACES), false);
-        String nullValueMark = CommonUtils.toString(properties.get(PROP_NULL_STRING));
 
         DBCExecutionContext context = streamDataSource.getDefaultInstance().getDefaultContext(monitor, false);
         try (DBCSession producerSession = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Transfer stream data")) {
@@ -223,70 +231,22 @@ public class DataImporterCSV extends StreamImporterAbstract {
 
             applyTransformHints(resultSet, consumer, properties, PROP_TIMESTAMP_FORMAT, PROP_TIMESTAMP_ZONE);
 
-            try (Reader reader = openStreamReader(inputStream, properties, true)) {
-                try (CSVReader csvReader = openCSVReader(reader, properties)) {
-
-                    int maxRows = site.getSettings().getMaxRows();
-                    int targetAttrSize = entityMapping.getStreamColumns().size();
-                    boolean headerRead = false;
-                    for (long lineNum = 0; ; ) {
-                        if (monitor.isCanceled()) {
-                            break;
-                        }
-                        String[] line = csvReader.readNext();
-                        if (line == null) {
-                            if (csvReader.getParser().isPending()) {
-                                throw new IOException("Un-terminated quote sequence was detected");
-                            }
-                            break;
-                        }
-                        if (line.length == 0) {
-                            continue;
-                        }
-                        if (headerPosition != HeaderPosition.none && !headerRead) {
-                            // First line is a header
-                            headerRead = true;
-                            continue;
-                        }
-                        if (maxRows > 0 && lineNum >= maxRows) {
-                            break;
-                        }
-
-                        if (line.length < targetAttrSize) {
-                            // Stream row may be shorter than header
-                            String[] newLine = new String[targetAttrSize];
-                            System.arraycopy(line, 0, newLine, 0, line.length);
-                            for (int i = line.length; i < targetAttrSize; i++) {
-                                newLine[i] = null;
-                            }
-                            line = newLine;
-                        }
-                        if (trimWhitespaces) {
-                            for (int i = 0; i < line.length; i++) {
-                                line[i] = line[i].trim();
-                            }
-                        }
-                        if (emptyStringNull) {
-                            for (int i = 0; i < line.length; i++) {
-                                if ("".equals(line[i])) {
-                                    line[i] = null;
-                                }
-                            }
-                        }
-                        if (!CommonUtils.isEmpty(nullValueMark)) {
-                            for (int i = 0; i < line.length; i++) {
-                                if (nullValueMark.equals(line[i])) {
-                                    line[i] = null;
+            try {
+                CSVParallelReader parallelReader = openParallelReader(entityMapping, properties);
+                if (parallelReader != null) {
+                    try (parallelReader) {
+                        importLines(monitor, producerSession, resultSet, consumer, parallelReader::readNext);
+                    }
+                } else {
+                    try (Reader reader = openStreamReader(inputStream, properties, true)) {
+                        try (CSVReader csvReader = openCSVReader(reader, properties)) {
+                            importLines(monitor, producerSession, resultSet, consumer, () -> {
+                                String[] line = csvReader.readNext();
+                                if (line == null && csvReader.getParser().isPending()) {
+                                    throw new IOException("Un-terminated quote sequence was detected");
                                 }
-                            }
-                        }
-
-                        resultSet.setStreamRow(line);
-                        consumer.fetchRow(producerSession, resultSet);
-                        lineNum++;
-
-                        if (DBFetchProgress.monitorFetchProgress(lineNum)) {
-                            monitor.subTask(Long.toUnsignedString(lineNum) + " rows processed");
+                                return line;
+                            });
                         }
                     }
                 }
@@ -303,4 +263,116 @@ public class DataImporterCSV extends StreamImporterAbstract {
 
     }
 
+    private void importLines(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCSession producerSession,
+        @NotNull StreamTransferResultSet resultSet,
+        @NotNull IDataTransferConsumer consumer,
+        @NotNull LineReader lineReader
+    ) throws DBException, IOException {
+        IStreamDataImporterSite site = getSite();
+        StreamEntityMapping entityMapping = site.getSourceObject();
+        Map<String, Object> properties = site.getProcessorProperties();
+        HeaderPosition headerPosition = getHeaderPosition(properties);
+        boolean emptyStringNull = CommonUtils.getBoolean(properties.get(PROP_EMPTY_STRING_NULL), false);
+        boolean trimWhitespaces = CommonUtils.getBoolean(properties.get(PROP_TRIM_WHITESPACES), false);
+        String nullValueMark = CommonUtils.toString(properties.get(PROP_NULL_STRING));
+
+        int maxRows = site.getSettings().getMaxRows();
+        int targetAttrSize = entityMapping.getStreamColumns().size();
+        boolean headerRead = false;
+        for (long lineNum = 0; ; ) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            String[] line = lineReader.readNext();
+            if (line == null) {
+                break;
+            }
+            if (line.length == 0) {
+                continue;
+            }
+            if (headerPosition != HeaderPosition.none && !headerRead) {
+                // First line is a header
+                headerRead = true;
+                continue;
+            }
+            if (maxRows > 0 && lineNum >= maxRows) {
+                break;
+            }
+
+            if (line.length < targetAttrSize) {
+                // Stream row may be shorter than header
+                String[] newLine = new String[targetAttrSize];
+                System.arraycopy(line, 0, newLine, 0, line.length);
+                for (int i = line.length; i < targetAttrSize; i++) {
+                    newLine[i] = null;
+                }
+                line = newLine;
+            }
+            if (trimWhitespaces) {
+                for (int i = 0; i < line.length; i++) {
+                    line[i] = line[i].trim();
+                }
+            }
+            if (emptyStringNull) {
+                for (int i = 0; i < line.length; i++) {
+                    if ("".equals(line[i])) {
+                        line[i] = null;
+                    }
+                }
+            }
+            if (!CommonUtils.isEmpty(nullValueMark)) {
+                for (int i = 0; i < line.length; i++) {
+                    if (nullValueMark.equals(line[i])) {
+                        line[i] = null;
+                    }
+                }
+            }
+
+            resultSet.setStreamRow(line);
+            consumer.fetchRow(producerSession, resultSet);
+            lineNum++;
+
+            if (DBFetchProgress.monitorFetchProgress(lineNum)) {
+                monitor.subTask(Long.toUnsignedString(lineNum) + " rows processed");
+            }
+        }
+    }
+
+    /**
+     * Opens parallel reader if parallel parsing is enabled and the file is big enough.
+     * Returns null if the file must be read sequentially.
+     */
+    @Nullable
+    private CSVParallelReader openParallelReader(
+        @NotNull StreamEntityMapping entityMapping,
+        @NotNull Map<String, Object> properties
+    ) throws IOException {
+        if (!CommonUtils.getBoolean(properties.get(PROP_PARALLEL_PARSING), false)) {
+            return null;
+        }
+        int parallelism = Runtime.getRuntime().availableProcessors() - 1;
+        Path inputFile = entityMapping.getInputFile();
+        if (parallelism < 2 || !Files.isRegularFile(inputFile) || Files.size(inputFile) < PARALLEL_PARSING_MIN_FILE_SIZE) {
+            return null;
+        }
+        Charset charset = Charset.forName(CommonUtils.toString(properties.get(PROP_ENCODING), GeneralUtils.UTF8_ENCODING));
+        char delimiter = StreamTransferUtils.getDelimiterString(properties, PROP_DELIMITER).charAt(0);
+        char quoteChar = getSpecialChar(properties, PROP_QUOTE_CHAR);
+        char escapeChar = getSpecialChar(properties, PROP_ESCAPE_CHAR);
+        if (!CSVParallelReader.isSupported(charset, delimiter, quoteChar, escapeChar)) {
+            log.debug("Parallel CSV parsing is not supported for charset " + charset.name() + ", file is read sequentially");
+            return null;
+        }
+        return new CSVParallelReader(
+            inputFile,
+            charset,
+            delimiter,
+            quoteChar,
+            escapeChar,
+            parallelism,
+            CSVParallelReader.DEFAULT_CHUNK_SIZE);
+    }
+
 }
@@ -0,0 +1,206 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.importer;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBFetchProgress;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.impl.local.LocalStatement;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
+import org.jkiss.dbeaver.tools.transfer.database.DatabaseTransferConsumer;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataImporterSite;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamDataImporterColumnInfo;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamEntityMapping;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamTransferResultSet;
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetColumn;
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetFileReader;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parquet importer.
+ * <p>
+ * File is read with random access: row groups are read one by one and only column chunks
+ * of mapped columns are read. Column chunks are decoded page by page while rows are fetched.
+ */
+public class DataImporterParquet extends StreamImporterAbstract {
+
+    @NotNull
+    @Override
+    public List<StreamDataImporterColumnInfo> readColumnsInfo(StreamEntityMapping entityMapping, @NotNull InputStream inputStream) throws DBException {
+        List<StreamDataImporterColumnInfo> columnsInfo = new ArrayList<>();
+        Map<String, Object> processorProperties = getSite().getProcessorProperties();
+        final int columnSamplesCount = Math.max(CommonUtils.toInt(processorProperties.get(PROP_COLUMN_TYPE_SAMPLES), 100), 0);
+        final int columnMinimalLength = Math.max(CommonUtils.toInt(processorProperties.get(PROP_COLUMN_TYPE_LENGTH), 1), 1);
+        final boolean columnIsByteLength = CommonUtils.getBoolean(processorProperties.get(PROP_COLUMN_IS_BYTE_LENGTH), false);
+
+        try (SeekableByteChannel channel = Files.newByteChannel(entityMapping.getInputFile())) {
+            ParquetFileReader reader = new ParquetFileReader(channel);
+            List<ParquetColumn> columns = reader.getColumns();
+            boolean[] stringColumns = new boolean[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                ParquetColumn column = columns.get(i);
+                StreamDataImporterColumnInfo columnInfo = new StreamDataImporterColumnInfo(
+                    entityMapping,
+                    i,
+                    column.getName(),
+                    STRING_DATA_TYPE,
+                    columnMinimalLength,
+                    DBPDataKind.UNKNOWN);
+                columnInfo.setMappingMetadataPresent(true);
+                setColumnType(columnInfo, column);
+                stringColumns[i] = columnInfo.getDataKind() == DBPDataKind.STRING;
+                columnsInfo.add(columnInfo);
+            }
+
+            // Sample string lengths from the first row group
+            if (columnSamplesCount > 0 && reader.getRowGroupCount() > 0) {
+                ParquetFileReader.RowGroupReader rowGroupReader = reader.openRowGroup(0, stringColumns);
+                Object[] row = new Object[columns.size()];
+                for (int sample = 0; sample < columnSamplesCount && rowGroupReader.nextRow(row); sample++) {
+                    for (int i = 0; i < row.length; i++) {
+                        if (row[i] instanceof String str) {
+                            columnsInfo.get(i).updateMaxLength(
+                                entityMapping.getDataSource(),
+                                columnIsByteLength ? str.getBytes(StandardCharsets.UTF_8).length : str.length());
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new DBException("IO error reading Parquet file", e);
+        }
+
+        return columnsInfo;
+    }
+
+    private static void setColumnType(@NotNull StreamDataImporterColumnInfo columnInfo, @NotNull ParquetColumn column) {
+        switch (column.getLogicalType()) {
+            case STRING -> columnInfo.updateType(DBPDataKind.STRING, "VARCHAR");
+            case DECIMAL -> {
+                columnInfo.updateType(DBPDataKind.NUMERIC, "NUMERIC");
+                columnInfo.setPrecision(column.getPrecision());
+                columnInfo.setScale(column.getScale());
+            }
+            case DATE, TIME_MILLIS, TIME_MICROS, TIMESTAMP_MILLIS, TIMESTAMP_MICROS, TIMESTAMP_NANOS -> columnInfo.updateType(
+                DBPDataKind.DATETIME,
+                column.getLogicalType() == ParquetColumn.LogicalType.DATE ? "DATE" :
+                    column.getLogicalType() == ParquetColumn.LogicalType.TIME_MILLIS ||
+                        column.getLogicalType() == ParquetColumn.LogicalType.TIME_MICROS ? "TIME" : "TIMESTAMP");
+            default -> {
+                switch (column.getPhysicalType()) {
+                    case BOOLEAN -> columnInfo.updateType(DBPDataKind.BOOLEAN, "BOOLEAN");
+                    case INT32 -> columnInfo.updateType(DBPDataKind.NUMERIC, "INTEGER");
+                    case INT64 -> columnInfo.updateType(DBPDataKind.NUMERIC, "BIGINT");
+                    case FLOAT -> columnInfo.updateType(DBPDataKind.NUMERIC, "REAL");
+                    case DOUBLE -> columnInfo.updateType(DBPDataKind.NUMERIC, "DOUBLE");
+                    case INT96 -> columnInfo.updateType(DBPDataKind.DATETIME, "TIMESTAMP");
+                    default -> columnInfo.updateType(DBPDataKind.BINARY, "BINARY");
+                }
+            }
+        }
+    }
+
+    @Override
+    public void runImport(@NotNull DBRProgressMonitor monitor, @NotNull DBPDataSource streamDataSource, @NotNull InputStream inputStream, @NotNull IDataTransferConsumer consumer) throws DBException {
+        IStreamDataImporterSite site = getSite();
+        StreamEntityMapping entityMapping = site.getSourceObject();
+        Map<String, Object> properties = site.getProcessorProperties();
+
+        DBCExecutionContext context = streamDataSource.getDefaultInstance().getDefaultContext(monitor, false);
+        try (DBCSession producerSession = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Transfer stream data")) {
+            LocalStatement localStatement = new LocalStatement(producerSession, "SELECT * FROM Stream");
+            StreamTransferResultSet resultSet = new StreamTransferResultSet(producerSession, localStatement, entityMapping);
+
+            consumer.fetchStart(producerSession, resultSet, -1, -1);
+
+            applyTransformHints(resultSet, consumer, properties, null, null);
+
+            try (SeekableByteChannel channel = Files.newByteChannel(entityMapping.getInputFile())) {
+                ParquetFileReader reader = new ParquetFileReader(channel);
+                int columnCount = entityMapping.getStreamColumns().size();
+                boolean[] projection = getProjection(consumer, columnCount);
+
+                int maxRows = site.getSettings().getMaxRows();
+                long rowNum = 0;
+                monitor.subTask("Read " + reader.getRowCount() + " rows in " + reader.getRowGroupCount() + " row group(s)");
+                for (int rowGroup = 0; rowGroup < reader.getRowGroupCount(); rowGroup++) {
+                    if (monitor.isCanceled() || (maxRows > 0 && rowNum >= maxRows)) {
+                        break;
+                    }
+                    ParquetFileReader.RowGroupReader rowGroupReader = reader.openRowGroup(rowGroup, projection);
+                    while (!monitor.isCanceled() && (maxRows <= 0 || rowNum < maxRows)) {
+                        Object[] row = new Object[columnCount];
+                        if (!rowGroupReader.nextRow(row)) {
+                            break;
+                        }
+                        resultSet.setStreamRow(row);
+                        consumer.fetchRow(producerSession, resultSet);
+                        rowNum++;
+
+                        if (DBFetchProgress.monitorFetchProgress(rowNum)) {
+                            monitor.subTask(Long.toUnsignedString(rowNum) + " rows processed");
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new DBException("IO error reading Parquet file", e);
+            } finally {
+                try {
+                    consumer.fetchEnd(producerSession, resultSet);
+                } finally {
+                    consumer.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns columns which are mapped to target attributes. Skipped columns aren't read from the file.
+     */
+    @Nullable
+    private static boolean[] getProjection(@NotNull IDataTransferConsumer consumer, int columnCount) {
+        if (!(consumer instanceof DatabaseTransferConsumer databaseConsumer)) {
+            return null;
+        }
+        DatabaseTransferConsumer.ColumnMapping[] columnMappings = databaseConsumer.getColumnMappings();
+        if (columnMappings == null || columnMappings.length != columnCount) {
+            return null;
+        }
+        boolean[] projection = new boolean[columnCount];
+        for (int i = 0; i < columnMappings.length; i++) {
+            DatabaseTransferConsumer.ColumnMapping mapping = columnMappings[i];
+            projection[i] = mapping != null && mapping.targetAttr != null && mapping.targetAttr.getMappingType().isValid();
+        }
+        return projection;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.parquet;
+
+import org.jkiss.code.NotNull;
+
+/**
+ * Flat (top-level, optional) Parquet column
+ */
+public class ParquetColumn {
+
+    /**
+     * Parquet physical types. Ordinal matches the thrift enum value.
+     */
+    public enum PhysicalType {
+        BOOLEAN,
+        INT32,
+        INT64,
+        INT96,
+        FLOAT,
+        DOUBLE,
+        BYTE_ARRAY,
+        FIXED_LEN_BYTE_ARRAY
+    }
+
+    /**
+     * Logical types supported by reader and writer
+     */
+    public enum LogicalType {
+        NONE,
+        STRING,
+        DECIMAL,
+        DATE,
+        TIME_MILLIS,
+        TIME_MICROS,
+        TIMESTAMP_MILLIS,
+        TIMESTAMP_MICROS,
+        TIMESTAMP_NANOS
+    }
+
+    // Thrift ConvertedType values
+    static final int CONVERTED_UTF8 = 0;
+    static final int CONVERTED_ENUM = 4;
+    static final int CONVERTED_DECIMAL = 5;
+    static final int CONVERTED_DATE = 6;
+    static final int CONVERTED_TIME_MILLIS = 7;
+    static final int CONVERTED_TIME_MICROS = 8;
+    static final int CONVERTED_TIMESTAMP_MILLIS = 9;
+    static final int CONVERTED_TIMESTAMP_MICROS = 10;
+    static final int CONVERTED_JSON = 19;
+
+    private final String name;
+    private final PhysicalType physicalType;
+    private final LogicalType logicalType;
+    private final int precision;
+    private final int scale;
+    private final int typeLength;
+
+    public ParquetColumn(@NotNull String name, @NotNull PhysicalType physicalType, @NotNull LogicalType logicalType) {
+        this(name, physicalType, logicalType, 0, 0, 0);
+    }
+
+    public ParquetColumn(
+        @NotNull String name,
+        @NotNull PhysicalType physicalType,
+        @NotNull LogicalType logicalType,
+        int precision,
+        int scale,
+        int typeLength
+    ) {
+        this.name = name;
+        this.physicalType = physicalType;
+        this.logicalType = logicalType;
+        this.precision = precision;
+        this.scale = scale;
+        this.typeLength = typeLength;
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public PhysicalType getPhysicalType() {
+        return physicalType;
+    }
+
+    @NotNull
+    public LogicalType getLogicalType() {
+        return logicalType;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public int getTypeLength() {
+        return typeLength;
+    }
+
+    int getConvertedType() {
+        return switch (logicalType) {
+            case STRING -> CONVERTED_UTF8;
+            case DECIMAL -> CONVERTED_DECIMAL;
+            case DATE -> CONVERTED_DATE;
+            case TIME_MILLIS -> CONVERTED_TIME_MILLIS;
+            case TIME_MICROS -> CONVERTED_TIME_MICROS;
+            case TIMESTAMP_MILLIS -> CONVERTED_TIMESTAMP_MILLIS;
+            case TIMESTAMP_MICROS -> CONVERTED_TIMESTAMP_MICROS;
+            default -> -1;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + physicalType + (logicalType == LogicalType.NONE ? "" : "(" + logicalType + ")");
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.parquet;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Parquet page compression codecs.
+ * Writer supports uncompressed and GZIP pages. Reader additionally supports SNAPPY which is the default codec of most writers.
+ */
+public enum ParquetCompression {
+    UNCOMPRESSED(0),
+    SNAPPY(1),
+    GZIP(2);
+
+    private final int codecId;
+
+    ParquetCompression(int codecId) {
+        this.codecId = codecId;
+    }
+
+    int getCodecId() {
+        return codecId;
+    }
+
+    @Nullable
+    static ParquetCompression fromCodecId(int codecId) {
+        for (ParquetCompression compression : values()) {
+            if (compression.codecId == codecId) {
+                return compression;
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    byte[] compress(@NotNull byte[] data, int length) throws IOException {
+        switch (this) {
+            case UNCOMPRESSED:
+                return length == data.length ? data : java.util.Arrays.copyOf(data, length);
+            case GZIP: {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, length / 4));
+                try (GZIPOutputStream gzip = new GZIPOutputStream(buffer, 64 * 1024)) {
+                    gzip.write(data, 0, length);
+                }
+                return buffer.toByteArray();
+            }
+            default:
+                throw new IOException("Compression codec " + this + " is not supported for writing");
+        }
+    }
+
+    @NotNull
+    byte[] decompress(@NotNull byte[] data, int offset, int length, int uncompressedSize) throws IOException {
+        switch (this) {
+            case UNCOMPRESSED:
+                return offset == 0 && length == data.length ? data : java.util.Arrays.copyOfRange(data, offset, offset + length);
+            case GZIP: {
+                byte[] result = new byte[uncompressedSize];
+                try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data, offset, length))) {
+                    int pos = 0;
+                    while (pos < uncompressedSize) {
+                        int count = gzip.read(result, pos, uncompressedSize - pos);
+                        if (count < 0) {
+                            throw new IOException("Unexpected end of GZIP page");
+                        }
+                        pos += count;
+                    }
+                }
+                return result;
+            }
+            case SNAPPY:
+                return decompressSnappy(data, offset, length, uncompressedSize);
+            default:
+                throw new IOException("Compression codec " + this + " is not supported");
+        }
+    }
+
+    /**
+     * Raw snappy block decompression (https://github.com/google/snappy/blob/main/format_description.txt)
+     */
+    @NotNull
+    private static byte[] decompressSnappy(@NotNull byte[] data, int offset, int length, int uncompressedSize) throws IOException {
+        int pos = offset;
+        int end = offset + length;
+        // Preamble - uncompressed length varint
+        int declaredSize = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (pos >= end) {
+                throw new IOException("Truncated snappy preamble");
+            }
+            int b = data[pos++] & 0xFF;
+            declaredSize |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        if (declaredSize != uncompressedSize) {
+            throw new IOException("Snappy uncompressed size mismatch: " + declaredSize + " <> " + uncompressedSize);
+        }
+        byte[] out = new byte[declaredSize];
+        int outPos = 0;
+        while (pos < end) {
+            int tag = data[pos++] & 0xFF;
+            int elementType = tag & 0x03;
+            if (elementType == 0) {
+                // Literal
+                int literalLength = tag >>> 2;
+                if (literalLength >= 60) {
+                    int lengthBytes = literalLength - 59;
+                    literalLength = 0;
+                    for (int i = 0; i < lengthBytes; i++) {
+                        literalLength |= (data[pos++] & 0xFF) << (8 * i);
+                    }
+                }
+                literalLength++;
+                if (pos + literalLength > end || outPos + literalLength > out.length) {
+                    throw new IOException("Corrupted snappy literal");
+                }
+                System.arraycopy(data, pos, out, outPos, literalLength);
+                pos += literalLength;
+                outPos += literalLength;
+            } else {
+                int copyLength;
+                int copyOffset;
+                if (elementType == 1) {
+                    copyLength = ((tag >>> 2) & 0x07) + 4;
+                    copyOffset = ((tag & 0xE0) << 3) | (data[pos++] & 0xFF);
+                } else if (elementType == 2) {
+                    copyLength = (tag >>> 2) + 1;
+                    copyOffset = (data[pos] & 0xFF) | ((data[pos + 1] & 0xFF) << 8);
+                    pos += 2;
+                } else {
+                    copyLength = (tag >>> 2) + 1;
+                    copyOffset = (data[pos] & 0xFF) | ((data[pos + 1] & 0xFF) << 8) |
+                        ((data[pos + 2] & 0xFF) << 16) | ((data[pos + 3] & 0xFF) << 24);
+                    pos += 4;
+                }
+                if (copyOffset <= 0 || copyOffset > outPos || outPos + copyLength > out.length) {
+                    throw new IOException("Corrupted snappy copy");
+                }
+                // Copy may overlap with output - copy byte by byte
+                for (int i = 0; i < copyLength; i++) {
+                    out[outPos] = out[outPos - copyOffset];
+                    outPos++;
+                }
+            }
+        }
+        if (outPos != out.length) {
+            throw new IOException("Truncated snappy data");
+        }
+        return out;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.parquet;
+
+import org.jkiss.code.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Parquet value encodings: PLAIN and RLE/bit-packing hybrid (used for definition levels and dictionary indices).
+ */
+final class ParquetEncoding {
+
+    // Thrift Encoding values
+    static final int PLAIN = 0;
+    static final int PLAIN_DICTIONARY = 2;
+    static final int RLE = 3;
+    static final int RLE_DICTIONARY = 8;
+
+    private static final int MIN_RLE_RUN = 8;
+
+    private ParquetEncoding() {
+    }
+
+    static int getBitWidth(int maxValue) {
+        return maxValue == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(maxValue);
+    }
+
+    static void writeIntLE(@NotNull ByteArrayOutputStream out, int value) {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    static void writeLongLE(@NotNull ByteArrayOutputStream out, long value) {
+        for (int i = 0; i < 8; i++) {
+            out.write((int) (value >>> (8 * i)));
+        }
+    }
+
+    static int readIntLE(@NotNull byte[] data, int offset) {
+        return (data[offset] & 0xFF) |
+            ((data[offset + 1] & 0xFF) << 8) |
+            ((data[offset + 2] & 0xFF) << 16) |
+            ((data[offset + 3] & 0xFF) << 24);
+    }
+
+    static long readLongLE(@NotNull byte[] data, int offset) {
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result |= (data[offset + i] & 0xFFL) << (8 * i);
+        }
+        return result;
+    }
+
+    private static void writeUnsignedVarint(@NotNull ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * Encodes values with RLE/bit-packing hybrid encoding (without length prefix).
+     * Runs of at least 8 equal values are written as RLE runs, everything else is bit-packed in groups of 8.
+     */
+    static void encodeHybrid(@NotNull int[] values, int count, int bitWidth, @NotNull ByteArrayOutputStream out) {
+        int valueBytes = (bitWidth + 7) / 8;
+        int pos = 0;
+        while (pos < count) {
+            int runLength = getRunLength(values, pos, count);
+            if (runLength >= MIN_RLE_RUN) {
+                writeUnsignedVarint(out, runLength << 1);
+                int value = values[pos];
+                for (int i = 0; i < valueBytes; i++) {
+                    out.write(value >>> (8 * i));
+                }
+                pos += runLength;
+                continue;
+            }
+            // Collect groups of 8 values until the next long run. The last group is padded with zeroes.
+            int groupsStart = pos;
+            int groups = 0;
+            while (pos < count && (groups == 0 || getRunLength(values, pos, count) < MIN_RLE_RUN)) {
+                pos = Math.min(pos + 8, count);
+                groups++;
+                if (groups == 63) {
+                    // Keep header in a single varint byte
+                    break;
+                }
+            }
+            writeUnsignedVarint(out, (groups << 1) | 1);
+            bitPack(values, groupsStart, pos, groups * 8, bitWidth, out);
+        }
+    }
+
+    private static int getRunLength(@NotNull int[] values, int pos, int count) {
+        int value = values[pos];
+        int end = pos + 1;
+        while (end < count && values[end] == value) {
+            end++;
+        }
+        return end - pos;
+    }
+
+    private static void bitPack(@NotNull int[] values, int start, int end, int totalValues, int bitWidth, @NotNull ByteArrayOutputStream out) {
+        if (bitWidth == 0) {
+            return;
+        }
+        long buffer = 0;
+        int bufferBits = 0;
+        for (int i = 0; i < totalValues; i++) {
+            int value = start + i < end ? values[start + i] : 0;
+            buffer |= (value & 0xFFFFFFFFL) << bufferBits;
+            bufferBits += bitWidth;
+            while (bufferBits >= 8) {
+                out.write((int) buffer);
+                buffer >>>= 8;
+                bufferBits -= 8;
+            }
+        }
+        if (bufferBits > 0) {
+            out.write((int) buffer);
+        }
+    }
+
+    /**
+     * Decodes RLE/bit-packing hybrid encoded values.
+     *
+     * @return position after the last consumed byte
+     */
+    static int decodeHybrid(@NotNull byte[] data, int offset, int end, int bitWidth, @NotNull int[] dest, int count) throws IOException {
+        int pos = offset;
+        int valueBytes = (bitWidth + 7) / 8;
+        int decoded = 0;
+        while (decoded < count) {
+            if (pos >= end) {
+                throw new IOException("Unexpected end of RLE data");
+            }
+            int header = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = data[pos++] & 0xFF;
+                header |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    break;
+                }
+            }
+            if ((header & 1) == 0) {
+                int runLength = header >>> 1;
+                int value = 0;
+                for (int i = 0; i < valueBytes; i++) {
+                    value |= (data[pos++] & 0xFF) << (8 * i);
+                }
+                int toFill = Math.min(runLength, count - decoded);
+                for (int i = 0; i < toFill; i++) {
+                    dest[decoded++] = value;
+                }
+            } else {
+                int groupValues = (header >>> 1) * 8;
+                int groupBytes = (header >>> 1) * bitWidth;
+                if (pos + groupBytes > end) {
+                    throw new IOException("Unexpected end of bit-packed data");
+                }
+                long buffer = 0;
+                int bufferBits = 0;
+                int bytePos = pos;
+                long mask = (1L << bitWidth) - 1;
+                for (int i = 0; i < groupValues; i++) {
+                    while (bufferBits < bitWidth) {
+                        buffer |= (data[bytePos++] & 0xFFL) << bufferBits;
+                        bufferBits += 8;
+                    }
+                    int value = (int) (buffer & mask);
+                    buffer >>>= bitWidth;
+                    bufferBits -= bitWidth;
+                    if (decoded < count) {
+                        dest[decoded++] = value;
+                    }
+                }
+                pos += groupBytes;
+            }
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,598 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.parquet;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parquet file reader.
+ * <p>
+ * Supports flat schemas: top-level required and optional primitive columns. Nested and repeated columns are skipped.
+ * Column chunks are read independently, so only projected columns are read from the file.
+ * Rows are read page by page, row groups are never decoded as a whole.
+ * Supports data pages v1 and v2 with PLAIN and dictionary encodings.
+ */
+public class ParquetFileReader {
+
+    private static final long JULIAN_EPOCH_OFFSET_DAYS = 2_440_588;
+    private static final int PAGE_HEADER_BUFFER_SIZE = 1024;
+
+    private final SeekableByteChannel channel;
+    private final List<ParquetColumn> columns = new ArrayList<>();
+    private final List<ColumnInfo> columnInfos = new ArrayList<>();
+    private final List<ThriftCompactProtocol.Struct> rowGroups = new ArrayList<>();
+    private final long rowCount;
+    @Nullable
+    private final String createdBy;
+
+    private static class ColumnInfo {
+        final ParquetColumn column;
+        // Index of column chunk in row group
+        final int chunkIndex;
+        final boolean optional;
+        final boolean utcAdjusted;
+
+        ColumnInfo(ParquetColumn column, int chunkIndex, boolean optional, boolean utcAdjusted) {
+            this.column = column;
+            this.chunkIndex = chunkIndex;
+            this.optional = optional;
+            this.utcAdjusted = utcAdjusted;
+        }
+    }
+
+    public ParquetFileReader(@NotNull SeekableByteChannel channel) throws IOException {
+        this.channel = channel;
+        long fileSize = channel.size();
+        if (fileSize < 12) {
+            throw new IOException("File is too small to be a Parquet file");
+        }
+        byte[] tail = readBytes(fileSize - 8, 8);
+        if (!Arrays.equals(Arrays.copyOfRange(tail, 4, 8), ParquetFileWriter.MAGIC)) {
+            throw new IOException("Not a Parquet file (bad magic)");
+        }
+        int footerLength = ParquetEncoding.readIntLE(tail, 0);
+        if (footerLength <= 0 || footerLength > fileSize - 12) {
+            throw new IOException("Bad Parquet footer length: " + footerLength);
+        }
+        ThriftCompactProtocol.Struct fileMeta = new ThriftCompactProtocol.Reader(
+            readBytes(fileSize - 8 - footerLength, footerLength), 0).readStruct();
+
+        rowCount = fileMeta.getLong(3, 0);
+        createdBy = fileMeta.getString(6);
+        for (Object rowGroup : fileMeta.getList(4)) {
+            rowGroups.add((ThriftCompactProtocol.Struct) rowGroup);
+        }
+        List<?> schema = fileMeta.getList(2);
+        if (schema.isEmpty()) {
+            throw new IOException("Empty Parquet schema");
+        }
+        ThriftCompactProtocol.Struct root = (ThriftCompactProtocol.Struct) schema.get(0);
+        int[] position = {1, 0};
+        int childCount = root.getInt(5, 0);
+        for (int i = 0; i < childCount && position[0] < schema.size(); i++) {
+            readSchemaElement(schema, position, true);
+        }
+    }
+
+    /**
+     * Reads schema element and its children.
+     * position[0] is the index of the next schema element, position[1] is the index of the next leaf column.
+     */
+    private void readSchemaElement(@NotNull List<?> schema, @NotNull int[] position, boolean topLevel) throws IOException {
+        ThriftCompactProtocol.Struct element = (ThriftCompactProtocol.Struct) schema.get(position[0]++);
+        int childCount = element.getInt(5, 0);
+        if (childCount > 0 || !element.has(1)) {
+            // Group - skip all nested columns
+            for (int i = 0; i < childCount && position[0] < schema.size(); i++) {
+                readSchemaElement(schema, position, false);
+            }
+            return;
+        }
+        int chunkIndex = position[1]++;
+        int repetition = element.getInt(3, ParquetFileWriter.REPETITION_OPTIONAL);
+        if (!topLevel || repetition == ParquetFileWriter.REPETITION_REPEATED) {
+            return;
+        }
+        String name = element.getString(4);
+        int typeId = element.getInt(1, -1);
+        if (typeId < 0 || typeId >= ParquetColumn.PhysicalType.values().length) {
+            throw new IOException("Unsupported physical type " + typeId + " of column '" + name + "'");
+        }
+        ParquetColumn.PhysicalType physicalType = ParquetColumn.PhysicalType.values()[typeId];
+        int scale = element.getInt(7, 0);
+        int precision = element.getInt(8, 0);
+        ParquetColumn.LogicalType logicalType = ParquetColumn.LogicalType.NONE;
+        boolean utcAdjusted = true;
+
+        ThriftCompactProtocol.Struct logical = element.getStruct(10);
+        if (logical != null) {
+            if (logical.has(1) || logical.has(4) || logical.has(12)) {
+                // STRING, ENUM, JSON
+                logicalType = ParquetColumn.LogicalType.STRING;
+            } else if (logical.has(5)) {
+                ThriftCompactProtocol.Struct decimal = logical.getStruct(5);
+                logicalType = ParquetColumn.LogicalType.DECIMAL;
+                if (decimal != null) {
+                    scale = decimal.getInt(1, scale);
+                    precision = decimal.getInt(2, precision);
+                }
+            } else if (logical.has(6)) {
+                logicalType = ParquetColumn.LogicalType.DATE;
+            } else if (logical.has(7) || logical.has(8)) {
+                boolean time = logical.has(7);
+                ThriftCompactProtocol.Struct timeType = logical.getStruct(time ? 7 : 8);
+                ThriftCompactProtocol.Struct unit = timeType == null ? null : timeType.getStruct(2);
+                utcAdjusted = timeType == null || timeType.getBoolean(1, true);
+                if (unit != null && unit.has(1)) {
+                    logicalType = time ? ParquetColumn.LogicalType.TIME_MILLIS : ParquetColumn.LogicalType.TIMESTAMP_MILLIS;
+                } else if (unit != null && unit.has(3)) {
+                    logicalType = time ? ParquetColumn.LogicalType.TIME_MICROS : ParquetColumn.LogicalType.TIMESTAMP_NANOS;
+                } else {
+                    logicalType = time ? ParquetColumn.LogicalType.TIME_MICROS : ParquetColumn.LogicalType.TIMESTAMP_MICROS;
+                }
+                if (time && unit != null && unit.has(3)) {
+                    // Nanosecond time values are kept as raw numbers
+                    logicalType = ParquetColumn.LogicalType.NONE;
+                }
+            }
+        } else if (element.has(6)) {
+            switch (element.getInt(6, -1)) {
+                case ParquetColumn.CONVERTED_UTF8, ParquetColumn.CONVERTED_ENUM, ParquetColumn.CONVERTED_JSON ->
+                    logicalType = ParquetColumn.LogicalType.STRING;
+                case ParquetColumn.CONVERTED_DECIMAL -> logicalType = ParquetColumn.LogicalType.DECIMAL;
+                case ParquetColumn.CONVERTED_DATE -> logicalType = ParquetColumn.LogicalType.DATE;
+                case ParquetColumn.CONVERTED_TIME_MILLIS -> logicalType = ParquetColumn.LogicalType.TIME_MILLIS;
+                case ParquetColumn.CONVERTED_TIME_MICROS -> logicalType = ParquetColumn.LogicalType.TIME_MICROS;
+                case ParquetColumn.CONVERTED_TIMESTAMP_MILLIS -> logicalType = ParquetColumn.LogicalType.TIMESTAMP_MILLIS;
+                case ParquetColumn.CONVERTED_TIMESTAMP_MICROS -> logicalType = ParquetColumn.LogicalType.TIMESTAMP_MICROS;
+                default -> {
+                    // Other converted types are read as plain physical values
+                }
+            }
+        }
+        if (physicalType == ParquetColumn.PhysicalType.INT96) {
+            // Legacy Impala/Spark timestamp
+            logicalType = ParquetColumn.LogicalType.TIMESTAMP_NANOS;
+        }
+        ParquetColumn column = new ParquetColumn(
+            name == null ? "column" + (columns.size() + 1) : name,
+            physicalType,
+            logicalType,
+            precision,
+            scale,
+            element.getInt(2, 0));
+        columns.add(column);
+        columnInfos.add(new ColumnInfo(column, chunkIndex, repetition == ParquetFileWriter.REPETITION_OPTIONAL, utcAdjusted));
+    }
+
+    /**
+     * Supported (top-level primitive) columns
+     */
+    @NotNull
+    public List<ParquetColumn> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Nullable
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public int getRowGroupCount() {
+        return rowGroups.size();
+    }
+
+    public long getRowGroupRowCount(int rowGroup) {
+        return rowGroups.get(rowGroup).getLong(3, 0);
+    }
+
+    /**
+     * Opens row group for reading row by row.
+     * Pages of projected columns are read and decoded on demand, so only one page of each column is kept in memory.
+     *
+     * @param projection columns to read (indexes match {@link #getColumns()}). Null means all columns.
+     */
+    @NotNull
+    public RowGroupReader openRowGroup(int rowGroup, @Nullable boolean[] projection) throws IOException {
+        ThriftCompactProtocol.Struct rowGroupMeta = rowGroups.get(rowGroup);
+        List<?> chunks = rowGroupMeta.getList(1);
+        ColumnChunkReader[] columnReaders = new ColumnChunkReader[columnInfos.size()];
+        for (int i = 0; i < columnInfos.size(); i++) {
+            if (projection != null && (i >= projection.length || !projection[i])) {
+                continue;
+            }
+            ColumnInfo info = columnInfos.get(i);
+            if (info.chunkIndex >= chunks.size()) {
+                throw new IOException("Column chunk for '" + info.column.getName() + "' not found");
+            }
+            ThriftCompactProtocol.Struct chunk = (ThriftCompactProtocol.Struct) chunks.get(info.chunkIndex);
+            if (chunk.getString(1) != null) {
+                throw new IOException("Column chunks in external files are not supported");
+            }
+            ThriftCompactProtocol.Struct chunkMeta = chunk.getStruct(3);
+            if (chunkMeta == null) {
+                throw new IOException("Column chunk metadata for '" + info.column.getName() + "' is missing");
+            }
+            columnReaders[i] = new ColumnChunkReader(info, chunkMeta);
+        }
+        return new RowGroupReader(columnReaders, rowGroupMeta.getLong(3, 0));
+    }
+
+    /**
+     * Row group reader
+     */
+    public static class RowGroupReader {
+        private final ColumnChunkReader[] columnReaders;
+        private final long rowCount;
+        private long rowPos;
+
+        private RowGroupReader(@NotNull ColumnChunkReader[] columnReaders, long rowCount) {
+            this.columnReaders = columnReaders;
+            this.rowCount = rowCount;
+        }
+
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Reads values of the next row. Values of not projected columns are null.
+         *
+         * @return false if all rows of the row group were read
+         */
+        public boolean nextRow(@NotNull Object[] row) throws IOException {
+            if (rowPos >= rowCount) {
+                return false;
+            }
+            for (int i = 0; i < row.length; i++) {
+                row[i] = i < columnReaders.length && columnReaders[i] != null ? columnReaders[i].nextValue() : null;
+            }
+            rowPos++;
+            return true;
+        }
+    }
+
+    /**
+     * Reads column chunk page by page
+     */
+    private class ColumnChunkReader {
+        private final ColumnInfo info;
+        private final ParquetCompression compression;
+        private final long chunkEnd;
+        private long position;
+        @Nullable
+        private Object[] dictionary;
+        @NotNull
+        private Object[] pageValues = new Object[0];
+        private int pageValueCount;
+        private int pageValuePos;
+
+        ColumnChunkReader(@NotNull ColumnInfo info, @NotNull ThriftCompactProtocol.Struct chunkMeta) throws IOException {
+            this.info = info;
+            this.compression = ParquetCompression.fromCodecId(chunkMeta.getInt(4, 0));
+            if (compression == null) {
+                throw new IOException("Compression codec " + chunkMeta.getInt(4, 0) + " of column '" + info.column.getName() + "' is not supported");
+            }
+            long dataPageOffset = chunkMeta.getLong(9, 0);
+            long dictionaryPageOffset = chunkMeta.getLong(11, -1);
+            long chunkLength = chunkMeta.getLong(7, 0);
+            this.position = dictionaryPageOffset > 0 && dictionaryPageOffset < dataPageOffset ? dictionaryPageOffset : dataPageOffset;
+            this.chunkEnd = position + chunkLength;
+            if (chunkLength <= 0 || chunkEnd > channel.size()) {
+                throw new IOException("Bad column chunk size: " + chunkLength);
+            }
+        }
+
+        @Nullable
+        Object nextValue() throws IOException {
+            while (pageValuePos >= pageValueCount) {
+                readNextPage();
+            }
+            return pageValues[pageValuePos++];
+        }
+
+        private void readNextPage() throws IOException {
+            if (position >= chunkEnd) {
+                throw new IOException("Column '" + info.column.getName() + "' has less values than rows in row group");
+            }
+            ThriftCompactProtocol.Struct pageHeader = readPageHeader();
+            int pageType = pageHeader.getInt(1, -1);
+            int uncompressedSize = pageHeader.getInt(2, 0);
+            int compressedSize = pageHeader.getInt(3, 0);
+            if (compressedSize < 0 || position + compressedSize > chunkEnd) {
+                throw new IOException("Page of column '" + info.column.getName() + "' exceeds column chunk");
+            }
+            if (pageType != ParquetFileWriter.PAGE_DICTIONARY && pageType != ParquetFileWriter.PAGE_DATA && pageType != ParquetFileWriter.PAGE_DATA_V2) {
+                // Index pages and unknown page types are skipped
+                position += compressedSize;
+                return;
+            }
+            byte[] data = readBytes(position, compressedSize);
+            position += compressedSize;
+
+            if (pageType == ParquetFileWriter.PAGE_DICTIONARY) {
+                ThriftCompactProtocol.Struct dictHeader = pageHeader.getStruct(7);
+                int dictSize = dictHeader == null ? 0 : dictHeader.getInt(1, 0);
+                byte[] body = compression.decompress(data, 0, compressedSize, uncompressedSize);
+                dictionary = new Object[dictSize];
+                decodePlain(info, body, 0, body.length, dictionary, dictSize);
+            } else if (pageType == ParquetFileWriter.PAGE_DATA) {
+                ThriftCompactProtocol.Struct dataHeader = pageHeader.getStruct(5);
+                if (dataHeader == null) {
+                    throw new IOException("Data page header is missing");
+                }
+                int valueCount = dataHeader.getInt(1, 0);
+                byte[] body = compression.decompress(data, 0, compressedSize, uncompressedSize);
+                int bodyPos = 0;
+                int[] levels = null;
+                if (info.optional) {
+                    int levelsLength = ParquetEncoding.readIntLE(body, 0);
+                    levels = new int[valueCount];
+                    ParquetEncoding.decodeHybrid(body, 4, 4 + levelsLength, 1, levels, valueCount);
+                    bodyPos = 4 + levelsLength;
+                }
+                decodePageValues(dataHeader.getInt(2, ParquetEncoding.PLAIN), body, bodyPos, body.length, levels, valueCount);
+            } else {
+                ThriftCompactProtocol.Struct dataHeader = pageHeader.getStruct(8);
+                if (dataHeader == null) {
+                    throw new IOException("Data page v2 header is missing");
+                }
+                int valueCount = dataHeader.getInt(1, 0);
+                int defLength = dataHeader.getInt(5, 0);
+                int repLength = dataHeader.getInt(6, 0);
+                int levelsLength = defLength + repLength;
+                int[] levels = null;
+                if (info.optional) {
+                    levels = new int[valueCount];
+                    ParquetEncoding.decodeHybrid(data, repLength, levelsLength, 1, levels, valueCount);
+                }
+                byte[] body;
+                if (dataHeader.getBoolean(7, true)) {
+                    body = compression.decompress(data, levelsLength, compressedSize - levelsLength, uncompressedSize - levelsLength);
+                } else {
+                    body = Arrays.copyOfRange(data, levelsLength, compressedSize);
+                }
+                decodePageValues(dataHeader.getInt(4, ParquetEncoding.PLAIN), body, 0, body.length, levels, valueCount);
+            }
+        }
+
+        /**
+         * Reads page header. Header size is not known, so it is read with a buffer which grows if header doesn't fit.
+         */
+        @NotNull
+        private ThriftCompactProtocol.Struct readPageHeader() throws IOException {
+            int bufferSize = PAGE_HEADER_BUFFER_SIZE;
+            while (true) {
+                int length = (int) Math.min(bufferSize, chunkEnd - position);
+                ThriftCompactProtocol.Reader headerReader = new ThriftCompactProtocol.Reader(readBytes(position, length), 0);
+                try {
+                    ThriftCompactProtocol.Struct pageHeader = headerReader.readStruct();
+                    position += headerReader.getPosition();
+                    return pageHeader;
+                } catch (IOException e) {
+                    if (length < bufferSize || bufferSize >= Integer.MAX_VALUE / 4) {
+                        throw e;
+                    }
+                    // Statistics may make header bigger than the buffer
+                    bufferSize *= 4;
+                }
+            }
+        }
+
+        private void decodePageValues(
+            int encoding,
+            @NotNull byte[] body,
+            int offset,
+            int end,
+            @Nullable int[] levels,
+            int valueCount
+        ) throws IOException {
+            if (pageValues.length < valueCount) {
+                pageValues = new Object[valueCount];
+            }
+            int nonNullCount = valueCount;
+            if (levels != null) {
+                nonNullCount = 0;
+                for (int i = 0; i < valueCount; i++) {
+                    if (levels[i] != 0) {
+                        nonNullCount++;
+                    }
+                }
+            }
+            Object[] pageData = levels == null ? pageValues : new Object[nonNullCount];
+            if (encoding == ParquetEncoding.PLAIN) {
+                decodePlain(info, body, offset, end, pageData, nonNullCount);
+            } else if (encoding == ParquetEncoding.RLE_DICTIONARY || encoding == ParquetEncoding.PLAIN_DICTIONARY) {
+                if (dictionary == null) {
+                    throw new IOException("Dictionary page is missing for column '" + info.column.getName() + "'");
+                }
+                if (nonNullCount > 0) {
+                    int bitWidth = body[offset] & 0xFF;
+                    int[] indexes = new int[nonNullCount];
+                    ParquetEncoding.decodeHybrid(body, offset + 1, end, bitWidth, indexes, nonNullCount);
+                    for (int i = 0; i < nonNullCount; i++) {
+                        if (indexes[i] < 0 || indexes[i] >= dictionary.length) {
+                            throw new IOException("Bad dictionary index " + indexes[i]);
+                        }
+                        pageData[i] = dictionary[indexes[i]];
+                    }
+                }
+            } else if (encoding == ParquetEncoding.RLE && info.column.getPhysicalType() == ParquetColumn.PhysicalType.BOOLEAN) {
+                int[] bits = new int[nonNullCount];
+                ParquetEncoding.decodeHybrid(body, offset + 4, end, 1, bits, nonNullCount);
+                for (int i = 0; i < nonNullCount; i++) {
+                    pageData[i] = bits[i] != 0;
+                }
+            } else {
+                throw new IOException("Encoding " + encoding + " of column '" + info.column.getName() + "' is not supported");
+            }
+            if (levels != null) {
+                int dataPos = 0;
+                for (int i = 0; i < valueCount; i++) {
+                    pageValues[i] = levels[i] != 0 ? pageData[dataPos++] : null;
+                }
+            }
+            pageValueCount = valueCount;
+            pageValuePos = 0;
+        }
+    }
+
+    private void decodePlain(@NotNull ColumnInfo info, @NotNull byte[] data, int offset, int end, @NotNull Object[] dest, int count) throws IOException {
+        ParquetColumn column = info.column;
+        int pos = offset;
+        switch (column.getPhysicalType()) {
+            case BOOLEAN -> {
+                checkLength(pos + (count + 7) / 8, end);
+                for (int i = 0; i < count; i++) {
+                    dest[i] = (data[pos + i / 8] & (1 << (i % 8))) != 0;
+                }
+            }
+            case INT32 -> {
+                checkLength(pos + count * 4L, end);
+                for (int i = 0; i < count; i++, pos += 4) {
+                    dest[i] = convertInt(column, ParquetEncoding.readIntLE(data, pos));
+                }
+            }
+            case INT64 -> {
+                checkLength(pos + count * 8L, end);
+                for (int i = 0; i < count; i++, pos += 8) {
+                    dest[i] = convertLong(info, ParquetEncoding.readLongLE(data, pos));
+                }
+            }
+            case INT96 -> {
+                checkLength(pos + count * 12L, end);
+                for (int i = 0; i < count; i++, pos += 12) {
+                    long nanosOfDay = ParquetEncoding.readLongLE(data, pos);
+                    long julianDay = ParquetEncoding.readIntLE(data, pos + 8) & 0xFFFFFFFFL;
+                    long epochSeconds = (julianDay - JULIAN_EPOCH_OFFSET_DAYS) * 86_400L + nanosOfDay / 1_000_000_000L;
+                    java.sql.Timestamp timestamp = new java.sql.Timestamp(epochSeconds * 1000);
+                    timestamp.setNanos((int) (nanosOfDay % 1_000_000_000L));
+                    dest[i] = timestamp;
+                }
+            }
+            case FLOAT -> {
+                checkLength(pos + count * 4L, end);
+                for (int i = 0; i < count; i++, pos += 4) {
+                    dest[i] = Float.intBitsToFloat(ParquetEncoding.readIntLE(data, pos));
+                }
+            }
+            case DOUBLE -> {
+                checkLength(pos + count * 8L, end);
+                for (int i = 0; i < count; i++, pos += 8) {
+                    dest[i] = Double.longBitsToDouble(ParquetEncoding.readLongLE(data, pos));
+                }
+            }
+            case BYTE_ARRAY -> {
+                for (int i = 0; i < count; i++) {
+                    checkLength(pos + 4L, end);
+                    int length = ParquetEncoding.readIntLE(data, pos);
+                    pos += 4;
+                    checkLength(pos + (long) length, end);
+                    dest[i] = convertBytes(column, data, pos, length);
+                    pos += length;
+                }
+            }
+            case FIXED_LEN_BYTE_ARRAY -> {
+                int length = column.getTypeLength();
+                checkLength(pos + (long) count * length, end);
+                for (int i = 0; i < count; i++, pos += length) {
+                    dest[i] = convertBytes(column, data, pos, length);
+                }
+            }
+        }
+    }
+
+    @NotNull
+    private static Object convertInt(@NotNull ParquetColumn column, int value) {
+        return switch (column.getLogicalType()) {
+            case DATE -> java.sql.Date.valueOf(LocalDate.ofEpochDay(value));
+            case DECIMAL -> BigDecimal.valueOf(value, column.getScale());
+            case TIME_MILLIS -> java.sql.Time.valueOf(LocalTime.ofNanoOfDay(value * 1_000_000L));
+            default -> value;
+        };
+    }
+
+    @NotNull
+    private static Object convertLong(@NotNull ColumnInfo info, long value) {
+        ParquetColumn column = info.column;
+        return switch (column.getLogicalType()) {
+            case DECIMAL -> BigDecimal.valueOf(value, column.getScale());
+            case TIME_MICROS -> java.sql.Time.valueOf(LocalTime.ofNanoOfDay(value * 1_000L));
+            case TIMESTAMP_MILLIS -> toTimestamp(info, Math.floorDiv(value, 1_000L), Math.floorMod(value, 1_000L) * 1_000_000L);
+            case TIMESTAMP_MICROS -> toTimestamp(info, Math.floorDiv(value, 1_000_000L), Math.floorMod(value, 1_000_000L) * 1_000L);
+            case TIMESTAMP_NANOS -> toTimestamp(info, Math.floorDiv(value, 1_000_000_000L), Math.floorMod(value, 1_000_000_000L));
+            default -> value;
+        };
+    }
+
+    @NotNull
+    private static java.sql.Timestamp toTimestamp(@NotNull ColumnInfo info, long epochSeconds, long nanos) {
+        if (info.utcAdjusted) {
+            java.sql.Timestamp timestamp = new java.sql.Timestamp(epochSeconds * 1000);
+            timestamp.setNanos((int) nanos);
+            return timestamp;
+        }
+        // Local timestamp - keep wall clock time
+        return java.sql.Timestamp.valueOf(LocalDateTime.ofEpochSecond(epochSeconds, (int) nanos, ZoneOffset.UTC));
+    }
+
+    @NotNull
+    private static Object convertBytes(@NotNull ParquetColumn column, @NotNull byte[] data, int offset, int length) {
+        return switch (column.getLogicalType()) {
+            case STRING -> new String(data, offset, length, StandardCharsets.UTF_8);
+            case DECIMAL -> new BigDecimal(
+                length == 0 ? BigInteger.ZERO : new BigInteger(Arrays.copyOfRange(data, offset, offset + length)),
+                column.getScale());
+            default -> Arrays.copyOfRange(data, offset, offset + length);
+        };
+    }
+
+    private static void checkLength(long required, int end) throws IOException {
+        if (required > end) {
+            throw new IOException("Unexpected end of Parquet page");
+        }
+    }
+
+    @NotNull
+    private byte[] readBytes(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        channel.position(position);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of Parquet file");
+            }
+        }
+        return buffer.array();
+    }
+}
@@ -0,0 +1,669 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.parquet;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Streaming Parquet file writer.
+ * <p>
+ * Rows are buffered column-wise until the row group is full, then each column chunk is written
+ * as an optional dictionary page followed by data pages (format v1). All columns are OPTIONAL (nullable).
+ * Writer doesn't close the target stream.
+ */
+public class ParquetFileWriter {
+
+    public static final int DEFAULT_ROW_GROUP_SIZE = 100_000;
+    public static final String CREATED_BY = "DBeaver";
+
+    static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+
+    // Thrift PageType values
+    static final int PAGE_DATA = 0;
+    static final int PAGE_DICTIONARY = 2;
+    static final int PAGE_DATA_V2 = 3;
+
+    // Thrift FieldRepetitionType values
+    static final int REPETITION_REQUIRED = 0;
+    static final int REPETITION_OPTIONAL = 1;
+    static final int REPETITION_REPEATED = 2;
+
+    private static final int PAGE_ROW_LIMIT = 20_000;
+    private static final int MAX_DICTIONARY_SIZE = 40_000;
+    private static final long MAX_DICTIONARY_BYTES = 1024 * 1024;
+    // Row group is flushed earlier if buffered values are too big
+    private static final long MAX_ROW_GROUP_BYTES = 128L * 1024 * 1024;
+
+    private final OutputStream out;
+    private final ParquetColumn[] columns;
+    private final ParquetCompression compression;
+    private final int rowGroupSize;
+    private final boolean useDictionary;
+
+    private final List<Object>[] buffers;
+    private long bufferedBytes;
+    private long position;
+    private long totalRows;
+    private final ByteArrayOutputStream rowGroupsMeta = new ByteArrayOutputStream();
+    private final ThriftCompactProtocol.Writer rowGroupsWriter = new ThriftCompactProtocol.Writer(rowGroupsMeta);
+    private int rowGroupCount;
+    private boolean started;
+    private boolean finished;
+
+    @SuppressWarnings("unchecked")
+    public ParquetFileWriter(
+        @NotNull OutputStream out,
+        @NotNull List<ParquetColumn> columns,
+        @NotNull ParquetCompression compression,
+        int rowGroupSize,
+        boolean useDictionary
+    ) {
+        if (compression == ParquetCompression.SNAPPY) {
+            throw new IllegalArgumentException("Snappy compression is not supported by writer");
+        }
+        this.out = out;
+        this.columns = columns.toArray(new ParquetColumn[0]);
+        this.compression = compression;
+        this.rowGroupSize = rowGroupSize > 0 ? rowGroupSize : DEFAULT_ROW_GROUP_SIZE;
+        this.useDictionary = useDictionary;
+        this.buffers = new List[this.columns.length];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new ArrayList<>(Math.min(this.rowGroupSize, 10_000));
+        }
+    }
+
+    @NotNull
+    public List<ParquetColumn> getColumns() {
+        return Arrays.asList(columns);
+    }
+
+    public long getRowCount() {
+        return totalRows;
+    }
+
+    /**
+     * Adds row. Values are converted to column physical type, see {@link #convertValue(ParquetColumn, Object)}.
+     */
+    public void writeRow(@NotNull Object[] row) throws IOException {
+        if (finished) {
+            throw new IOException("Parquet writer is already finished");
+        }
+        if (row.length != columns.length) {
+            throw new IOException("Row size " + row.length + " doesn't match column count " + columns.length);
+        }
+        for (int i = 0; i < columns.length; i++) {
+            Object value = convertValue(columns[i], row[i]);
+            buffers[i].add(value);
+            bufferedBytes += estimateSize(value);
+        }
+        totalRows++;
+        if (buffers[0].size() >= rowGroupSize || bufferedBytes >= MAX_ROW_GROUP_BYTES) {
+            flushRowGroup();
+        }
+    }
+
+    /**
+     * Writes buffered rows and file footer
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (columns.length > 0 && !buffers[0].isEmpty()) {
+            flushRowGroup();
+        }
+        startFile();
+
+        ByteArrayOutputStream footer = new ByteArrayOutputStream();
+        ThriftCompactProtocol.Writer writer = new ThriftCompactProtocol.Writer(footer);
+        writer.structBegin();
+        writer.fieldI32(1, 1);
+        writer.fieldListBegin(2, ThriftCompactProtocol.TYPE_STRUCT, columns.length + 1);
+        writer.structBegin();
+        writer.fieldString(4, "schema");
+        writer.fieldI32(5, columns.length);
+        writer.structEnd();
+        for (ParquetColumn column : columns) {
+            writeSchemaElement(writer, column);
+        }
+        writer.fieldI64(3, totalRows);
+        writer.fieldListBegin(4, ThriftCompactProtocol.TYPE_STRUCT, rowGroupCount);
+        rowGroupsMeta.writeTo(footer);
+        writer.fieldString(6, CREATED_BY);
+        writer.structEnd();
+
+        byte[] footerBytes = footer.toByteArray();
+        write(footerBytes);
+        ByteArrayOutputStream tail = new ByteArrayOutputStream(8);
+        ParquetEncoding.writeIntLE(tail, footerBytes.length);
+        tail.write(MAGIC);
+        write(tail.toByteArray());
+        out.flush();
+        finished = true;
+    }
+
+    private void writeSchemaElement(@NotNull ThriftCompactProtocol.Writer writer, @NotNull ParquetColumn column) {
+        writer.structBegin();
+        writer.fieldI32(1, column.getPhysicalType().ordinal());
+        if (column.getPhysicalType() == ParquetColumn.PhysicalType.FIXED_LEN_BYTE_ARRAY) {
+            writer.fieldI32(2, column.getTypeLength());
+        }
+        writer.fieldI32(3, REPETITION_OPTIONAL);
+        writer.fieldString(4, column.getName());
+        ParquetColumn.LogicalType logicalType = column.getLogicalType();
+        boolean localTimestamp = logicalType == ParquetColumn.LogicalType.TIMESTAMP_MILLIS ||
+            logicalType == ParquetColumn.LogicalType.TIMESTAMP_MICROS ||
+            logicalType == ParquetColumn.LogicalType.TIMESTAMP_NANOS;
+        int convertedType = column.getConvertedType();
+        // Converted timestamp types imply UTC-adjusted values, local timestamps are described by logical type only
+        if (convertedType >= 0 && !localTimestamp) {
+            writer.fieldI32(6, convertedType);
+        }
+        if (logicalType == ParquetColumn.LogicalType.DECIMAL) {
+            writer.fieldI32(7, column.getScale());
+            writer.fieldI32(8, column.getPrecision());
+        }
+        if (logicalType != ParquetColumn.LogicalType.NONE) {
+            writer.fieldStructBegin(10);
+            switch (logicalType) {
+                case STRING -> {
+                    writer.fieldStructBegin(1);
+                    writer.structEnd();
+                }
+                case DECIMAL -> {
+                    writer.fieldStructBegin(5);
+                    writer.fieldI32(1, column.getScale());
+                    writer.fieldI32(2, column.getPrecision());
+                    writer.structEnd();
+                }
+                case DATE -> {
+                    writer.fieldStructBegin(6);
+                    writer.structEnd();
+                }
+                case TIME_MILLIS, TIME_MICROS -> {
+                    writer.fieldStructBegin(7);
+                    writer.fieldBoolean(1, false);
+                    writeTimeUnit(writer, logicalType == ParquetColumn.LogicalType.TIME_MILLIS ? 1 : 2);
+                    writer.structEnd();
+                }
+                default -> {
+                    writer.fieldStructBegin(8);
+                    writer.fieldBoolean(1, false);
+                    writeTimeUnit(
+                        writer,
+                        logicalType == ParquetColumn.LogicalType.TIMESTAMP_MILLIS ? 1 :
+                            logicalType == ParquetColumn.LogicalType.TIMESTAMP_MICROS ? 2 : 3);
+                    writer.structEnd();
+                }
+            }
+            writer.structEnd();
+        }
+        writer.structEnd();
+    }
+
+    private static void writeTimeUnit(@NotNull ThriftCompactProtocol.Writer writer, int unitFieldId) {
+        writer.fieldStructBegin(2);
+        writer.fieldStructBegin(unitFieldId);
+        writer.structEnd();
+        writer.structEnd();
+    }
+
+    private void startFile() throws IOException {
+        if (!started) {
+            write(MAGIC);
+            started = true;
+        }
+    }
+
+    private void write(@NotNull byte[] data) throws IOException {
+        out.write(data);
+        position += data.length;
+    }
+
+    ////////////////////////////////////////////////
+    // Row groups
+
+    private void flushRowGroup() throws IOException {
+        startFile();
+        int rowCount = buffers[0].size();
+        long rowGroupStart = position;
+        long totalUncompressed = 0;
+
+        // Chunk metadata is collected while chunk pages are written to the file
+        rowGroupsWriter.structBegin();
+        rowGroupsWriter.fieldListBegin(1, ThriftCompactProtocol.TYPE_STRUCT, columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            totalUncompressed += writeColumnChunk(rowGroupsWriter, columns[i], buffers[i]);
+            buffers[i].clear();
+        }
+        bufferedBytes = 0;
+
+        rowGroupsWriter.fieldI64(2, totalUncompressed);
+        rowGroupsWriter.fieldI64(3, rowCount);
+        rowGroupsWriter.fieldI64(5, rowGroupStart);
+        rowGroupsWriter.fieldI64(6, position - rowGroupStart);
+        rowGroupsWriter.structEnd();
+        rowGroupCount++;
+    }
+
+    /**
+     * Writes column chunk and its metadata.
+     *
+     * @return total uncompressed size
+     */
+    private long writeColumnChunk(
+        @NotNull ThriftCompactProtocol.Writer metaWriter,
+        @NotNull ParquetColumn column,
+        @NotNull List<Object> values
+    ) throws IOException {
+        long chunkStart = position;
+        long uncompressedSize = 0;
+
+        // Build dictionary
+        Map<Object, Integer> dictionary = null;
+        List<Object> dictionaryValues = null;
+        if (useDictionary && column.getPhysicalType() != ParquetColumn.PhysicalType.BOOLEAN) {
+            dictionary = new HashMap<>();
+            dictionaryValues = new ArrayList<>();
+            long dictionaryBytes = 0;
+            for (Object value : values) {
+                if (value == null) {
+                    continue;
+                }
+                Object key = value instanceof byte[] bytes ? ByteBuffer.wrap(bytes) : value;
+                if (!dictionary.containsKey(key)) {
+                    dictionary.put(key, dictionaryValues.size());
+                    dictionaryValues.add(value);
+                    dictionaryBytes += estimateSize(value);
+                    if (dictionaryValues.size() > MAX_DICTIONARY_SIZE || dictionaryBytes > MAX_DICTIONARY_BYTES) {
+                        dictionary = null;
+                        break;
+                    }
+                }
+            }
+            if (dictionary != null && (dictionaryValues.isEmpty() || dictionaryValues.size() * 2 > values.size())) {
+                // Dictionary doesn't make sense for (almost) unique values
+                dictionary = null;
+            }
+        }
+
+        long dictionaryPageOffset = -1;
+        if (dictionary != null) {
+            dictionaryPageOffset = position;
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            for (Object value : dictionaryValues) {
+                writePlainValue(body, column, value);
+            }
+            uncompressedSize += writePage(PAGE_DICTIONARY, dictionaryValues.size(), ParquetEncoding.PLAIN, body);
+        }
+
+        long dataPageOffset = position;
+        int valueEncoding = dictionary != null ? ParquetEncoding.RLE_DICTIONARY : ParquetEncoding.PLAIN;
+        int dictionaryBitWidth = dictionary != null ? ParquetEncoding.getBitWidth(dictionaryValues.size() - 1) : 0;
+        int[] levels = new int[Math.min(PAGE_ROW_LIMIT, values.size())];
+        int[] indexes = dictionary != null ? new int[levels.length] : null;
+        for (int pageStart = 0; pageStart < values.size(); pageStart += PAGE_ROW_LIMIT) {
+            int pageEnd = Math.min(pageStart + PAGE_ROW_LIMIT, values.size());
+            int pageRows = pageEnd - pageStart;
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+            // Definition levels
+            for (int i = 0; i < pageRows; i++) {
+                levels[i] = values.get(pageStart + i) == null ? 0 : 1;
+            }
+            ByteArrayOutputStream levelsBuffer = new ByteArrayOutputStream();
+            ParquetEncoding.encodeHybrid(levels, pageRows, 1, levelsBuffer);
+            ParquetEncoding.writeIntLE(body, levelsBuffer.size());
+            levelsBuffer.writeTo(body);
+
+            // Values
+            if (dictionary != null) {
+                int indexCount = 0;
+                for (int i = pageStart; i < pageEnd; i++) {
+                    Object value = values.get(i);
+                    if (value != null) {
+                        indexes[indexCount++] = dictionary.get(value instanceof byte[] bytes ? ByteBuffer.wrap(bytes) : value);
+                    }
+                }
+                body.write(dictionaryBitWidth);
+                ParquetEncoding.encodeHybrid(indexes, indexCount, dictionaryBitWidth, body);
+            } else if (column.getPhysicalType() == ParquetColumn.PhysicalType.BOOLEAN) {
+                writePlainBooleans(body, values, pageStart, pageEnd);
+            } else {
+                for (int i = pageStart; i < pageEnd; i++) {
+                    Object value = values.get(i);
+                    if (value != null) {
+                        writePlainValue(body, column, value);
+                    }
+                }
+            }
+            uncompressedSize += writePage(PAGE_DATA, pageRows, valueEncoding, body);
+        }
+        long compressedSize = position - chunkStart;
+
+        // Column chunk metadata
+        metaWriter.structBegin();
+        metaWriter.fieldI64(2, chunkStart);
+        metaWriter.fieldStructBegin(3);
+        metaWriter.fieldI32(1, column.getPhysicalType().ordinal());
+        if (dictionary != null) {
+            metaWriter.fieldListBegin(2, ThriftCompactProtocol.TYPE_I32, 3);
+            metaWriter.listI32(ParquetEncoding.PLAIN);
+            metaWriter.listI32(ParquetEncoding.RLE);
+            metaWriter.listI32(ParquetEncoding.RLE_DICTIONARY);
+        } else {
+            metaWriter.fieldListBegin(2, ThriftCompactProtocol.TYPE_I32, 2);
+            metaWriter.listI32(ParquetEncoding.PLAIN);
+            metaWriter.listI32(ParquetEncoding.RLE);
+        }
+        metaWriter.fieldListBegin(3, ThriftCompactProtocol.TYPE_BINARY, 1);
+        metaWriter.listString(column.getName());
+        metaWriter.fieldI32(4, compression.getCodecId());
+        metaWriter.fieldI64(5, values.size());
+        metaWriter.fieldI64(6, uncompressedSize);
+        metaWriter.fieldI64(7, compressedSize);
+        metaWriter.fieldI64(9, dataPageOffset);
+        if (dictionaryPageOffset >= 0) {
+            metaWriter.fieldI64(11, dictionaryPageOffset);
+        }
+        metaWriter.structEnd();
+        metaWriter.structEnd();
+
+        return uncompressedSize;
+    }
+
+    /**
+     * Writes page header and compressed page body.
+     *
+     * @return uncompressed page size including header
+     */
+    private long writePage(int pageType, int valueCount, int encoding, @NotNull ByteArrayOutputStream body) throws IOException {
+        byte[] uncompressed = body.toByteArray();
+        byte[] compressed = compression.compress(uncompressed, uncompressed.length);
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(64);
+        ThriftCompactProtocol.Writer writer = new ThriftCompactProtocol.Writer(header);
+        writer.structBegin();
+        writer.fieldI32(1, pageType);
+        writer.fieldI32(2, uncompressed.length);
+        writer.fieldI32(3, compressed.length);
+        if (pageType == PAGE_DICTIONARY) {
+            writer.fieldStructBegin(7);
+            writer.fieldI32(1, valueCount);
+            writer.fieldI32(2, encoding);
+            writer.structEnd();
+        } else {
+            writer.fieldStructBegin(5);
+            writer.fieldI32(1, valueCount);
+            writer.fieldI32(2, encoding);
+            writer.fieldI32(3, ParquetEncoding.RLE);
+            writer.fieldI32(4, ParquetEncoding.RLE);
+            writer.structEnd();
+        }
+        writer.structEnd();
+
+        byte[] headerBytes = header.toByteArray();
+        write(headerBytes);
+        write(compressed);
+        return headerBytes.length + uncompressed.length;
+    }
+
+    private static void writePlainBooleans(@NotNull ByteArrayOutputStream out, @NotNull List<Object> values, int start, int end) {
+        int current = 0;
+        int bit = 0;
+        for (int i = start; i < end; i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            if ((Boolean) value) {
+                current |= 1 << bit;
+            }
+            if (++bit == 8) {
+                out.write(current);
+                current = 0;
+                bit = 0;
+            }
+        }
+        if (bit > 0) {
+            out.write(current);
+        }
+    }
+
+    private static void writePlainValue(@NotNull ByteArrayOutputStream out, @NotNull ParquetColumn column, @NotNull Object value) {
+        switch (column.getPhysicalType()) {
+            case INT32 -> ParquetEncoding.writeIntLE(out, (Integer) value);
+            case INT64 -> ParquetEncoding.writeLongLE(out, (Long) value);
+            case FLOAT -> ParquetEncoding.writeIntLE(out, Float.floatToIntBits((Float) value));
+            case DOUBLE -> ParquetEncoding.writeLongLE(out, Double.doubleToLongBits((Double) value));
+            case BYTE_ARRAY -> {
+                byte[] bytes = (byte[]) value;
+                ParquetEncoding.writeIntLE(out, bytes.length);
+                out.write(bytes, 0, bytes.length);
+            }
+            case FIXED_LEN_BYTE_ARRAY, INT96 -> {
+                byte[] bytes = (byte[]) value;
+                out.write(bytes, 0, bytes.length);
+            }
+            case BOOLEAN -> out.write((Boolean) value ? 1 : 0);
+        }
+    }
+
+    private static long estimateSize(@Nullable Object value) {
+        if (value == null) {
+            return 1;
+        } else if (value instanceof byte[] bytes) {
+            return bytes.length + 4;
+        } else if (value instanceof Long || value instanceof Double) {
+            return 8;
+        }
+        return 4;
+    }
+
+    ////////////////////////////////////////////////
+    // Value conversion
+
+    /**
+     * Converts value to the physical representation of the column.
+     * Supported source values: numbers, booleans, strings, byte arrays, java.util.Date and java.time types.
+     */
+    @Nullable
+    static Object convertValue(@NotNull ParquetColumn column, @Nullable Object value) throws IOException {
+        if (value == null) {
+            return null;
+        }
+        ParquetColumn.LogicalType logicalType = column.getLogicalType();
+        try {
+            switch (column.getPhysicalType()) {
+                case BOOLEAN:
+                    if (value instanceof Boolean) {
+                        return value;
+                    } else if (value instanceof Number number) {
+                        return number.intValue() != 0;
+                    }
+                    return Boolean.parseBoolean(value.toString());
+                case INT32:
+                    if (logicalType == ParquetColumn.LogicalType.DATE) {
+                        return (int) toLocalDate(value).toEpochDay();
+                    } else if (logicalType == ParquetColumn.LogicalType.TIME_MILLIS) {
+                        return (int) (toLocalTime(value).toNanoOfDay() / 1_000_000);
+                    } else if (logicalType == ParquetColumn.LogicalType.DECIMAL) {
+                        return toUnscaledDecimal(column, value).intValueExact();
+                    }
+                    return value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString().trim());
+                case INT64:
+                    switch (logicalType) {
+                        case TIMESTAMP_MILLIS:
+                            return toTimestamp(value, ChronoUnit.MILLIS);
+                        case TIMESTAMP_MICROS:
+                            return toTimestamp(value, ChronoUnit.MICROS);
+                        case TIMESTAMP_NANOS:
+                            return toTimestamp(value, ChronoUnit.NANOS);
+                        case TIME_MICROS:
+                            return toLocalTime(value).toNanoOfDay() / 1_000;
+                        case DECIMAL:
+                            return toUnscaledDecimal(column, value).longValueExact();
+                        default:
+                            return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString().trim());
+                    }
+                case FLOAT:
+                    return value instanceof Number number ? number.floatValue() : Float.parseFloat(value.toString().trim());
+                case DOUBLE:
+                    return value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString().trim());
+                case BYTE_ARRAY:
+                case FIXED_LEN_BYTE_ARRAY: {
+                    byte[] bytes;
+                    if (logicalType == ParquetColumn.LogicalType.DECIMAL) {
+                        bytes = toUnscaledDecimal(column, value).toByteArray();
+                    } else if (value instanceof byte[] b) {
+                        bytes = b;
+                    } else {
+                        bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                    }
+                    if (column.getPhysicalType() == ParquetColumn.PhysicalType.FIXED_LEN_BYTE_ARRAY) {
+                        bytes = toFixedLength(column, bytes, logicalType == ParquetColumn.LogicalType.DECIMAL);
+                    }
+                    return bytes;
+                }
+                default:
+                    throw new IOException("Physical type " + column.getPhysicalType() + " is not supported by writer");
+            }
+        } catch (ArithmeticException | NumberFormatException | DateTimeException | ClassCastException e) {
+            throw new IOException("Can't convert value '" + value + "' to Parquet column " + column, e);
+        }
+    }
+
+    @NotNull
+    private static java.math.BigInteger toUnscaledDecimal(@NotNull ParquetColumn column, @NotNull Object value) {
+        BigDecimal decimal;
+        if (value instanceof BigDecimal bd) {
+            decimal = bd;
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            decimal = BigDecimal.valueOf(((Number) value).longValue());
+        } else {
+            decimal = new BigDecimal(value.toString().trim());
+        }
+        return decimal.setScale(column.getScale(), RoundingMode.HALF_UP).unscaledValue();
+    }
+
+    @NotNull
+    private static byte[] toFixedLength(@NotNull ParquetColumn column, @NotNull byte[] bytes, boolean signExtend) {
+        int length = column.getTypeLength();
+        if (bytes.length == length) {
+            return bytes;
+        }
+        if (bytes.length > length) {
+            throw new ArithmeticException("Value doesn't fit " + length + " bytes");
+        }
+        byte[] result = new byte[length];
+        if (signExtend) {
+            if (bytes.length > 0 && bytes[0] < 0) {
+                Arrays.fill(result, 0, length - bytes.length, (byte) 0xFF);
+            }
+            System.arraycopy(bytes, 0, result, length - bytes.length, bytes.length);
+        } else {
+            System.arraycopy(bytes, 0, result, 0, bytes.length);
+        }
+        return result;
+    }
+
+    @NotNull
+    private static LocalDate toLocalDate(@NotNull Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        } else if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toLocalDate();
+        } else if (value instanceof java.util.Date date) {
+            return Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+        } else if (value instanceof LocalDate date) {
+            return date;
+        } else if (value instanceof LocalDateTime dateTime) {
+            return dateTime.toLocalDate();
+        } else if (value instanceof OffsetDateTime dateTime) {
+            return dateTime.toLocalDate();
+        } else if (value instanceof ZonedDateTime dateTime) {
+            return dateTime.toLocalDate();
+        } else if (value instanceof Number number) {
+            return LocalDate.ofEpochDay(number.longValue());
+        }
+        return LocalDate.parse(value.toString().trim());
+    }
+
+    @NotNull
+    private static LocalTime toLocalTime(@NotNull Object value) {
+        if (value instanceof java.sql.Time time) {
+            return time.toLocalTime();
+        } else if (value instanceof java.util.Date date) {
+            return Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalTime();
+        } else if (value instanceof LocalTime time) {
+            return time;
+        } else if (value instanceof OffsetTime time) {
+            return time.toLocalTime();
+        } else if (value instanceof LocalDateTime dateTime) {
+            return dateTime.toLocalTime();
+        }
+        return LocalTime.parse(value.toString().trim());
+    }
+
+    /**
+     * Timestamps are stored as local (not UTC-adjusted) values, i.e. wall clock time is preserved.
+     */
+    private static long toTimestamp(@NotNull Object value, @NotNull ChronoUnit unit) {
+        LocalDateTime dateTime;
+        if (value instanceof java.sql.Timestamp timestamp) {
+            dateTime = timestamp.toLocalDateTime();
+        } else if (value instanceof java.sql.Date date) {
+            dateTime = date.toLocalDate().atStartOfDay();
+        } else if (value instanceof java.util.Date date) {
+            dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault());
+        } else if (value instanceof LocalDateTime ldt) {
+            dateTime = ldt;
+        } else if (value instanceof LocalDate date) {
+            dateTime = date.atStartOfDay();
+        } else if (value instanceof OffsetDateTime odt) {
+            dateTime = odt.toLocalDateTime();
+        } else if (value instanceof ZonedDateTime zdt) {
+            dateTime = zdt.toLocalDateTime();
+        } else if (value instanceof Instant instant) {
+            dateTime = LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+        } else if (value instanceof Number number) {
+            return number.longValue();
+        } else {
+            dateTime = LocalDateTime.parse(value.toString().trim().replace(' ', 'T'));
+        }
+        Instant instant = dateTime.toInstant(ZoneOffset.UTC);
+        long seconds = instant.getEpochSecond();
+        int nanos = instant.getNano();
+        return switch (unit) {
+            case MILLIS -> Math.addExact(Math.multiplyExact(seconds, 1_000L), nanos / 1_000_000);
+            case MICROS -> Math.addExact(Math.multiplyExact(seconds, 1_000_000L), nanos / 1_000);
+            default -> Math.addExact(Math.multiplyExact(seconds, 1_000_000_000L), nanos);
+        };
+    }
+}
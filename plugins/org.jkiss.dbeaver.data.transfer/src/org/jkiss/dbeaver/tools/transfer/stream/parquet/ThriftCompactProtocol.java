@@ -0,0 +1,331 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream.parquet;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Minimal Thrift compact protocol implementation used for Parquet metadata (file footer and page headers).
+ * <p>
+ * Writer emits structures field by field. Reader parses any structure into a generic {@link Struct}
+ * (field id to value map), unknown fields are parsed and kept but never interpreted.
+ */
+final class ThriftCompactProtocol {
+
+    static final byte TYPE_STOP = 0;
+    static final byte TYPE_BOOLEAN_TRUE = 1;
+    static final byte TYPE_BOOLEAN_FALSE = 2;
+    static final byte TYPE_BYTE = 3;
+    static final byte TYPE_I16 = 4;
+    static final byte TYPE_I32 = 5;
+    static final byte TYPE_I64 = 6;
+    static final byte TYPE_DOUBLE = 7;
+    static final byte TYPE_BINARY = 8;
+    static final byte TYPE_LIST = 9;
+    static final byte TYPE_SET = 10;
+    static final byte TYPE_MAP = 11;
+    static final byte TYPE_STRUCT = 12;
+
+    private ThriftCompactProtocol() {
+    }
+
+    /**
+     * Compact protocol writer
+     */
+    static class Writer {
+        private final ByteArrayOutputStream out;
+        private final Deque<Short> fieldIdStack = new ArrayDeque<>();
+        private short lastFieldId;
+
+        Writer(@NotNull ByteArrayOutputStream out) {
+            this.out = out;
+        }
+
+        void structBegin() {
+            fieldIdStack.push(lastFieldId);
+            lastFieldId = 0;
+        }
+
+        void structEnd() {
+            out.write(TYPE_STOP);
+            lastFieldId = fieldIdStack.pop();
+        }
+
+        void fieldI32(int id, int value) {
+            fieldHeader(id, TYPE_I32);
+            writeVarint(zigzag(value));
+        }
+
+        void fieldI64(int id, long value) {
+            fieldHeader(id, TYPE_I64);
+            writeVarint(zigzag(value));
+        }
+
+        void fieldBoolean(int id, boolean value) {
+            fieldHeader(id, value ? TYPE_BOOLEAN_TRUE : TYPE_BOOLEAN_FALSE);
+        }
+
+        void fieldString(int id, @NotNull String value) {
+            fieldHeader(id, TYPE_BINARY);
+            writeBinary(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void fieldStructBegin(int id) {
+            fieldHeader(id, TYPE_STRUCT);
+            structBegin();
+        }
+
+        void fieldListBegin(int id, byte elementType, int size) {
+            fieldHeader(id, TYPE_LIST);
+            listBegin(elementType, size);
+        }
+
+        void listBegin(byte elementType, int size) {
+            if (size < 15) {
+                out.write((size << 4) | elementType);
+            } else {
+                out.write(0xF0 | elementType);
+                writeVarint(size);
+            }
+        }
+
+        void listI32(int value) {
+            writeVarint(zigzag(value));
+        }
+
+        void listString(@NotNull String value) {
+            writeBinary(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void fieldHeader(int id, byte type) {
+            int delta = id - lastFieldId;
+            if (delta > 0 && delta <= 15) {
+                out.write((delta << 4) | type);
+            } else {
+                out.write(type);
+                writeVarint(zigzag((short) id));
+            }
+            lastFieldId = (short) id;
+        }
+
+        private void writeBinary(@NotNull byte[] bytes) {
+            writeVarint(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        private static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+
+        private static int zigzag(int value) {
+            return (value << 1) ^ (value >> 31);
+        }
+    }
+
+    /**
+     * Parsed structure. Values are Long (all integer types), Boolean, Double, byte[], List or Struct.
+     */
+    static class Struct {
+        private final Map<Short, Object> fields = new HashMap<>();
+
+        boolean has(int id) {
+            return fields.containsKey((short) id);
+        }
+
+        int getInt(int id, int defaultValue) {
+            Object value = fields.get((short) id);
+            return value instanceof Long l ? l.intValue() : defaultValue;
+        }
+
+        long getLong(int id, long defaultValue) {
+            Object value = fields.get((short) id);
+            return value instanceof Long l ? l : defaultValue;
+        }
+
+        boolean getBoolean(int id, boolean defaultValue) {
+            Object value = fields.get((short) id);
+            return value instanceof Boolean b ? b : defaultValue;
+        }
+
+        @Nullable
+        String getString(int id) {
+            Object value = fields.get((short) id);
+            return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : null;
+        }
+
+        @Nullable
+        Struct getStruct(int id) {
+            Object value = fields.get((short) id);
+            return value instanceof Struct s ? s : null;
+        }
+
+        @NotNull
+        List<?> getList(int id) {
+            Object value = fields.get((short) id);
+            return value instanceof List<?> list ? list : Collections.emptyList();
+        }
+    }
+
+    /**
+     * Compact protocol reader over a byte array
+     */
+    static class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        Reader(@NotNull byte[] buffer, int offset) {
+            this.buffer = buffer;
+            this.position = offset;
+        }
+
+        int getPosition() {
+            return position;
+        }
+
+        @NotNull
+        Struct readStruct() throws IOException {
+            Struct struct = new Struct();
+            short lastFieldId = 0;
+            while (true) {
+                int header = readByte() & 0xFF;
+                byte type = (byte) (header & 0x0F);
+                if (type == TYPE_STOP) {
+                    return struct;
+                }
+                int delta = header >>> 4;
+                short fieldId = delta != 0 ? (short) (lastFieldId + delta) : (short) unzigzag((int) readVarint());
+                lastFieldId = fieldId;
+                struct.fields.put(fieldId, readValue(type));
+            }
+        }
+
+        @Nullable
+        private Object readValue(byte type) throws IOException {
+            switch (type) {
+                case TYPE_BOOLEAN_TRUE:
+                    return Boolean.TRUE;
+                case TYPE_BOOLEAN_FALSE:
+                    return Boolean.FALSE;
+                case TYPE_BYTE:
+                    return (long) readByte();
+                case TYPE_I16:
+                case TYPE_I32:
+                case TYPE_I64:
+                    return unzigzag(readVarint());
+                case TYPE_DOUBLE: {
+                    long bits = 0;
+                    for (int i = 0; i < 8; i++) {
+                        bits |= (readByte() & 0xFFL) << (8 * i);
+                    }
+                    return Double.longBitsToDouble(bits);
+                }
+                case TYPE_BINARY: {
+                    int length = (int) readVarint();
+                    checkAvailable(length);
+                    byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+                    position += length;
+                    return bytes;
+                }
+                case TYPE_LIST:
+                case TYPE_SET: {
+                    int header = readByte() & 0xFF;
+                    int size = header >>> 4;
+                    if (size == 15) {
+                        size = (int) readVarint();
+                    }
+                    byte elementType = (byte) (header & 0x0F);
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        if (elementType == TYPE_BOOLEAN_TRUE || elementType == TYPE_BOOLEAN_FALSE) {
+                            // In collections booleans are encoded as separate bytes
+                            list.add(readByte() == TYPE_BOOLEAN_TRUE);
+                        } else {
+                            list.add(readValue(elementType));
+                        }
+                    }
+                    return list;
+                }
+                case TYPE_MAP: {
+                    int size = (int) readVarint();
+                    if (size == 0) {
+                        return Collections.emptyMap();
+                    }
+                    int types = readByte() & 0xFF;
+                    Map<Object, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        Object key = readValue((byte) (types >>> 4));
+                        map.put(key, readValue((byte) (types & 0x0F)));
+                    }
+                    return map;
+                }
+                case TYPE_STRUCT:
+                    return readStruct();
+                default:
+                    throw new IOException("Unsupported thrift type " + type);
+            }
+        }
+
+        private byte readByte() throws IOException {
+            checkAvailable(1);
+            return buffer[position++];
+        }
+
+        private long readVarint() throws IOException {
+            long result = 0;
+            int shift = 0;
+            while (true) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+                shift += 7;
+                if (shift > 63) {
+                    throw new IOException("Malformed varint");
+                }
+            }
+        }
+
+        private void checkAvailable(int length) throws IOException {
+            if (length < 0 || position + length > buffer.length) {
+                throw new IOException("Unexpected end of thrift data");
+            }
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private static int unzigzag(int value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -92,8 +92,20 @@ public class DTTaskHandlerTransfer implements DBTTaskHandler, DBTTaskInfoCollect
         listener.taskStarted(task);
         int indexOfLastPipeWithDisabledReferentialIntegrity = -1;
         try {
+            DataTransferCheckpoint checkpoint = null;
+            if (task != null &&
+                settings.getNodeSettings(settings.getConsumer()) instanceof DatabaseConsumerSettings consumerSettings &&
+                consumerSettings.isUseCheckpoints())
+            {
+                checkpoint = DataTransferCheckpoint.open(task);
+            }
+            settings.setCheckpoint(checkpoint);
             indexOfLastPipeWithDisabledReferentialIntegrity = initializePipes(runnableContext, settings, task);
             Throwable error = runDataTransferJobs(runnableContext, task, locale, log, logStream, listener, settings);
+            if (checkpoint != null && error == null && isAllPipesCompleted(checkpoint, settings)) {
+                // Next run must start from the beginning
+                checkpoint.delete();
+            }
             listener.taskFinished(task, null, error, settings);
         } catch (InvocationTargetException e) {
             DBWorkbench.getPlatformUI().showError(
@@ -112,6 +124,15 @@ public class DTTaskHandlerTransfer implements DBTTaskHandler, DBTTaskInfoCollect
         }
     }
 
+    private static boolean isAllPipesCompleted(@NotNull DataTransferCheckpoint checkpoint, @NotNull DataTransferSettings settings) {
+        for (DataTransferPipe pipe : settings.getDataPipes()) {
+            if (!checkpoint.isCompleted(DataTransferCheckpoint.getPipeKey(pipe))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private int initializePipes(
         @NotNull DBRRunnableContext runnableContext,
         @NotNull DataTransferSettings settings,
@@ -216,11 +237,19 @@ public class DTTaskHandlerTransfer implements DBTTaskHandler, DBTTaskInfoCollect
                     }
                     totalStatistics.accumulate(job.getTotalStatistics());
                 }
+                for (DataTransferPipe pipe : dataPipes) {
+                    DataTransferPipeStatistics pipeStatistics = pipe.getStatistics();
+                    if (pipeStatistics != null && !pipeStatistics.isEmpty()) {
+                        pipeStatistics.accumulateInfo(totalStatistics);
+                    }
+                }
                 monitor.done();
                 monitor.beginTask("Finalizing data transfer", 1);
                 try {
                     // End of transfer - signal last pipe about it
                     dataPipes.get(dataPipes.size() - 1).getConsumer().finishTransfer(monitor, error[0], task, true);
+                } catch (DBException e) {
+                    throw new InvocationTargetException(e);
                 } finally {
                     monitor.done();
                 }
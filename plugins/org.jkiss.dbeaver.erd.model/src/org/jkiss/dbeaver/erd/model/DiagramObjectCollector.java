@@ -76,6 +76,7 @@ public class DiagramObjectCollector {
         boolean showPartitions = settings.isShowPartitions();
         boolean showViews = settings.isShowViews();
 
+        prefetchStructure(monitor, roots);
         for (DBSObject root : roots) {
             if (monitor.isCanceled()) {
                 break;
@@ -99,6 +100,22 @@ public class DiagramObjectCollector {
         }
     }
 
+    /**
+     * Reads structure of nested containers (e.g. schemas) in parallel
+     */
+    private static void prefetchStructure(DBRProgressMonitor monitor, Collection<? extends DBSObject> objects) throws DBException {
+        List<DBSObjectContainer> containers = new ArrayList<>();
+        for (DBSObject object : objects) {
+            object = DBUtils.getPublicObject(object);
+            if (object instanceof DBSObjectContainer container && !(object instanceof DBSEntity)) {
+                containers.add(container);
+            }
+        }
+        if (containers.size() > 1) {
+            DBStructPrefetcher.cacheStructure(monitor, containers, DBSObjectContainer.STRUCT_ALL);
+        }
+    }
+
     private static void collectTables(
         DBRProgressMonitor monitor,
         DBSObjectContainer container,
@@ -115,6 +132,17 @@ public class DiagramObjectCollector {
         if (!CommonUtils.isEmpty(children)) {
             Class<? extends DBSObject> childType = container.getPrimaryChildType(monitor);
             DBSObjectFilter objectFilter = container.getDataSource().getContainer().getObjectFilter(childType, container, true);
+            if (objectFilter == null) {
+                prefetchStructure(monitor, children);
+            } else {
+                List<DBSObject> filteredChildren = new ArrayList<>();
+                for (DBSObject child : children) {
+                    if (objectFilter.matches(child.getName())) {
+                        filteredChildren.add(child);
+                    }
+                }
+                prefetchStructure(monitor, filteredChildren);
+            }
             for (DBSObject entity : children) {
                 if (monitor.isCanceled()) {
                     break;
@@ -0,0 +1,331 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.duckdb.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ext.generic.model.GenericTableBase;
+import org.jkiss.dbeaver.ext.generic.model.GenericTableColumn;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDContent;
+import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+import org.jkiss.dbeaver.model.struct.DBSDataBulkLoader;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.utils.ContentUtils;
+import org.jkiss.utils.ArrayUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk loader based on DuckDB Appender API.
+ * <p>
+ * Appender is created via reflection because driver classes are loaded by the driver class loader.
+ * Appender method set differs between driver versions, so append methods are resolved by argument type at runtime.
+ */
+public class DuckDBAppenderLoader implements DBSDataBulkLoader, DBSDataBulkLoader.BulkLoadManager {
+
+    private static final Log log = Log.getLog(DuckDBAppenderLoader.class);
+
+    // Timestamp with explicit offset, DuckDB casts it to TIMESTAMPTZ without loss
+    private static final DateTimeFormatter TIMESTAMP_TZ_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSSSSSxxx", Locale.ENGLISH);
+
+    private final DuckDBDataSource dataSource;
+
+    private Object appender;
+    private Method beginRowMethod;
+    private Method endRowMethod;
+    private Method appendNullMethod;
+    private Method appendDefaultMethod;
+    private Method flushMethod;
+    private final Map<Class<?>, Method> appendMethods = new HashMap<>();
+
+    private AttrMapping[] mappings;
+
+    private static class AttrMapping {
+        final GenericTableColumn tableAttr;
+        final DBDValueHandler valueHandler;
+        final int srcPos;
+        final boolean withTimeZone;
+
+        AttrMapping(GenericTableColumn tableAttr, DBDValueHandler valueHandler, int srcPos) {
+            this.tableAttr = tableAttr;
+            this.valueHandler = valueHandler;
+            this.srcPos = srcPos;
+            this.withTimeZone = isTimestampWithTimeZone(tableAttr);
+        }
+    }
+
+    public DuckDBAppenderLoader(@NotNull DuckDBDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @NotNull
+    @Override
+    public BulkLoadManager createBulkLoad(
+        @NotNull DBCSession session,
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull DBSAttributeBase[] attributes,
+        @NotNull DBCExecutionSource source,
+        int batchSize,
+        Map<String, Object> options
+    ) throws DBCException {
+        if (!(dataContainer instanceof GenericTableBase table)) {
+            throw new DBCException("Bulk load is supported for tables only");
+        }
+        try {
+            List<? extends GenericTableColumn> tableAttrs = CommonUtils.safeList(table.getAttributes(session.getProgressMonitor()));
+            mappings = new AttrMapping[tableAttrs.size()];
+            for (int i = 0; i < tableAttrs.size(); i++) {
+                GenericTableColumn attr = tableAttrs.get(i);
+                mappings[i] = new AttrMapping(
+                    attr,
+                    DBUtils.findValueHandler(session, attr),
+                    ArrayUtils.indexOf(attributes, attr));
+            }
+
+            Connection duckConnection = ((JDBCSession) session).getOriginal();
+            String schemaName = table.getSchema() == null ? "main" : table.getSchema().getName();
+            Method createAppender = findMethod(duckConnection.getClass(), "createAppender", String.class, String.class, String.class);
+            if (createAppender != null && table.getCatalog() != null) {
+                appender = createAppender.invoke(duckConnection, table.getCatalog().getName(), schemaName, table.getName());
+            } else {
+                createAppender = duckConnection.getClass().getMethod("createAppender", String.class, String.class);
+                appender = createAppender.invoke(duckConnection, schemaName, table.getName());
+            }
+
+            Class<?> appenderClass = appender.getClass();
+            beginRowMethod = appenderClass.getMethod("beginRow");
+            endRowMethod = appenderClass.getMethod("endRow");
+            appendNullMethod = findMethod(appenderClass, "appendNull");
+            appendDefaultMethod = findMethod(appenderClass, "appendDefault");
+            flushMethod = appenderClass.getMethod("flush");
+        } catch (Throwable e) {
+            throw new DBCException("Can't create DuckDB appender", unwrapError(e));
+        }
+        return this;
+    }
+
+    @Override
+    public void addRow(@NotNull DBCSession session, @NotNull Object[] attributeValues) throws DBCException {
+        try {
+            beginRowMethod.invoke(appender);
+            for (AttrMapping mapping : mappings) {
+                if (mapping.srcPos < 0) {
+                    if (appendDefaultMethod != null) {
+                        appendDefaultMethod.invoke(appender);
+                    } else {
+                        appendNull();
+                    }
+                    continue;
+                }
+                Object value = attributeValues[mapping.srcPos];
+                if (value instanceof DBDContent content) {
+                    if (content.isNull()) {
+                        value = null;
+                    } else if (ContentUtils.isTextContent(content)) {
+                        value = ContentUtils.getContentStringValue(session.getProgressMonitor(), content);
+                    } else {
+                        value = ContentUtils.getContentBinaryValue(session.getProgressMonitor(), content);
+                    }
+                }
+                if (DBUtils.isNullValue(value)) {
+                    appendNull();
+                } else {
+                    appendValue(mapping, value);
+                }
+            }
+            endRowMethod.invoke(appender);
+        } catch (DBCException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new DBCException("Error appending row", unwrapError(e));
+        }
+    }
+
+    private void appendNull() throws Exception {
+        if (appendNullMethod != null) {
+            appendNullMethod.invoke(appender);
+        } else {
+            appendValue(String.class, null);
+        }
+    }
+
+    private void appendValue(@NotNull AttrMapping mapping, @NotNull Object value) throws Exception {
+        if (mapping.withTimeZone) {
+            // Local date time has no zone, so timestamps with time zone are appended as instants
+            OffsetDateTime timestamp = toOffsetDateTime(value);
+            if (timestamp != null) {
+                if (!appendValue(OffsetDateTime.class, timestamp)) {
+                    appendValue(String.class, TIMESTAMP_TZ_FORMAT.format(timestamp));
+                }
+                return;
+            }
+        }
+        if (value instanceof Timestamp ts) {
+            value = ts.toLocalDateTime();
+        }
+        Class<?> argType = getPrimitiveType(value.getClass());
+        if (argType == null && (value instanceof BigDecimal || value instanceof LocalDateTime || value instanceof byte[] || value instanceof String)) {
+            argType = value.getClass();
+        }
+        if (argType != null && appendValue(argType, value)) {
+            return;
+        }
+        // Let DuckDB cast string representation to the column type
+        appendValue(
+            String.class,
+            value instanceof String ? value : mapping.valueHandler.getValueDisplayString(mapping.tableAttr, value, DBDDisplayFormat.NATIVE));
+    }
+
+    private boolean appendValue(@NotNull Class<?> argType, @Nullable Object value) throws Exception {
+        Method method = appendMethods.computeIfAbsent(argType, this::findAppendMethod);
+        if (method == null) {
+            return false;
+        }
+        method.invoke(appender, value);
+        return true;
+    }
+
+    @Nullable
+    private Method findAppendMethod(@NotNull Class<?> argType) {
+        Class<?> appenderClass = appender.getClass();
+        Method method = findMethod(appenderClass, "append", argType);
+        if (method == null) {
+            // Older driver versions
+            if (argType == BigDecimal.class) {
+                method = findMethod(appenderClass, "appendBigDecimal", argType);
+            } else if (argType == LocalDateTime.class) {
+                method = findMethod(appenderClass, "appendLocalDateTime", argType);
+            }
+        }
+        return method;
+    }
+
+    @Override
+    public void flushRows(@NotNull DBCSession session) throws DBCException {
+        try {
+            flushMethod.invoke(appender);
+        } catch (Throwable e) {
+            throw new DBCException("Error flushing appender", unwrapError(e));
+        }
+    }
+
+    @Override
+    public void finishBulkLoad(@NotNull DBCSession session) throws DBCException {
+        flushRows(session);
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+        if (txnManager != null && !txnManager.isAutoCommit()) {
+            session.getProgressMonitor().subTask("Commit appended rows");
+            txnManager.commit(session);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (appender instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.debug("Error closing DuckDB appender", e);
+            }
+        }
+        appender = null;
+        appendMethods.clear();
+    }
+
+    /**
+     * Converts timestamp value to UTC date time. Returns null if value is not a point in time.
+     */
+    @Nullable
+    static OffsetDateTime toOffsetDateTime(@NotNull Object value) {
+        if (value instanceof OffsetDateTime odt) {
+            return odt.withOffsetSameInstant(ZoneOffset.UTC);
+        } else if (value instanceof ZonedDateTime zdt) {
+            return zdt.toOffsetDateTime().withOffsetSameInstant(ZoneOffset.UTC);
+        } else if (value instanceof Instant instant) {
+            return instant.atOffset(ZoneOffset.UTC);
+        } else if (value instanceof Timestamp || (value instanceof Date && !(value instanceof java.sql.Date) && !(value instanceof java.sql.Time))) {
+            // Timestamp.toInstant keeps nanoseconds
+            return ((Date) value).toInstant().atOffset(ZoneOffset.UTC);
+        }
+        return null;
+    }
+
+    static boolean isTimestampWithTimeZone(@NotNull GenericTableColumn attr) {
+        if (attr.getTypeID() == Types.TIMESTAMP_WITH_TIMEZONE) {
+            return true;
+        }
+        String typeName = attr.getTypeName();
+        if (typeName == null) {
+            return false;
+        }
+        typeName = typeName.toUpperCase(Locale.ENGLISH);
+        return typeName.equals("TIMESTAMPTZ") || typeName.equals("TIMESTAMP WITH TIME ZONE");
+    }
+
+    @Nullable
+    private static Class<?> getPrimitiveType(@NotNull Class<?> valueClass) {
+        if (valueClass == Boolean.class) {
+            return Boolean.TYPE;
+        } else if (valueClass == Byte.class) {
+            return Byte.TYPE;
+        } else if (valueClass == Short.class) {
+            return Short.TYPE;
+        } else if (valueClass == Integer.class) {
+            return Integer.TYPE;
+        } else if (valueClass == Long.class) {
+            return Long.TYPE;
+        } else if (valueClass == Float.class) {
+            return Float.TYPE;
+        } else if (valueClass == Double.class) {
+            return Double.TYPE;
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Method findMethod(@NotNull Class<?> theClass, @NotNull String name, Class<?>... argTypes) {
+        try {
+            return theClass.getMethod(name, argTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @NotNull
+    private static Throwable unwrapError(@NotNull Throwable e) {
+        return e instanceof InvocationTargetException ite && ite.getTargetException() != null ? ite.getTargetException() : e;
+    }
+}
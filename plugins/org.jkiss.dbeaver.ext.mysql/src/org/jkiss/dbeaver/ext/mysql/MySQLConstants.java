@@ -71,6 +71,7 @@ public class MySQLConstants {
     public static final String META_TABLE_COLUMNS = INFO_SCHEMA_NAME + ".COLUMNS";
     public static final String META_TABLE_TABLE_CONSTRAINTS = INFO_SCHEMA_NAME + ".TABLE_CONSTRAINTS";
     public static final String META_TABLE_KEY_COLUMN_USAGE = INFO_SCHEMA_NAME + ".KEY_COLUMN_USAGE";
+    public static final String META_TABLE_REFERENTIAL_CONSTRAINTS = INFO_SCHEMA_NAME + ".REFERENTIAL_CONSTRAINTS";
     public static final String META_TABLE_STATISTICS = INFO_SCHEMA_NAME + ".STATISTICS";
     public static final String META_TABLE_PARTITIONS = INFO_SCHEMA_NAME + ".PARTITIONS";
     public static final String META_TABLE_VIEWS = INFO_SCHEMA_NAME + ".VIEWS";
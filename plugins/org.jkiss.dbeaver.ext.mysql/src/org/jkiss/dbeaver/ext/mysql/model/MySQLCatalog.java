@@ -32,6 +32,7 @@ import org.jkiss.dbeaver.model.impl.jdbc.JDBCConstants;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCCompositeCache;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectCache;
+import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectChangeTracker;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectLookupCache;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCStructLookupCache;
 import org.jkiss.dbeaver.model.meta.*;
@@ -76,6 +77,8 @@ public class MySQLCatalog implements
     final IndexCache indexCache = new IndexCache(tableCache);
     private final EventCache eventCache = new EventCache();
     private final SequenceCache sequenceCache = new SequenceCache();
+    private final TableChangeTracker tableChangeTracker = new TableChangeTracker();
+    private final ProcedureChangeTracker procedureChangeTracker = new ProcedureChangeTracker();
 
     private final MySQLDataSource dataSource;
     private String name;
@@ -514,19 +517,45 @@ public class MySQLCatalog implements
     {
         hasStatistics = false;
         databaseDDL = null;
-        getTableCache().clearCache();
-        indexCache.clearCache();
-        uniqueKeyCache.clearCache();
-        if (getDataSource().supportsCheckConstraints()) {
-            checkConstraintCache.clearCache();
+        boolean trackChanges = getDataSource().supportsInformationSchema();
+        refreshTables(monitor, trackChanges ? tableChangeTracker.readChanges(monitor, this) : null);
+        Set<String> changedProcedures = trackChanges ? procedureChangeTracker.readChanges(monitor, this) : null;
+        if (changedProcedures == null || !getProceduresCache().isFullyCached()) {
+            getProceduresCache().clearCache();
+        } else {
+            getProceduresCache().reloadObjects(monitor, this, changedProcedures);
         }
-        getProceduresCache().clearCache();
         triggerCache.clearCache();
         eventCache.clearCache();
         sequenceCache.clearCache();
         return this;
     }
 
+    /**
+     * Re-reads changed tables only. Clears all tables if changes are unknown.
+     */
+    private void refreshTables(@NotNull DBRProgressMonitor monitor, @Nullable Set<String> changedTables) throws DBException {
+        if (changedTables == null || !getTableCache().isFullyCached()) {
+            getTableCache().clearCache();
+            indexCache.clearCache();
+            uniqueKeyCache.clearCache();
+            if (getDataSource().supportsCheckConstraints()) {
+                checkConstraintCache.clearCache();
+            }
+            return;
+        }
+        List<String> newTables = new ArrayList<>();
+        for (String tableName : changedTables) {
+            MySQLTableBase table = getTableCache().getCachedObject(tableName);
+            if (table != null) {
+                table.refreshObject(monitor);
+            } else {
+                newTables.add(tableName);
+            }
+        }
+        getTableCache().reloadObjects(monitor, this, newTables);
+    }
+
     @Override
     public boolean isSystem() {
         return getDataSource().isSystemCatalog(getName());
@@ -1025,6 +1054,46 @@ public class MySQLCatalog implements
         }
     }
 
+    /**
+     * Table markers are creation time, comment and checksums of columns, indexes, foreign keys and view definitions
+     */
+    static class TableChangeTracker extends JDBCObjectChangeTracker<MySQLCatalog> {
+        @NotNull
+        @Override
+        protected JDBCStatement prepareMarkersStatement(@NotNull JDBCSession session, @NotNull MySQLCatalog owner) throws SQLException {
+            JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT t.TABLE_NAME,CONCAT_WS(':',t.TABLE_TYPE,t.ENGINE,t.CREATE_TIME,t.TABLE_COLLATION,t.TABLE_COMMENT,\n" +
+                    "SUM(CRC32(CONCAT_WS(',',c.ORDINAL_POSITION,c.COLUMN_NAME,c.COLUMN_TYPE,c.IS_NULLABLE,c.COLUMN_DEFAULT,c.EXTRA,c.COLUMN_COMMENT))),\n" +
+                    "(SELECT SUM(CRC32(CONCAT_WS(',',s.INDEX_NAME,s.SEQ_IN_INDEX,s.COLUMN_NAME,s.NON_UNIQUE))) FROM " + MySQLConstants.META_TABLE_STATISTICS + " s\n" +
+                    "WHERE s.TABLE_SCHEMA=t.TABLE_SCHEMA AND s.TABLE_NAME=t.TABLE_NAME),\n" +
+                    "(SELECT SUM(CRC32(CONCAT_WS(',',k.CONSTRAINT_NAME,k.ORDINAL_POSITION,k.COLUMN_NAME,k.REFERENCED_TABLE_SCHEMA,k.REFERENCED_TABLE_NAME,k.REFERENCED_COLUMN_NAME,rc.UPDATE_RULE,rc.DELETE_RULE)))\n" +
+                    "FROM " + MySQLConstants.META_TABLE_KEY_COLUMN_USAGE + " k\n" +
+                    "JOIN " + MySQLConstants.META_TABLE_REFERENTIAL_CONSTRAINTS + " rc ON rc.CONSTRAINT_SCHEMA=k.CONSTRAINT_SCHEMA AND rc.TABLE_NAME=k.TABLE_NAME AND rc.CONSTRAINT_NAME=k.CONSTRAINT_NAME\n" +
+                    "WHERE k.TABLE_SCHEMA=t.TABLE_SCHEMA AND k.TABLE_NAME=t.TABLE_NAME),\n" +
+                    "(SELECT CRC32(v.VIEW_DEFINITION) FROM " + MySQLConstants.META_TABLE_VIEWS + " v\n" +
+                    "WHERE v.TABLE_SCHEMA=t.TABLE_SCHEMA AND v.TABLE_NAME=t.TABLE_NAME)) AS MARKER\n" +
+                    "FROM " + MySQLConstants.META_TABLE_TABLES + " t\n" +
+                    "LEFT OUTER JOIN " + MySQLConstants.META_TABLE_COLUMNS + " c ON c.TABLE_SCHEMA=t.TABLE_SCHEMA AND c.TABLE_NAME=t.TABLE_NAME\n" +
+                    "WHERE t.TABLE_SCHEMA=?\n" +
+                    "GROUP BY t.TABLE_SCHEMA,t.TABLE_NAME,t.TABLE_TYPE,t.ENGINE,t.CREATE_TIME,t.TABLE_COLLATION,t.TABLE_COMMENT");
+            dbStat.setString(1, owner.getName());
+            return dbStat;
+        }
+    }
+
+    static class ProcedureChangeTracker extends JDBCObjectChangeTracker<MySQLCatalog> {
+        @NotNull
+        @Override
+        protected JDBCStatement prepareMarkersStatement(@NotNull JDBCSession session, @NotNull MySQLCatalog owner) throws SQLException {
+            JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT ROUTINE_NAME,CONCAT_WS(':',ROUTINE_TYPE,CREATED,LAST_ALTERED) AS MARKER\n" +
+                    "FROM " + MySQLConstants.META_TABLE_ROUTINES + "\n" +
+                    "WHERE ROUTINE_SCHEMA=?");
+            dbStat.setString(1, owner.getName());
+            return dbStat;
+        }
+    }
+
     static class EventCache extends JDBCObjectCache<MySQLCatalog, MySQLEvent> {
         @NotNull
         @Override
@@ -884,6 +884,17 @@ public class MySQLDataSource extends JDBCDataSource implements DBPObjectStatisti
         return new MySQLCatalog(owner, resultSet);
     }
 
+    /**
+     * MySQL doesn't report reliable metadata version, so metadata snapshot isn't used.
+     * CREATE_TIME and UPDATE_TIME of information_schema.TABLES are cached statistics
+     * (see information_schema_stats_expiry) and instant ALTER TABLE doesn't change them.
+     */
+    @Nullable
+    @Override
+    public String readMetadataVersion(@NotNull JDBCSession session) {
+        return null;
+    }
+
     public boolean isMariaDB() {
         return MySQLConstants.DRIVER_CLASS_MARIA_DB.equals(
             getContainer().getDriver().getDriverClassName());
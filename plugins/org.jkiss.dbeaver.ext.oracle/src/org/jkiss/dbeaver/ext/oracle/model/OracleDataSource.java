@@ -523,6 +523,23 @@ public class OracleDataSource extends JDBCDataSource implements DBPObjectStatist
         return publicSchema.getRecycledObjects(monitor);
     }
 
+    /**
+     * Metadata version is built from the last DDL time and the count of objects visible to the user.
+     * The count changes when objects are dropped, the last DDL time changes on other DDL.
+     * DDL time has seconds precision, so version isn't reported right after DDL:
+     * a change made in the same second later wouldn't change the version.
+     */
+    @Nullable
+    @Override
+    public String readMetadataVersion(@NotNull JDBCSession session) throws SQLException {
+        String objectsView = OracleUtils.getAdminAllViewPrefix(session.getProgressMonitor(), this, "OBJECTS");
+        return JDBCUtils.queryString(
+            session,
+            "SELECT CASE WHEN MAX(LAST_DDL_TIME) < SYSDATE - 1/86400 " +
+                "THEN TO_CHAR(MAX(LAST_DDL_TIME), 'YYYYMMDDHH24MISS') || ':' || COUNT(*) END " +
+                "FROM " + objectsView);
+    }
+
     public boolean isAtLeastV9() {
         return getInfo().getDatabaseVersion().getMajor() >= 9;
     }
@@ -29,6 +29,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCCompositeCache;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectCache;
+import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectChangeTracker;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectLookupCache;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCStructLookupCache;
 import org.jkiss.dbeaver.model.meta.Association;
@@ -85,6 +86,8 @@ public class OracleSchema extends OracleGlobalObject implements
     final public SchedulerJobCache schedulerJobCache = new SchedulerJobCache();
     final public SchedulerProgramCache schedulerProgramCache = new SchedulerProgramCache();
     final public RecycleBin recycleBin = new RecycleBin();
+    private final ObjectChangeTracker tableChangeTracker = new ObjectChangeTracker("'TABLE','VIEW','MATERIALIZED VIEW'");
+    private final ObjectChangeTracker procedureChangeTracker = new ObjectChangeTracker("'PROCEDURE','FUNCTION'");
     private volatile boolean hasStatistics;
 
     private long id;
@@ -438,12 +441,14 @@ public class OracleSchema extends OracleGlobalObject implements
         throws DBException
     {
         hasStatistics = false;
-        tableCache.clearCache();
-        foreignKeyCache.clearCache();
-        constraintCache.clearCache();
-        indexCache.clearCache();
+        refreshTables(monitor, tableChangeTracker.readChanges(monitor, this));
+        Set<String> changedProcedures = procedureChangeTracker.readChanges(monitor, this);
+        if (changedProcedures == null || !proceduresCache.isFullyCached()) {
+            proceduresCache.clearCache();
+        } else {
+            proceduresCache.reloadObjects(monitor, this, changedProcedures);
+        }
         packageCache.clearCache();
-        proceduresCache.clearCache();
         triggerCache.clearCache();
         tableTriggerCache.clearCache();
         dataTypeCache.clearCache();
@@ -455,6 +460,29 @@ public class OracleSchema extends OracleGlobalObject implements
         return this;
     }
 
+    /**
+     * Re-reads changed tables only. Clears all tables if changes are unknown.
+     */
+    private void refreshTables(@NotNull DBRProgressMonitor monitor, @Nullable Set<String> changedTables) throws DBException {
+        if (changedTables == null || !tableCache.isFullyCached()) {
+            tableCache.clearCache();
+            foreignKeyCache.clearCache();
+            constraintCache.clearCache();
+            indexCache.clearCache();
+            return;
+        }
+        List<String> newTables = new ArrayList<>();
+        for (String tableName : changedTables) {
+            OracleTableBase table = tableCache.getCachedObject(tableName);
+            if (table != null) {
+                table.refreshObject(monitor);
+            } else {
+                newTables.add(tableName);
+            }
+        }
+        tableCache.reloadObjects(monitor, this, newTables);
+    }
+
     @Override
     public boolean isSystem()
     {
@@ -1333,6 +1361,29 @@ public class OracleSchema extends OracleGlobalObject implements
         }
     }
 
+    /**
+     * Uses DDL time and status of schema objects as change markers
+     */
+    static class ObjectChangeTracker extends JDBCObjectChangeTracker<OracleSchema> {
+        private final String objectTypes;
+
+        ObjectChangeTracker(String objectTypes) {
+            this.objectTypes = objectTypes;
+        }
+
+        @NotNull
+        @Override
+        protected JDBCStatement prepareMarkersStatement(@NotNull JDBCSession session, @NotNull OracleSchema owner) throws SQLException {
+            JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT " + OracleUtils.getSysCatalogHint(owner.getDataSource()) +
+                    " OBJECT_NAME,OBJECT_TYPE || ':' || TO_CHAR(LAST_DDL_TIME,'YYYYMMDDHH24MISS') || ':' || STATUS FROM " +
+                    OracleUtils.getAdminAllViewPrefix(session.getProgressMonitor(), owner.getDataSource(), "OBJECTS") + " " +
+                    "WHERE OWNER=? AND OBJECT_TYPE IN (" + objectTypes + ")");
+            dbStat.setString(1, owner.getName());
+            return dbStat;
+        }
+    }
+
     /**
      * Procedures cache implementation
      */
@@ -0,0 +1,422 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.postgresql.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.exec.DBCException;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Encodes values in PostgreSQL COPY binary format.
+ * <p>
+ * Stream layout: signature, flags, header extension, tuples (field count + length-prefixed fields), trailer.
+ * Field values use the binary send/receive representation of the column type.
+ */
+class PostgreCopyBinaryEncoder {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    private static final LocalDate PG_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final LocalDateTime PG_EPOCH = PG_EPOCH_DATE.atStartOfDay();
+    private static final Instant PG_EPOCH_INSTANT = PG_EPOCH.toInstant(ZoneOffset.UTC);
+
+    private static final int NUMERIC_POS = 0x0000;
+    private static final int NUMERIC_NEG = 0x4000;
+    private static final int NUMERIC_NAN = 0xC000;
+    // Infinities are supported since PostgreSQL 14
+    private static final int NUMERIC_PINF = 0xD000;
+    private static final int NUMERIC_NINF = 0xF000;
+
+    private PostgreCopyBinaryEncoder() {
+    }
+
+    static boolean isSupportedType(long typeId) {
+        switch ((int) typeId) {
+            case PostgreOid.BOOL:
+            case PostgreOid.BYTEA:
+            case PostgreOid.INT2:
+            case PostgreOid.INT4:
+            case PostgreOid.INT8:
+            case PostgreOid.FLOAT4:
+            case PostgreOid.FLOAT8:
+            case PostgreOid.NUMERIC:
+            case PostgreOid.TEXT:
+            case PostgreOid.VARCHAR:
+            case PostgreOid.BPCHAR:
+            case PostgreOid.DATE:
+            case PostgreOid.TIMESTAMP:
+            case PostgreOid.TIMESTAMPTZ:
+            case PostgreOid.UUID:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    static boolean isTextType(long typeId) {
+        return typeId == PostgreOid.TEXT || typeId == PostgreOid.VARCHAR || typeId == PostgreOid.BPCHAR;
+    }
+
+    static void writeHeader(@NotNull DataOutputStream out) throws IOException {
+        out.write(SIGNATURE);
+        // Flags
+        out.writeInt(0);
+        // Header extension length
+        out.writeInt(0);
+    }
+
+    static void writeTupleStart(@NotNull DataOutputStream out, int fieldCount) throws IOException {
+        out.writeShort(fieldCount);
+    }
+
+    static void writeTrailer(@NotNull DataOutputStream out) throws IOException {
+        out.writeShort(-1);
+    }
+
+    /**
+     * Writes length-prefixed field value. Null values are written as length -1.
+     */
+    static void writeValue(@NotNull DataOutputStream out, long typeId, @Nullable Object value) throws IOException, DBCException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        switch ((int) typeId) {
+            case PostgreOid.BOOL -> {
+                out.writeInt(1);
+                out.writeByte(toBoolean(value) ? 1 : 0);
+            }
+            case PostgreOid.INT2 -> {
+                short number = (short) toInteger(value, Short.MIN_VALUE, Short.MAX_VALUE, "smallint");
+                out.writeInt(2);
+                out.writeShort(number);
+            }
+            case PostgreOid.INT4 -> {
+                int number = (int) toInteger(value, Integer.MIN_VALUE, Integer.MAX_VALUE, "integer");
+                out.writeInt(4);
+                out.writeInt(number);
+            }
+            case PostgreOid.INT8 -> {
+                long number = toInteger(value, Long.MIN_VALUE, Long.MAX_VALUE, "bigint");
+                out.writeInt(8);
+                out.writeLong(number);
+            }
+            case PostgreOid.FLOAT4 -> {
+                out.writeInt(4);
+                out.writeFloat(toNumber(value).floatValue());
+            }
+            case PostgreOid.FLOAT8 -> {
+                out.writeInt(8);
+                out.writeDouble(toNumber(value).doubleValue());
+            }
+            case PostgreOid.NUMERIC -> writeNumeric(out, value);
+            case PostgreOid.TEXT, PostgreOid.VARCHAR, PostgreOid.BPCHAR -> writeBytes(out, value.toString().getBytes(StandardCharsets.UTF_8));
+            case PostgreOid.BYTEA -> {
+                if (value instanceof byte[] bytes) {
+                    writeBytes(out, bytes);
+                } else {
+                    throw unsupportedValue(typeId, value);
+                }
+            }
+            case PostgreOid.DATE -> {
+                out.writeInt(4);
+                out.writeInt((int) ChronoUnit.DAYS.between(PG_EPOCH_DATE, toLocalDate(typeId, value)));
+            }
+            case PostgreOid.TIMESTAMP -> {
+                out.writeInt(8);
+                out.writeLong(getTimestampMicros(toLocalDateTime(typeId, value)));
+            }
+            case PostgreOid.TIMESTAMPTZ -> {
+                out.writeInt(8);
+                out.writeLong(getTimestampMicros(toInstant(typeId, value)));
+            }
+            case PostgreOid.UUID -> {
+                UUID uuid = value instanceof UUID u ? u : UUID.fromString(value.toString());
+                out.writeInt(16);
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+            }
+            default -> throw unsupportedValue(typeId, value);
+        }
+    }
+
+    private static void writeBytes(@NotNull DataOutputStream out, @NotNull byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static void writeNumeric(@NotNull DataOutputStream out, @NotNull Object value) throws IOException, DBCException {
+        int specialSign = getSpecialNumericSign(value);
+        if (specialSign != -1) {
+            // Special values have no digits
+            out.writeInt(8);
+            out.writeShort(0);
+            out.writeShort(0);
+            out.writeShort(specialSign);
+            out.writeShort(0);
+            return;
+        }
+        BigDecimal decimal = toBigDecimal(value);
+        if (decimal.scale() < 0) {
+            decimal = decimal.setScale(0);
+        }
+        int sign = decimal.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS;
+        int dscale = decimal.scale();
+
+        String plain = decimal.abs().toPlainString();
+        int pointPos = plain.indexOf('.');
+        String intPart = pointPos < 0 ? plain : plain.substring(0, pointPos);
+        String fracPart = pointPos < 0 ? "" : plain.substring(pointPos + 1);
+        int firstNonZero = 0;
+        while (firstNonZero < intPart.length() && intPart.charAt(firstNonZero) == '0') {
+            firstNonZero++;
+        }
+        intPart = intPart.substring(firstNonZero);
+
+        // Split into base-10000 digits around the decimal point
+        List<Short> digits = new ArrayList<>();
+        int intGroups = (intPart.length() + 3) / 4;
+        int intPad = intGroups * 4 - intPart.length();
+        for (int i = 0; i < intGroups; i++) {
+            int start = i * 4 - intPad;
+            digits.add((short) parseGroup(intPart, start));
+        }
+        int fracGroups = (fracPart.length() + 3) / 4;
+        for (int i = 0; i < fracGroups; i++) {
+            int start = i * 4;
+            int end = Math.min(start + 4, fracPart.length());
+            int group = Integer.parseInt(fracPart.substring(start, end));
+            for (int k = end - start; k < 4; k++) {
+                group *= 10;
+            }
+            digits.add((short) group);
+        }
+        int weight = intGroups - 1;
+
+        // Strip leading and trailing zero digits
+        int from = 0;
+        while (from < digits.size() && digits.get(from) == 0) {
+            from++;
+            weight--;
+        }
+        int to = digits.size();
+        while (to > from && digits.get(to - 1) == 0) {
+            to--;
+        }
+        int ndigits = to - from;
+        if (ndigits == 0) {
+            weight = 0;
+            sign = NUMERIC_POS;
+        }
+
+        out.writeInt(8 + ndigits * 2);
+        out.writeShort(ndigits);
+        out.writeShort(weight);
+        out.writeShort(sign);
+        out.writeShort(dscale);
+        for (int i = from; i < to; i++) {
+            out.writeShort(digits.get(i));
+        }
+    }
+
+    /**
+     * Returns sign code of NaN and infinite values, or -1 for finite values
+     */
+    private static int getSpecialNumericSign(@NotNull Object value) {
+        double number;
+        if (value instanceof Double || value instanceof Float) {
+            number = ((Number) value).doubleValue();
+        } else if (value instanceof String str) {
+            // The same special values as numeric input accepts
+            switch (str.trim().toLowerCase(Locale.ENGLISH)) {
+                case "nan" -> number = Double.NaN;
+                case "infinity", "+infinity", "inf", "+inf" -> number = Double.POSITIVE_INFINITY;
+                case "-infinity", "-inf" -> number = Double.NEGATIVE_INFINITY;
+                default -> {
+                    return -1;
+                }
+            }
+        } else {
+            return -1;
+        }
+        if (Double.isNaN(number)) {
+            return NUMERIC_NAN;
+        } else if (number == Double.POSITIVE_INFINITY) {
+            return NUMERIC_PINF;
+        } else if (number == Double.NEGATIVE_INFINITY) {
+            return NUMERIC_NINF;
+        }
+        return -1;
+    }
+
+    private static int parseGroup(@NotNull String str, int start) {
+        int group = 0;
+        for (int i = start; i < start + 4; i++) {
+            group = group * 10 + (i < 0 ? 0 : str.charAt(i) - '0');
+        }
+        return group;
+    }
+
+    static long getTimestampMicros(@NotNull LocalDateTime dateTime) {
+        long seconds = ChronoUnit.SECONDS.between(PG_EPOCH, dateTime.withNano(0));
+        return seconds * 1_000_000L + dateTime.getNano() / 1000;
+    }
+
+    static long getTimestampMicros(@NotNull Instant instant) {
+        long seconds = instant.getEpochSecond() - PG_EPOCH_INSTANT.getEpochSecond();
+        return seconds * 1_000_000L + instant.getNano() / 1000;
+    }
+
+    private static boolean toBoolean(@NotNull Object value) {
+        if (value instanceof Boolean b) {
+            return b;
+        } else if (value instanceof Number n) {
+            return n.intValue() != 0;
+        }
+        return Boolean.parseBoolean(value.toString());
+    }
+
+    @NotNull
+    private static Number toNumber(@NotNull Object value) throws DBCException {
+        if (value instanceof Number n) {
+            return n;
+        } else if (value instanceof Boolean b) {
+            return b ? 1 : 0;
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new DBCException("Can't convert value '" + value + "' to number", e);
+        }
+    }
+
+    /**
+     * Converts value to integer of the column type. Values which don't fit the type are rejected
+     * the same way server rejects them in text format.
+     */
+    private static long toInteger(@NotNull Object value, long minValue, long maxValue, @NotNull String typeName) throws DBCException {
+        Number number = toNumber(value);
+        long result;
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            result = number.longValue();
+        } else {
+            BigDecimal decimal;
+            try {
+                decimal = toBigDecimal(number);
+            } catch (NumberFormatException e) {
+                // NaN or infinity
+                throw new DBCException("Value '" + value + "' is out of range for type " + typeName, e);
+            }
+            if (decimal.signum() != 0 && decimal.stripTrailingZeros().scale() > 0) {
+                throw new DBCException("Value '" + value + "' is not an integer value of type " + typeName);
+            }
+            if (decimal.compareTo(BigDecimal.valueOf(minValue)) < 0 || decimal.compareTo(BigDecimal.valueOf(maxValue)) > 0) {
+                throw new DBCException("Value '" + value + "' is out of range for type " + typeName);
+            }
+            result = decimal.longValue();
+        }
+        if (result < minValue || result > maxValue) {
+            throw new DBCException("Value '" + value + "' is out of range for type " + typeName);
+        }
+        return result;
+    }
+
+    @NotNull
+    private static BigDecimal toBigDecimal(@NotNull Object value) throws DBCException {
+        if (value instanceof BigDecimal bd) {
+            return bd;
+        } else if (value instanceof BigInteger bi) {
+            return new BigDecimal(bi);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        } else if (value instanceof Number n) {
+            return new BigDecimal(n.toString());
+        }
+        Number number = toNumber(value);
+        return number instanceof BigDecimal bd ? bd : new BigDecimal(number.toString());
+    }
+
+    @NotNull
+    private static LocalDate toLocalDate(long typeId, @NotNull Object value) throws DBCException {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        } else if (value instanceof java.sql.Timestamp ts) {
+            return ts.toLocalDateTime().toLocalDate();
+        } else if (value instanceof Date date) {
+            return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        } else if (value instanceof TemporalAccessor temporal) {
+            return LocalDate.from(temporal);
+        }
+        throw unsupportedValue(typeId, value);
+    }
+
+    @NotNull
+    private static LocalDateTime toLocalDateTime(long typeId, @NotNull Object value) throws DBCException {
+        if (value instanceof java.sql.Timestamp ts) {
+            return ts.toLocalDateTime();
+        } else if (value instanceof java.sql.Date date) {
+            return date.toLocalDate().atStartOfDay();
+        } else if (value instanceof Date date) {
+            return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        } else if (value instanceof LocalDateTime ldt) {
+            return ldt;
+        } else if (value instanceof LocalDate ld) {
+            return ld.atStartOfDay();
+        } else if (value instanceof OffsetDateTime odt) {
+            return odt.toLocalDateTime();
+        } else if (value instanceof ZonedDateTime zdt) {
+            return zdt.toLocalDateTime();
+        }
+        throw unsupportedValue(typeId, value);
+    }
+
+    @NotNull
+    private static Instant toInstant(long typeId, @NotNull Object value) throws DBCException {
+        if (value instanceof Date date) {
+            // Covers java.sql.Timestamp with nanoseconds as well
+            return date instanceof java.sql.Timestamp ts ? ts.toInstant() : Instant.ofEpochMilli(date.getTime());
+        } else if (value instanceof Instant instant) {
+            return instant;
+        } else if (value instanceof OffsetDateTime odt) {
+            return odt.toInstant();
+        } else if (value instanceof ZonedDateTime zdt) {
+            return zdt.toInstant();
+        } else if (value instanceof LocalDateTime ldt) {
+            return ldt.atZone(ZoneId.systemDefault()).toInstant();
+        }
+        throw unsupportedValue(typeId, value);
+    }
+
+    @NotNull
+    private static DBCException unsupportedValue(long typeId, @NotNull Object value) {
+        return new DBCException("Value of type " + value.getClass().getName() + " can't be encoded in binary format for type OID " + typeId);
+    }
+}
@@ -20,6 +20,7 @@ import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPEvaluationContext;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDContent;
 import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
 import org.jkiss.dbeaver.model.data.DBDValueHandler;
 import org.jkiss.dbeaver.model.exec.DBCException;
@@ -31,13 +32,11 @@ import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
 import org.jkiss.dbeaver.model.struct.DBSDataBulkLoader;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.utils.ContentUtils;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
-import java.io.BufferedWriter;
-import java.io.IOException;
-import java.io.Reader;
-import java.io.Writer;
+import java.io.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
@@ -55,6 +54,11 @@ import java.util.Map;
  * //                "COPY table1 FROM STDIN (FORMAT csv)",
  * //                new BufferedReader(new FileReader("data.csv"))
  * //            );
+ *
+ * By default rows are saved in a temporary CSV file which is copied at the end of the load.
+ * In streaming mode rows are sent directly to the server with PGCopyOutputStream,
+ * COPY starts on the first row and ends in {@link #finishBulkLoad(DBCSession)}.
+ * Binary format is used in streaming mode only, and only if all target columns have supported types.
  */
 public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.BulkLoadManager {
 
@@ -67,6 +71,14 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
     private Writer csvWriter;
     private Path csvFile;
 
+    private boolean streamRows;
+    private boolean binaryFormat;
+    private Connection pgConnection;
+    private Class<?> copyOutputStreamClass;
+    private OutputStream copyStream;
+    private DataOutputStream binaryOutput;
+    private final StringBuilder lineBuffer = new StringBuilder();
+
     private AttrMapping[] mappings;
 
     private int copyBufferSize = 100 * 1024;
@@ -75,11 +87,14 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
         PostgreTableColumn tableAttr;
         DBDValueHandler valueHandler;
         int srcPos;
+        long typeId;
 
         AttrMapping(PostgreTableColumn tableAttr, DBDValueHandler valueHandler, int srcPos) {
             this.tableAttr = tableAttr;
             this.valueHandler = valueHandler;
             this.srcPos = srcPos;
+            PostgreDataType dataType = tableAttr.getDataType();
+            this.typeId = dataType == null ? 0 : dataType.getObjectId();
         }
     }
 
@@ -98,32 +113,15 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
         Map<String, Object> options) throws DBCException
     {
         this.table = (PostgreTableReal) dataContainer;
+        this.streamRows = options != null && CommonUtils.getBoolean(options.get(OPTION_STREAM_ROWS), false);
         try {
             // Use reflection to create copy manager
-            Connection pgConnection = ((JDBCSession) session).getOriginal();
+            pgConnection = ((JDBCSession) session).getOriginal();
             ClassLoader driverClassLoader = pgConnection.getClass().getClassLoader();
 
             Class<?> baseConnectionClass = Class.forName("org.postgresql.core.BaseConnection", true, driverClassLoader);
             Class<?> copyManagerClass = Class.forName("org.postgresql.copy.CopyManager", true, driverClassLoader);
 
-            // Get method copyIn(final String sql, Reader from, int bufferSize)
-            copyInMethod = copyManagerClass.getMethod("copyIn", String.class, Reader.class, Integer.TYPE);
-
-            copyManager = copyManagerClass.getConstructor(baseConnectionClass).newInstance(pgConnection);
-
-            Path tempFolder = DBWorkbench.getPlatform().getTempFolder(session.getProgressMonitor(), "postgesql-copy-datasets");
-            csvFile = tempFolder.resolve(CommonUtils.escapeFileName(table.getFullyQualifiedName(DBPEvaluationContext.DML)) + "-" + System.currentTimeMillis() + ".csv");  //$NON-NLS-1$ //$NON-NLS-2$
-            try {
-                Files.createFile(csvFile);
-            } catch (IOException ex) {
-                throw new IOException("Can't create CSV file " + csvFile);
-            }
-
-            csvWriter = new BufferedWriter(
-                Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8),
-                copyBufferSize
-                );
-
             List<? extends PostgreTableColumn> tableAttrs = CommonUtils.safeList(table.getAttributes(session.getProgressMonitor()));
             tableAttrs.removeIf(a -> a.getOrdinalPosition() < 0);
             mappings = new AttrMapping[tableAttrs.size()];
@@ -138,6 +136,40 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
                 );
                 mappings[i] = mapping;
             }
+
+            if (streamRows) {
+                // PGCopyOutputStream(PGConnection connection, String sql, int bufferSize) starts COPY in constructor,
+                // so it is created on the first row
+                copyOutputStreamClass = Class.forName("org.postgresql.copy.PGCopyOutputStream", true, driverClassLoader);
+                binaryFormat = options != null && CommonUtils.getBoolean(options.get(OPTION_BINARY_FORMAT), false);
+                if (binaryFormat) {
+                    for (AttrMapping mapping : mappings) {
+                        if (mapping.srcPos >= 0 && !PostgreCopyBinaryEncoder.isSupportedType(mapping.typeId)) {
+                            log.debug("Column " + mapping.tableAttr.getName() + " type is not supported in binary COPY. Use CSV format.");
+                            binaryFormat = false;
+                            break;
+                        }
+                    }
+                }
+            } else {
+                // Get method copyIn(final String sql, Reader from, int bufferSize)
+                copyInMethod = copyManagerClass.getMethod("copyIn", String.class, Reader.class, Integer.TYPE);
+
+                copyManager = copyManagerClass.getConstructor(baseConnectionClass).newInstance(pgConnection);
+
+                Path tempFolder = DBWorkbench.getPlatform().getTempFolder(session.getProgressMonitor(), "postgesql-copy-datasets");
+                csvFile = tempFolder.resolve(CommonUtils.escapeFileName(table.getFullyQualifiedName(DBPEvaluationContext.DML)) + "-" + System.currentTimeMillis() + ".csv");  //$NON-NLS-1$ //$NON-NLS-2$
+                try {
+                    Files.createFile(csvFile);
+                } catch (IOException ex) {
+                    throw new IOException("Can't create CSV file " + csvFile);
+                }
+
+                csvWriter = new BufferedWriter(
+                    Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8),
+                    copyBufferSize
+                    );
+            }
         } catch (Exception e) {
             throw new DBCException("Can't instantiate CopyManager", e);
         }
@@ -146,7 +178,15 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
 
     @Override
     public void addRow(@NotNull DBCSession session, @NotNull Object[] attributeValues) throws DBCException {
-        StringBuilder line = new StringBuilder();
+        if (streamRows && copyStream == null) {
+            startCopy(session);
+        }
+        if (binaryFormat) {
+            addBinaryRow(session, attributeValues);
+            return;
+        }
+        StringBuilder line = lineBuffer;
+        line.setLength(0);
         boolean hasCell = false;
         for (AttrMapping mapping : mappings) {
             if (mapping.srcPos >= 0) {
@@ -160,8 +200,7 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
                     } else {
                         String strValue = mapping.valueHandler.getValueDisplayString(
                             mapping.tableAttr, srcValue, DBDDisplayFormat.NATIVE);
-                        strValue = convertStringValueToCell(strValue);
-                        line.append(strValue);
+                        appendStringCell(line, strValue);
                     }
                 }
                 hasCell = true;
@@ -169,29 +208,110 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
         }
         line.append("\n");
         try {
-            csvWriter.write(line.toString());
+            csvWriter.append(line);
         } catch (IOException e) {
             throw new DBCException("Error writing CSV line", e);
         }
     }
 
-    private String convertStringValueToCell(String strValue) {
-        return '"' +
-            strValue.replace("\"", "\\\"") +
-            '"';
+    private void addBinaryRow(@NotNull DBCSession session, @NotNull Object[] attributeValues) throws DBCException {
+        try {
+            int fieldCount = 0;
+            for (AttrMapping mapping : mappings) {
+                if (mapping.srcPos >= 0) {
+                    fieldCount++;
+                }
+            }
+            PostgreCopyBinaryEncoder.writeTupleStart(binaryOutput, fieldCount);
+            for (AttrMapping mapping : mappings) {
+                if (mapping.srcPos < 0) {
+                    continue;
+                }
+                Object srcValue = attributeValues[mapping.srcPos];
+                if (DBUtils.isNullValue(srcValue)) {
+                    srcValue = null;
+                } else if (srcValue instanceof DBDContent content) {
+                    srcValue = mapping.typeId == PostgreOid.BYTEA ?
+                        ContentUtils.getContentBinaryValue(session.getProgressMonitor(), content) :
+                        ContentUtils.getContentStringValue(session.getProgressMonitor(), content);
+                } else if (PostgreCopyBinaryEncoder.isTextType(mapping.typeId) && !(srcValue instanceof String)) {
+                    srcValue = mapping.valueHandler.getValueDisplayString(mapping.tableAttr, srcValue, DBDDisplayFormat.NATIVE);
+                }
+                PostgreCopyBinaryEncoder.writeValue(binaryOutput, mapping.typeId, srcValue);
+            }
+        } catch (IOException e) {
+            throw new DBCException("Error writing COPY data", e);
+        }
+    }
+
+    private void appendStringCell(@NotNull StringBuilder line, @NotNull String strValue) {
+        line.append('"');
+        for (int i = 0; i < strValue.length(); i++) {
+            char c = strValue.charAt(i);
+            if (c == '"') {
+                line.append('\\');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private void startCopy(@NotNull DBCSession session) throws DBCException {
+        String tableFQN = table.getFullyQualifiedName(DBPEvaluationContext.DML);
+        session.getProgressMonitor().subTask("Copy into " + tableFQN);
+        String queryText;
+        if (binaryFormat) {
+            StringBuilder columns = new StringBuilder();
+            for (AttrMapping mapping : mappings) {
+                if (mapping.srcPos >= 0) {
+                    if (columns.length() > 0) {
+                        columns.append(",");
+                    }
+                    columns.append(DBUtils.getQuotedIdentifier(mapping.tableAttr));
+                }
+            }
+            queryText = "COPY " + tableFQN + " (" + columns + ") FROM STDIN (FORMAT BINARY)";
+        } else {
+            queryText = "COPY " + tableFQN + " FROM STDIN (FORMAT CSV, ESCAPE '\\')";
+        }
+        try {
+            Class<?> pgConnectionClass = Class.forName("org.postgresql.PGConnection", true, copyOutputStreamClass.getClassLoader());
+            copyStream = (OutputStream) copyOutputStreamClass
+                .getConstructor(pgConnectionClass, String.class, Integer.TYPE)
+                .newInstance(pgConnection.unwrap(pgConnectionClass), queryText, copyBufferSize);
+            if (binaryFormat) {
+                binaryOutput = new DataOutputStream(new BufferedOutputStream(copyStream, copyBufferSize));
+                PostgreCopyBinaryEncoder.writeHeader(binaryOutput);
+            } else {
+                csvWriter = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), copyBufferSize);
+            }
+        } catch (Throwable e) {
+            if (e instanceof InvocationTargetException) {
+                e = ((InvocationTargetException) e).getTargetException();
+            }
+            throw new DBCException("Error starting COPY on remote server", e);
+        }
     }
 
     @Override
     public void flushRows(@NotNull DBCSession session) throws DBCException {
         try {
-            csvWriter.flush();
+            if (binaryOutput != null) {
+                binaryOutput.flush();
+            } else if (csvWriter != null) {
+                csvWriter.flush();
+            }
         } catch (IOException e) {
-            throw new DBCException("Error saving CSV data", e);
+            throw new DBCException(streamRows ? "Error sending COPY data" : "Error saving CSV data", e);
         }
     }
 
     @Override
     public void finishBulkLoad(@NotNull DBCSession session) throws DBCException {
+        if (streamRows) {
+            finishStreamCopy(session);
+            return;
+        }
         try {
             csvWriter.flush();
             csvWriter.close();
@@ -212,12 +332,7 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
                 rowCount = copyInMethod.invoke(copyManager, queryText, csvReader, copyBufferSize);
             }
 
-            // Commit changes
-            DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
-            if (txnManager != null && !txnManager.isAutoCommit()) {
-                session.getProgressMonitor().subTask("Commit COPY");
-                txnManager.commit(session);
-            }
+            commitCopy(session);
 
             log.debug("CSV has been imported (" + rowCount + ")");
         } catch (Throwable e) {
@@ -228,9 +343,56 @@ public class PostgreCopyLoader implements DBSDataBulkLoader, DBSDataBulkLoader.B
         }
     }
 
+    private void finishStreamCopy(@NotNull DBCSession session) throws DBCException {
+        if (copyStream == null) {
+            // No rows
+            return;
+        }
+        try {
+            if (binaryOutput != null) {
+                PostgreCopyBinaryEncoder.writeTrailer(binaryOutput);
+                binaryOutput.flush();
+            } else {
+                csvWriter.flush();
+            }
+            Object rowCount = copyOutputStreamClass.getMethod("endCopy").invoke(copyStream);
+            copyStream = null;
+            binaryOutput = null;
+            csvWriter = null;
+
+            commitCopy(session);
+
+            log.debug("COPY stream has been finished (" + rowCount + ")");
+        } catch (Throwable e) {
+            if (e instanceof InvocationTargetException) {
+                e = ((InvocationTargetException) e).getTargetException();
+            }
+            throw new DBCException("Error copying dataset on remote server", e);
+        }
+    }
+
+    private void commitCopy(@NotNull DBCSession session) throws DBCException {
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+        if (txnManager != null && !txnManager.isAutoCommit()) {
+            session.getProgressMonitor().subTask("Commit COPY");
+            txnManager.commit(session);
+        }
+    }
+
     @Override
 
     public void close() {
+        if (copyStream != null) {
+            // COPY wasn't finished - cancel it to release the connection
+            try {
+                copyOutputStreamClass.getMethod("cancelCopy").invoke(copyStream);
+            } catch (Throwable e) {
+                log.debug("Error canceling COPY", e);
+            }
+            copyStream = null;
+            binaryOutput = null;
+            csvWriter = null;
+        }
         if (csvFile != null && Files.exists(csvFile)) {
             try {
                 Files.delete(csvFile);
@@ -791,6 +791,39 @@ public class PostgreDataSource extends JDBCDataSource implements DBSInstanceCont
         }
     }
 
+    /**
+     * Metadata version is built from row counts and xmin sums of system catalogs.
+     * Any DDL inserts, updates or deletes catalog rows, so it changes the version.
+     * The query scans system catalogs, so metadata snapshot reads it once per database
+     * and keeps it until the data source is refreshed.
+     */
+    @Nullable
+    @Override
+    public String readMetadataVersion(@NotNull JDBCSession session) throws SQLException {
+        if (!(getServerType() instanceof PostgreServerPostgreSQL)) {
+            // Forks may have different system catalogs
+            return null;
+        }
+        List<String> catalogs = new ArrayList<>(List.of(
+            "pg_namespace", "pg_class", "pg_attribute", "pg_attrdef", "pg_constraint", "pg_index", "pg_inherits",
+            "pg_trigger", "pg_rewrite", "pg_description", "pg_proc", "pg_type", "pg_enum", "pg_extension",
+            "pg_foreign_server", "pg_foreign_table", "pg_tablespace", "pg_database"));
+        if (isServerVersionAtLeast(9, 5)) {
+            catalogs.add("pg_policy");
+        }
+        if (isServerVersionAtLeast(10, 0)) {
+            catalogs.add("pg_sequence");
+            catalogs.add("pg_partitioned_table");
+        }
+        StringBuilder sql = new StringBuilder("SELECT concat_ws(';'");
+        for (String catalog : catalogs) {
+            sql.append(",\n(SELECT count(*) || ':' || coalesce(sum(xmin::text::bigint),0) FROM pg_catalog.").append(catalog).append(")");
+        }
+        // pg_authid isn't readable by regular users
+        sql.append(",\n(SELECT md5(string_agg(oid::text || ':' || rolname, ',' ORDER BY oid)) FROM pg_catalog.pg_roles))");
+        return JDBCUtils.queryString(session, sql.toString());
+    }
+
     @Override
     public boolean isConnectionRefreshing() {
         return isConnectionRefreshing;
@@ -22,6 +22,7 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ext.postgresql.PostgreConstants;
 import org.jkiss.dbeaver.ext.postgresql.PostgreUtils;
+import org.jkiss.dbeaver.ext.postgresql.model.impls.PostgreServerPostgreSQL;
 import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.dpi.DPIElement;
 import org.jkiss.dbeaver.model.dpi.DPIObject;
@@ -35,6 +36,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCCompositeCache;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectCache;
+import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectChangeTracker;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectLookupCache;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCStructLookupCache;
 import org.jkiss.dbeaver.model.impl.jdbc.struct.JDBCTable;
@@ -94,6 +96,8 @@ public class PostgreSchema implements
     private final ProceduresCache proceduresCache;
     private final IndexCache indexCache;
     private final PostgreDataTypeCache dataTypeCache;
+    private final JDBCObjectChangeTracker<PostgreSchema> tableChangeTracker;
+    private final JDBCObjectChangeTracker<PostgreSchema> procedureChangeTracker;
     private ArrayList<PostgrePrivilege> defaultPrivileges;
     protected volatile boolean hasStatistics;
 
@@ -108,6 +112,15 @@ public class PostgreSchema implements
         indexCache = database.getDataSource().getServerType().supportsIndexes() ? new IndexCache() : null;
         proceduresCache = createProceduresCache();
         dataTypeCache = new PostgreDataTypeCache();
+        if (database.getDataSource().getServerType() instanceof PostgreServerPostgreSQL &&
+            database.getDataSource().isServerVersionAtLeast(9, 0))
+        {
+            tableChangeTracker = new TableChangeTracker();
+            procedureChangeTracker = new ProcedureChangeTracker();
+        } else {
+            tableChangeTracker = null;
+            procedureChangeTracker = null;
+        }
     }
 
     @Override
@@ -500,6 +513,9 @@ public class PostgreSchema implements
     @Override
     public synchronized DBSObject refreshObject(@NotNull DBRProgressMonitor monitor)
         throws DBException {
+        if (refreshChangedObjects(monitor)) {
+            return this;
+        }
         extensionCache.clearCache();
         tableCache.clearCache();
         constraintCache.clearCache();
@@ -515,6 +531,82 @@ public class PostgreSchema implements
         return schema;
     }
 
+    /**
+     * Re-reads only tables and procedures which were changed since the previous refresh.
+     *
+     * @return false if changes are unknown and full refresh is required
+     */
+    private boolean refreshChangedObjects(@NotNull DBRProgressMonitor monitor) throws DBException {
+        if (tableChangeTracker == null) {
+            return false;
+        }
+        // Read both markers to keep them actual
+        Set<String> changedTables = tableChangeTracker.readChanges(monitor, this);
+        Set<String> changedProcedures = procedureChangeTracker.readChanges(monitor, this);
+        if (changedTables == null || changedProcedures == null || !reloadSchemaInfo(monitor)) {
+            return false;
+        }
+        extensionCache.clearCache();
+        aggregateCache.clearCache();
+        defaultPrivileges = null;
+        hasStatistics = false;
+
+        if (!changedTables.isEmpty()) {
+            List<String> newTables = new ArrayList<>();
+            for (String tableName : changedTables) {
+                PostgreTableBase table = tableCache.getCachedObject(tableName);
+                if (table != null) {
+                    table.refreshObject(monitor);
+                } else {
+                    newTables.add(tableName);
+                }
+            }
+            if (tableCache.isFullyCached()) {
+                tableCache.reloadObjects(monitor, this, newTables);
+            }
+        }
+        if (!changedProcedures.isEmpty() && proceduresCache.isFullyCached()) {
+            for (String procedureId : changedProcedures) {
+                PostgreProcedure procedure = null;
+                for (PostgreProcedure proc : proceduresCache.getCachedObjects()) {
+                    if (String.valueOf(proc.getObjectId()).equals(procedureId)) {
+                        procedure = proc;
+                        break;
+                    }
+                }
+                if (procedure == null) {
+                    // New procedure. Procedures can't be looked up by name as they may be overloaded.
+                    proceduresCache.clearCache();
+                    break;
+                }
+                proceduresCache.refreshObject(monitor, this, procedure);
+            }
+        }
+        database.cacheDataTypes(monitor, true);
+        return true;
+    }
+
+    private boolean reloadSchemaInfo(@NotNull DBRProgressMonitor monitor) throws DBException {
+        try (JDBCSession session = DBUtils.openMetaSession(monitor, this, "Reload schema info")) {
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT n.oid,n.*,d.description FROM pg_catalog.pg_namespace n\n" +
+                    "LEFT OUTER JOIN pg_catalog.pg_description d ON d.objoid=n.oid AND d.objsubid=0 AND d.classoid='pg_namespace'::regclass\n" +
+                    "WHERE n.oid=?")) {
+                dbStat.setLong(1, getObjectId());
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    if (!dbResult.next() || !name.equals(JDBCUtils.safeGetString(dbResult, "nspname"))) {
+                        // Schema was dropped or renamed
+                        return false;
+                    }
+                    loadInfo(dbResult);
+                    return true;
+                }
+            } catch (SQLException e) {
+                throw new DBCException(e, session.getExecutionContext());
+            }
+        }
+    }
+
     @DPIElement(cache = true)
     @Override
     public boolean isSystem() {
@@ -838,6 +930,56 @@ public class PostgreSchema implements
         }
     }
 
+    /**
+     * Table markers are row versions (xmin) of table catalog rows: relation, attributes, defaults, constraints,
+     * indexes, triggers, rules (view definitions), policies, sequence parameters and comments
+     */
+    private static class TableChangeTracker extends JDBCObjectChangeTracker<PostgreSchema> {
+        @NotNull
+        @Override
+        protected JDBCStatement prepareMarkersStatement(@NotNull JDBCSession session, @NotNull PostgreSchema owner) throws SQLException {
+            PostgreDataSource dataSource = owner.getDataSource();
+            StringBuilder sql = new StringBuilder();
+            sql.append("SELECT c.relname,c.xmin::text || ':' || coalesce((\n")
+                .append("SELECT pg_catalog.md5(pg_catalog.string_agg(m.x::text, ',' ORDER BY m.x::text)) FROM (\n")
+                .append("SELECT a.xmin AS x FROM pg_catalog.pg_attribute a WHERE a.attrelid=c.oid\n")
+                .append("UNION ALL SELECT ad.xmin FROM pg_catalog.pg_attrdef ad WHERE ad.adrelid=c.oid\n")
+                .append("UNION ALL SELECT con.xmin FROM pg_catalog.pg_constraint con WHERE con.conrelid=c.oid\n")
+                .append("UNION ALL SELECT i.xmin FROM pg_catalog.pg_index i WHERE i.indrelid=c.oid\n")
+                .append("UNION ALL SELECT t.xmin FROM pg_catalog.pg_trigger t WHERE t.tgrelid=c.oid\n")
+                .append("UNION ALL SELECT r.xmin FROM pg_catalog.pg_rewrite r WHERE r.ev_class=c.oid\n");
+            if (dataSource.isServerVersionAtLeast(9, 5)) {
+                sql.append("UNION ALL SELECT pol.xmin FROM pg_catalog.pg_policy pol WHERE pol.polrelid=c.oid\n");
+            }
+            if (dataSource.isServerVersionAtLeast(10, 0)) {
+                sql.append("UNION ALL SELECT s.xmin FROM pg_catalog.pg_sequence s WHERE s.seqrelid=c.oid\n");
+            }
+            sql.append("UNION ALL SELECT d.xmin FROM pg_catalog.pg_description d WHERE d.objoid=c.oid) m), '') AS marker\n")
+                .append("FROM pg_catalog.pg_class c\n")
+                .append("WHERE c.relnamespace=? AND c.relkind not in ('i','I','c')");
+            JDBCPreparedStatement dbStat = session.prepareStatement(sql.toString());
+            dbStat.setLong(1, owner.getObjectId());
+            return dbStat;
+        }
+    }
+
+    /**
+     * Procedures are tracked by OID because their names are not unique
+     */
+    private static class ProcedureChangeTracker extends JDBCObjectChangeTracker<PostgreSchema> {
+        @NotNull
+        @Override
+        protected JDBCStatement prepareMarkersStatement(@NotNull JDBCSession session, @NotNull PostgreSchema owner) throws SQLException {
+            JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT p.oid::text,p.xmin::text || ':' || coalesce(d.xmin::text, '') AS marker\n" +
+                    "FROM pg_catalog.pg_proc p\n" +
+                    "LEFT OUTER JOIN pg_catalog.pg_description d ON d.objoid=p.oid AND d.classoid='pg_proc'::regclass AND d.objsubid=0\n" +
+                    "WHERE p.pronamespace=?");
+            dbStat.setLong(1, owner.getObjectId());
+            return dbStat;
+        }
+    }
+
     public class TableCache extends JDBCStructLookupCache<PostgreTableContainer, PostgreTableBase, PostgreTableColumn> {
 
         protected TableCache() {
@@ -0,0 +1,208 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.sqlite.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+import org.jkiss.dbeaver.model.struct.DBSDataBulkLoader;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.utils.CommonUtils;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * SQLite bulk loader.
+ * <p>
+ * Loads all rows in a single transaction with one reused prepared statement.
+ * Optionally relaxes journal_mode and synchronous pragmas for the duration of the load.
+ * SQLite doesn't allow to change these pragmas inside a transaction, so they are changed before the load transaction
+ * starts and are restored after it ends. Pragmas are not changed if a transaction is already open.
+ */
+public class SQLiteBulkLoader implements DBSDataBulkLoader, DBSDataBulkLoader.BulkLoadManager {
+
+    private static final Log log = Log.getLog(SQLiteBulkLoader.class);
+
+    private final SQLiteDataSource dataSource;
+
+    private JDBCSession session;
+    private DBSAttributeBase[] attributes;
+    private DBDValueHandler[] valueHandlers;
+    private DBCStatement statement;
+    private int batchRows;
+
+    private boolean restoreAutoCommit;
+    private String savedJournalMode;
+    private String savedSynchronous;
+
+    public SQLiteBulkLoader(@NotNull SQLiteDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @NotNull
+    @Override
+    public BulkLoadManager createBulkLoad(
+        @NotNull DBCSession session,
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull DBSAttributeBase[] attributes,
+        @NotNull DBCExecutionSource source,
+        int batchSize,
+        Map<String, Object> options
+    ) throws DBCException {
+        if (!(dataContainer instanceof DBSEntity entity)) {
+            throw new DBCException("Bulk load is supported for tables only");
+        }
+        this.session = (JDBCSession) session;
+        this.attributes = attributes;
+
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+        if (options != null && CommonUtils.getBoolean(options.get(OPTION_RELAXED_DURABILITY), false)) {
+            if (txnManager == null || txnManager.isAutoCommit()) {
+                relaxDurability();
+            } else {
+                log.debug("SQLite journal pragmas can't be changed in manual commit mode");
+            }
+        }
+
+        // All rows are loaded in a single transaction
+        if (txnManager != null && txnManager.isAutoCommit()) {
+            txnManager.setAutoCommit(session.getProgressMonitor(), false);
+            restoreAutoCommit = true;
+        }
+
+        StringBuilder query = new StringBuilder();
+        query.append("INSERT INTO ").append(entity.getFullyQualifiedName(DBPEvaluationContext.DML)).append(" (");
+        valueHandlers = new DBDValueHandler[attributes.length];
+        for (int i = 0; i < attributes.length; i++) {
+            if (i > 0) {
+                query.append(",");
+            }
+            query.append(DBUtils.getQuotedIdentifier(dataSource, attributes[i].getName()));
+            valueHandlers[i] = DBUtils.findValueHandler(session, attributes[i]);
+        }
+        query.append(") VALUES (");
+        for (int i = 0; i < attributes.length; i++) {
+            query.append(i > 0 ? ",?" : "?");
+        }
+        query.append(")");
+
+        statement = session.prepareStatement(DBCStatementType.QUERY, query.toString(), false, false, false);
+        statement.setStatementSource(source);
+        return this;
+    }
+
+    @Override
+    public void addRow(@NotNull DBCSession session, @NotNull Object[] attributeValues) throws DBCException {
+        for (int i = 0; i < attributes.length; i++) {
+            valueHandlers[i].bindValueObject(session, statement, attributes[i], i, attributeValues[i]);
+        }
+        statement.addToBatch();
+        batchRows++;
+    }
+
+    @Override
+    public void flushRows(@NotNull DBCSession session) throws DBCException {
+        if (batchRows > 0) {
+            statement.executeStatementBatch();
+            batchRows = 0;
+        }
+    }
+
+    @Override
+    public void finishBulkLoad(@NotNull DBCSession session) throws DBCException {
+        flushRows(session);
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+        if (txnManager != null && !txnManager.isAutoCommit()) {
+            session.getProgressMonitor().subTask("Commit bulk load");
+            txnManager.commit(session);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (statement != null) {
+            statement.close();
+            statement = null;
+        }
+        if (session == null) {
+            return;
+        }
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+        if (restoreAutoCommit && txnManager != null) {
+            try {
+                // Rollback rows which weren't committed because load failed
+                if (!txnManager.isAutoCommit()) {
+                    txnManager.rollback(session, null);
+                }
+                txnManager.setAutoCommit(session.getProgressMonitor(), true);
+            } catch (DBCException e) {
+                log.debug("Error restoring auto-commit mode", e);
+            }
+            restoreAutoCommit = false;
+        }
+        // Transaction is finished at this point
+        restoreDurability();
+        session = null;
+    }
+
+    private void relaxDurability() {
+        try {
+            savedJournalMode = JDBCUtils.queryString(session, "PRAGMA journal_mode");
+            savedSynchronous = JDBCUtils.queryString(session, "PRAGMA synchronous");
+            // Journal mode pragma returns the resulting mode, it is not changed if it can't be
+            String journalMode = JDBCUtils.queryString(session, "PRAGMA journal_mode = MEMORY");
+            if (!"memory".equalsIgnoreCase(journalMode)) {
+                log.debug("SQLite journal mode wasn't changed (" + journalMode + ")");
+            }
+            JDBCUtils.executeStatement(session, "PRAGMA synchronous = OFF");
+        } catch (SQLException e) {
+            log.debug("Error changing SQLite journal pragmas", e);
+        }
+    }
+
+    private void restoreDurability() {
+        if (savedSynchronous != null) {
+            try {
+                JDBCUtils.executeStatement(session, "PRAGMA synchronous = " + CommonUtils.toInt(savedSynchronous, 2));
+            } catch (SQLException e) {
+                log.warn("Error restoring SQLite synchronous pragma (" + savedSynchronous + ")", e);
+            }
+            savedSynchronous = null;
+        }
+        if (savedJournalMode != null) {
+            if (savedJournalMode.chars().allMatch(Character::isLetter)) {
+                try {
+                    String journalMode = JDBCUtils.queryString(session, "PRAGMA journal_mode = " + savedJournalMode);
+                    if (!savedJournalMode.equalsIgnoreCase(journalMode)) {
+                        log.warn("SQLite journal mode wasn't restored: " + journalMode + " instead of " + savedJournalMode);
+                    }
+                } catch (SQLException e) {
+                    log.warn("Error restoring SQLite journal mode (" + savedJournalMode + ")", e);
+                }
+            }
+            savedJournalMode = null;
+        }
+    }
+}
@@ -34,11 +34,14 @@ import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.jkiss.dbeaver.model.struct.DBStructPrefetcher;
 import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
 import org.jkiss.dbeaver.model.struct.rdb.DBSTable;
 import org.jkiss.dbeaver.model.struct.rdb.DBSTablePartition;
 import org.jkiss.utils.CommonUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class MetadataProcessor {
@@ -80,7 +83,22 @@ public class MetadataProcessor {
             objectContainer.cacheStructure(
                 monitor,
                 DBSObjectContainer.STRUCT_ENTITIES | DBSObjectContainer.STRUCT_ATTRIBUTES);
-            for (DBSObject child : objectContainer.getChildren(monitor)) {
+            Collection<? extends DBSObject> children = objectContainer.getChildren(monitor);
+            // Read nested containers (e.g. schemas of a database) in parallel
+            List<DBSObjectContainer> childContainers = new ArrayList<>();
+            for (DBSObject child : children) {
+                if (child instanceof DBSObjectContainer childContainer && !(child instanceof DBSEntity) &&
+                    !DBUtils.isSystemObject(child) && !DBUtils.isHiddenObject(child)) {
+                    childContainers.add(childContainer);
+                }
+            }
+            if (childContainers.size() > 1) {
+                DBStructPrefetcher.cacheStructure(
+                    monitor,
+                    childContainers,
+                    DBSObjectContainer.STRUCT_ENTITIES | DBSObjectContainer.STRUCT_ATTRIBUTES);
+            }
+            for (DBSObject child : children) {
                 if (DBUtils.isSystemObject(child) || DBUtils.isHiddenObject(child) || child instanceof DBSTablePartition) {
                     continue;
                 }
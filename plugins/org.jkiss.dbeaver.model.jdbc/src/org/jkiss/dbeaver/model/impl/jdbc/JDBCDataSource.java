@@ -37,6 +37,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCFactory;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.AbstractDataSource;
+import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCMetadataSnapshot;
 import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCConnectionImpl;
 import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCFactoryDefault;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
@@ -92,6 +93,8 @@ public abstract class JDBCDataSource extends AbstractDataSource
 
     private final transient List<Connection> closingConnections = new ArrayList<>();
     protected List<Path> tempFiles;
+    @Nullable
+    private volatile JDBCMetadataSnapshot metadataSnapshot;
 
 
     protected JDBCDataSource(@NotNull DBRProgressMonitor monitor, @NotNull DBPDataSourceContainer container, @NotNull SQLDialect dialect)
@@ -479,6 +482,26 @@ public abstract class JDBCDataSource extends AbstractDataSource
         return jdbcFactory;
     }
 
+    /**
+     * Returns persistent snapshot of metadata queries results or null if snapshots are disabled
+     */
+    @Nullable
+    public JDBCMetadataSnapshot getMetadataSnapshot() {
+        return metadataSnapshot;
+    }
+
+    /**
+     * Reads version of the metadata of the session database. Version must change on any DDL.
+     * It is used to validate metadata snapshot entries.
+     * Version is read once per instance after the data source is connected or refreshed.
+     *
+     * @return version or null if data source can't detect metadata changes. Metadata snapshot isn't used then.
+     */
+    @Nullable
+    public String readMetadataVersion(@NotNull JDBCSession session) throws SQLException {
+        return null;
+    }
+
     @Nullable
     @Override
     public JDBCRemoteInstance getDefaultInstance() {
@@ -496,6 +519,11 @@ public abstract class JDBCDataSource extends AbstractDataSource
 
     @Override
     public void shutdown(@NotNull DBRProgressMonitor monitor) {
+        JDBCMetadataSnapshot snapshot = metadataSnapshot;
+        if (snapshot != null) {
+            metadataSnapshot = null;
+            snapshot.save();
+        }
         for (JDBCRemoteInstance instance : getAvailableInstances()) {
             Object exclusiveLock = instance.getExclusiveLock().acquireExclusiveLock();
             try {
@@ -557,6 +585,7 @@ public abstract class JDBCDataSource extends AbstractDataSource
                 dataSourceInfo = new JDBCDataSourceInfo(container);
             }
         }
+        metadataSnapshot = JDBCMetadataSnapshot.openSnapshot(this);
     }
 
     protected void readDatabaseServerVersion(DatabaseMetaData metaData) {
@@ -598,6 +627,10 @@ public abstract class JDBCDataSource extends AbstractDataSource
     @Override
     public DBSObject refreshObject(@NotNull DBRProgressMonitor monitor) throws DBException {
         this.dataSourceInfo = new JDBCDataSourceInfo(container);
+        JDBCMetadataSnapshot snapshot = metadataSnapshot;
+        if (snapshot != null) {
+            snapshot.resetMetadataVersions();
+        }
         return this;
     }
 
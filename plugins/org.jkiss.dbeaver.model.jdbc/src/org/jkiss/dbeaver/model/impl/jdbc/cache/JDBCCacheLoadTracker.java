@@ -0,0 +1,121 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.cache;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks metadata loads which are in progress, one load per key (usually parent object).
+ * <p>
+ * Concurrent requests for the same key share one load: the first request performs it,
+ * other requests wait for its completion and then check the cache again.
+ * Loads of different keys run concurrently.
+ * Null key stands for the whole container load.
+ */
+class JDBCCacheLoadTracker<KEY> {
+
+    private static final long WAIT_TIMEOUT_MS = 100;
+
+    @FunctionalInterface
+    interface Loader {
+        void load() throws DBException;
+    }
+
+    private static class Load {
+        private final Thread thread = Thread.currentThread();
+        private final CountDownLatch done = new CountDownLatch(1);
+    }
+
+    private final Map<KEY, Load> loads = new IdentityHashMap<>();
+
+    /**
+     * Performs load of the key or waits for the same load started by another thread.
+     * Nested loads of the same key in the same thread are performed directly.
+     *
+     * @return true if the load was performed by this call, false if another load was awaited
+     *  (its result must be checked by the caller)
+     */
+    boolean runOrJoin(@NotNull DBRProgressMonitor monitor, @Nullable KEY key, @NotNull Loader loader) throws DBException {
+        Load load;
+        boolean nested = false;
+        synchronized (loads) {
+            load = loads.get(key);
+            if (load == null) {
+                load = new Load();
+                loads.put(key, load);
+            } else if (load.thread == Thread.currentThread()) {
+                nested = true;
+            } else {
+                load = null;
+            }
+        }
+        if (nested) {
+            loader.load();
+            return true;
+        }
+        if (load == null) {
+            // Another thread loads the same key
+            join(monitor, key);
+            return false;
+        }
+        try {
+            loader.load();
+        } finally {
+            synchronized (loads) {
+                loads.remove(key);
+            }
+            load.done.countDown();
+        }
+        return true;
+    }
+
+    /**
+     * Waits for load of the key started by another thread.
+     *
+     * @return true if there was such load and it is finished, false if there was nothing to wait for
+     *  or the monitor was canceled
+     */
+    boolean join(@NotNull DBRProgressMonitor monitor, @Nullable KEY key) throws DBException {
+        Load load;
+        synchronized (loads) {
+            load = loads.get(key);
+        }
+        if (load == null || load.thread == Thread.currentThread()) {
+            return false;
+        }
+        try {
+            while (!load.done.await(WAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                if (monitor.isCanceled()) {
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DBException("Metadata load interrupted", e);
+        }
+        return true;
+    }
+
+}
@@ -66,6 +66,7 @@ public abstract class JDBCCompositeCache<
     private final Object objectColumnName;
 
     private final Map<PARENT, List<OBJECT>> objectCache = new LinkedHashMap<>();
+    private final JDBCCacheLoadTracker<PARENT> objectLoads = new JDBCCacheLoadTracker<>();
 
     protected JDBCCompositeCache(
         JDBCStructCache<OWNER,?,?> parentCache,
@@ -220,14 +221,16 @@ public abstract class JDBCCompositeCache<
     @Override
     public void clearObjectCache(@NotNull PARENT forParent)
     {
-        if (forParent == null) {
-            super.clearCache();
-            objectCache.clear();
-        } else {
-            List<OBJECT> removedObjects = objectCache.remove(forParent);
-            if (removedObjects != null) {
-                for (OBJECT obj : removedObjects) {
-                    super.removeObject(obj, false);
+        synchronized (objectCache) {
+            if (forParent == null) {
+                super.clearCache();
+                objectCache.clear();
+            } else {
+                List<OBJECT> removedObjects = objectCache.remove(forParent);
+                if (removedObjects != null) {
+                    for (OBJECT obj : removedObjects) {
+                        super.removeObject(obj, false);
+                    }
                 }
             }
         }
@@ -275,6 +278,11 @@ public abstract class JDBCCompositeCache<
         }
     }
 
+    /**
+     * Reads objects from database.
+     * Objects of different parents are read concurrently. Concurrent requests for the same parent
+     * (or for the whole owner) share one query. Parent requests also wait for the whole owner read.
+     */
     protected void loadObjects(DBRProgressMonitor monitor, OWNER owner, PARENT forParent)
         throws DBException
     {
@@ -282,13 +290,31 @@ public abstract class JDBCCompositeCache<
             log.debug("[TEST] Skip composite cache read in test mode");
             return;
         }
+        while (!isObjectsLoaded(monitor, forParent) && !monitor.isCanceled()) {
+            if (forParent != null && objectLoads.join(monitor, null)) {
+                // Whole owner was read, check again
+                continue;
+            }
+            if (objectLoads.runOrJoin(monitor, forParent, () -> readObjects(monitor, owner, forParent))) {
+                break;
+            }
+        }
+    }
+
+    private boolean isObjectsLoaded(DBRProgressMonitor monitor, PARENT forParent)
+    {
         synchronized (objectCache) {
-            if (monitor.isForceCacheUsage() ||
+            return monitor.isForceCacheUsage() ||
                 (forParent == null && isFullyCached()) ||
-                (forParent != null && (!forParent.isPersisted() || objectCache.containsKey(forParent))))
-            {
-                return;
-            }
+                (forParent != null && (!forParent.isPersisted() || objectCache.containsKey(forParent)));
+        }
+    }
+
+    private void readObjects(DBRProgressMonitor monitor, OWNER owner, PARENT forParent)
+        throws DBException
+    {
+        if (isObjectsLoaded(monitor, forParent)) {
+            return;
         }
 
         // Load tables and columns first
@@ -308,8 +334,8 @@ public abstract class JDBCCompositeCache<
             JDBCStatement dbStat = prepareObjectsStatement(session, owner, forParent);
             dbStat.setFetchSize(DBConstants.METADATA_FETCH_SIZE);
             try {
-                dbStat.executeStatement();
-                JDBCResultSet dbResult = dbStat.getResultSet();
+                JDBCResultSet dbResult = JDBCMetadataSnapshot.executeStatement(
+                    session, dbStat, JDBCMetadataSnapshot.makeKey(this, owner, forParent));
                 if (dbResult != null) try {
                     while (dbResult.next()) {
                         if (monitor.isCanceled()) {
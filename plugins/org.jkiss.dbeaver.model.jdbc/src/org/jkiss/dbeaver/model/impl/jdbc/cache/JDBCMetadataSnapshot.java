@@ -0,0 +1,680 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.cache;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
+import org.jkiss.dbeaver.model.impl.jdbc.JDBCArrayImpl;
+import org.jkiss.dbeaver.model.impl.jdbc.JDBCDataSource;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCPreparedStatementImpl;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCResultSetImpl;
+import org.jkiss.dbeaver.model.meta.ForTest;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.utils.CommonUtils;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetFactory;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persistent snapshot of metadata cache queries results.
+ * <p>
+ * Rows read by metadata caches are recorded and saved in the project metadata folder on disconnect.
+ * On the next connect the snapshot is loaded in background and the first load of each cache
+ * is served from the snapshot instead of the database. Subsequent loads (e.g. refresh) read the database
+ * and update the snapshot.
+ * <p>
+ * Each entry keeps the metadata version of its database (see {@link JDBCDataSource#readMetadataVersion(JDBCSession)})
+ * read before the entry was recorded. Entry is served only if the database reports the same version now,
+ * i.e. there was no DDL since the entry was read. Databases which can't report metadata version don't use snapshot.
+ * The snapshot is discarded if the database server or application version changes.
+ */
+public class JDBCMetadataSnapshot {
+
+    private static final Log log = Log.getLog(JDBCMetadataSnapshot.class);
+
+    private static final int FILE_MAGIC = 0x44424D53;
+    private static final int FORMAT_VERSION = 2;
+    private static final String SNAPSHOT_FOLDER = "metadata-snapshots"; //$NON-NLS-1$
+    private static final long MAX_ENTRY_AGE = TimeUnit.DAYS.toMillis(7);
+
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_STRING = 1;
+    private static final byte VALUE_INT = 2;
+    private static final byte VALUE_LONG = 3;
+    private static final byte VALUE_DECIMAL = 4;
+    private static final byte VALUE_DOUBLE = 5;
+    private static final byte VALUE_BOOLEAN = 6;
+    private static final byte VALUE_TIMESTAMP = 7;
+    private static final byte VALUE_DATE = 8;
+    private static final byte VALUE_BYTES = 9;
+    private static final byte VALUE_ARRAY = 10;
+
+    // Element types of restored arrays. Drivers return typed arrays and callers cast them.
+    private static final Map<String, Class<?>> ARRAY_ELEMENT_TYPES = Map.of(
+        String.class.getName(), String.class,
+        Integer.class.getName(), Integer.class,
+        Long.class.getName(), Long.class,
+        BigDecimal.class.getName(), BigDecimal.class,
+        Double.class.getName(), Double.class,
+        Boolean.class.getName(), Boolean.class,
+        Timestamp.class.getName(), Timestamp.class,
+        Date.class.getName(), Date.class);
+
+    // Metadata version of databases which can't report it
+    private static final String NO_VERSION = ""; //$NON-NLS-1$
+
+    private static volatile RowSetFactory rowSetFactory;
+
+    private record Entry(
+        long timestamp,
+        @NotNull String version,
+        @NotNull String[] labels,
+        @NotNull int[] types,
+        @NotNull List<Object[]> rows
+    ) {
+    }
+
+    private final Path file;
+    private final String serverVersion;
+    private final String appVersion;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Entries served in this session. Next reads of the same data go to the database.
+    private final Set<String> usedKeys = ConcurrentHashMap.newKeySet();
+    // Metadata versions read in this session
+    private final Map<DBSInstance, String> instanceVersions = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private volatile boolean modified;
+
+    @ForTest
+    public JDBCMetadataSnapshot(@NotNull Path file, @NotNull String serverVersion, @NotNull String appVersion) {
+        this.file = file;
+        this.serverVersion = serverVersion;
+        this.appVersion = appVersion;
+    }
+
+    /**
+     * Creates snapshot for the connected data source and starts its loading.
+     *
+     * @return snapshot or null if snapshots are disabled for this connection
+     */
+    @Nullable
+    public static JDBCMetadataSnapshot openSnapshot(@NotNull JDBCDataSource dataSource) {
+        DBPDataSourceContainer container = dataSource.getContainer();
+        if (!container.getPreferenceStore().getBoolean(ModelPreferences.META_USE_SNAPSHOT)) {
+            return null;
+        }
+        Path metadataFolder = container.getProject().getMetadataFolder(false);
+        JDBCMetadataSnapshot snapshot = new JDBCMetadataSnapshot(
+            metadataFolder.resolve(SNAPSHOT_FOLDER).resolve(container.getId() + ".bin"),
+            CommonUtils.notEmpty(dataSource.getInfo().getDatabaseProductVersion()),
+            GeneralUtils.getProductVersion().toString());
+        AbstractJob loadJob = new AbstractJob("Load metadata snapshot of '" + container.getName() + "'") {
+            @Override
+            protected IStatus run(DBRProgressMonitor monitor) {
+                snapshot.ensureLoaded();
+                return Status.OK_STATUS;
+            }
+        };
+        loadJob.setSystem(true);
+        loadJob.schedule();
+        return snapshot;
+    }
+
+    /**
+     * Makes snapshot key of the cache contents
+     *
+     * @param parent parent object, if cache reads contents of a single parent
+     */
+    @NotNull
+    public static String makeKey(@NotNull Object cache, @NotNull DBSObject owner, @Nullable DBSObject parent) {
+        String key = cache.getClass().getName() + ":" + DBUtils.getObjectFullId(owner);
+        return parent == null ? key : key + ":" + parent.getName();
+    }
+
+    /**
+     * Executes metadata statement or reads its results from the connection snapshot.
+     * Results read from the database are recorded into the snapshot.
+     *
+     * @param key cache key (see {@link #makeKey(Object, DBSObject, DBSObject)}).
+     *            Statement text and bound parameters are appended to it.
+     */
+    @Nullable
+    public static JDBCResultSet executeStatement(
+        @NotNull JDBCSession session,
+        @NotNull JDBCStatement dbStat,
+        @NotNull String key
+    ) throws SQLException {
+        JDBCMetadataSnapshot snapshot = session.getDataSource().getMetadataSnapshot();
+        if (snapshot != null) {
+            key = makeStatementKey(dbStat, key);
+        }
+        // Version is read before the statement, so recorded rows are never older than the version
+        String version = snapshot == null ? null : snapshot.getMetadataVersion(session);
+        if (version != null) {
+            ResultSet rows = snapshot.readRows(key, version);
+            if (rows != null) {
+                return JDBCResultSetImpl.makeResultSet(session, dbStat, rows, key, true);
+            }
+        }
+        dbStat.executeStatement();
+        JDBCResultSet dbResult = dbStat.getResultSet();
+        if (version != null && dbResult != null) {
+            if (hasStreamColumns(dbResult.getOriginal().getMetaData())) {
+                // Streamed values may be read only once, so all rows are read here and then served from the entry
+                Entry entry;
+                try {
+                    entry = readEntry(dbResult.getOriginal(), version);
+                } finally {
+                    dbResult.close();
+                }
+                snapshot.putRows(key, entry);
+                return JDBCResultSetImpl.makeResultSet(session, dbStat, makeRowSet(entry), key, true);
+            }
+            return new RecordingResultSet(session, dbStat, dbResult, snapshot, key, version);
+        }
+        return dbResult;
+    }
+
+    /**
+     * Cache may read different data depending on server version, settings and filters,
+     * so the key includes the statement text with parameter values.
+     */
+    @NotNull
+    static String makeStatementKey(@NotNull JDBCStatement dbStat, @NotNull String key) {
+        String query = dbStat instanceof JDBCPreparedStatementImpl prepStat ?
+            prepStat.getFormattedQuery() : dbStat.getQueryString();
+        return key + "\n" + CommonUtils.notEmpty(query);
+    }
+
+    /**
+     * Returns metadata version of the session database.
+     * Version is read once and kept until the data source is refreshed (see {@link #resetMetadataVersions()}).
+     *
+     * @return version or null if database doesn't report it
+     */
+    @Nullable
+    private String getMetadataVersion(@NotNull JDBCSession session) {
+        DBSInstance instance = session.getExecutionContext().getOwnerInstance();
+        String version = instanceVersions.get(instance);
+        if (version == null) {
+            try {
+                version = CommonUtils.notEmpty(session.getDataSource().readMetadataVersion(session));
+            } catch (Exception e) {
+                log.debug("Error reading metadata version of '" + instance.getName() + "'. Metadata snapshot won't be used", e);
+                version = NO_VERSION;
+            }
+            String prevVersion = instanceVersions.putIfAbsent(instance, version);
+            if (prevVersion != null) {
+                version = prevVersion;
+            }
+        }
+        return NO_VERSION.equals(version) ? null : version;
+    }
+
+    /**
+     * Forgets metadata versions, so next metadata reads read the current version. Called on data source refresh.
+     */
+    public void resetMetadataVersions() {
+        instanceVersions.clear();
+    }
+
+    @ForTest
+    @Nullable
+    public ResultSet readRows(@NotNull String key, @NotNull String version) throws SQLException {
+        ensureLoaded();
+        Entry entry = entries.get(key);
+        if (entry == null || !usedKeys.add(key) || System.currentTimeMillis() - entry.timestamp > MAX_ENTRY_AGE) {
+            return null;
+        }
+        if (!version.equals(entry.version)) {
+            // Metadata was changed since the entry was recorded
+            return null;
+        }
+        return makeRowSet(entry);
+    }
+
+    @ForTest
+    public void recordRows(@NotNull String key, @NotNull String version, @NotNull ResultSet resultSet) throws SQLException {
+        putRows(key, readEntry(resultSet, version));
+    }
+
+    @NotNull
+    private static ResultSet makeRowSet(@NotNull Entry entry) throws SQLException {
+        RowSetFactory factory = rowSetFactory;
+        if (factory == null) {
+            factory = rowSetFactory = RowSetProvider.newFactory();
+        }
+        CachedRowSet rowSet = factory.createCachedRowSet();
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(entry.labels.length);
+        for (int i = 0; i < entry.labels.length; i++) {
+            metaData.setColumnName(i + 1, entry.labels[i]);
+            metaData.setColumnLabel(i + 1, entry.labels[i]);
+            metaData.setColumnType(i + 1, entry.types[i]);
+            metaData.setNullable(i + 1, ResultSetMetaData.columnNullable);
+        }
+        rowSet.setMetaData(metaData);
+        for (Object[] row : entry.rows) {
+            rowSet.moveToInsertRow();
+            for (int i = 0; i < row.length; i++) {
+                if (row[i] == null) {
+                    rowSet.updateNull(i + 1);
+                } else {
+                    rowSet.updateObject(i + 1, row[i]);
+                }
+            }
+            rowSet.insertRow();
+        }
+        rowSet.moveToCurrentRow();
+        rowSet.beforeFirst();
+        return rowSet;
+    }
+
+    private void putRows(@NotNull String key, @NotNull Entry entry) {
+        entries.put(key, entry);
+        usedKeys.add(key);
+        modified = true;
+    }
+
+    private synchronized void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FORMAT_VERSION) {
+                log.debug("Unsupported metadata snapshot format: " + file);
+                return;
+            }
+            if (!serverVersion.equals(readString(in)) || !appVersion.equals(readString(in))) {
+                log.debug("Metadata snapshot " + file + " is outdated");
+                return;
+            }
+            int entryCount = in.readInt();
+            for (int i = 0; i < entryCount; i++) {
+                String key = readString(in);
+                long timestamp = in.readLong();
+                String version = readString(in);
+                int columnCount = in.readInt();
+                String[] labels = new String[columnCount];
+                int[] types = new int[columnCount];
+                for (int k = 0; k < columnCount; k++) {
+                    labels[k] = readString(in);
+                    types[k] = in.readInt();
+                }
+                int rowCount = in.readInt();
+                List<Object[]> rows = new ArrayList<>(rowCount);
+                for (int r = 0; r < rowCount; r++) {
+                    Object[] row = new Object[columnCount];
+                    for (int k = 0; k < columnCount; k++) {
+                        row[k] = readValue(in);
+                    }
+                    rows.add(row);
+                }
+                entries.putIfAbsent(key, new Entry(timestamp, version, labels, types, rows));
+            }
+        } catch (Exception e) {
+            log.debug("Error reading metadata snapshot " + file, e);
+            entries.clear();
+        }
+    }
+
+    /**
+     * Saves snapshot if it was changed in this session
+     */
+    public void save() {
+        if (!modified) {
+            return;
+        }
+        ensureLoaded();
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tmpFile))))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, serverVersion);
+                writeString(out, appVersion);
+                List<Map.Entry<String, Entry>> entryList = new ArrayList<>(entries.entrySet());
+                out.writeInt(entryList.size());
+                for (Map.Entry<String, Entry> mapEntry : entryList) {
+                    Entry entry = mapEntry.getValue();
+                    writeString(out, mapEntry.getKey());
+                    out.writeLong(entry.timestamp);
+                    writeString(out, entry.version);
+                    out.writeInt(entry.labels.length);
+                    for (int i = 0; i < entry.labels.length; i++) {
+                        writeString(out, entry.labels[i]);
+                        out.writeInt(entry.types[i]);
+                    }
+                    out.writeInt(entry.rows.size());
+                    for (Object[] row : entry.rows) {
+                        for (Object value : row) {
+                            writeValue(out, value);
+                        }
+                    }
+                }
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+            modified = false;
+        } catch (IOException e) {
+            log.debug("Error saving metadata snapshot " + file, e);
+        }
+    }
+
+    private static boolean isStreamType(int type) {
+        switch (type) {
+            case Types.LONGVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+            case Types.CLOB:
+            case Types.NCLOB:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean hasStreamColumns(@NotNull ResultSetMetaData metaData) throws SQLException {
+        for (int i = 0; i < metaData.getColumnCount(); i++) {
+            if (isStreamType(metaData.getColumnType(i + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NotNull
+    private static Entry readEntry(@NotNull ResultSet resultSet, @NotNull String version) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        String[] labels = new String[columnCount];
+        int[] types = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            labels[i] = metaData.getColumnLabel(i + 1);
+            types[i] = metaData.getColumnType(i + 1);
+        }
+        List<Object[]> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            rows.add(readRow(resultSet, types));
+        }
+        return new Entry(System.currentTimeMillis(), version, labels, types, rows);
+    }
+
+    @NotNull
+    private static Object[] readRow(@NotNull ResultSet resultSet, @NotNull int[] types) throws SQLException {
+        Object[] row = new Object[types.length];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = readColumnValue(resultSet, i + 1, types[i]);
+        }
+        return row;
+    }
+
+    /**
+     * Reads column value in a form which can be saved in the snapshot.
+     * Streams are read fully, driver specific values are kept in their string form.
+     */
+    @Nullable
+    private static Object readColumnValue(@NotNull ResultSet resultSet, int index, int type) throws SQLException {
+        switch (type) {
+            case Types.LONGVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.CLOB:
+            case Types.NCLOB:
+                return resultSet.getString(index);
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return resultSet.getBytes(index);
+        }
+        Object value = resultSet.getObject(index);
+        if (value instanceof Array array) {
+            try {
+                if (array.getArray() instanceof Object[] items && isSupportedArray(items)) {
+                    return new JDBCArrayImpl(CommonUtils.notEmpty(array.getBaseTypeName()), array.getBaseType(), items);
+                }
+            } catch (SQLFeatureNotSupportedException | UnsupportedOperationException e) {
+                // Use string form
+            }
+        } else if (isSupportedValue(value)) {
+            return value;
+        }
+        return resultSet.getString(index);
+    }
+
+    private static boolean isSupportedValue(@Nullable Object value) {
+        return value == null || value instanceof String || value instanceof Integer || value instanceof Long ||
+            value instanceof BigDecimal || value instanceof Double || value instanceof Boolean ||
+            value instanceof Timestamp || value instanceof Date || value instanceof byte[];
+    }
+
+    private static boolean isSupportedArray(@NotNull Object[] items) {
+        if (!ARRAY_ELEMENT_TYPES.containsKey(items.getClass().getComponentType().getName()) &&
+            items.getClass().getComponentType() != Object.class) {
+            return false;
+        }
+        for (Object item : items) {
+            if (item instanceof byte[] || !isSupportedValue(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeValue(@NotNull DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(VALUE_NULL);
+        } else if (value instanceof String str) {
+            out.writeByte(VALUE_STRING);
+            writeString(out, str);
+        } else if (value instanceof Integer intValue) {
+            out.writeByte(VALUE_INT);
+            out.writeInt(intValue);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(VALUE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof BigDecimal decimal) {
+            out.writeByte(VALUE_DECIMAL);
+            writeString(out, decimal.toString());
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Boolean boolValue) {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean(boolValue);
+        } else if (value instanceof Timestamp timestamp) {
+            out.writeByte(VALUE_TIMESTAMP);
+            out.writeLong(timestamp.getTime());
+            out.writeInt(timestamp.getNanos());
+        } else if (value instanceof Date date) {
+            out.writeByte(VALUE_DATE);
+            out.writeLong(date.getTime());
+        } else if (value instanceof byte[] bytes) {
+            out.writeByte(VALUE_BYTES);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof JDBCArrayImpl array) {
+            try {
+                Object[] items = (Object[]) array.getArray();
+                out.writeByte(VALUE_ARRAY);
+                writeString(out, array.getBaseTypeName());
+                out.writeInt(array.getBaseType());
+                writeString(out, items.getClass().getComponentType().getName());
+                out.writeInt(items.length);
+                for (Object item : items) {
+                    writeValue(out, item);
+                }
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+        } else {
+            throw new IOException("Unsupported snapshot value: " + value.getClass().getName());
+        }
+    }
+
+    @Nullable
+    private static Object readValue(@NotNull DataInputStream in) throws IOException {
+        byte valueType = in.readByte();
+        switch (valueType) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return readString(in);
+            case VALUE_INT:
+                return in.readInt();
+            case VALUE_LONG:
+                return in.readLong();
+            case VALUE_DECIMAL:
+                return new BigDecimal(readString(in));
+            case VALUE_DOUBLE:
+                return in.readDouble();
+            case VALUE_BOOLEAN:
+                return in.readBoolean();
+            case VALUE_TIMESTAMP: {
+                Timestamp timestamp = new Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            }
+            case VALUE_DATE:
+                return new Date(in.readLong());
+            case VALUE_BYTES: {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return bytes;
+            }
+            case VALUE_ARRAY: {
+                String typeName = readString(in);
+                int baseType = in.readInt();
+                Class<?> elementType = ARRAY_ELEMENT_TYPES.getOrDefault(readString(in), Object.class);
+                Object[] items = (Object[]) java.lang.reflect.Array.newInstance(elementType, in.readInt());
+                for (int i = 0; i < items.length; i++) {
+                    items[i] = readValue(in);
+                }
+                return new JDBCArrayImpl(typeName, baseType, items);
+            }
+            default:
+                throw new IOException("Bad snapshot value type: " + valueType);
+        }
+    }
+
+    // DataOutput.writeUTF is limited to 64K
+    private static void writeString(@NotNull DataOutputStream out, @NotNull String str) throws IOException {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @NotNull
+    private static String readString(@NotNull DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Result set which records rows read from the database. Used for results without streamed columns.
+     * Rows are put into the snapshot only if the result set was read completely.
+     */
+    private static class RecordingResultSet extends JDBCResultSetImpl {
+        private final JDBCResultSet source;
+        private final JDBCMetadataSnapshot snapshot;
+        private final String key;
+        private final String version;
+        private final String[] labels;
+        private final int[] types;
+        private final List<Object[]> rows;
+        private boolean completed;
+
+        RecordingResultSet(
+            @NotNull JDBCSession session,
+            @NotNull JDBCStatement statement,
+            @NotNull JDBCResultSet source,
+            @NotNull JDBCMetadataSnapshot snapshot,
+            @NotNull String key,
+            @NotNull String version
+        ) throws SQLException {
+            super(session, statement, source.getOriginal(), key, true);
+            this.source = source;
+            this.snapshot = snapshot;
+            this.key = key;
+            this.version = version;
+
+            ResultSetMetaData metaData = source.getOriginal().getMetaData();
+            int columnCount = metaData.getColumnCount();
+            labels = new String[columnCount];
+            types = new int[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                labels[i] = metaData.getColumnLabel(i + 1);
+                types[i] = metaData.getColumnType(i + 1);
+            }
+            rows = new ArrayList<>();
+        }
+
+        @Override
+        public boolean next() throws SQLException {
+            boolean fetched = source.next();
+            if (fetched) {
+                rows.add(readRow(getOriginal(), types));
+            } else {
+                completed = true;
+            }
+            return fetched;
+        }
+
+        @Override
+        public void close() {
+            source.close();
+            if (completed) {
+                snapshot.putRows(key, new Entry(System.currentTimeMillis(), version, labels, types, rows));
+            }
+        }
+    }
+
+}
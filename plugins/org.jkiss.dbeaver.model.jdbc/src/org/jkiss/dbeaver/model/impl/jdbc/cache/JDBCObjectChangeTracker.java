@@ -0,0 +1,138 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.cache;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
+import org.jkiss.dbeaver.model.meta.ForTest;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.utils.CommonUtils;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks changes of objects using cheap change markers (e.g. catalog row versions or DDL timestamps).
+ * <p>
+ * Markers are read on each refresh and compared with markers read by the previous refresh.
+ * Only objects with changed markers need to be re-read.
+ */
+public abstract class JDBCObjectChangeTracker<OWNER extends DBSObject> {
+
+    private static final Log log = Log.getLog(JDBCObjectChangeTracker.class);
+
+    // Full reload is cheaper than reloading too many objects one by one
+    private static final int MAX_CHANGED_OBJECTS = 50;
+
+    private Map<String, String> markers;
+
+    /**
+     * Creates statement which reads object keys (first column) and change markers (second column).
+     * Object key is the name which is used for the object lookup in the cache.
+     */
+    @NotNull
+    protected abstract JDBCStatement prepareMarkersStatement(@NotNull JDBCSession session, @NotNull OWNER owner)
+        throws SQLException;
+
+    /**
+     * Reads change markers and compares them with markers read by the previous call.
+     *
+     * @return keys of added, changed and removed objects.
+     * Null if changes are unknown (first call, markers are not supported or there are too many changes).
+     */
+    @Nullable
+    public synchronized Set<String> readChanges(@NotNull DBRProgressMonitor monitor, @NotNull OWNER owner) {
+        DBPDataSource dataSource = owner.getDataSource();
+        if (dataSource == null ||
+            !dataSource.getContainer().getPreferenceStore().getBoolean(ModelPreferences.META_INCREMENTAL_REFRESH))
+        {
+            markers = null;
+            return null;
+        }
+        Map<String, String> prevMarkers = markers;
+        markers = null;
+        Map<String, String> newMarkers = new HashMap<>();
+        try (JDBCSession session = DBUtils.openMetaSession(monitor, owner, "Read change markers of " + owner.getName())) {
+            try (JDBCStatement dbStat = prepareMarkersStatement(session, owner)) {
+                dbStat.executeStatement();
+                try (JDBCResultSet dbResult = dbStat.getResultSet()) {
+                    while (dbResult != null && dbResult.next()) {
+                        if (monitor.isCanceled()) {
+                            return null;
+                        }
+                        String key = dbResult.getString(1);
+                        String marker = CommonUtils.notEmpty(dbResult.getString(2));
+                        if (key != null) {
+                            // Different objects may have the same name
+                            newMarkers.merge(key, marker, (m1, m2) -> m1 + "," + m2);
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Error reading change markers of " + owner.getName() + ", full refresh will be used", e);
+            return null;
+        }
+        markers = newMarkers;
+        return diffMarkers(prevMarkers, newMarkers);
+    }
+
+    /**
+     * Compares markers of two refreshes.
+     *
+     * @return keys of added, changed and removed objects.
+     * Null if there are no previous markers or there are too many changes.
+     */
+    @ForTest
+    @Nullable
+    public static Set<String> diffMarkers(@Nullable Map<String, String> prevMarkers, @NotNull Map<String, String> newMarkers) {
+        if (prevMarkers == null) {
+            return null;
+        }
+        Set<String> changes = new LinkedHashSet<>();
+        for (Map.Entry<String, String> entry : newMarkers.entrySet()) {
+            if (!entry.getValue().equals(prevMarkers.get(entry.getKey()))) {
+                changes.add(entry.getKey());
+            }
+        }
+        for (String key : prevMarkers.keySet()) {
+            if (!newMarkers.containsKey(key)) {
+                changes.add(key);
+            }
+        }
+        return changes.size() > MAX_CHANGED_OBJECTS ? null : changes;
+    }
+
+    /**
+     * Forgets markers. Next refresh will be full.
+     */
+    public synchronized void reset() {
+        markers = null;
+    }
+
+}
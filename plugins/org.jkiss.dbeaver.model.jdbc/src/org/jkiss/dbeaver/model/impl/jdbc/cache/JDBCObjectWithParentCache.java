@@ -207,8 +207,8 @@ public abstract class JDBCObjectWithParentCache<OWNER extends DBSObject, PARENT
             JDBCStatement dbStat = prepareObjectsStatement(session, owner, forParent);
             dbStat.setFetchSize(DBConstants.METADATA_FETCH_SIZE);
             try {
-                dbStat.executeStatement();
-                JDBCResultSet dbResult = dbStat.getResultSet();
+                JDBCResultSet dbResult = JDBCMetadataSnapshot.executeStatement(
+                    session, dbStat, JDBCMetadataSnapshot.makeKey(this, owner, forParent));
                 if (dbResult != null) try {
                     while (dbResult.next()) {
                         if (monitor.isCanceled()) {
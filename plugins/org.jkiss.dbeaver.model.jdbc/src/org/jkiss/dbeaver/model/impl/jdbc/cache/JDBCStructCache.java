@@ -50,6 +50,7 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
     private final Object objectNameColumn;
     private volatile boolean childrenCached = false;
     private final Map<OBJECT, SimpleObjectCache<OBJECT, CHILD>> childrenCache = new IdentityHashMap<>();
+    private final JDBCCacheLoadTracker<OBJECT> childrenLoads = new JDBCCacheLoadTracker<>();
 
     abstract protected JDBCStatement prepareChildrenStatement(@NotNull JDBCSession session, @NotNull OWNER owner, @Nullable OBJECT forObject)
         throws SQLException;
@@ -62,7 +63,9 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
     }
 
     /**
-     * Reads children objects from database
+     * Reads children objects from database.
+     * Children of different objects are read concurrently. Concurrent requests for the same object
+     * (or for the whole container) share one query. Object children requests also wait for the whole container read.
      *
      * @param monitor
      *            monitor
@@ -71,10 +74,26 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
      * @throws org.jkiss.dbeaver.DBException
      *             on error
      */
-    public synchronized void loadChildren(DBRProgressMonitor monitor, OWNER owner, @Nullable final OBJECT forObject) throws DBException {
-        if (monitor.isForceCacheUsage() || monitor.isCanceled() ||
+    public void loadChildren(DBRProgressMonitor monitor, OWNER owner, @Nullable final OBJECT forObject) throws DBException {
+        while (!isChildrenLoaded(monitor, forObject)) {
+            if (forObject != null && childrenLoads.join(monitor, null)) {
+                // Whole container was read, check again
+                continue;
+            }
+            if (childrenLoads.runOrJoin(monitor, forObject, () -> readChildren(monitor, owner, forObject))) {
+                break;
+            }
+        }
+    }
+
+    private boolean isChildrenLoaded(@NotNull DBRProgressMonitor monitor, @Nullable OBJECT forObject) {
+        return monitor.isForceCacheUsage() || monitor.isCanceled() ||
             (forObject == null && this.childrenCached) ||
-            (forObject != null && (!forObject.isPersisted() || isChildrenCached(forObject)))) {
+            (forObject != null && (!forObject.isPersisted() || isChildrenCached(forObject)));
+    }
+
+    private void readChildren(@NotNull DBRProgressMonitor monitor, @NotNull OWNER owner, @Nullable OBJECT forObject) throws DBException {
+        if (isChildrenLoaded(monitor, forObject)) {
             return;
         }
         if (forObject == null) {
@@ -94,8 +113,8 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
             // Load columns
             try (JDBCStatement dbStat = prepareChildrenStatement(session, owner, forObject)) {
                 dbStat.setFetchSize(DBConstants.METADATA_FETCH_SIZE);
-                dbStat.executeStatement();
-                JDBCResultSet dbResult = dbStat.getResultSet();
+                JDBCResultSet dbResult = JDBCMetadataSnapshot.executeStatement(
+                    session, dbStat, JDBCMetadataSnapshot.makeKey(this, owner, forObject));
                 if (dbResult != null) {
                     try {
                         while (dbResult.next()) {
@@ -141,11 +160,8 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
 
                         // All children are read. Now assign them to parents
                         for (Map.Entry<OBJECT, List<CHILD>> colEntry : objectMap.entrySet()) {
-                            if (!isChildrenCached(colEntry.getKey())) {
-                                // isChildrenCached may return true if the same cache was read in other thread
-                                // just skip
-                                cacheChildren(colEntry.getKey(), colEntry.getValue());
-                            }
+                            // Children may be already read in other thread, just skip them
+                            cacheChildrenIfAbsent(colEntry.getKey(), colEntry.getValue());
                         }
                         if (forObject == null) {
                             if (objectMap.isEmpty()) {
@@ -154,14 +170,14 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
                             } else {
                                 // Now set empty column list for other tables
                                 for (OBJECT tmpObject : getAllObjects(monitor, owner)) {
-                                    if (!isChildrenCached(tmpObject) && !objectMap.containsKey(tmpObject)) {
-                                        cacheChildren(tmpObject, new ArrayList<>());
+                                    if (!objectMap.containsKey(tmpObject)) {
+                                        cacheChildrenIfAbsent(tmpObject, new ArrayList<>());
                                     }
                                 }
                                 this.childrenCached = true;
                             }
                         } else if (!objectMap.containsKey(forObject)) {
-                            cacheChildren(forObject, new ArrayList<>());
+                            cacheChildrenIfAbsent(forObject, new ArrayList<>());
                         }
                     } finally {
                         dbResult.close();
@@ -258,6 +274,14 @@ public abstract class JDBCStructCache<OWNER extends DBSObject, OBJECT extends DB
         }
     }
 
+    private void cacheChildrenIfAbsent(OBJECT parent, List<CHILD> children) {
+        synchronized (childrenCache) {
+            if (!childrenCache.containsKey(parent)) {
+                cacheChildren(parent, children);
+            }
+        }
+    }
+
     @NotNull
     protected SimpleObjectCache<OBJECT, CHILD> createNestedCache() {
         SimpleObjectCache<OBJECT, CHILD> nestedCache = new SimpleObjectCache<>();
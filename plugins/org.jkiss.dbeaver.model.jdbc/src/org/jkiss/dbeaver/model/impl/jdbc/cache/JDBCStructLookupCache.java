@@ -31,6 +31,7 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -97,6 +98,29 @@ public abstract class JDBCStructLookupCache<OWNER extends DBSObject, OBJECT exte
         return getCachedObject(objectName);
     }
 
+    /**
+     * Reloads objects with specified names. Cache must be fully loaded.
+     * New objects are added to the cache, objects which don't exist anymore are removed from the cache.
+     */
+    public void reloadObjects(@NotNull DBRProgressMonitor monitor, @NotNull OWNER owner, @NotNull Collection<String> objectNames)
+        throws DBException
+    {
+        for (String objectName : objectNames) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            OBJECT oldObject = getCachedObject(objectName);
+            if (oldObject != null) {
+                refreshObject(monitor, owner, oldObject);
+            } else {
+                OBJECT newObject = reloadObject(monitor, owner, null, objectName);
+                if (newObject != null) {
+                    cacheObject(newObject);
+                }
+            }
+        }
+    }
+
 
     protected OBJECT reloadObject(@NotNull DBRProgressMonitor monitor, @NotNull OWNER owner, @Nullable OBJECT object, @Nullable String objectName)
         throws DBException
@@ -57,6 +57,7 @@ public class JDBCContentBLOB extends JDBCContentLOB {
     private static final Log log = Log.getLog(JDBCContentBLOB.class);
 
     private Blob blob;
+    private long lobLength = -1;
     private InputStream tmpStream;
 
     public JDBCContentBLOB(DBCExecutionContext dataSource, Blob blob) {
@@ -67,11 +68,14 @@ public class JDBCContentBLOB extends JDBCContentLOB {
     @Override
     public long getLOBLength() throws DBCException {
         if (blob != null) {
-            try {
-                return blob.length();
-            } catch (Throwable e) {
-                throw new DBCException(e, executionContext);
+            if (lobLength < 0) {
+                try {
+                    lobLength = blob.length();
+                } catch (Throwable e) {
+                    throw new DBCException(e, executionContext);
+                }
             }
+            return lobLength;
         }
         return 0;
     }
@@ -88,6 +92,7 @@ public class JDBCContentBLOB extends JDBCContentLOB {
         throws DBCException
     {
         if (storage == null && blob != null) {
+            boolean lazyContents = isLazyContents();
             try {
                 long contentLength = getContentLength();
                 DBPPlatform platform = DBWorkbench.getPlatform();
@@ -104,6 +109,9 @@ public class JDBCContentBLOB extends JDBCContentLOB {
                     } catch (Throwable e) {
                         throw new DBCException(e, executionContext);
                     }
+                } else if (lazyContents) {
+                    // Do not copy big content, stream it from the locator when needed
+                    storage = new JDBCContentBLOBStorage(blob, contentLength, getDefaultEncoding());
                 } else {
                     // Create new local storage
                     Path tempFile;
@@ -128,8 +136,17 @@ public class JDBCContentBLOB extends JDBCContentLOB {
             } catch (DBCException e) {
                 handleContentReadingException(e);
             }
-            // Free blob - we don't need it anymore
-            releaseBlob();
+            if (lazyContents) {
+                // Keep blob to read the content again after it is evicted from the cache
+                if (storage instanceof DBDContentCached) {
+                    JDBCContentLOBCache.put(this, storage);
+                }
+            } else {
+                // Free blob - we don't need it anymore
+                releaseBlob();
+            }
+        } else if (storage != null) {
+            JDBCContentLOBCache.touch(this);
         }
         return storage;
     }
@@ -0,0 +1,95 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.app.DBPPlatform;
+import org.jkiss.dbeaver.model.data.DBDContentStorage;
+import org.jkiss.dbeaver.model.data.storage.TemporaryContentStorage;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.utils.ContentUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.SQLException;
+
+/**
+ * Storage which streams content from the BLOB locator on each access.
+ * Used for big BLOBs in lazy LOB mode instead of copying them into temporary files.
+ * The locator is owned (and freed) by the BLOB content.
+ */
+class JDBCContentBLOBStorage implements DBDContentStorage {
+
+    private final Blob blob;
+    private final long contentLength;
+    private final String encoding;
+
+    JDBCContentBLOBStorage(@NotNull Blob blob, long contentLength, String encoding) {
+        this.blob = blob;
+        this.contentLength = contentLength;
+        this.encoding = encoding;
+    }
+
+    @Override
+    public InputStream getContentStream() throws IOException {
+        try {
+            return blob.getBinaryStream();
+        } catch (SQLException e) {
+            throw new IOException("Error reading BLOB stream", e);
+        }
+    }
+
+    @Override
+    public Reader getContentReader() throws IOException {
+        return new InputStreamReader(getContentStream(), encoding);
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public String getCharset() {
+        return encoding;
+    }
+
+    @Override
+    public DBDContentStorage cloneStorage(DBRProgressMonitor monitor) throws IOException {
+        // Copy is independent of the locator
+        DBPPlatform platform = DBWorkbench.getPlatform();
+        Path tempFile = ContentUtils.createTempContentFile(monitor, platform, "blob" + blob.hashCode());
+        try (OutputStream os = Files.newOutputStream(tempFile)) {
+            try (InputStream is = getContentStream()) {
+                ContentUtils.copyStreams(is, contentLength, os, monitor);
+            }
+        } catch (IOException e) {
+            ContentUtils.deleteTempFile(tempFile);
+            throw e;
+        }
+        return new TemporaryContentStorage(platform, tempFile, encoding, true);
+    }
+
+    @Override
+    public void release() {
+        // Nothing to release
+    }
+
+}
@@ -58,6 +58,7 @@ public class JDBCContentCLOB extends JDBCContentLOB implements DBDContent {
     private static final Log log = Log.getLog(JDBCContentCLOB.class);
 
     private Clob clob;
+    private long lobLength = -1;
     private Reader tmpReader;
 
     public JDBCContentCLOB(DBCExecutionContext executionContext, Clob clob) {
@@ -70,11 +71,14 @@ public class JDBCContentCLOB extends JDBCContentLOB implements DBDContent {
         if (clob == null) {
             return 0;
         }
-        try {
-            return clob.length();
-        } catch (Throwable e) {
-            throw new DBCException(e, executionContext);
+        if (lobLength < 0) {
+            try {
+                lobLength = clob.length();
+            } catch (Throwable e) {
+                throw new DBCException(e, executionContext);
+            }
         }
+        return lobLength;
     }
 
     @NotNull
@@ -128,8 +132,15 @@ public class JDBCContentCLOB extends JDBCContentLOB implements DBDContent {
             } catch (DBCException e) {
                 handleContentReadingException(e);
             }
-            // Free lob - we don't need it anymore
-            releaseClob();
+            if (isLazyContents() && storage instanceof DBDContentCached) {
+                // Keep lob to read the content again after it is evicted from the cache
+                JDBCContentLOBCache.put(this, storage);
+            } else {
+                // Free lob - we don't need it anymore
+                releaseClob();
+            }
+        } else if (storage != null) {
+            JDBCContentLOBCache.touch(this);
         }
         return storage;
     }
@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.model.impl.jdbc.data;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDContent;
 import org.jkiss.dbeaver.model.data.DBDContentStorage;
@@ -62,6 +63,23 @@ public abstract class JDBCContentLOB extends JDBCContentAbstract implements DBDC
 
     protected abstract long getLOBLength() throws DBCException;
 
+    /**
+     * In lazy mode LOB locators are kept after contents are read.
+     * Recently read contents are kept in {@link JDBCContentLOBCache}, evicted contents are read again on demand.
+     */
+    protected boolean isLazyContents() {
+        return executionContext.getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.CONTENT_LAZY_LOB);
+    }
+
+    /**
+     * Drops contents evicted from the cache unless they were changed since then
+     */
+    void unloadContents(@NotNull DBDContentStorage loadedStorage) {
+        if (this.storage == loadedStorage && !this.modified) {
+            this.storage = null;
+        }
+    }
+
     @Override
     public boolean updateContents(
         @NotNull DBRProgressMonitor monitor,
@@ -81,6 +99,7 @@ public abstract class JDBCContentLOB extends JDBCContentAbstract implements DBDC
     @Override
     public void release()
     {
+        JDBCContentLOBCache.remove(this);
         if (this.storage != null) {
             this.storage.release();
             this.storage = null;
@@ -0,0 +1,99 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.data.DBDContentStorage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of recently opened LOB contents (used in lazy LOB mode).
+ * <p>
+ * LOB contents are read from locators on demand. The cache keeps a few recently read contents in memory,
+ * contents evicted from the cache are dropped by their LOBs and will be read from the locator again on next access.
+ */
+final class JDBCContentLOBCache {
+
+    private static final int MAX_ENTRIES = 32;
+    private static final long MAX_TOTAL_LENGTH = 32L * 1024 * 1024;
+
+    private static final Map<JDBCContentLOB, DBDContentStorage> contents = new LinkedHashMap<>(16, 0.75f, true);
+    private static long totalLength;
+
+    private JDBCContentLOBCache() {
+    }
+
+    static void put(@NotNull JDBCContentLOB content, @NotNull DBDContentStorage storage) {
+        List<Map.Entry<JDBCContentLOB, DBDContentStorage>> evicted = new ArrayList<>();
+        synchronized (contents) {
+            DBDContentStorage oldStorage = contents.put(content, storage);
+            if (oldStorage != null) {
+                totalLength -= getLength(oldStorage);
+            }
+            totalLength += getLength(storage);
+            for (Iterator<Map.Entry<JDBCContentLOB, DBDContentStorage>> iter = contents.entrySet().iterator(); iter.hasNext(); ) {
+                if (contents.size() <= 1 || (contents.size() <= MAX_ENTRIES && totalLength <= MAX_TOTAL_LENGTH)) {
+                    break;
+                }
+                Map.Entry<JDBCContentLOB, DBDContentStorage> eldest = iter.next();
+                if (eldest.getKey() == content) {
+                    continue;
+                }
+                iter.remove();
+                totalLength -= getLength(eldest.getValue());
+                evicted.add(eldest);
+            }
+        }
+        // Unload outside of the cache lock
+        for (Map.Entry<JDBCContentLOB, DBDContentStorage> entry : evicted) {
+            entry.getKey().unloadContents(entry.getValue());
+        }
+    }
+
+    /**
+     * Marks content as recently used
+     */
+    static void touch(@NotNull JDBCContentLOB content) {
+        synchronized (contents) {
+            contents.get(content);
+        }
+    }
+
+    static void remove(@NotNull JDBCContentLOB content) {
+        synchronized (contents) {
+            DBDContentStorage storage = contents.remove(content);
+            if (storage != null) {
+                totalLength -= getLength(storage);
+            }
+        }
+    }
+
+    private static long getLength(@NotNull DBDContentStorage storage) {
+        try {
+            return storage.getContentLength();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+}
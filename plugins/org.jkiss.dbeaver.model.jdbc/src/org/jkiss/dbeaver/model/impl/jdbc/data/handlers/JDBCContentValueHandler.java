@@ -191,7 +191,8 @@ public class JDBCContentValueHandler extends JDBCAbstractValueHandler implements
         } else if (object instanceof Blob) {
             final JDBCContentBLOB blob = new JDBCContentBLOB(session.getExecutionContext(), (Blob) object);
             final DBPPreferenceStore preferenceStore = session.getDataSource().getContainer().getPreferenceStore();
-            if (preferenceStore.getBoolean(ModelPreferences.CONTENT_CACHE_BLOB) &&
+            if (!preferenceStore.getBoolean(ModelPreferences.CONTENT_LAZY_LOB) &&
+                preferenceStore.getBoolean(ModelPreferences.CONTENT_CACHE_BLOB) &&
                 blob.getLOBLength() < preferenceStore.getLong(ModelPreferences.CONTENT_CACHE_MAX_SIZE))
             {
                 // Precache content
@@ -201,7 +202,8 @@ public class JDBCContentValueHandler extends JDBCAbstractValueHandler implements
         } else if (object instanceof Clob) {
             JDBCContentCLOB clob = new JDBCContentCLOB(session.getExecutionContext(), (Clob) object);
             final DBPPreferenceStore preferenceStore = session.getDataSource().getContainer().getPreferenceStore();
-            if (preferenceStore.getBoolean(ModelPreferences.CONTENT_CACHE_CLOB) &&
+            if (!preferenceStore.getBoolean(ModelPreferences.CONTENT_LAZY_LOB) &&
+                preferenceStore.getBoolean(ModelPreferences.CONTENT_CACHE_CLOB) &&
                 clob.getLOBLength() < preferenceStore.getLong(ModelPreferences.CONTENT_CACHE_MAX_SIZE))
             {
                 // Precache content
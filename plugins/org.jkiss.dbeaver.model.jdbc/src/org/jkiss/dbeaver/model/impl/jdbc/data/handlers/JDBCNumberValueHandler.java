@@ -85,6 +85,29 @@ public class JDBCNumberValueHandler extends JDBCAbstractValueHandler implements
         return getFormatter(column).formatValue(value);
     }
 
+    /**
+     * Appends integer numbers in native format and formatted numbers without intermediate strings.
+     */
+    @Override
+    public synchronized void appendValueDisplayString(
+        @NotNull StringBuilder buffer,
+        @NotNull DBSTypedObject column,
+        @Nullable Object value,
+        @NotNull DBDDisplayFormat format
+    ) {
+        if (value instanceof Number number) {
+            if (format != DBDDisplayFormat.NATIVE && format != DBDDisplayFormat.EDIT) {
+                getFormatter(column).formatValue(number, buffer);
+                return;
+            }
+            if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+                buffer.append(number.longValue());
+                return;
+            }
+        }
+        buffer.append(getValueDisplayString(column, value, format));
+    }
+
     private DBDDataFormatter getFormatter(@NotNull DBSTypedObject column) {
         if (formatter == null) {
             try {
@@ -26,6 +26,7 @@ import org.jkiss.dbeaver.model.data.DBDDataFormatter;
 import org.jkiss.dbeaver.model.data.DBDDataFormatterProfile;
 import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
 import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
@@ -175,7 +176,10 @@ public class JDBCPreparedStatementImpl extends JDBCStatementImpl<PreparedStateme
 
     protected void handleStatementBind(Object parameter, @Nullable Object o)
     {
-        if (isQMLoggingEnabled()) {
+        // Parameters of metadata statements are a part of metadata snapshot key
+        boolean snapshotKey = connection.getPurpose() == DBCExecutionPurpose.META &&
+            connection.getDataSource().getMetadataSnapshot() != null;
+        if (isQMLoggingEnabled() || snapshotKey) {
             // Save parameters
             if (o == null) {
                 o = NULL_VALUE;
@@ -187,7 +191,7 @@ public class JDBCPreparedStatementImpl extends JDBCStatementImpl<PreparedStateme
                 paramMap = new LinkedHashMap<>();
             }
             paramMap.put(parameter, o);
-            if (getSession().isLoggingEnabled()) {
+            if (isQMLoggingEnabled() && getSession().isLoggingEnabled()) {
                 QMUtils.getDefaultHandler().handleStatementBind(this, parameter, o);
             }
         }
@@ -196,8 +196,17 @@ public final class ModelPreferences
     public static final String CONTENT_CACHE_CLOB = "content.cache.clob"; //$NON-NLS-1$
     public static final String CONTENT_CACHE_BLOB = "content.cache.blob"; //$NON-NLS-1$
     public static final String CONTENT_CACHE_MAX_SIZE = "content.cache.maxsize"; //$NON-NLS-1$
+    // Do not read LOBs during fetch, keep locators and read contents on demand
+    public static final String CONTENT_LAZY_LOB = "content.lob.lazy"; //$NON-NLS-1$
     public static final String META_SEPARATE_CONNECTION = "database.meta.separate.connection"; //$NON-NLS-1$
     public static final String META_DISABLE_EXTRA_READ = "database.meta.disableAdditionalRead"; //$NON-NLS-1$
+    // Keep snapshot of metadata queries results between sessions and read metadata from it on connect
+    public static final String META_USE_SNAPSHOT = "database.meta.snapshot"; //$NON-NLS-1$
+    // Refresh only objects which were changed according to server change markers
+    public static final String META_INCREMENTAL_REFRESH = "database.meta.incremental.refresh"; //$NON-NLS-1$
+    // Maximum number of metadata connections used to read structure of several schemas in parallel.
+    // Parallel read is disabled by default, as extra connections may hit server or pool connection limits
+    public static final String META_PREFETCH_CONNECTIONS = "database.meta.prefetch.connections"; //$NON-NLS-1$
     public static final String META_CASE_SENSITIVE = "database.meta.casesensitive"; //$NON-NLS-1$
     public static final String META_USE_SERVER_SIDE_FILTERS = "database.meta.server.side.filters"; //$NON-NLS-1$
     public static final String META_EXTRA_DDL_INFO = "database.meta.extra.ddl.info"; //$NON-NLS-1$
@@ -325,6 +334,9 @@ public final class ModelPreferences
         PrefUtils.setDefaultPreferenceValue(store, META_SEPARATE_CONNECTION, SeparateConnectionBehavior.DEFAULT.name());
         PrefUtils.setDefaultPreferenceValue(store, META_CASE_SENSITIVE, false);
         PrefUtils.setDefaultPreferenceValue(store, META_DISABLE_EXTRA_READ, false);
+        PrefUtils.setDefaultPreferenceValue(store, META_USE_SNAPSHOT, false);
+        PrefUtils.setDefaultPreferenceValue(store, META_INCREMENTAL_REFRESH, true);
+        PrefUtils.setDefaultPreferenceValue(store, META_PREFETCH_CONNECTIONS, 1);
         PrefUtils.setDefaultPreferenceValue(store, META_EXTRA_DDL_INFO, true);
         PrefUtils.setDefaultPreferenceValue(store, META_USE_SERVER_SIDE_FILTERS, true);
 
@@ -348,6 +360,7 @@ public final class ModelPreferences
         PrefUtils.setDefaultPreferenceValue(store, CONTENT_CACHE_CLOB, true);
         PrefUtils.setDefaultPreferenceValue(store, CONTENT_CACHE_BLOB, false);
         PrefUtils.setDefaultPreferenceValue(store, CONTENT_CACHE_MAX_SIZE, 1000000);
+        PrefUtils.setDefaultPreferenceValue(store, CONTENT_LAZY_LOB, false);
 
         // Network
         PrefUtils.setDefaultPreferenceValue(store, NET_TUNNEL_PORT_MIN, 10000);
@@ -1728,7 +1728,11 @@ public final class DBUtils {
     @SuppressWarnings("unchecked")
     @NotNull
     public static <T extends DBCSession> T openMetaSession(@NotNull DBRProgressMonitor monitor, @NotNull DBSObject object, @NotNull String task) throws DBCException {
-        DBCExecutionContext defaultContext = getOrOpenDefaultContext(object, true);
+        // Structure prefetch threads use their own metadata contexts
+        DBCExecutionContext defaultContext = DBStructPrefetcher.getBoundMetaContext(object);
+        if (defaultContext == null) {
+            defaultContext = getOrOpenDefaultContext(object, true);
+        }
         if (defaultContext == null) {
             throw new DBCException("Default context not found");
         }
@@ -1738,7 +1742,11 @@ public final class DBUtils {
     @SuppressWarnings("unchecked")
     @NotNull
     public static <T extends DBCSession> T openMetaSession(@NotNull DBRProgressMonitor monitor, @NotNull DBPDataSource dataSource, @NotNull String task) throws DBCException {
-        return (T) dataSource.getDefaultInstance().getDefaultContext(monitor, true).openSession(monitor, DBCExecutionPurpose.META, task);
+        DBCExecutionContext context = DBStructPrefetcher.getBoundMetaContext(dataSource);
+        if (context == null) {
+            context = dataSource.getDefaultInstance().getDefaultContext(monitor, true);
+        }
+        return (T) context.openSession(monitor, DBCExecutionPurpose.META, task);
     }
 
     @SuppressWarnings("unchecked")
@@ -17,6 +17,7 @@
 
 package org.jkiss.dbeaver.model.data;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 
@@ -44,6 +45,16 @@ public interface DBDDataFormatter {
     @Nullable
     String formatValue(Object value);
 
+    /**
+     * Appends formatted value to the buffer. Nothing is appended if value is formatted as null.
+     */
+    default void formatValue(Object value, @NotNull StringBuilder buffer) {
+        String strValue = formatValue(value);
+        if (strValue != null) {
+            buffer.append(strValue);
+        }
+    }
+
     @Nullable
     Object parseValue(String value, @Nullable Class<?> typeHint) throws ParseException;
     
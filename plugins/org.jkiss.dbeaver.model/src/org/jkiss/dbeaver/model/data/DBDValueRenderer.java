@@ -38,4 +38,23 @@ public interface DBDValueRenderer
     @NotNull
     String getValueDisplayString(@NotNull DBSTypedObject column, @Nullable Object value, @NotNull DBDDisplayFormat format);
 
+    /**
+     * Appends value in human readable format to the buffer.
+     * Result is the same as {@link #getValueDisplayString(DBSTypedObject, Object, DBDDisplayFormat)},
+     * renderers may override it to avoid intermediate strings.
+     *
+     * @param buffer target buffer
+     * @param column column
+     * @param value value
+     * @param format string format
+     */
+    default void appendValueDisplayString(
+        @NotNull StringBuilder buffer,
+        @NotNull DBSTypedObject column,
+        @Nullable Object value,
+        @NotNull DBDDisplayFormat format
+    ) {
+        buffer.append(getValueDisplayString(column, value, format));
+    }
+
 }
@@ -21,6 +21,12 @@ package org.jkiss.dbeaver.model.data.aggregate;
  */
 public class AggregateUtils {
 
+    /**
+     * Functions which need to keep values (median, mode, distinct count) are evaluated exactly up to this number of values.
+     * Bigger inputs are evaluated with streaming estimations.
+     */
+    public static final int EXACT_VALUES_LIMIT = 100_000;
+
     public static int compareValues(Comparable val1, Comparable val2) {
         if (val1 instanceof Number && val2 instanceof Number) {
             double cmpr = ((Number) val1).doubleValue() - ((Number) val2).doubleValue();
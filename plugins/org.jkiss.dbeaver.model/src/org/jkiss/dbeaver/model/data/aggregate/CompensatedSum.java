@@ -0,0 +1,61 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+/**
+ * Floating point sum with compensation of rounding errors (Kahan-Babuska summation)
+ */
+public class CompensatedSum {
+
+    private double sum;
+    private double compensation;
+    private long count;
+
+    public void add(double value) {
+        double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+        count++;
+    }
+
+    /**
+     * Adds all values of another sum
+     */
+    public void add(CompensatedSum other) {
+        if (other.count == 0) {
+            return;
+        }
+        long otherCount = other.count;
+        add(other.sum);
+        compensation += other.compensation;
+        count += otherCount - 1;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        double result = sum + compensation;
+        // Compensation is NaN for infinite sums
+        return Double.isNaN(result) && !Double.isNaN(sum) ? sum : result;
+    }
+}
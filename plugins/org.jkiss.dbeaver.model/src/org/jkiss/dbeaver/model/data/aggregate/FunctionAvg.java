@@ -21,16 +21,13 @@ package org.jkiss.dbeaver.model.data.aggregate;
  */
 public class FunctionAvg extends FunctionNumeric {
 
-    protected double result = Double.NaN;
+    protected final CompensatedSum result = new CompensatedSum();
 
     @Override
     public boolean accumulate(Object value, boolean aggregateAsStrings) {
         Number num = getNumeric(value);
         if (num != null) {
-            if (Double.isNaN(result)) {
-                result = 0.0;
-            }
-            result += num.doubleValue();
+            result.add(num.doubleValue());
             return true;
         }/* else if (value instanceof Date) {
             dateResult += ((Date)value).getTime();
@@ -41,9 +38,9 @@ public class FunctionAvg extends FunctionNumeric {
 
     @Override
     public Object getResult(int valueCount) {
-        if (Double.isNaN(result)) {
+        if (result.getCount() == 0) {
             return null;
         }
-        return result / valueCount;
+        return result.getSum() / valueCount;
     }
 }
@@ -20,25 +20,39 @@ import java.util.HashSet;
 import java.util.Set;
 
 /**
- * FunctionCountDistinct
+ * FunctionCountDistinct.
+ * Exact for up to {@link AggregateUtils#EXACT_VALUES_LIMIT} distinct values, estimated with HyperLogLog after that.
  */
 public class FunctionCountDistinct implements IAggregateFunction {
 
-    private int count = 0;
+    private static final int HLL_PRECISION = 14;
+
     private Set<Object> cache = new HashSet<>();
+    private HyperLogLog estimation;
 
     @Override
     public boolean accumulate(Object value, boolean aggregateAsStrings) {
-        if (!cache.contains(value)) {
-            count++;
-            cache.add(value);
-            return true;
+        if (estimation != null) {
+            return estimation.add(value);
+        }
+        if (!cache.add(value)) {
+            return false;
         }
-        return false;
+        if (cache.size() > AggregateUtils.EXACT_VALUES_LIMIT) {
+            estimation = new HyperLogLog(HLL_PRECISION);
+            for (Object cachedValue : cache) {
+                estimation.add(cachedValue);
+            }
+            cache = null;
+        }
+        return true;
     }
 
     @Override
     public Object getResult(int valueCount) {
-        return count;
+        if (estimation != null) {
+            return estimation.cardinality();
+        }
+        return cache.size();
     }
 }
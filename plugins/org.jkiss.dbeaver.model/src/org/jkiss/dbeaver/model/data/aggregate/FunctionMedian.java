@@ -22,26 +22,53 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Median
+ * Median.
+ * Exact for up to {@link AggregateUtils#EXACT_VALUES_LIMIT} values. Bigger numeric inputs are estimated with t-digest.
  */
 public class FunctionMedian implements IAggregateFunction {
 
     private static final Log log = Log.getLog(FunctionMedian.class);
 
+    private static final double DIGEST_COMPRESSION = 100;
+
     private final List<Comparable<?>> cache = new ArrayList<>();
+    private boolean allNumeric = true;
+    private QuantileDigest digest;
 
     @Override
     public boolean accumulate(Object value, boolean aggregateAsStrings) {
         value = FunctionNumeric.getComparable(value, aggregateAsStrings);
-        if (value != null) {
-            cache.add((Comparable<?>) value);
+        if (value == null) {
+            return false;
+        }
+        if (digest != null) {
+            if (!(value instanceof Number num)) {
+                return false;
+            }
+            digest.add(num.doubleValue());
             return true;
         }
-        return false;
+        cache.add((Comparable<?>) value);
+        allNumeric &= value instanceof Number;
+        if (allNumeric && cache.size() > AggregateUtils.EXACT_VALUES_LIMIT) {
+            // Switch to estimation
+            digest = new QuantileDigest(DIGEST_COMPRESSION);
+            for (Comparable<?> num : cache) {
+                digest.add(((Number) num).doubleValue());
+            }
+            cache.clear();
+        }
+        return true;
     }
 
     @Override
     public Object getResult(int valueCount) {
+        if (digest != null) {
+            return digest.quantile(0.5);
+        }
+        if (cache.isEmpty()) {
+            return null;
+        }
         try {
             cache.sort(AggregateUtils::compareValues);
         } catch (Exception e) {
@@ -16,15 +16,20 @@
  */
 package org.jkiss.dbeaver.model.data.aggregate;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
- * Mode
+ * Mode.
+ * Exact while there are up to {@link AggregateUtils#EXACT_VALUES_LIMIT} distinct values.
+ * After that rare values are periodically dropped (Misra-Gries frequent items), so the most frequent value
+ * is still found if it is frequent enough.
  */
 public class FunctionMode implements IAggregateFunction {
 
-    private final List<Object> cache = new ArrayList<>();
+    // Values in order of appearance - the first one wins among values with the same count
+    private final Map<Object, int[]> counts = new LinkedHashMap<>();
 
     @Override
     public boolean accumulate(Object value, boolean aggregateAsStrings) {
@@ -33,7 +38,10 @@ public class FunctionMode implements IAggregateFunction {
             value = num;
         }
         if (value != null) {
-            cache.add(value);
+            counts.computeIfAbsent(value, k -> new int[1])[0]++;
+            if (counts.size() > AggregateUtils.EXACT_VALUES_LIMIT) {
+                dropRareValues();
+            }
             return true;
         }
         return false;
@@ -44,16 +52,11 @@ public class FunctionMode implements IAggregateFunction {
         Object maxValue = null;
         int maxCount = 0;
 
-        for (int i = 0; i < cache.size(); ++i) {
-            int count = 0;
-            for (int j = 0; j < cache.size(); ++j) {
-                if (cache.get(j).equals(cache.get(i))) {
-                    count++;
-                }
-            }
+        for (Map.Entry<Object, int[]> entry : counts.entrySet()) {
+            int count = entry.getValue()[0];
             if (count > maxCount) {
                 maxCount = count;
-                maxValue = cache.get(i);
+                maxValue = entry.getKey();
             }
         }
 //        if (maxCount <= 1) {
@@ -61,4 +64,12 @@ public class FunctionMode implements IAggregateFunction {
 //        }
         return maxValue;
     }
+
+    private void dropRareValues() {
+        int[] sortedCounts = counts.values().stream().mapToInt(c -> c[0]).toArray();
+        Arrays.sort(sortedCounts);
+        // Decrease all counters by the median count. At least half of values are removed
+        int decrement = sortedCounts[sortedCounts.length / 2];
+        counts.values().removeIf(c -> (c[0] -= decrement) <= 0);
+    }
 }
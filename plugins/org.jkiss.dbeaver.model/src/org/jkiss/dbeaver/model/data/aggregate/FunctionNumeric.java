@@ -27,7 +27,7 @@ public abstract class FunctionNumeric implements IAggregateFunction {
         }
         if (!(value instanceof Number)) {
             String strValue = value.toString();
-            if (strValue == null) {
+            if (strValue == null || isNotNumber(strValue)) {
                 return null;
             }
             try {
@@ -42,6 +42,20 @@ public abstract class FunctionNumeric implements IAggregateFunction {
         return null;
     }
 
+    /**
+     * Fast check for values which definitely can't be parsed as a number,
+     * to avoid exception on each value of text columns
+     */
+    private static boolean isNotNumber(String strValue) {
+        String trimmed = strValue.strip();
+        if (trimmed.isEmpty()) {
+            return true;
+        }
+        char firstChar = trimmed.charAt(0);
+        // NaN and Infinity are valid
+        return Character.isLetter(firstChar) && firstChar != 'N' && firstChar != 'I';
+    }
+
     protected static Comparable<?> getComparable(Object value, boolean aggregateAsStrings) {
         if (!aggregateAsStrings) {
             Number num = FunctionNumeric.getNumeric(value);
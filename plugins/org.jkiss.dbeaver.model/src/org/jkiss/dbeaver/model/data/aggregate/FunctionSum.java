@@ -21,16 +21,13 @@ package org.jkiss.dbeaver.model.data.aggregate;
  */
 public class FunctionSum extends FunctionNumeric {
 
-    protected double result = Double.NaN;
+    protected final CompensatedSum result = new CompensatedSum();
 
     @Override
     public boolean accumulate(Object value, boolean aggregateAsStrings) {
         Number num = getNumeric(value);
         if (num != null) {
-            if (Double.isNaN(result)) {
-                result = 0.0;
-            }
-            result += num.doubleValue();
+            result.add(num.doubleValue());
             return true;
         }
         return false;
@@ -38,10 +35,10 @@ public class FunctionSum extends FunctionNumeric {
 
     @Override
     public Object getResult(int valueCount) {
-        if (Double.isNaN(result)) {
+        if (result.getCount() == 0) {
             return null;
         }
-        return result;
+        return result.getSum();
     }
 
 }
@@ -0,0 +1,389 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Local GROUP BY evaluation over rows which are already in memory.
+ * <p>
+ * Rows are split into chunks which are hash-aggregated in parallel, then partial groups are merged.
+ * Groups are returned in order of their first appearance in the source rows.
+ * Each result row contains group values followed by aggregate values.
+ */
+public class GroupingAggregator {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    public enum Function {
+        COUNT,
+        COUNT_DISTINCT,
+        SUM,
+        AVG,
+        MIN,
+        MAX
+    }
+
+    /**
+     * Aggregate function applied to a source column
+     *
+     * @param function function
+     * @param column   source column index. Negative for COUNT(*).
+     */
+    public record Aggregate(@NotNull Function function, int column) {
+    }
+
+    private final int[] groupColumns;
+    private final Aggregate[] aggregates;
+    private final long minGroupRows;
+
+    /**
+     * @param groupColumns source columns to group by
+     * @param aggregates   aggregates to evaluate for each group
+     * @param minGroupRows minimal number of rows in a group (like HAVING COUNT(*) >= N). Smaller groups are skipped.
+     */
+    public GroupingAggregator(@NotNull int[] groupColumns, @NotNull List<Aggregate> aggregates, long minGroupRows) {
+        this.groupColumns = groupColumns;
+        this.aggregates = aggregates.toArray(new Aggregate[0]);
+        this.minGroupRows = minGroupRows;
+    }
+
+    /**
+     * Finds function by its SQL name
+     */
+    @Nullable
+    public static Function getFunction(@NotNull String name, boolean distinct) {
+        return switch (name.toUpperCase(Locale.ENGLISH)) {
+            case "COUNT" -> distinct ? Function.COUNT_DISTINCT : Function.COUNT;
+            case "SUM" -> distinct ? null : Function.SUM;
+            case "AVG" -> distinct ? null : Function.AVG;
+            case "MIN" -> Function.MIN;
+            case "MAX" -> Function.MAX;
+            default -> null;
+        };
+    }
+
+    /**
+     * Groups rows.
+     * If monitor is canceled then result contains partial groups only.
+     *
+     * @param columns  values of source columns, columns[column][row]. Columns which are not referenced may be null.
+     * @param rowCount number of source rows
+     */
+    @NotNull
+    public List<Object[]> aggregate(@NotNull DBRProgressMonitor monitor, @NotNull Object[][] columns, int rowCount) {
+        int chunkCount = (rowCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<Map<GroupKey, GroupState>> partialGroups = IntStream.range(0, chunkCount)
+            .parallel()
+            .mapToObj(chunk -> monitor.isCanceled() ?
+                Collections.<GroupKey, GroupState>emptyMap() :
+                aggregateRows(columns, chunk * CHUNK_SIZE, Math.min(rowCount, (chunk + 1) * CHUNK_SIZE)))
+            .collect(Collectors.toList());
+
+        // Merge in chunks order to keep order of groups
+        Map<GroupKey, GroupState> groups = new LinkedHashMap<>();
+        for (Map<GroupKey, GroupState> chunkGroups : partialGroups) {
+            for (Map.Entry<GroupKey, GroupState> entry : chunkGroups.entrySet()) {
+                GroupState state = groups.get(entry.getKey());
+                if (state == null) {
+                    groups.put(entry.getKey(), entry.getValue());
+                } else {
+                    state.merge(entry.getValue());
+                }
+            }
+        }
+
+        List<Object[]> result = new ArrayList<>(groups.size());
+        for (Map.Entry<GroupKey, GroupState> entry : groups.entrySet()) {
+            GroupState state = entry.getValue();
+            if (state.rowCount < minGroupRows) {
+                continue;
+            }
+            Object[] keyValues = entry.getKey().values;
+            Object[] row = Arrays.copyOf(keyValues, keyValues.length + aggregates.length);
+            for (int i = 0; i < aggregates.length; i++) {
+                row[keyValues.length + i] = state.accumulators[i].getResult();
+            }
+            result.add(row);
+        }
+        return result;
+    }
+
+    @NotNull
+    private Map<GroupKey, GroupState> aggregateRows(@NotNull Object[][] columns, int fromRow, int toRow) {
+        Map<GroupKey, GroupState> groups = new LinkedHashMap<>();
+        for (int row = fromRow; row < toRow; row++) {
+            Object[] keyValues = new Object[groupColumns.length];
+            for (int i = 0; i < groupColumns.length; i++) {
+                Object value = columns[groupColumns[i]][row];
+                keyValues[i] = DBUtils.isNullValue(value) ? null : value;
+            }
+            GroupState state = groups.computeIfAbsent(new GroupKey(keyValues), key -> new GroupState());
+            state.rowCount++;
+            for (int i = 0; i < aggregates.length; i++) {
+                int column = aggregates[i].column;
+                state.accumulators[i].add(column < 0 ? Boolean.TRUE : columns[column][row]);
+            }
+        }
+        return groups;
+    }
+
+    private static class GroupKey {
+        private final Object[] values;
+        private final int hashCode;
+
+        GroupKey(@NotNull Object[] values) {
+            this.values = values;
+            this.hashCode = Arrays.deepHashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof GroupKey key && hashCode == key.hashCode && Arrays.deepEquals(values, key.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private class GroupState {
+        private final Accumulator[] accumulators = new Accumulator[aggregates.length];
+        private long rowCount;
+
+        GroupState() {
+            for (int i = 0; i < aggregates.length; i++) {
+                accumulators[i] = createAccumulator(aggregates[i].function);
+            }
+        }
+
+        void merge(@NotNull GroupState other) {
+            rowCount += other.rowCount;
+            for (int i = 0; i < accumulators.length; i++) {
+                accumulators[i].merge(other.accumulators[i]);
+            }
+        }
+    }
+
+    @NotNull
+    private static Accumulator createAccumulator(@NotNull Function function) {
+        return switch (function) {
+            case COUNT -> new CountAccumulator();
+            case COUNT_DISTINCT -> new CountDistinctAccumulator();
+            case SUM -> new SumAccumulator(false);
+            case AVG -> new SumAccumulator(true);
+            case MIN -> new ExtremumAccumulator(false);
+            case MAX -> new ExtremumAccumulator(true);
+        };
+    }
+
+    /**
+     * Mergeable aggregate state. Null values are ignored, as SQL aggregates do.
+     */
+    private abstract static class Accumulator {
+        abstract void add(@Nullable Object value);
+
+        abstract void merge(@NotNull Accumulator other);
+
+        @Nullable
+        abstract Object getResult();
+    }
+
+    private static class CountAccumulator extends Accumulator {
+        private long count;
+
+        @Override
+        void add(@Nullable Object value) {
+            if (!DBUtils.isNullValue(value)) {
+                count++;
+            }
+        }
+
+        @Override
+        void merge(@NotNull Accumulator other) {
+            count += ((CountAccumulator) other).count;
+        }
+
+        @Override
+        Object getResult() {
+            return count;
+        }
+    }
+
+    private static class CountDistinctAccumulator extends Accumulator {
+        private final Set<Object> values = new HashSet<>();
+
+        @Override
+        void add(@Nullable Object value) {
+            if (!DBUtils.isNullValue(value)) {
+                values.add(value);
+            }
+        }
+
+        @Override
+        void merge(@NotNull Accumulator other) {
+            values.addAll(((CountDistinctAccumulator) other).values);
+        }
+
+        @Override
+        Object getResult() {
+            return (long) values.size();
+        }
+    }
+
+    /**
+     * Integer values are summed exactly as long (as BigDecimal after overflow), decimals as BigDecimal.
+     * Only floating point values (and numbers parsed from strings) are summed as doubles.
+     * Sum is a double if there were floating point values, a decimal if there were decimals,
+     * and a long (BigInteger if it doesn't fit) otherwise.
+     * Average of integers is a double, average of decimals is a decimal.
+     */
+    private static class SumAccumulator extends Accumulator {
+        private final boolean average;
+        private long count;
+        private long longSum;
+        @Nullable
+        private BigDecimal decimalSum;
+        private boolean hasDecimals;
+        private final CompensatedSum doubleSum = new CompensatedSum();
+
+        SumAccumulator(boolean average) {
+            this.average = average;
+        }
+
+        @Override
+        void add(@Nullable Object value) {
+            Number number = FunctionNumeric.getNumeric(value);
+            if (number == null) {
+                return;
+            }
+            count++;
+            if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+                addLong(number.longValue());
+            } else if (number instanceof BigDecimal decimal) {
+                addDecimal(decimal);
+                hasDecimals = true;
+            } else if (number instanceof BigInteger bigInteger) {
+                addDecimal(new BigDecimal(bigInteger));
+            } else {
+                doubleSum.add(number.doubleValue());
+            }
+        }
+
+        private void addLong(long value) {
+            try {
+                longSum = Math.addExact(longSum, value);
+            } catch (ArithmeticException e) {
+                addDecimal(BigDecimal.valueOf(value));
+            }
+        }
+
+        private void addDecimal(@NotNull BigDecimal value) {
+            decimalSum = decimalSum == null ? value : decimalSum.add(value);
+        }
+
+        @Override
+        void merge(@NotNull Accumulator other) {
+            SumAccumulator otherSum = (SumAccumulator) other;
+            count += otherSum.count;
+            addLong(otherSum.longSum);
+            if (otherSum.decimalSum != null) {
+                addDecimal(otherSum.decimalSum);
+            }
+            hasDecimals |= otherSum.hasDecimals;
+            doubleSum.add(otherSum.doubleSum);
+        }
+
+        @Override
+        Object getResult() {
+            if (count == 0) {
+                return null;
+            }
+            if (doubleSum.getCount() > 0) {
+                double sum = doubleSum.getSum() + longSum + (decimalSum == null ? 0 : decimalSum.doubleValue());
+                return average ? sum / count : sum;
+            }
+            if (decimalSum == null) {
+                if (average) {
+                    return (double) longSum / count;
+                }
+                return longSum;
+            }
+            BigDecimal sum = decimalSum.add(BigDecimal.valueOf(longSum));
+            if (average) {
+                BigDecimal avg = sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+                if (hasDecimals) {
+                    return avg;
+                }
+                return avg.doubleValue();
+            }
+            if (hasDecimals) {
+                return sum;
+            }
+            return sum.toBigInteger();
+        }
+    }
+
+    private static class ExtremumAccumulator extends Accumulator {
+        private final boolean max;
+        private Object result;
+
+        ExtremumAccumulator(boolean max) {
+            this.max = max;
+        }
+
+        @Override
+        void add(@Nullable Object value) {
+            if (DBUtils.isNullValue(value)) {
+                return;
+            }
+            if (result == null) {
+                result = value;
+            } else {
+                int cmp = DBUtils.compareDataValues(value, result);
+                if (max ? cmp > 0 : cmp < 0) {
+                    result = value;
+                }
+            }
+        }
+
+        @Override
+        void merge(@NotNull Accumulator other) {
+            Object otherResult = ((ExtremumAccumulator) other).result;
+            if (otherResult != null) {
+                add(otherResult);
+            }
+        }
+
+        @Override
+        Object getResult() {
+            return result;
+        }
+    }
+
+}
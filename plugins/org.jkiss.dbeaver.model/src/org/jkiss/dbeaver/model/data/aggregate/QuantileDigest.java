@@ -0,0 +1,153 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import java.util.Arrays;
+
+/**
+ * Streaming quantile estimation (merging t-digest).
+ * <p>
+ * Values are collected into a buffer which is periodically merged into a sorted list of centroids.
+ * Centroid sizes are bounded by the quantile they represent, so estimations near the median
+ * have relative error of order 1/compression while memory stays O(compression).
+ */
+public class QuantileDigest {
+
+    private final double compression;
+    private final double[] buffer;
+    private int bufferSize;
+
+    private double[] means = new double[0];
+    private double[] weights = new double[0];
+    private int centroidCount;
+
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileDigest(double compression) {
+        this.compression = compression;
+        this.buffer = new double[(int) (compression * 5)];
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (bufferSize == buffer.length) {
+            merge();
+        }
+        buffer[bufferSize++] = value;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public int getCentroidCount() {
+        merge();
+        return centroidCount;
+    }
+
+    /**
+     * Estimates value of the quantile (0..1). Returns NaN if digest is empty.
+     */
+    public double quantile(double q) {
+        merge();
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+        if (centroidCount == 1) {
+            return means[0];
+        }
+        double index = q * count;
+        if (index < weights[0] / 2) {
+            // Between min and the first centroid center
+            return min + (means[0] - min) * index / (weights[0] / 2);
+        }
+        double center = weights[0] / 2;
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double nextCenter = center + (weights[i] + weights[i + 1]) / 2;
+            if (index < nextCenter) {
+                double ratio = (index - center) / (nextCenter - center);
+                return means[i] + (means[i + 1] - means[i]) * ratio;
+            }
+            center = nextCenter;
+        }
+        int last = centroidCount - 1;
+        double tail = count - center;
+        return tail <= 0 ? means[last] : means[last] + (max - means[last]) * Math.min(1, (index - center) / tail);
+    }
+
+    private void merge() {
+        if (bufferSize == 0) {
+            return;
+        }
+        Arrays.sort(buffer, 0, bufferSize);
+
+        // Merge sorted buffer with sorted centroids
+        int total = centroidCount + bufferSize;
+        double[] allMeans = new double[total];
+        double[] allWeights = new double[total];
+        for (int i = 0, k = 0, b = 0; i < total; i++) {
+            if (b >= bufferSize || (k < centroidCount && means[k] <= buffer[b])) {
+                allMeans[i] = means[k];
+                allWeights[i] = weights[k];
+                k++;
+            } else {
+                allMeans[i] = buffer[b];
+                allWeights[i] = 1;
+                b++;
+            }
+        }
+        bufferSize = 0;
+
+        double[] newMeans = new double[total];
+        double[] newWeights = new double[total];
+        int newCount = 0;
+        double weightSoFar = 0;
+        double curMean = allMeans[0];
+        double curWeight = allWeights[0];
+        for (int i = 1; i < total; i++) {
+            double proposed = curWeight + allWeights[i];
+            double q0 = weightSoFar / count;
+            double q2 = (weightSoFar + proposed) / count;
+            double maxWeight = 4 * count * Math.min(q0 * (1 - q0), q2 * (1 - q2)) / compression;
+            if (proposed <= Math.max(1, maxWeight)) {
+                curMean += (allMeans[i] - curMean) * allWeights[i] / proposed;
+                curWeight = proposed;
+            } else {
+                newMeans[newCount] = curMean;
+                newWeights[newCount] = curWeight;
+                newCount++;
+                weightSoFar += curWeight;
+                curMean = allMeans[i];
+                curWeight = allWeights[i];
+            }
+        }
+        newMeans[newCount] = curMean;
+        newWeights[newCount] = curWeight;
+        newCount++;
+
+        means = Arrays.copyOf(newMeans, newCount);
+        weights = Arrays.copyOf(newWeights, newCount);
+        centroidCount = newCount;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCLogicalOperator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+
+/**
+ * Sort index of a single column of row values.
+ * <p>
+ * Keeps row positions sorted by column value and rank of each row (equal values have equal ranks).
+ * Values are compared only once, on index build. Multi-column orderings are produced from ranks
+ * with stable counting sorts, so changing sort direction or adding a secondary column is linear.
+ * <p>
+ * Index is immutable and must be rebuilt when column values change.
+ */
+public class ColumnSortIndex {
+
+    private final Object[] values;
+    private final Comparator<Object> comparator;
+    // Row positions ordered by value
+    private final int[] order;
+    // Rank of value of each row position
+    private final int[] ranks;
+    private final int rankCount;
+
+    private ColumnSortIndex(
+        @NotNull Object[] values,
+        @NotNull Comparator<Object> comparator,
+        @NotNull int[] order,
+        @NotNull int[] ranks,
+        int rankCount
+    ) {
+        this.values = values;
+        this.comparator = comparator;
+        this.order = order;
+        this.ranks = ranks;
+        this.rankCount = rankCount;
+    }
+
+    /**
+     * Builds index of column values. Values are sorted in parallel.
+     *
+     * @param values     column values. Array position is a row position.
+     * @param comparator values comparator. Must handle nulls.
+     */
+    @NotNull
+    public static ColumnSortIndex build(@NotNull Object[] values, @NotNull Comparator<Object> comparator) {
+        int rowCount = values.length;
+        Integer[] sorted = new Integer[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            sorted[i] = i;
+        }
+        Arrays.parallelSort(sorted, (pos1, pos2) -> comparator.compare(values[pos1], values[pos2]));
+
+        int[] order = new int[rowCount];
+        int[] ranks = new int[rowCount];
+        int rank = -1;
+        for (int i = 0; i < rowCount; i++) {
+            int pos = sorted[i];
+            if (i == 0 || comparator.compare(values[order[i - 1]], values[pos]) != 0) {
+                rank++;
+            }
+            order[i] = pos;
+            ranks[pos] = rank;
+        }
+        return new ColumnSortIndex(values, comparator, order, ranks, rank + 1);
+    }
+
+    public int getRowCount() {
+        return order.length;
+    }
+
+    /**
+     * Returns rank of the value at the specified row position. Equal values have equal ranks.
+     */
+    public int getRank(int position) {
+        return ranks[position];
+    }
+
+    /**
+     * Returns number of distinct values (in terms of index comparator)
+     */
+    public int getRankCount() {
+        return rankCount;
+    }
+
+    /**
+     * Returns row positions ordered by the specified columns. Rows with equal values keep their positions order.
+     *
+     * @param rowCount   number of rows. All indexes must be built for the same rows.
+     * @param indexes    indexes of ordering columns, starting from the primary one
+     * @param descending descending order flags of ordering columns
+     */
+    @NotNull
+    public static int[] sortRows(int rowCount, @NotNull ColumnSortIndex[] indexes, @NotNull boolean[] descending) {
+        int[] result = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            result[i] = i;
+        }
+        if (indexes.length == 0) {
+            return result;
+        }
+        // LSD sort: stable sort by each column starting from the least significant one
+        int[] buffer = new int[rowCount];
+        for (int k = indexes.length - 1; k >= 0; k--) {
+            ColumnSortIndex index = indexes[k];
+            if (index.getRowCount() != rowCount) {
+                throw new IllegalArgumentException("Index row count " + index.getRowCount() + " doesn't match " + rowCount);
+            }
+            int maxRank = index.rankCount - 1;
+            int[] offsets = new int[index.rankCount + 1];
+            for (int pos : result) {
+                int rank = descending[k] ? maxRank - index.ranks[pos] : index.ranks[pos];
+                offsets[rank + 1]++;
+            }
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] += offsets[i - 1];
+            }
+            for (int pos : result) {
+                int rank = descending[k] ? maxRank - index.ranks[pos] : index.ranks[pos];
+                buffer[offsets[rank]++] = pos;
+            }
+            int[] tmp = result;
+            result = buffer;
+            buffer = tmp;
+        }
+        return result;
+    }
+
+    /**
+     * Finds rows which values satisfy the specified condition.
+     * Values are compared with the index comparator, so it must be consistent with operator semantics.
+     * Comparison of NULL with a value is unknown (as in SQL), so rows with NULL values never match.
+     *
+     * @return positions of matching rows or null if condition can't be evaluated with index
+     */
+    @Nullable
+    public BitSet select(@NotNull DBCLogicalOperator operator, @Nullable Object value) {
+        if (value == null) {
+            return null;
+        }
+        int from, to;
+        switch (operator) {
+            case EQUALS, NOT_EQUALS -> {
+                from = lowerBound(value);
+                to = upperBound(value);
+            }
+            case GREATER -> {
+                from = upperBound(value);
+                to = order.length;
+            }
+            case GREATER_EQUALS -> {
+                from = lowerBound(value);
+                to = order.length;
+            }
+            case LESS -> {
+                from = 0;
+                to = lowerBound(value);
+            }
+            case LESS_EQUALS -> {
+                from = 0;
+                to = upperBound(value);
+            }
+            default -> {
+                return null;
+            }
+        }
+        BitSet result = new BitSet(order.length);
+        for (int i = from; i < to; i++) {
+            int pos = order[i];
+            if (!DBUtils.isNullValue(values[pos])) {
+                result.set(pos);
+            }
+        }
+        if (operator == DBCLogicalOperator.NOT_EQUALS) {
+            result.flip(0, order.length);
+            for (int pos = 0; pos < values.length; pos++) {
+                if (DBUtils.isNullValue(values[pos])) {
+                    result.clear(pos);
+                }
+            }
+        }
+        return result;
+    }
+
+    // First sorted position which value is not less than the specified one
+    private int lowerBound(@NotNull Object value) {
+        int low = 0, high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(values[order[mid]], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First sorted position which value is greater than the specified one
+    private int upperBound(@NotNull Object value) {
+        int low = 0, high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(values[order[mid]], value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
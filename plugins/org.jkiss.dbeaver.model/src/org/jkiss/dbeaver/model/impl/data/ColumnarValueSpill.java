@@ -0,0 +1,200 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps memory used by registered value stores within the limit.
+ * <p>
+ * Least recently used stores are moved into a temporary file. Spilled column is loaded back (through memory mapping)
+ * when its values are accessed, which may move other stores out of memory.
+ * Each written segment is mapped once and the mapping is reused by later loads. Mappings are released on close.
+ * Spill lock is always acquired before store locks.
+ */
+public class ColumnarValueSpill {
+
+    private static final Log log = Log.getLog(ColumnarValueSpill.class);
+
+    private static final String SPILL_FOLDER = "resultset-spill";
+
+    private final Path file;
+    private final FileChannel channel;
+    private final long memoryLimit;
+    // Resident stores in access order
+    private final Map<ColumnarValueStore, Boolean> residentStores = new LinkedHashMap<>(16, 0.75f, true);
+    // Mapped segments by file offset
+    private final Map<Long, MappedByteBuffer> segments = new ConcurrentHashMap<>();
+    private long fileSize;
+    private volatile boolean closed;
+
+    public ColumnarValueSpill(@NotNull Path file, long memoryLimit) throws IOException {
+        this.file = file;
+        this.memoryLimit = memoryLimit;
+        this.channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Creates spill in the workspace temp folder
+     */
+    @NotNull
+    public static ColumnarValueSpill create(@NotNull DBRProgressMonitor monitor, long memoryLimit) throws IOException {
+        Path folder = DBWorkbench.getPlatform().getTempFolder(monitor, SPILL_FOLDER);
+        return new ColumnarValueSpill(Files.createTempFile(folder, "rows", ".tmp"), memoryLimit);
+    }
+
+    public long getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    public synchronized long getFileSize() {
+        return fileSize;
+    }
+
+    public synchronized int getResidentStoreCount() {
+        return residentStores.size();
+    }
+
+    public int getMappedSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Registers complete store. Store can't be modified after that.
+     */
+    public synchronized void register(@NotNull ColumnarValueStore store) {
+        if (closed) {
+            return;
+        }
+        store.attachSpill(this);
+        residentStores.put(store, Boolean.TRUE);
+        evictStores(store);
+    }
+
+    /**
+     * Called by store after its values were loaded back
+     */
+    synchronized void touch(@NotNull ColumnarValueStore store) {
+        if (closed) {
+            return;
+        }
+        residentStores.put(store, Boolean.TRUE);
+        evictStores(store);
+    }
+
+    synchronized long write(@NotNull byte[] data) throws IOException {
+        checkOpen();
+        long offset = fileSize;
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        fileSize = position;
+        return offset;
+    }
+
+    /**
+     * Returns spilled segment written at the specified offset. Segment is mapped on the first read.
+     * Not synchronized, as it is called by store under its own lock
+     */
+    @NotNull
+    ByteBuffer read(long offset, int length) throws IOException {
+        checkOpen();
+        MappedByteBuffer segment = segments.get(offset);
+        if (segment == null || segment.capacity() != length) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            segments.put(offset, segment);
+        }
+        // Each reader gets its own position
+        return segment.duplicate();
+    }
+
+    /**
+     * Deletes spill file. Spilled values of registered stores are lost.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        residentStores.clear();
+        // There is no explicit unmap, mappings are released once buffers are collected
+        segments.clear();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Error closing spill file", e);
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // File may be still mapped (Windows)
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    private void evictStores(@Nullable ColumnarValueStore keepStore) {
+        long memoryUsed = 0;
+        for (ColumnarValueStore store : residentStores.keySet()) {
+            memoryUsed += store.estimateMemoryUsage();
+        }
+        for (Iterator<ColumnarValueStore> iter = residentStores.keySet().iterator(); memoryUsed > memoryLimit && iter.hasNext(); ) {
+            ColumnarValueStore store = iter.next();
+            if (store == keepStore) {
+                continue;
+            }
+            long storeSize = store.estimateMemoryUsage();
+            try {
+                store.evict();
+            } catch (IOException e) {
+                log.error("Error writing values to spill file", e);
+                return;
+            }
+            // Stores without serializable columns are not tracked anymore either
+            memoryUsed -= storeSize - store.estimateMemoryUsage();
+            iter.remove();
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Spill file is closed");
+        }
+    }
+}
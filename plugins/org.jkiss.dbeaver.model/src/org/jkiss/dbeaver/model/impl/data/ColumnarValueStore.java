@@ -0,0 +1,873 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented storage of row values.
+ * <p>
+ * Each column is specialized by the class of its first non-null value: integers, longs, floating point numbers,
+ * decimals, booleans and dates are kept in primitive arrays, strings are dictionary-encoded.
+ * Nulls are tracked in a bitmap. Values of other types (and columns which values don't fit the specialized
+ * representation) are kept as is.
+ * <p>
+ * Values are boxed on read, so primitive values are equal but not identical to the original ones.
+ * Store is append-only: modified rows are supposed to keep their values elsewhere.
+ * <p>
+ * Complete store may be registered in {@link ColumnarValueSpill}. After that store doesn't accept new rows,
+ * and its columns may be moved to the spill file. Each column is written as a separate segment
+ * and only columns which are actually read are loaded back.
+ * Rows may be added by the fetching thread while other threads read values, so access is synchronized.
+ * Spill lock is never acquired while holding store lock.
+ */
+public class ColumnarValueStore {
+
+    private static final int INITIAL_CAPACITY = 64;
+    // Dictionary stops paying off when most of the strings are unique
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    private static final int DICTIONARY_CHECK_ROWS = 1024;
+
+    private final Column[] columns;
+    private volatile int rowCount;
+
+    @Nullable
+    private ColumnarValueSpill spill;
+    // Columns written to the spill file. Null if the store wasn't spilled yet
+    @Nullable
+    private boolean[] spilledColumns;
+    @Nullable
+    private long[] spillOffsets;
+    @Nullable
+    private int[] spillLengths;
+    // All columns are in memory
+    private volatile boolean resident = true;
+
+    public ColumnarValueStore(int columnCount) {
+        this.columns = new Column[columnCount];
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Adds row values. Row array isn't referenced by the store and can be discarded.
+     *
+     * @return index of the added row
+     */
+    public synchronized int addRow(@NotNull Object[] values) {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException("Row has " + values.length + " values while store has " + columns.length + " columns");
+        }
+        if (spill != null) {
+            throw new IllegalStateException("Store is registered in spill and can't be modified");
+        }
+        int row = rowCount;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = putValue(columns[i], row, values[i]);
+        }
+        rowCount++;
+        return row;
+    }
+
+    /**
+     * Returns value of the specified cell. Loads the column from spill if needed, other columns stay spilled.
+     *
+     * @throws IllegalStateException if spilled column can't be loaded
+     */
+    @Nullable
+    public Object getValue(int row, int column) {
+        checkRow(row);
+        Object value;
+        ColumnarValueSpill loadedFrom;
+        synchronized (this) {
+            // Column is loaded and read under the same lock, so it can't be evicted in between
+            loadedFrom = loadSpilledColumn(column);
+            Column col = columns[column];
+            value = col == null ? null : col.get(row);
+        }
+        if (loadedFrom != null) {
+            // Outside of store lock, as spill may evict other stores
+            loadedFrom.touch(this);
+        }
+        return value;
+    }
+
+    /**
+     * Returns new array with values of the specified row. Loads spilled columns if needed.
+     *
+     * @throws IllegalStateException if spilled columns can't be loaded
+     */
+    @NotNull
+    public Object[] getRowValues(int row) {
+        checkRow(row);
+        Object[] values = new Object[columns.length];
+        ColumnarValueSpill loadedFrom = null;
+        synchronized (this) {
+            for (int i = 0; i < columns.length; i++) {
+                ColumnarValueSpill spill = loadSpilledColumn(i);
+                if (spill != null) {
+                    loadedFrom = spill;
+                }
+                Column column = columns[i];
+                if (column != null) {
+                    values[i] = column.get(row);
+                }
+            }
+        }
+        if (loadedFrom != null) {
+            // Outside of store lock, as spill may evict other stores
+            loadedFrom.touch(this);
+        }
+        return values;
+    }
+
+    /**
+     * Releases values of the specified row. Only values kept as is may need to be released.
+     * Spilled columns contain only simple values and aren't loaded.
+     */
+    public synchronized void releaseRow(int row) {
+        checkRow(row);
+        for (Column column : columns) {
+            if (column instanceof ObjectColumn objectColumn) {
+                objectColumn.release(row);
+            }
+        }
+    }
+
+    /**
+     * Returns true if all columns are in memory
+     */
+    public boolean isResident() {
+        return resident;
+    }
+
+    /**
+     * Returns true if the specified column is in memory
+     */
+    public synchronized boolean isColumnResident(int column) {
+        return spilledColumns == null || !spilledColumns[column] || columns[column] != null;
+    }
+
+    /**
+     * Approximate size in bytes of row values which are not kept in a store
+     */
+    public static long estimateRowSize(@NotNull Object[] values) {
+        long size = 16 + values.length * 8L;
+        for (Object value : values) {
+            size += ObjectColumn.estimateValueSize(value);
+        }
+        return size;
+    }
+
+    /**
+     * Approximate size of the store data in bytes. Spilled columns are not counted.
+     */
+    public synchronized long estimateMemoryUsage() {
+        long size = 32 + columns.length * 8L;
+        for (Column column : columns) {
+            if (column != null) {
+                size += column.estimateMemoryUsage();
+            }
+        }
+        return size;
+    }
+
+    synchronized void attachSpill(@NotNull ColumnarValueSpill spill) {
+        if (this.spill != null && this.spill != spill) {
+            throw new IllegalStateException("Store is already registered in another spill");
+        }
+        this.spill = spill;
+    }
+
+    /**
+     * Moves loaded columns to the spill file. Columns with values which can't be serialized stay in memory.
+     * Each column is written only once, as the store doesn't change after registration in spill.
+     *
+     * @return true if some columns were released
+     */
+    synchronized boolean evict() throws IOException {
+        if (spill == null) {
+            return false;
+        }
+        if (spilledColumns == null) {
+            boolean[] spillable = new boolean[columns.length];
+            long[] offsets = new long[columns.length];
+            int[] lengths = new int[columns.length];
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(buffer);
+            for (int i = 0; i < columns.length; i++) {
+                Column column = columns[i];
+                if (column != null && column.isSerializable(rowCount)) {
+                    buffer.reset();
+                    for (int row = 0; row < rowCount; row++) {
+                        writeValue(out, column.get(row));
+                    }
+                    out.flush();
+                    offsets[i] = spill.write(buffer.toByteArray());
+                    lengths[i] = buffer.size();
+                    spillable[i] = true;
+                }
+            }
+            spillOffsets = offsets;
+            spillLengths = lengths;
+            spilledColumns = spillable;
+        }
+        boolean released = false;
+        for (int i = 0; i < columns.length; i++) {
+            if (spilledColumns[i] && columns[i] != null) {
+                columns[i] = null;
+                released = true;
+            }
+        }
+        if (released) {
+            resident = false;
+        }
+        return released;
+    }
+
+    /**
+     * Loads spilled column. Must be called under store lock.
+     *
+     * @return spill which column was loaded from or null if column is in memory
+     */
+    @Nullable
+    private ColumnarValueSpill loadSpilledColumn(int index) {
+        if (resident || columns[index] != null || !spilledColumns[index]) {
+            return null;
+        }
+        assert spill != null && spillOffsets != null && spillLengths != null;
+        Column column = null;
+        try {
+            ByteBuffer in = spill.read(spillOffsets[index], spillLengths[index]);
+            for (int row = 0; row < rowCount; row++) {
+                column = putValue(column, row, readValue(in));
+            }
+        } catch (IOException e) {
+            // Spill was closed or damaged. Column stays spilled, so the next read fails the same way
+            throw new IllegalStateException("Error loading spilled values", e);
+        }
+        // Released object values may leave no values at all
+        columns[index] = column == null ? new ObjectColumn() : column;
+        resident = true;
+        for (int i = 0; i < columns.length; i++) {
+            if (spilledColumns[i] && columns[i] == null) {
+                resident = false;
+                break;
+            }
+        }
+        return spill;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of store bounds (" + rowCount + ")");
+        }
+    }
+
+    @Nullable
+    private static Column putValue(@Nullable Column column, int row, @Nullable Object value) {
+        if (value == null) {
+            // Columns are null by default
+            return column;
+        }
+        if (column == null) {
+            column = createColumn(value);
+        }
+        if (!column.set(row, value)) {
+            column = new ObjectColumn(column, row);
+            column.set(row, value);
+        }
+        return column;
+    }
+
+    @NotNull
+    private static Column createColumn(@NotNull Object value) {
+        Class<?> valueClass = value.getClass();
+        if (valueClass == Integer.class || valueClass == Short.class || valueClass == Byte.class) {
+            return new IntColumn(valueClass);
+        } else if (valueClass == Long.class) {
+            return new LongColumn();
+        } else if (valueClass == Double.class || valueClass == Float.class) {
+            return new DoubleColumn(valueClass);
+        } else if (valueClass == BigDecimal.class) {
+            return new DecimalColumn();
+        } else if (valueClass == Boolean.class) {
+            return new BooleanColumn();
+        } else if (valueClass == String.class) {
+            return new StringColumn();
+        } else if (valueClass == Timestamp.class || valueClass == java.sql.Date.class ||
+            valueClass == java.sql.Time.class || valueClass == java.util.Date.class) {
+            return new DateColumn(valueClass);
+        } else {
+            return new ObjectColumn();
+        }
+    }
+
+    static int growCapacity(int capacity, int row) {
+        return Math.max(row + 1, Math.max(INITIAL_CAPACITY, capacity + (capacity >> 1)));
+    }
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_INTEGER = 1;
+    private static final byte TYPE_SHORT = 2;
+    private static final byte TYPE_BYTE = 3;
+    private static final byte TYPE_LONG = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_FLOAT = 6;
+    private static final byte TYPE_DECIMAL = 7;
+    private static final byte TYPE_BIG_INTEGER = 8;
+    private static final byte TYPE_BOOLEAN = 9;
+    private static final byte TYPE_STRING = 10;
+    private static final byte TYPE_TIMESTAMP = 11;
+    private static final byte TYPE_SQL_DATE = 12;
+    private static final byte TYPE_SQL_TIME = 13;
+    private static final byte TYPE_DATE = 14;
+    private static final byte TYPE_BINARY = 15;
+
+    static boolean isSerializable(@Nullable Object value) {
+        if (value == null) {
+            return true;
+        }
+        Class<?> valueClass = value.getClass();
+        return valueClass == Integer.class || valueClass == Short.class || valueClass == Byte.class ||
+            valueClass == Long.class || valueClass == Double.class || valueClass == Float.class ||
+            valueClass == BigDecimal.class || valueClass == BigInteger.class || valueClass == Boolean.class ||
+            valueClass == String.class || valueClass == Timestamp.class || valueClass == java.sql.Date.class ||
+            valueClass == java.sql.Time.class || valueClass == java.util.Date.class || valueClass == byte[].class;
+    }
+
+    private static void writeValue(@NotNull DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof Integer intValue) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt(intValue);
+        } else if (value instanceof Short shortValue) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort(shortValue);
+        } else if (value instanceof Byte byteValue) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte(byteValue);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Float floatValue) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat(floatValue);
+        } else if (value instanceof BigDecimal decimal) {
+            out.writeByte(TYPE_DECIMAL);
+            out.writeInt(decimal.scale());
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger bigInteger) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            writeBytes(out, bigInteger.toByteArray());
+        } else if (value instanceof Boolean boolValue) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(boolValue);
+        } else if (value instanceof String string) {
+            out.writeByte(TYPE_STRING);
+            writeBytes(out, string.getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Timestamp timestamp) {
+            out.writeByte(TYPE_TIMESTAMP);
+            out.writeLong(timestamp.getTime());
+            out.writeInt(timestamp.getNanos());
+        } else if (value instanceof java.sql.Date date) {
+            out.writeByte(TYPE_SQL_DATE);
+            out.writeLong(date.getTime());
+        } else if (value instanceof java.sql.Time time) {
+            out.writeByte(TYPE_SQL_TIME);
+            out.writeLong(time.getTime());
+        } else if (value instanceof java.util.Date date) {
+            out.writeByte(TYPE_DATE);
+            out.writeLong(date.getTime());
+        } else if (value instanceof byte[] bytes) {
+            out.writeByte(TYPE_BINARY);
+            writeBytes(out, bytes);
+        } else {
+            throw new IOException("Value of type " + value.getClass().getName() + " can't be serialized");
+        }
+    }
+
+    private static void writeBytes(@NotNull DataOutputStream out, @NotNull byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Nullable
+    private static Object readValue(@NotNull ByteBuffer in) throws IOException {
+        byte type = in.get();
+        return switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_INTEGER -> in.getInt();
+            case TYPE_SHORT -> in.getShort();
+            case TYPE_BYTE -> in.get();
+            case TYPE_LONG -> in.getLong();
+            case TYPE_DOUBLE -> in.getDouble();
+            case TYPE_FLOAT -> in.getFloat();
+            case TYPE_DECIMAL -> {
+                int scale = in.getInt();
+                yield new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+            case TYPE_BIG_INTEGER -> new BigInteger(readBytes(in));
+            case TYPE_BOOLEAN -> in.get() != 0;
+            case TYPE_STRING -> new String(readBytes(in), StandardCharsets.UTF_8);
+            case TYPE_TIMESTAMP -> {
+                Timestamp timestamp = new Timestamp(in.getLong());
+                timestamp.setNanos(in.getInt());
+                yield timestamp;
+            }
+            case TYPE_SQL_DATE -> new java.sql.Date(in.getLong());
+            case TYPE_SQL_TIME -> new java.sql.Time(in.getLong());
+            case TYPE_DATE -> new java.util.Date(in.getLong());
+            case TYPE_BINARY -> readBytes(in);
+            default -> throw new IOException("Bad value type in spill file: " + type);
+        };
+    }
+
+    @NotNull
+    private static byte[] readBytes(@NotNull ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return bytes;
+    }
+
+    private abstract static class Column {
+
+        /**
+         * Stores non-null value. Returns false if value doesn't fit this column
+         */
+        abstract boolean set(int row, @NotNull Object value);
+
+        @Nullable
+        abstract Object get(int row);
+
+        abstract long estimateMemoryUsage();
+
+        boolean isSerializable(int rowCount) {
+            return true;
+        }
+    }
+
+    /**
+     * Column of primitive values. Bit is set for each non-null value.
+     */
+    private abstract static class PrimitiveColumn extends Column {
+        private long[] presence = new long[0];
+
+        void setPresent(int row) {
+            int word = row >>> 6;
+            if (word >= presence.length) {
+                presence = Arrays.copyOf(presence, growCapacity(presence.length, word));
+            }
+            presence[word] |= 1L << row;
+        }
+
+        boolean isPresent(int row) {
+            int word = row >>> 6;
+            return word < presence.length && (presence[word] & (1L << row)) != 0;
+        }
+
+        @Override
+        long estimateMemoryUsage() {
+            return 16 + 16 + presence.length * 8L;
+        }
+    }
+
+    private static class IntColumn extends PrimitiveColumn {
+        private final Class<?> valueClass;
+        private int[] values = new int[0];
+
+        IntColumn(@NotNull Class<?> valueClass) {
+            this.valueClass = valueClass;
+        }
+
+        @Override
+        boolean set(int row, @NotNull Object value) {
+            if (value.getClass() != valueClass) {
+                return false;
+            }
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, growCapacity(values.length, row));
+            }
+            values[row] = ((Number) value).intValue();
+            setPresent(row);
+            return true;
+        }
+
+        @Nullable
+        @Override
+        Object get(int row) {
+            if (!isPresent(row)) {
+                return null;
+            }
+            int value = values[row];
+            if (valueClass == Short.class) {
+                return (short) value;
+            } else if (valueClass == Byte.class) {
+                return (byte) value;
+            }
+            return value;
+        }
+
+        @Override
+        long estimateMemoryUsage() {
+            return super.estimateMemoryUsage() + 16 + values.length * 4L;
+        }
+    }
+
+    private static class LongColumn extends PrimitiveColumn {
+        private long[] values = new long[0];
+
+        @Override
+        boolean set(int row, @NotNull Object value) {
+            if (value.getClass() != Long.class) {
+                return false;
+            }
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, growCapacity(values.length, row));
+            }
+            values[row] = (Long) value;
+            setPresent(row);
+            return true;
+        }
+
+        @Nullable
+        @Override
+        Object get(int row) {
+            return isPresent(row) ? values[row] : null;
+        }
+
+        @Override
+        long estimateMemoryUsage() {
+            return super.estimateMemoryUsage() + 16 + values.length * 8L;
+        }
+    }
+
+    private static class DoubleColumn extends PrimitiveColumn {
+        private final Class<?> valueClass;
+        private double[] values = new double[0];
+
+        DoubleColumn(@NotNull Class<?> valueClass) {
+            this.valueClass = valueClass;
+        }
+
+        @Override
+        boolean set(int row, @NotNull Object value) {
+            if (value.getClass() != valueClass) {
+                return false;
+            }
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, growCapacity(values.length, row));
+            }
+            values[row] = ((Number) value).doubleValue();
+            setPresent(row);
+            return true;
+        }
+
+        @Nullable
+        @Override
+        Object get(int row) {
+            if (!isPresent(row)) {
+                return null;
+            }
+            return valueClass == Float.class ? (Object) (float) values[row] : (Object) values[row];
+        }
+
+        @Override
+        long estimateMemoryUsage() {
+            return super.estimateMemoryUsage() + 16 + values.length * 8L;
+        }
+    }
+
+    /**
+     * Decimals which unscaled value fits into long
+     */
+    private static class DecimalColumn extends PrimitiveColumn {
+        private long[] unscaledValues = new long[0];
+        private int[] scales = new int[0];
+
+        @Override
+        boolean set(int row, @NotNull Object value) {
+            if (value.getClass() != BigDecimal.class) {
+                return false;
+            }
+            BigDecimal decimal = (BigDecimal) value;
+            BigInteger unscaledValue = decimal.unscaledValue();
+            if (unscaledValue.bitLength() > 63) {
+                return false;
+            }
+            if (row >= unscaledValues.length) {
+                int capacity = growCapacity(unscaledValues.length, row);
+                unscaledValues = Arrays.copyOf(unscaledValues, capacity);
+                scales = Arrays.copyOf(scales, capacity);
+            }
+            unscaledValues[row] = unscaledValue.longValue();
+            scales[row] = decimal.scale();
+            setPresent(row);
+            return true;
+        }
+
+        @Nullable
+        @Override
+        Object get(int row) {
+            return isPresent(row) ? BigDecimal.valueOf(unscaledValues[row], scales[row]) : null;
+        }
+
+        @Override
+        long estimateMemoryUsage() {
+            return super.estimateMemoryUsage() + 16 + unscaledValues.length * 8L + 16 + scales.length * 4L;
+        }
+    }
+
+    private static class BooleanColumn extends PrimitiveColumn {
+        private long[] values = new long[0];
+
+        @Override
+        boolean set(int row, @NotNull Object value) {
+            if (value.getClass() != Boolean.class) {
+                return false;
+            }
+            int word = row >>> 6;
+            if (word >= values.length) {
+                values = Arrays.copyOf(values, growCapacity(values.length, word));
+            }
+            if ((Boolean) value) {
+                values[word] |= 1L << row;
+            }
+            setPresent(row);
+            return true;
+        }
+
+        @Nullable
+        @Override
+        Object get(int row) {
+            return isPresent(row) ? (values[row >>> 6] & (1L << row)) != 0 : null;
+        }
+
+        @Override
+        long estimateMemoryUsage() {
+            return super.estimateMemoryUsage() + 16 + values.length * 8L;
+        }
+    }
+
+    /**
+     * Dates are kept as epoch milliseconds. Timestamps also keep nanoseconds.
+     * Only exact date classes are accepted, as subclasses may carry extra state.
+     */
+    private static class DateColumn extends PrimitiveColumn {
+        private final Class<?> valueClass;
+        private long[] times = new long[0];
+        @Nullable
+        private int[] nanos;
+
+        DateColumn(@NotNull Class<?> valueClass) {
+            this.valueClass = valueClass;
+            if (valueClass == Timestamp.class) {
+                nanos = new int[0];
+            }
+        }
+
+        @Override
+        boolean set(int row, @NotNull Object value) {
+            if (value.getClass() != valueClass) {
+                return false;
+            }
+            if (row >= times.length) {
+                int capacity = growCapacity(times.length, row);
+                times = Arrays.copyOf(times, capacity);
+                if (nanos != null) {
+                    nanos = Arrays.copyOf(nanos, capacity);
+                }
+            }
+            times[row] = ((java.util.Date) value).getTime();
+            if (nanos != null) {
+                nanos[row] = ((Timestamp) value).getNanos();
+            }
+            setPresent(row);
+            return true;
+        }
+
+        @Nullable
+        @Override
+        Object get(int row) {
+            if (!isPresent(row)) {
+                return null;
+            }
+            long time = times[row];
+            if (valueClass == Timestamp.class) {
+                Timestamp timestamp = new Timestamp(time);
+                timestamp.setNanos(nanos[row]);
+                return timestamp;
+            } else if (valueClass == java.sql.Date.class) {
+                return new java.sql.Date(time);
+            } else if (valueClass == java.sql.Time.class) {
+                return new java.sql.Time(time);
+            } else {
+                return new java.util.Date(time);
+            }
+        }
+
+        @Override
+        long estimateMemoryUsage() {
+            return super.estimateMemoryUsage() + 16 + times.length * 8L + (nanos == null ? 0 : 16 + nanos.length * 4L);
+        }
+    }
+
+    /**
+     * Dictionary-encoded strings. Code 0 means null.
+     */
+    private static class StringColumn extends Column {
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private int[] codes = new int[0];
+        private long stringsSize;
+
+        @Override
+        boolean set(int row, @NotNull Object value) {
+            if (value.getClass() != String.class) {
+                return false;
+            }
+            Integer code = dictionary.get(value);
+            if (code == null) {
+                int size = strings.size();
+                if (size >= MAX_DICTIONARY_SIZE || (row >= DICTIONARY_CHECK_ROWS && size > row / 2)) {
+                    // High cardinality column
+                    return false;
+                }
+                strings.add((String) value);
+                stringsSize += 24 + 16 + ((String) value).length();
+                code = size + 1;
+                dictionary.put((String) value, code);
+            }
+            if (row >= codes.length) {
+                codes = Arrays.copyOf(codes, growCapacity(codes.length, row));
+            }
+            codes[row] = code;
+            return true;
+        }
+
+        @Nullable
+        @Override
+        Object get(int row) {
+            int code = row < codes.length ? codes[row] : 0;
+            return code == 0 ? null : strings.get(code - 1);
+        }
+
+        @Override
+        long estimateMemoryUsage() {
+            // Map entry + boxed code + list slot for each dictionary string
+            return 16 + 16 + codes.length * 4L + dictionary.size() * (48L + 16 + 8) + stringsSize;
+        }
+    }
+
+    /**
+     * Values kept as is
+     */
+    private static class ObjectColumn extends Column {
+        private Object[] values;
+        // Approximate size of string and binary values
+        private long valuesSize;
+
+        ObjectColumn() {
+            values = new Object[0];
+        }
+
+        /**
+         * Copies values of the first rows of another column
+         */
+        ObjectColumn(@NotNull Column source, int rowCount) {
+            values = new Object[growCapacity(rowCount, rowCount)];
+            for (int i = 0; i < rowCount; i++) {
+                values[i] = source.get(i);
+                valuesSize += estimateValueSize(values[i]);
+            }
+        }
+
+        @Override
+        boolean set(int row, @NotNull Object value) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, growCapacity(values.length, row));
+            }
+            values[row] = value;
+            valuesSize += estimateValueSize(value);
+            return true;
+        }
+
+        @Nullable
+        @Override
+        Object get(int row) {
+            return row < values.length ? values[row] : null;
+        }
+
+        void release(int row) {
+            if (row < values.length && values[row] != null) {
+                DBUtils.releaseValue(values[row]);
+                values[row] = null;
+            }
+        }
+
+        @Override
+        long estimateMemoryUsage() {
+            return 16 + 16 + values.length * 8L + valuesSize;
+        }
+
+        @Override
+        boolean isSerializable(int rowCount) {
+            for (int i = 0; i < rowCount && i < values.length; i++) {
+                if (!ColumnarValueStore.isSerializable(values[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long estimateValueSize(@Nullable Object value) {
+            if (value instanceof String string) {
+                return 24 + 16 + string.length();
+            } else if (value instanceof byte[] bytes) {
+                return 16 + bytes.length;
+            } else {
+                return value == null ? 0 : 24;
+            }
+        }
+    }
+}
@@ -84,4 +84,14 @@ public class ProxyValueHandler implements DBDValueHandler {
     public String getValueDisplayString(@NotNull DBSTypedObject column, @Nullable Object value, @NotNull DBDDisplayFormat format) {
         return target.getValueDisplayString(column, value, format);
     }
+
+    @Override
+    public void appendValueDisplayString(
+        @NotNull StringBuilder buffer,
+        @NotNull DBSTypedObject column,
+        @Nullable Object value,
+        @NotNull DBDDisplayFormat format
+    ) {
+        target.appendValueDisplayString(buffer, column, value, format);
+    }
 }
\ No newline at end of file
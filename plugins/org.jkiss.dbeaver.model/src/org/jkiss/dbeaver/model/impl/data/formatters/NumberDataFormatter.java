@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.model.impl.data.formatters;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.data.DBDDataFormatter;
@@ -132,32 +133,70 @@ public class NumberDataFormatter implements DBDDataFormatter {
         if (value == null) {
             return null;
         }
+        Object number = toFormattedNumber(value);
+        if (number == null) {
+            return value.toString();
+        }
+        try {
+            synchronized (this) {
+                return formatNumber(number).toString();
+            }
+        } catch (Exception e) {
+            return value.toString();
+        }
+    }
+
+    @Override
+    public void formatValue(Object value, @NotNull StringBuilder target)
+    {
+        if (value == null) {
+            return;
+        }
+        Object number = toFormattedNumber(value);
+        if (number == null) {
+            target.append(value);
+            return;
+        }
+        try {
+            synchronized (this) {
+                target.append(formatNumber(number));
+            }
+        } catch (Exception e) {
+            target.append(value);
+        }
+    }
+
+    /**
+     * Returns value to pass to the number format or null if value must be formatted with toString
+     */
+    @Nullable
+    private Object toFormattedNumber(@NotNull Object value) {
         if (CommonUtils.isNaN(value) || CommonUtils.isInfinite(value)) {
             if (nativeSpecialValues) {
-                return value.toString();
+                return null;
             }
         } else if (value instanceof Float || value instanceof Double) {
             // Convert to BigDecimal so we don't have rounding issues with high minimum fraction digits set
-            value = new BigDecimal(value.toString());
+            return new BigDecimal(value.toString());
         } else if (!(value instanceof Number)) {
-            return value.toString();
+            return null;
         }
+        return value;
+    }
+
+    @NotNull
+    private StringBuffer formatNumber(@NotNull Object number) {
+        buffer.setLength(0);
         try {
-            synchronized (this) {
-                buffer.setLength(0);
-                try {
-                    return numberFormat.format(value, buffer, position).toString();
-                } catch (ArithmeticException e) {
-                    if (numberFormat.getRoundingMode() == RoundingMode.UNNECESSARY) {
-                        // This type can't use UNNECESSARY rounding. Let's set default one
-                        log.debug("Disabling UNNECESSARY rounding for numbers (" + e.getMessage() + ")");
-                        numberFormat.setRoundingMode(RoundingMode.HALF_EVEN);
-                    }
-                    return numberFormat.format(value, buffer, position).toString();
-                }
+            return numberFormat.format(number, buffer, position);
+        } catch (ArithmeticException e) {
+            if (numberFormat.getRoundingMode() == RoundingMode.UNNECESSARY) {
+                // This type can't use UNNECESSARY rounding. Let's set default one
+                log.debug("Disabling UNNECESSARY rounding for numbers (" + e.getMessage() + ")");
+                numberFormat.setRoundingMode(RoundingMode.HALF_EVEN);
             }
-        } catch (Exception e) {
-            return value.toString();
+            buffer.setLength(0);
+            return numberFormat.format(number, buffer, position);
         }
     }
 
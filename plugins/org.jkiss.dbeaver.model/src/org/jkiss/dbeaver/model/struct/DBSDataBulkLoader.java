@@ -29,6 +29,13 @@ import java.util.Map;
  */
 public interface DBSDataBulkLoader {
 
+    // Send rows to the server as they are added instead of collecting them in a temporary storage
+    String OPTION_STREAM_ROWS = "data.bulkLoad.streamRows";//$NON-NLS-1$
+    // Use database native binary format where supported
+    String OPTION_BINARY_FORMAT = "data.bulkLoad.binaryFormat";//$NON-NLS-1$
+    // Temporarily disable durability features (journaling, syncs) for the duration of the load
+    String OPTION_RELAXED_DURABILITY = "data.bulkLoad.relaxedDurability";//$NON-NLS-1$
+
     interface BulkLoadManager extends AutoCloseable {
         void addRow(@NotNull DBCSession session, @NotNull Object[] attributeValues) throws DBCException;
 
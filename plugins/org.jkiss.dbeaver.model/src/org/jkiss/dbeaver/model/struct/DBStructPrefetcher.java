@@ -0,0 +1,360 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.struct;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.runtime.BlockCanceler;
+import org.jkiss.dbeaver.model.runtime.DBRBlockingObject;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Reads structure of several object containers in parallel.
+ * <p>
+ * Each container is read by a separate task on a bounded executor.
+ * Tasks use a small pool of metadata execution contexts per instance: the default metadata context
+ * and isolated contexts which are opened on demand and closed at the end.
+ * Metadata sessions opened by a task thread use the context bound to this thread (see {@link #getBoundMetaContext}).
+ */
+public final class DBStructPrefetcher {
+
+    private static final Log log = Log.getLog(DBStructPrefetcher.class);
+
+    private static final long WAIT_TIMEOUT_MS = 100;
+    private static final long TERMINATION_TIMEOUT_MS = 10_000;
+    private static final ThreadLocal<DBCExecutionContext> boundMetaContext = new ThreadLocal<>();
+
+    private final DBRProgressMonitor monitor;
+    private final int scope;
+    private final int maxConnections;
+    private final Map<DBSInstance, InstanceContexts> instanceContexts = new IdentityHashMap<>();
+    private final List<DBCExecutionContext> isolatedContexts = new ArrayList<>();
+    private final List<TaskMonitor> taskMonitors = new ArrayList<>();
+
+    private DBStructPrefetcher(@NotNull DBRProgressMonitor monitor, int scope, int maxConnections) {
+        this.monitor = monitor;
+        this.scope = scope;
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Caches structure of the specified containers (see {@link DBSObjectContainer#cacheStructure}).
+     * Containers are read in parallel if there are several of them and parallel metadata read is enabled.
+     *
+     * @param scope structure scope, combination of {@link DBSObjectContainer} STRUCT_* flags
+     * @throws DBException first error of containers read
+     */
+    public static void cacheStructure(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull Collection<? extends DBSObjectContainer> containers,
+        int scope
+    ) throws DBException {
+        int maxConnections = getMaxConnections(containers);
+        if (containers.size() <= 1 || maxConnections <= 1) {
+            for (DBSObjectContainer container : containers) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                container.cacheStructure(monitor, scope);
+            }
+            return;
+        }
+        new DBStructPrefetcher(monitor, scope, maxConnections).run(new ArrayList<>(containers));
+    }
+
+    /**
+     * Returns metadata context bound to the current thread by the structure prefetch.
+     *
+     * @return context or null if there is no bound context or it belongs to another instance
+     */
+    @Nullable
+    public static DBCExecutionContext getBoundMetaContext(@NotNull DBSObject object) {
+        DBCExecutionContext context = boundMetaContext.get();
+        if (context == null || context.getOwnerInstance() != DBUtils.getObjectOwnerInstance(object)) {
+            return null;
+        }
+        return context;
+    }
+
+    private static int getMaxConnections(@NotNull Collection<? extends DBSObjectContainer> containers) {
+        int maxConnections = Integer.MAX_VALUE;
+        for (DBSObjectContainer container : containers) {
+            DBPDataSource dataSource = container.getDataSource();
+            if (dataSource != null) {
+                maxConnections = Math.min(
+                    maxConnections,
+                    dataSource.getContainer().getPreferenceStore().getInt(ModelPreferences.META_PREFETCH_CONNECTIONS));
+            }
+        }
+        return maxConnections == Integer.MAX_VALUE ? 1 : maxConnections;
+    }
+
+    private void run(@NotNull List<DBSObjectContainer> containers) throws DBException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConnections, containers.size()), runnable -> {
+            Thread thread = new Thread(runnable, "Metadata prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        DBException error = null;
+        boolean interrupted = false;
+        monitor.beginTask("Load metadata", containers.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>(containers.size());
+            for (DBSObjectContainer container : containers) {
+                futures.add(executor.submit(() -> {
+                    readStructure(container);
+                    return null;
+                }));
+            }
+            boolean canceled = false;
+            for (int i = 0; i < futures.size(); i++) {
+                monitor.subTask("Load structure of " + containers.get(i).getName());
+                Future<?> future = futures.get(i);
+                while (true) {
+                    if (!canceled && monitor.isCanceled()) {
+                        canceled = true;
+                        cancelTasks();
+                    }
+                    try {
+                        future.get(WAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) {
+                        continue;
+                    } catch (ExecutionException e) {
+                        Throwable cause = e.getCause();
+                        if (error == null) {
+                            error = cause instanceof DBException dbe ? dbe : new DBException("Error reading metadata", cause);
+                        } else {
+                            log.debug("Error reading structure of '" + containers.get(i).getName() + "'", cause);
+                        }
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        cancelTasks();
+                        throw new DBException("Metadata read interrupted", e);
+                    }
+                    break;
+                }
+                monitor.worked(1);
+            }
+        } finally {
+            if (interrupted) {
+                // Running tasks still use isolated contexts, they must finish before contexts are closed
+                terminateTasks(executor);
+                Thread.currentThread().interrupt();
+            } else {
+                executor.shutdown();
+            }
+            closeIsolatedContexts();
+            monitor.done();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void readStructure(@NotNull DBSObjectContainer container) throws DBException {
+        TaskMonitor taskMonitor = new TaskMonitor(monitor);
+        if (taskMonitor.isCanceled()) {
+            return;
+        }
+        DBSInstance instance = DBUtils.getObjectOwnerInstance(container);
+        DBCExecutionContext context = instance == null ? null : acquireContext(taskMonitor, instance);
+        synchronized (this) {
+            taskMonitors.add(taskMonitor);
+        }
+        boundMetaContext.set(context);
+        try {
+            container.cacheStructure(taskMonitor, scope);
+        } finally {
+            boundMetaContext.remove();
+            synchronized (this) {
+                taskMonitors.remove(taskMonitor);
+                if (context != null) {
+                    instanceContexts.get(instance).free.add(context);
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes free context of the instance. Opens a new isolated context if all contexts are busy and limit isn't reached.
+     *
+     * @return context or null if task was canceled
+     */
+    @Nullable
+    private DBCExecutionContext acquireContext(@NotNull DBRProgressMonitor taskMonitor, @NotNull DBSInstance instance) {
+        InstanceContexts contexts;
+        boolean openIsolated;
+        synchronized (this) {
+            contexts = instanceContexts.computeIfAbsent(instance, i -> new InstanceContexts(getMaxContexts(i)));
+            while (contexts.free.isEmpty() && contexts.opened >= contexts.limit) {
+                if (taskMonitor.isCanceled()) {
+                    return null;
+                }
+                try {
+                    wait(WAIT_TIMEOUT_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+            if (!contexts.free.isEmpty()) {
+                return contexts.free.removeLast();
+            }
+            openIsolated = contexts.opened > 0;
+            contexts.opened++;
+        }
+        DBCExecutionContext defaultContext = instance.getDefaultContext(taskMonitor, true);
+        if (!openIsolated) {
+            return defaultContext;
+        }
+        try {
+            DBCExecutionContext context = instance.openIsolatedContext(taskMonitor, "Metadata prefetch", defaultContext);
+            synchronized (this) {
+                isolatedContexts.add(context);
+            }
+            return context;
+        } catch (DBException e) {
+            log.debug("Error opening metadata prefetch context. Use already opened contexts.", e);
+            synchronized (this) {
+                contexts.opened--;
+                contexts.limit = contexts.opened;
+            }
+            return acquireContext(taskMonitor, instance);
+        }
+    }
+
+    private int getMaxContexts(@NotNull DBSInstance instance) {
+        DBPDataSource dataSource = instance.getDataSource();
+        if (dataSource == null) {
+            return 1;
+        }
+        DBPDataSourceContainer container = dataSource.getContainer();
+        if (container.getDriver().isEmbedded() || container.isForceUseSingleConnection()) {
+            return 1;
+        }
+        return maxConnections;
+    }
+
+    private void cancelTasks() {
+        List<DBRBlockingObject> blocks = new ArrayList<>();
+        synchronized (this) {
+            for (TaskMonitor taskMonitor : taskMonitors) {
+                blocks.addAll(taskMonitor.getActiveBlocks());
+            }
+        }
+        for (DBRBlockingObject block : blocks) {
+            try {
+                BlockCanceler.cancelBlock(monitor, block);
+            } catch (DBException e) {
+                log.debug("Error canceling metadata read", e);
+            }
+        }
+    }
+
+    private static void terminateTasks(@NotNull ExecutorService executor) {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(TERMINATION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                log.debug("Metadata prefetch tasks didn't finish in time, close their contexts anyway");
+            }
+        } catch (InterruptedException e) {
+            log.debug("Metadata prefetch tasks termination interrupted");
+        }
+    }
+
+    private void closeIsolatedContexts() {
+        List<DBCExecutionContext> contexts;
+        synchronized (this) {
+            contexts = new ArrayList<>(isolatedContexts);
+            isolatedContexts.clear();
+        }
+        for (DBCExecutionContext context : contexts) {
+            try {
+                context.close();
+            } catch (Exception e) {
+                log.debug("Error closing metadata prefetch context", e);
+            }
+        }
+    }
+
+    private static class InstanceContexts {
+        private final Deque<DBCExecutionContext> free = new ArrayDeque<>();
+        private int opened;
+        private int limit;
+
+        InstanceContexts(int limit) {
+            this.limit = limit;
+        }
+    }
+
+    /**
+     * Task monitor. Progress is reported by the prefetch caller, blocks are tracked per task to cancel them.
+     */
+    private static class TaskMonitor extends ProxyProgressMonitor {
+        private final List<DBRBlockingObject> blocks = new ArrayList<>();
+
+        TaskMonitor(@NotNull DBRProgressMonitor original) {
+            super(original);
+        }
+
+        @Override
+        public void beginTask(String name, int totalWork) {
+        }
+
+        @Override
+        public void done() {
+        }
+
+        @Override
+        public void subTask(String name) {
+        }
+
+        @Override
+        public void worked(int work) {
+        }
+
+        @Override
+        public synchronized void startBlock(DBRBlockingObject object, String taskName) {
+            blocks.add(object);
+        }
+
+        @Override
+        public synchronized void endBlock() {
+            if (!blocks.isEmpty()) {
+                blocks.remove(blocks.size() - 1);
+            }
+        }
+
+        @Override
+        public synchronized List<DBRBlockingObject> getActiveBlocks() {
+            return new ArrayList<>(blocks);
+        }
+    }
+
+}
@@ -25,27 +25,37 @@ import org.jkiss.dbeaver.model.meta.PropertyGroup;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.utils.BeanUtils;
-import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Various objects cache
+ * Various objects cache.
+ * <p>
+ * Cache contents are immutable snapshots published through a volatile reference,
+ * so reads are lock-free. Modifications are serialized by the cache sync monitor and publish new snapshots.
+ * <p>
+ * Name lookups have a weaker guarantee than object lists. To keep single object additions cheap,
+ * the name index isn't copied: it is passed to the next snapshot and updated in place by
+ * {@link #cacheObject}, {@link #removeObject} and {@link #renameObject}.
+ * Lookup which runs concurrently with a modification may observe it before the new snapshot is published,
+ * e.g. find an object which is absent in the list returned by a preceding {@link #getCachedObjects()} call.
+ * Lookups which start after a modification returned always see it.
  */
 public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extends DBSObject>
     implements DBSObjectCache<OWNER, OBJECT> {
     private static final Log log = Log.getLog(AbstractObjectCache.class);
 
-    private List<OBJECT> objectList;
-    private Map<String, OBJECT> objectMap;
+    // Null means that cache wasn't loaded
+    private volatile CacheSnapshot<OBJECT> snapshot;
     protected volatile boolean fullCache = false;
     protected volatile boolean caseSensitive = true;
 
     private Comparator<OBJECT> listOrderComparator;
-    // Use this monitor to void entire cache object locking
+    // Use this monitor to void entire cache object locking. Guards cache modifications only.
     private final Object cacheSync = new Object();
 
     protected AbstractObjectCache() {
@@ -67,12 +77,14 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
         this.listOrderComparator = listOrderComparator;
     }
 
+    /**
+     * Returns cached objects. Returned list is immutable and doesn't reflect further cache modifications.
+     */
     @NotNull
     @Override
     public List<OBJECT> getCachedObjects() {
-        synchronized (cacheSync) {
-            return objectList == null ? Collections.emptyList() : objectList;
-        }
+        CacheSnapshot<OBJECT> objects = snapshot;
+        return objects == null ? Collections.emptyList() : objects;
     }
 
     public <SUB_TYPE> List<SUB_TYPE> getTypedObjects(@NotNull DBRProgressMonitor monitor, OWNER owner, Class<SUB_TYPE> type)
@@ -89,60 +101,85 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
     @Nullable
     @Override
     public OBJECT getCachedObject(@Nullable String name) {
-        synchronized (cacheSync) {
-            return objectList == null || name == null ? null : getObjectMap().get(caseSensitive ? name : name.toUpperCase());
+        CacheSnapshot<OBJECT> objects = snapshot;
+        if (objects == null || name == null) {
+            return null;
         }
+        return getNameIndex(objects).get(caseSensitive ? name : name.toUpperCase());
     }
 
     public int getCacheSize() {
-        synchronized (cacheSync) {
-            return objectList == null ? 0 : objectList.size();
-        }
+        CacheSnapshot<OBJECT> objects = snapshot;
+        return objects == null ? 0 : objects.size();
     }
 
     @Override
     public void cacheObject(@NotNull OBJECT object) {
         synchronized (cacheSync) {
-            if (this.objectList == null) {
-                this.objectList = new ArrayList<>();
-            }
             detectCaseSensitivity(object);
-            this.objectList.add(object);
-            if (this.objectMap != null) {
-                String name = getObjectName(object);
-                if (checkDuplicateName(name, object)) {
-                    this.objectMap.put(name, object);
-                }
+            CacheSnapshot<OBJECT> objects = snapshot;
+            if (objects == null) {
+                snapshot = new CacheSnapshot<>(new Object[]{object}, 1, null);
+                return;
+            }
+            NameIndex<OBJECT> index = objects.index;
+            if (index != null && index.caseSensitive == caseSensitive) {
+                // Index is shared with the previous snapshot. Its readers may see the new object, but only by name.
+                addToIndex(index.names, object);
+            } else {
+                index = null;
             }
+            snapshot = objects.append(object, index);
         }
     }
 
     @Override
     public void removeObject(@NotNull OBJECT object, boolean resetFullCache) {
         synchronized (cacheSync) {
-            if (this.objectList != null) {
-                detectCaseSensitivity(object);
-                this.objectList.remove(object);
-                if (this.objectMap != null) {
-                    this.objectMap.remove(getObjectName(object));
-                }
-            }
+            detectCaseSensitivity(object);
+            removeFromSnapshot(object);
             if (resetFullCache) {
                 fullCache = false;
             }
         }
     }
 
+    private void removeFromSnapshot(@NotNull OBJECT object) {
+        synchronized (cacheSync) {
+            CacheSnapshot<OBJECT> objects = snapshot;
+            if (objects == null) {
+                return;
+            }
+            int objectIndex = objects.indexOf(object);
+            if (objectIndex < 0) {
+                return;
+            }
+            Object[] newObjects = new Object[objects.size() - 1];
+            System.arraycopy(objects.objects, 0, newObjects, 0, objectIndex);
+            System.arraycopy(objects.objects, objectIndex + 1, newObjects, objectIndex, newObjects.length - objectIndex);
+            NameIndex<OBJECT> index = objects.index;
+            if (index != null) {
+                String name = getObjectName(object);
+                if (name != null) {
+                    index.names.remove(name, object);
+                }
+            }
+            snapshot = new CacheSnapshot<>(newObjects, newObjects.length, index);
+        }
+    }
+
     @Override
     public void renameObject(@NotNull OBJECT object, @NotNull String oldName, @NotNull String newName) {
         synchronized (cacheSync) {
-            if (this.objectMap != null) {
-                if (!caseSensitive) {
+            CacheSnapshot<OBJECT> objects = snapshot;
+            NameIndex<OBJECT> index = objects == null ? null : objects.index;
+            if (index != null) {
+                if (!index.caseSensitive) {
                     oldName = oldName.toUpperCase(Locale.ENGLISH);
                     newName = newName.toUpperCase(Locale.ENGLISH);
                 }
-                if (this.objectMap.remove(oldName) == object) {
-                    this.objectMap.put(newName, object);
+                if (index.names.remove(oldName, object)) {
+                    index.names.put(newName, object);
                 }
             }
         }
@@ -156,7 +193,8 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
     }
 
     public boolean isEmpty() {
-        return CommonUtils.isEmpty(objectList);
+        CacheSnapshot<OBJECT> objects = snapshot;
+        return objects == null || objects.isEmpty();
     }
 
     public boolean isFullyCached() {
@@ -170,16 +208,15 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
     @Override
     public void clearCache() {
         synchronized (cacheSync) {
-            this.objectList = null;
-            this.objectMap = null;
+            this.snapshot = null;
             this.fullCache = false;
         }
     }
 
     public void setCache(@NotNull List<OBJECT> objects) {
         synchronized (cacheSync) {
-            this.objectList = objects;
-            this.objectMap = null;
+            Object[] newObjects = objects.toArray();
+            this.snapshot = new CacheSnapshot<>(newObjects, newObjects.length, null);
             this.fullCache = true;
         }
     }
@@ -206,51 +243,58 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
      */
     protected void mergeCache(List<OBJECT> objects) {
         synchronized (cacheSync) {
-            if (this.objectList != null) {
+            CacheSnapshot<OBJECT> oldObjects = snapshot;
+            if (oldObjects != null) {
                 // Merge lists
+                Map<String, OBJECT> oldObjectMap = new HashMap<>(oldObjects.size());
+                for (OBJECT oldObject : oldObjects) {
+                    oldObjectMap.putIfAbsent(oldObject.getName(), oldObject);
+                }
                 objects = new ArrayList<>(objects);
                 for (int i = 0; i < objects.size(); i++) {
-                    OBJECT newObject = objects.get(i);
-                    String newObjectName = newObject.getName();
-                    for (int k = 0; k < objectList.size(); k++) {
-                        OBJECT oldObject = objectList.get(k);
-                        String oldObjectName = oldObject.getName();
-                        if (newObjectName.equals(oldObjectName)) {
-                            objects.set(i, oldObject);
-                            break;
-                        }
+                    OBJECT oldObject = oldObjectMap.get(objects.get(i).getName());
+                    if (oldObject != null) {
+                        objects.set(i, oldObject);
                     }
                 }
             }
+            setCache(objects);
         }
-        setCache(objects);
     }
 
-    private Map<String, OBJECT> getObjectMap() {
-        synchronized (cacheSync) {
-            if (this.objectMap == null) {
-                this.objectMap = new HashMap<>();
-                if (objectList.size() > 0) {
-                    detectCaseSensitivity(objectList.get(0));
-                }
-
-                for (OBJECT object : objectList) {
-                    String name = getObjectName(object);
-                    if (checkDuplicateName(name, object)) {
-                        this.objectMap.put(name, object);
-                    }
-                }
+    /**
+     * Returns name index of the snapshot. Index is built on the first lookup.
+     * Concurrent readers may build it simultaneously, they will get equal indexes.
+     */
+    @NotNull
+    private Map<String, OBJECT> getNameIndex(@NotNull CacheSnapshot<OBJECT> objects) {
+        NameIndex<OBJECT> index = objects.index;
+        if (index == null || index.caseSensitive != caseSensitive) {
+            if (!objects.isEmpty()) {
+                detectCaseSensitivity(objects.get(0));
             }
-            return this.objectMap;
+            Map<String, OBJECT> names = new ConcurrentHashMap<>(Math.max(16, objects.size() * 4 / 3 + 1));
+            for (OBJECT object : objects) {
+                addToIndex(names, object);
+            }
+            index = new NameIndex<>(names, caseSensitive);
+            objects.index = index;
         }
+        return index.names;
     }
 
-    private boolean checkDuplicateName(String name, OBJECT object) {
-        if (this.objectMap.containsKey(name)) {
+    private void addToIndex(@NotNull Map<String, OBJECT> names, @NotNull OBJECT object) {
+        String name = getObjectName(object);
+        if (name == null) {
+            return;
+        }
+        if (names.containsKey(name)) {
             log.debug("Duplicate object name '" + name + "' in cache " + this.getClass().getSimpleName() + ". Last value: " + DBUtils.getObjectFullName(object, DBPEvaluationContext.DDL));
-            return isValidDuplicateObject(object);
+            if (!isValidDuplicateObject(object)) {
+                return;
+            }
         }
-        return true;
+        names.put(name, object);
     }
 
     protected boolean isValidDuplicateObject(OBJECT object) {
@@ -277,21 +321,20 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
 
     public void clearChildrenOf(DBSObject parent) {
         synchronized (cacheSync) {
-            if (objectList == null) {
+            CacheSnapshot<OBJECT> objects = snapshot;
+            if (objects == null) {
                 return;
             }
-            for (int i = 0; i < objectList.size(); ) {
-                OBJECT object = objectList.get(i);
-                if (object.getParentObject() == parent) {
-                    this.objectList.remove(object);
-                    if (this.objectMap != null) {
-                        this.objectMap.remove(getObjectName(object));
-                    }
-                    fullCache = false;
-                } else {
-                    i++;
+            List<Object> newObjects = new ArrayList<>(objects.size());
+            for (OBJECT object : objects) {
+                if (object.getParentObject() != parent) {
+                    newObjects.add(object);
                 }
             }
+            if (newObjects.size() != objects.size()) {
+                snapshot = new CacheSnapshot<>(newObjects.toArray(), newObjects.size(), null);
+                fullCache = false;
+            }
         }
     }
 
@@ -362,8 +405,11 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
         }
     }
 
+    /**
+     * Iterates over the current cache snapshot. Removal removes objects from the cache.
+     */
     protected class CacheIterator implements Iterator<OBJECT> {
-        private final Iterator<OBJECT> listIterator = objectList.iterator();
+        private final Iterator<OBJECT> listIterator = getCachedObjects().iterator();
         private OBJECT curObject;
 
         public CacheIterator() {
@@ -381,10 +427,60 @@ public abstract class AbstractObjectCache<OWNER extends DBSObject, OBJECT extend
 
         @Override
         public void remove() {
-            listIterator.remove();
-            if (objectMap != null) {
-                objectMap.remove(getObjectName(curObject));
+            if (curObject == null) {
+                throw new IllegalStateException();
+            }
+            removeFromSnapshot(curObject);
+            curObject = null;
+        }
+    }
+
+    /**
+     * Name index. Keys are upper-cased for case-insensitive caches.
+     */
+    private record NameIndex<T>(@NotNull Map<String, T> names, boolean caseSensitive) {
+    }
+
+    /**
+     * Immutable list of cached objects.
+     * Snapshots created by appends share the objects array with the previous snapshot:
+     * array elements are never changed within the snapshot size, so readers of the previous snapshot aren't affected.
+     * Name index is shared as well, but it is mutable (see the cache class description).
+     */
+    private static final class CacheSnapshot<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] objects;
+        private final int size;
+        private volatile NameIndex<T> index;
+
+        CacheSnapshot(@NotNull Object[] objects, int size, @Nullable NameIndex<T> index) {
+            this.objects = objects;
+            this.size = size;
+            this.index = index;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            return (T) objects[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Must be called for the latest snapshot only
+         */
+        @NotNull
+        CacheSnapshot<T> append(@NotNull T object, @Nullable NameIndex<T> newIndex) {
+            Object[] newObjects = objects;
+            if (size == newObjects.length) {
+                newObjects = Arrays.copyOf(newObjects, size + Math.max(size >> 1, 4));
             }
+            newObjects[size] = object;
+            return new CacheSnapshot<>(newObjects, size + 1, newIndex);
         }
     }
 
@@ -70,6 +70,17 @@ public interface DBTTask extends DBPNamedObject, DBPObjectWithDescription {
     @NotNull
     InputStream getRunLogInputStream(@NotNull DBTTaskRun run) throws DBException, IOException;
 
+    /**
+     * Returns folder where task may keep its state between runs (e.g. checkpoints of interrupted runs).
+     * State is removed together with run statistics.
+     *
+     * @return state folder or null if task doesn't support persistent state
+     */
+    @Nullable
+    default Path getRunStateFolder() {
+        return null;
+    }
+
     void removeRun(DBTTaskRun taskRun);
 
     void cleanRunStatistics();
@@ -0,0 +1,294 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.virtual;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCLogicalOperator;
+import org.jkiss.dbeaver.model.sql.SQLUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled condition of a color override.
+ * <p>
+ * Condition arguments are parsed and patterns are compiled once, so evaluation of a single
+ * cell value doesn't convert arguments as {@link DBCLogicalOperator#evaluate(Object, Object[])} does.
+ * Comparisons are specialized by attribute data kind and fall back to
+ * {@link DBUtils#compareDataValues(Object, Object)} for values of unexpected types.
+ */
+public abstract class DBVColorCondition {
+
+    private static final Log log = Log.getLog(DBVColorCondition.class);
+
+    private static final DBVColorCondition NEVER = new DBVColorCondition() {
+        @Override
+        public boolean matches(@Nullable Object value) {
+            return false;
+        }
+    };
+
+    /**
+     * Checks whether the cell value matches the condition
+     */
+    public abstract boolean matches(@Nullable Object value);
+
+    /**
+     * Compiles condition of the color override.
+     *
+     * @param colorOverride color override
+     * @param dataKind      data kind of the attribute the override is applied to
+     */
+    @NotNull
+    public static DBVColorCondition compile(@NotNull DBVColorOverride colorOverride, @NotNull DBPDataKind dataKind) {
+        final DBCLogicalOperator operator = colorOverride.getOperator();
+        final Object[] arguments = colorOverride.getAttributeValues();
+        if (operator == null) {
+            return NEVER;
+        }
+        switch (operator) {
+            case IS_NULL:
+                return new DBVColorCondition() {
+                    @Override
+                    public boolean matches(@Nullable Object value) {
+                        return value == null;
+                    }
+                };
+            case IS_NOT_NULL:
+                return new DBVColorCondition() {
+                    @Override
+                    public boolean matches(@Nullable Object value) {
+                        return value != null;
+                    }
+                };
+            case EQUALS:
+                if (arguments == null) {
+                    return new DBVColorCondition() {
+                        @Override
+                        public boolean matches(@Nullable Object value) {
+                            return DBUtils.isNullValue(value);
+                        }
+                    };
+                } else if (arguments.length == 2) {
+                    ValueComparison min = createComparison(arguments[0], dataKind);
+                    ValueComparison max = createComparison(arguments[1], dataKind);
+                    return new DBVColorCondition() {
+                        @Override
+                        public boolean matches(@Nullable Object value) {
+                            return min.compare(value) >= 0 && max.compare(value) <= 0;
+                        }
+                    };
+                } else if (arguments.length != 1) {
+                    return NEVER;
+                }
+                return new ComparisonCondition(operator, createComparison(arguments[0], dataKind));
+            case NOT_EQUALS:
+            case GREATER:
+            case GREATER_EQUALS:
+            case LESS:
+            case LESS_EQUALS:
+                if (arguments == null || arguments.length == 0) {
+                    return new ComparisonCondition(operator, new ValueComparison(null));
+                }
+                return new ComparisonCondition(operator, createComparison(arguments[0], dataKind));
+            case IN:
+                if (arguments == null) {
+                    return NEVER;
+                }
+                Set<Object> valueSet = new HashSet<>(Arrays.asList(arguments));
+                return new DBVColorCondition() {
+                    @Override
+                    public boolean matches(@Nullable Object value) {
+                        return valueSet.contains(value);
+                    }
+                };
+            case LIKE:
+            case ILIKE:
+            case NOT_LIKE:
+            case REGEX: {
+                if (arguments == null || arguments.length == 0) {
+                    return NEVER;
+                }
+                final Pattern pattern;
+                try {
+                    pattern = operator == DBCLogicalOperator.REGEX ?
+                        Pattern.compile(arguments[0].toString()) :
+                        Pattern.compile(SQLUtils.makeLikePattern(arguments[0].toString()), Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
+                } catch (PatternSyntaxException e) {
+                    log.debug("Bad color override pattern '" + arguments[0] + "'", e);
+                    return NEVER;
+                }
+                final boolean negate = operator == DBCLogicalOperator.NOT_LIKE;
+                return new DBVColorCondition() {
+                    @Override
+                    public boolean matches(@Nullable Object value) {
+                        return value != null && pattern.matcher(value.toString()).matches() != negate;
+                    }
+                };
+            }
+            default:
+                return new DBVColorCondition() {
+                    @Override
+                    public boolean matches(@Nullable Object value) {
+                        return operator.evaluate(value, arguments);
+                    }
+                };
+        }
+    }
+
+    @NotNull
+    private static ValueComparison createComparison(@Nullable Object argument, @NotNull DBPDataKind dataKind) {
+        if (argument != null) {
+            if (dataKind == DBPDataKind.NUMERIC) {
+                BigDecimal number = toDecimal(argument);
+                if (number != null) {
+                    return new NumberComparison(argument, number);
+                }
+            } else if (dataKind == DBPDataKind.STRING && argument instanceof String str) {
+                return new StringComparison(str);
+            }
+        }
+        return new ValueComparison(argument);
+    }
+
+    @Nullable
+    private static BigDecimal toDecimal(@NotNull Object value) {
+        try {
+            if (value instanceof BigDecimal decimal) {
+                return decimal;
+            } else if (value instanceof BigInteger integer) {
+                return new BigDecimal(integer);
+            } else if (value instanceof Double || value instanceof Float) {
+                double doubleValue = ((Number) value).doubleValue();
+                return Double.isFinite(doubleValue) ? BigDecimal.valueOf(doubleValue) : null;
+            } else if (value instanceof Number number) {
+                return BigDecimal.valueOf(number.longValue());
+            } else {
+                return new BigDecimal(value.toString().trim());
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class ComparisonCondition extends DBVColorCondition {
+        private final DBCLogicalOperator operator;
+        private final ValueComparison comparison;
+
+        ComparisonCondition(@NotNull DBCLogicalOperator operator, @NotNull ValueComparison comparison) {
+            this.operator = operator;
+            this.comparison = comparison;
+        }
+
+        @Override
+        public boolean matches(@Nullable Object value) {
+            int result = comparison.compare(value);
+            return switch (operator) {
+                case EQUALS -> result == 0;
+                case NOT_EQUALS -> result != 0;
+                case GREATER -> result > 0;
+                case GREATER_EQUALS -> result >= 0;
+                case LESS -> result < 0;
+                case LESS_EQUALS -> result <= 0;
+                default -> false;
+            };
+        }
+    }
+
+    /**
+     * Compares cell values with the condition argument
+     */
+    private static class ValueComparison {
+        final Object argument;
+
+        ValueComparison(@Nullable Object argument) {
+            this.argument = argument;
+        }
+
+        int compare(@Nullable Object value) {
+            return DBUtils.compareDataValues(value, argument);
+        }
+    }
+
+    private static class NumberComparison extends ValueComparison {
+        private final BigDecimal decimal;
+        private final double doubleValue;
+        private final boolean isLong;
+        private final long longValue;
+
+        NumberComparison(@NotNull Object argument, @NotNull BigDecimal decimal) {
+            super(argument);
+            this.decimal = decimal;
+            this.doubleValue = decimal.doubleValue();
+            long exactLong = 0;
+            boolean exact;
+            try {
+                exactLong = decimal.longValueExact();
+                exact = true;
+            } catch (ArithmeticException e) {
+                exact = false;
+            }
+            this.isLong = exact;
+            this.longValue = exactLong;
+        }
+
+        @Override
+        int compare(@Nullable Object value) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                long cellValue = ((Number) value).longValue();
+                return isLong ? Long.compare(cellValue, longValue) : BigDecimal.valueOf(cellValue).compareTo(decimal);
+            } else if (value instanceof Double || value instanceof Float) {
+                double cellValue = ((Number) value).doubleValue();
+                if (!Double.isNaN(cellValue)) {
+                    return Double.compare(cellValue, doubleValue);
+                }
+            } else if (value instanceof BigDecimal cellValue) {
+                return cellValue.compareTo(decimal);
+            } else if (value instanceof BigInteger cellValue) {
+                return new BigDecimal(cellValue).compareTo(decimal);
+            }
+            return super.compare(value);
+        }
+    }
+
+    private static class StringComparison extends ValueComparison {
+        private final String string;
+
+        StringComparison(@NotNull String string) {
+            super(string);
+            this.string = string;
+        }
+
+        @Override
+        int compare(@Nullable Object value) {
+            if (value instanceof String str) {
+                return str.compareTo(string);
+            }
+            return super.compare(value);
+        }
+    }
+
+}
@@ -182,6 +182,12 @@ public class TaskImpl implements DBTTask, DBPNamedObject2 {
         return Files.newInputStream(Objects.requireNonNull(getRunLog(run)));
     }
 
+    @Nullable
+    @Override
+    public Path getRunStateFolder() {
+        return isTemporary() ? null : getTaskStatsFolder(true);
+    }
+
     @Override
     public void removeRun(DBTTaskRun taskRun) {
         synchronized (this) {
@@ -178,10 +178,10 @@ public class GridCellRenderer extends AbstractRenderer {
             switch (columnAlign) {
                 // Center
                 case IGridContentProvider.ALIGN_CENTER: {
-                    Point textSize = gc.textExtent(text);
+                    int textWidth = grid.textExtentCache.getTextWidth(gc, text);
                     gc.drawString(
                         text,
-                        bounds.x + (bounds.width - textSize.x) / 2,
+                        bounds.x + (bounds.width - textWidth) / 2,
                         textTopPos,
                         isTransparent
                     );
@@ -189,8 +189,8 @@ public class GridCellRenderer extends AbstractRenderer {
                 }
                 case IGridContentProvider.ALIGN_RIGHT: {
                     // Right (numbers, datetimes)
-                    Point textSize = gc.textExtent(text);
-                    int valueWidth = textSize.x + INSIDE_MARGIN;
+                    int textWidth = grid.textExtentCache.getTextWidth(gc, text);
+                    int valueWidth = textWidth + INSIDE_MARGIN;
                     if (imageBounds != null) {
                         valueWidth += imageBounds.width + INSIDE_MARGIN;
                     }
@@ -211,7 +211,7 @@ public class GridCellRenderer extends AbstractRenderer {
                     }
                     gc.drawString(
                         text,
-                        bounds.x + bounds.width - (textSize.x + RIGHT_MARGIN + imageMargin),
+                        bounds.x + bounds.width - (textWidth + RIGHT_MARGIN + imageMargin),
                         bounds.y + TEXT_TOP_MARGIN + TOP_MARGIN,
                         isTransparent
                     );
@@ -281,8 +281,8 @@ public class GridCellRenderer extends AbstractRenderer {
         }
 
         boolean textHintRendered = false;
-        Point textSize = gc.textExtent(text);
-        int hintLeftPos = bounds.x + x + textSize.x + LEFT_MARGIN;
+        int textWidth = grid.textExtentCache.getTextWidth(gc, text);
+        int hintLeftPos = bounds.x + x + textWidth + LEFT_MARGIN;
         // Render text
         for (IGridHint hint : cellHints) {
             if (x > bounds.x + bounds.width) {
@@ -293,7 +293,7 @@ public class GridCellRenderer extends AbstractRenderer {
                 String hintText = hint.getText();
                 if (!CommonUtils.isEmpty(hintText)) {
                     textHintRendered = true;
-                    if (textSize.x < bounds.width - LEFT_MARGIN) {
+                    if (textWidth < bounds.width - LEFT_MARGIN) {
                         final Color foreground;
 
                         if (hint.isError()) {
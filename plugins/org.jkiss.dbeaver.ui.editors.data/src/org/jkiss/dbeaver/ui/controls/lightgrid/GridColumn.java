@@ -343,7 +343,7 @@ public class GridColumn implements IGridColumn {
             x += imageBounds.width + insideMargin;
         }
 
-        x += gc.textExtent(cellText).x + rightMargin;
+        x += grid.textExtentCache.getTextWidth(gc, cellText) + rightMargin;
         return x;
     }
 
@@ -0,0 +1,495 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.lightgrid;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.*;
+
+/**
+ * Grid cell selection.
+ * <p>
+ * Selection is kept as a list of disjoint rectangular ranges, so memory and most operations depend on the number
+ * of ranges rather than on the number of selected cells.
+ * Cells are iterated lazily in natural order (see {@link GridPos.PosComparator}).
+ */
+public class GridSelection extends AbstractCollection<GridPos> {
+
+    /**
+     * Rectangular cells range. Bounds are inclusive.
+     */
+    public static final class Range {
+        public final int firstCol;
+        public final int firstRow;
+        public final int lastCol;
+        public final int lastRow;
+
+        public Range(int firstCol, int firstRow, int lastCol, int lastRow) {
+            this.firstCol = Math.min(firstCol, lastCol);
+            this.firstRow = Math.min(firstRow, lastRow);
+            this.lastCol = Math.max(firstCol, lastCol);
+            this.lastRow = Math.max(firstRow, lastRow);
+        }
+
+        public long getCellCount() {
+            return (long) (lastCol - firstCol + 1) * (lastRow - firstRow + 1);
+        }
+
+        public boolean contains(int col, int row) {
+            return col >= firstCol && col <= lastCol && row >= firstRow && row <= lastRow;
+        }
+
+        boolean intersects(@NotNull Range range) {
+            return range.firstCol <= lastCol && range.lastCol >= firstCol &&
+                range.firstRow <= lastRow && range.lastRow >= firstRow;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Range range &&
+                firstCol == range.firstCol && firstRow == range.firstRow &&
+                lastCol == range.lastCol && lastRow == range.lastRow;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(firstCol, firstRow, lastCol, lastRow);
+        }
+
+        @Override
+        public String toString() {
+            return firstCol + ":" + firstRow + "-" + lastCol + ":" + lastRow;
+        }
+    }
+
+    private final List<Range> ranges = new ArrayList<>();
+    private long cellCount;
+    // Sorted disjoint row intervals (pairs of first/last row). Built on demand.
+    private int[] rowIntervals;
+
+    public GridSelection() {
+    }
+
+    public GridSelection(@NotNull GridSelection source) {
+        set(source);
+    }
+
+    @NotNull
+    public List<Range> getRanges() {
+        return Collections.unmodifiableList(ranges);
+    }
+
+    public long getCellCount() {
+        return cellCount;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(cellCount, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        ranges.clear();
+        cellCount = 0;
+        rowIntervals = null;
+    }
+
+    public void set(@NotNull GridSelection source) {
+        if (source == this) {
+            return;
+        }
+        ranges.clear();
+        ranges.addAll(source.ranges);
+        cellCount = source.cellCount;
+        rowIntervals = source.rowIntervals;
+    }
+
+    public boolean contains(int col, int row) {
+        for (Range range : ranges) {
+            if (range.contains(col, row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof GridPos pos && contains(pos.col, pos.row);
+    }
+
+    /**
+     * Checks whether all cells of the given selection are selected
+     */
+    public boolean containsAll(@NotNull GridSelection selection) {
+        for (Range range : selection.ranges) {
+            List<Range> rest = List.of(range);
+            for (int i = 0; i < ranges.size() && !rest.isEmpty(); i++) {
+                rest = subtract(rest, ranges.get(i));
+            }
+            if (!rest.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean add(GridPos pos) {
+        return add(pos.col, pos.row, pos.col, pos.row);
+    }
+
+    /**
+     * Adds cells range. Returns true if selection was changed.
+     */
+    public boolean add(int firstCol, int firstRow, int lastCol, int lastRow) {
+        Range range = new Range(firstCol, firstRow, lastCol, lastRow);
+        long oldCount = cellCount;
+        removeRange(range);
+        // Merge with neighbours which form a rectangle together with the new range
+        for (int i = 0; i < ranges.size(); ) {
+            Range merged = merge(ranges.get(i), range);
+            if (merged != null) {
+                cellCount -= ranges.remove(i).getCellCount();
+                range = merged;
+                i = 0;
+            } else {
+                i++;
+            }
+        }
+        ranges.add(range);
+        cellCount += range.getCellCount();
+        rowIntervals = null;
+        return cellCount != oldCount;
+    }
+
+    public void addAll(@NotNull GridSelection selection) {
+        for (Range range : selection.ranges) {
+            add(range.firstCol, range.firstRow, range.lastCol, range.lastRow);
+        }
+    }
+
+    /**
+     * Removes cells range. Returns true if selection was changed.
+     */
+    public boolean remove(int firstCol, int firstRow, int lastCol, int lastRow) {
+        long oldCount = cellCount;
+        removeRange(new Range(firstCol, firstRow, lastCol, lastRow));
+        return cellCount != oldCount;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof GridPos pos && remove(pos.col, pos.row, pos.col, pos.row);
+    }
+
+    public void removeAll(@NotNull GridSelection selection) {
+        for (Range range : selection.ranges) {
+            removeRange(range);
+        }
+    }
+
+    /**
+     * Removes all cells below the specified row
+     */
+    public void removeRowsAfter(int row) {
+        removeRange(new Range(0, row + 1, Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Returns the first selected cell in natural order
+     */
+    @Nullable
+    public GridPos getFirst() {
+        Range first = null;
+        for (Range range : ranges) {
+            if (first == null || range.firstRow < first.firstRow ||
+                (range.firstRow == first.firstRow && range.firstCol < first.firstCol)) {
+                first = range;
+            }
+        }
+        return first == null ? null : new GridPos(first.firstCol, first.firstRow);
+    }
+
+    /**
+     * Returns bounds of the selection if all selected cells form a single rectangle
+     */
+    @Nullable
+    public Range getSingleRange() {
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    public boolean containsRow(int row) {
+        int[] intervals = getRowIntervals();
+        int low = 0, high = intervals.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (intervals[mid * 2 + 1] < row) {
+                low = mid + 1;
+            } else if (intervals[mid * 2] > row) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getRowCount() {
+        int[] intervals = getRowIntervals();
+        long count = 0;
+        for (int i = 0; i < intervals.length; i += 2) {
+            count += intervals[i + 1] - intervals[i] + 1;
+        }
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns indexes of rows which contain selected cells in ascending order.
+     * Returned collection is a lazy snapshot of the current selection state.
+     */
+    @NotNull
+    public Collection<Integer> getRows() {
+        final int[] intervals = getRowIntervals();
+        final int rowCount = getRowCount();
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return new Iterator<>() {
+                    private int interval = 0;
+                    private int row = intervals.length == 0 ? 0 : intervals[0];
+
+                    @Override
+                    public boolean hasNext() {
+                        return interval < intervals.length;
+                    }
+
+                    @Override
+                    public Integer next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int result = row;
+                        if (row == intervals[interval + 1]) {
+                            interval += 2;
+                            if (interval < intervals.length) {
+                                row = intervals[interval];
+                            }
+                        } else {
+                            row++;
+                        }
+                        return result;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return rowCount;
+            }
+        };
+    }
+
+    /**
+     * Returns indexes of columns which contain selected cells in ascending order
+     */
+    @NotNull
+    public int[] getColumnIndexes() {
+        BitSet columns = new BitSet();
+        for (Range range : ranges) {
+            columns.set(range.firstCol, range.lastCol + 1);
+        }
+        return columns.stream().toArray();
+    }
+
+    @NotNull
+    @Override
+    public Iterator<GridPos> iterator() {
+        return new CellIterator(ranges.toArray(new Range[0]));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        return obj instanceof GridSelection selection &&
+            cellCount == selection.cellCount && containsAll(selection);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cellCount);
+    }
+
+    private void removeRange(@NotNull Range range) {
+        boolean changed = false;
+        for (int i = 0; i < ranges.size(); ) {
+            Range cur = ranges.get(i);
+            if (!cur.intersects(range)) {
+                i++;
+                continue;
+            }
+            List<Range> rest = subtract(List.of(cur), range);
+            ranges.remove(i);
+            ranges.addAll(i, rest);
+            cellCount -= cur.getCellCount();
+            for (Range r : rest) {
+                cellCount += r.getCellCount();
+            }
+            i += rest.size();
+            changed = true;
+        }
+        if (changed) {
+            rowIntervals = null;
+        }
+    }
+
+    /**
+     * Splits source ranges into parts which do not intersect with the removed range
+     */
+    @NotNull
+    private static List<Range> subtract(@NotNull List<Range> source, @NotNull Range removed) {
+        List<Range> result = new ArrayList<>();
+        for (Range r : source) {
+            if (!r.intersects(removed)) {
+                result.add(r);
+                continue;
+            }
+            if (r.firstRow < removed.firstRow) {
+                result.add(new Range(r.firstCol, r.firstRow, r.lastCol, removed.firstRow - 1));
+            }
+            if (r.lastRow > removed.lastRow) {
+                result.add(new Range(r.firstCol, removed.lastRow + 1, r.lastCol, r.lastRow));
+            }
+            int firstRow = Math.max(r.firstRow, removed.firstRow);
+            int lastRow = Math.min(r.lastRow, removed.lastRow);
+            if (r.firstCol < removed.firstCol) {
+                result.add(new Range(r.firstCol, firstRow, removed.firstCol - 1, lastRow));
+            }
+            if (r.lastCol > removed.lastCol) {
+                result.add(new Range(removed.lastCol + 1, firstRow, r.lastCol, lastRow));
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Range merge(@NotNull Range r1, @NotNull Range r2) {
+        if (r1.firstCol == r2.firstCol && r1.lastCol == r2.lastCol &&
+            (r1.lastRow + 1 == r2.firstRow || r2.lastRow + 1 == r1.firstRow)) {
+            return new Range(r1.firstCol, Math.min(r1.firstRow, r2.firstRow), r1.lastCol, Math.max(r1.lastRow, r2.lastRow));
+        }
+        if (r1.firstRow == r2.firstRow && r1.lastRow == r2.lastRow &&
+            (r1.lastCol + 1 == r2.firstCol || r2.lastCol + 1 == r1.firstCol)) {
+            return new Range(Math.min(r1.firstCol, r2.firstCol), r1.firstRow, Math.max(r1.lastCol, r2.lastCol), r1.lastRow);
+        }
+        return null;
+    }
+
+    @NotNull
+    private int[] getRowIntervals() {
+        if (rowIntervals == null) {
+            Range[] sorted = ranges.toArray(new Range[0]);
+            Arrays.sort(sorted, Comparator.comparingInt(r -> r.firstRow));
+            int[] intervals = new int[sorted.length * 2];
+            int count = 0;
+            for (Range range : sorted) {
+                if (count > 0 && range.firstRow <= intervals[count - 1] + 1) {
+                    intervals[count - 1] = Math.max(intervals[count - 1], range.lastRow);
+                } else {
+                    intervals[count++] = range.firstRow;
+                    intervals[count++] = range.lastRow;
+                }
+            }
+            rowIntervals = Arrays.copyOf(intervals, count);
+        }
+        return rowIntervals;
+    }
+
+    /**
+     * Iterates cells row by row. Only ranges which cover the current row are visited.
+     */
+    private static class CellIterator implements Iterator<GridPos> {
+        private final Range[] ranges;
+        private Range[] rowRanges = new Range[0];
+        private int rowRangeIndex;
+        private int row;
+        private int col;
+
+        CellIterator(@NotNull Range[] ranges) {
+            this.ranges = ranges;
+            if (ranges.length > 0) {
+                nextRow(Integer.MIN_VALUE);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rowRangeIndex < rowRanges.length;
+        }
+
+        @Override
+        public GridPos next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            GridPos pos = new GridPos(col, row);
+            if (col < rowRanges[rowRangeIndex].lastCol) {
+                col++;
+            } else if (++rowRangeIndex < rowRanges.length) {
+                col = rowRanges[rowRangeIndex].firstCol;
+            } else if (row < Integer.MAX_VALUE) {
+                nextRow(row + 1);
+            }
+            return pos;
+        }
+
+        private void nextRow(int fromRow) {
+            int newRow = Integer.MAX_VALUE;
+            boolean found = false;
+            for (Range range : ranges) {
+                if (range.lastRow >= fromRow) {
+                    newRow = Math.min(newRow, Math.max(fromRow, range.firstRow));
+                    found = true;
+                }
+            }
+            rowRangeIndex = 0;
+            if (!found) {
+                rowRanges = new Range[0];
+                return;
+            }
+            List<Range> covering = new ArrayList<>();
+            for (Range range : ranges) {
+                if (range.firstRow <= newRow && range.lastRow >= newRow) {
+                    covering.add(range);
+                }
+            }
+            covering.sort(Comparator.comparingInt(r -> r.firstCol));
+            rowRanges = covering.toArray(new Range[0]);
+            row = newRow;
+            col = rowRanges[0].firstCol;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.ui.controls.lightgrid;
+
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.jkiss.code.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of text widths measured with {@link GC#textExtent(String)}.
+ * <p>
+ * Text measurement is one of the most expensive operations of grid painting and column packing,
+ * while the same texts are measured again on every repaint and scroll.
+ * Widths are keyed by font and text. Must be used in UI thread only.
+ */
+class GridTextExtentCache {
+
+    private static final int MAX_ENTRIES = 8192;
+
+    private record ExtentKey(@NotNull Font font, @NotNull String text) {
+    }
+
+    private final Map<ExtentKey, Integer> widths = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ExtentKey, Integer> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Returns text width in the current GC font
+     */
+    int getTextWidth(@NotNull GC gc, @NotNull String text) {
+        if (text.isEmpty()) {
+            return 0;
+        }
+        ExtentKey key = new ExtentKey(gc.getFont(), text);
+        Integer width = widths.get(key);
+        if (width == null) {
+            width = gc.textExtent(text).x;
+            widths.put(key, width);
+        }
+        return width;
+    }
+
+    /**
+     * Must be called when fonts change or are disposed as new fonts may reuse handles of disposed ones
+     */
+    void clear() {
+        widths.clear();
+    }
+
+}
@@ -35,7 +35,6 @@ import org.jkiss.dbeaver.ui.editors.data.internal.DataEditorsMessages;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
-import org.jkiss.utils.IntKeyMap;
 
 import java.util.List;
 import java.util.*;
@@ -190,10 +189,11 @@ public abstract class LightGrid extends Canvas {
      */
     private int focusItem = -1;
 
-    private final Set<GridPos> selectedCells = new TreeSet<>(new GridPos.PosComparator());
-    private final List<GridPos> selectedCellsBeforeRangeSelect = new ArrayList<>();
+    private final GridSelection selectedCells = new GridSelection();
+    private final GridSelection selectedCellsBeforeRangeSelect = new GridSelection();
     private final List<GridColumn> selectedColumns = new ArrayList<>();
-    private final IntKeyMap<Boolean> selectedRows = new IntKeyMap<>();
+    // Changed when existing cell positions may refer to other rows or columns
+    private int contentVersion;
 
     private boolean cellDragSelectionOccurring = false;
     private boolean cellRowDragSelectionOccurring = false;
@@ -321,6 +321,7 @@ public abstract class LightGrid extends Canvas {
     private Listener disposeListener;
 
     FontMetrics fontMetrics;
+    final GridTextExtentCache textExtentCache = new GridTextExtentCache();
     Font normalFont;
     Font boldFont;
     Font italicFont;
@@ -731,7 +732,30 @@ public abstract class LightGrid extends Canvas {
 
         List<IGridRow> rows = new ArrayList<>(initialElements.length);
         collectRowsFromElements(rows, initialElements);
-        this.gridRows = rows.toArray(new IGridRow[0]);
+        IGridRow[] newRows = rows.toArray(new IGridRow[0]);
+        if (!isRowsAppended(gridRows, newRows)) {
+            contentVersion++;
+        }
+        this.gridRows = newRows;
+    }
+
+    /**
+     * Returns version of the grid content. It is the same as long as rows and columns are only appended.
+     */
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
+    private static boolean isRowsAppended(@NotNull IGridRow[] oldRows, @NotNull IGridRow[] newRows) {
+        if (newRows.length < oldRows.length) {
+            return false;
+        }
+        for (int i = 0; i < oldRows.length; i++) {
+            if (oldRows[i].getElement() != newRows[i].getElement() || oldRows[i].getLevel() != newRows[i].getLevel()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -1259,10 +1283,8 @@ public abstract class LightGrid extends Canvas {
      */
     public int getSelectionIndex()
     {
-        if (selectedCells.isEmpty())
-            return -1;
-
-        return selectedCells.iterator().next().row;
+        GridPos firstCell = selectedCells.getFirst();
+        return firstCell == null ? -1 : firstCell.row;
     }
 
     /**
@@ -1556,6 +1578,7 @@ public abstract class LightGrid extends Canvas {
         columns.clear();
         expandedRows.clear();
         gridRows = new IGridRow[0];
+        contentVersion++;
     }
 
     /**
@@ -1573,9 +1596,7 @@ public abstract class LightGrid extends Canvas {
 
         if (index < 0 || index >= getItemCount()) return;
 
-        selectCells(getCells(index));
-
-        redraw();
+        selectRows(index, index);
     }
 
     /**
@@ -1601,18 +1622,7 @@ public abstract class LightGrid extends Canvas {
 
         if (selectionType == SWT.SINGLE && start != end) return;
 
-        for (int i = start; i <= end; i++) {
-            if (i < 0) {
-                continue;
-            }
-            if (i > getItemCount() - 1) {
-                break;
-            }
-
-            selectCells(getCells(i));
-        }
-
-        redraw();
+        selectRows(start, end);
     }
 
     /**
@@ -1644,9 +1654,10 @@ public abstract class LightGrid extends Canvas {
 
         for (int j : indices) {
             if (j >= 0 && j < getItemCount()) {
-                selectCells(getCells(j));
+                addToCellSelection(0, j, columns.size() - 1, j);
             }
         }
+        updateSelectionCache();
         redraw();
     }
 
@@ -1722,7 +1733,7 @@ public abstract class LightGrid extends Canvas {
 
         if (index >= 0 && index < getItemCount()) {
             selectedCells.clear();
-            selectCells(getCells(index));
+            selectRows(index, index);
         }
     }
 
@@ -1749,18 +1760,7 @@ public abstract class LightGrid extends Canvas {
         if (selectionType == SWT.SINGLE && start != end) return;
 
         selectedCells.clear();
-
-        for (int i = start; i <= end; i++) {
-            if (i < 0) {
-                continue;
-            }
-            if (i > getItemCount() - 1) {
-                break;
-            }
-
-            selectCells(getCells(i));
-        }
-        redraw();
+        selectRows(start, end);
     }
 
     /**
@@ -1793,8 +1793,9 @@ public abstract class LightGrid extends Canvas {
                 break;
             }
 
-            selectCells(getCells(j));
+            addToCellSelection(0, j, columns.size() - 1, j);
         }
+        updateSelectionCache();
         redraw();
     }
 
@@ -1992,9 +1993,9 @@ public abstract class LightGrid extends Canvas {
         if (scrollValuesObsolete)
             updateScrollbars();
 
-        if (selectedCells.isEmpty()) return;
+        GridPos cell = selectedCells.getFirst();
+        if (cell == null) return;
 
-        GridPos cell = selectedCells.iterator().next();
         showItem(cell.row);
         showColumn(cell.col);
     }
@@ -2409,7 +2410,7 @@ public abstract class LightGrid extends Canvas {
             // get the item to draw
             if (row >= 0 && row < getItemCount()) {
 
-                boolean cellInRowSelected = selectedRows.containsKey(row);
+                boolean cellInRowSelected = selectedCells.containsRow(row);
 
                 if (rowHeaderVisible) {
                     // row header is actually painted later
@@ -2816,7 +2817,9 @@ public abstract class LightGrid extends Canvas {
             boolean reverseDuplicateSelections,
             EventSource eventSource)
     {
-        return updateCellSelection(Collections.singletonList(newCell), stateMask, dragging, reverseDuplicateSelections, eventSource);
+        GridSelection newCells = new GridSelection();
+        newCells.add(newCell);
+        return updateCellSelection(newCells, stateMask, dragging, reverseDuplicateSelections, eventSource);
     }
 
     /**
@@ -2830,7 +2833,7 @@ public abstract class LightGrid extends Canvas {
      */
     @Nullable
     private Event updateCellSelection(
-        @NotNull List<GridPos> newCells,
+        @NotNull GridSelection newCells,
         int stateMask,
         boolean dragging,
         boolean reverseDuplicateSelections,
@@ -2859,24 +2862,22 @@ public abstract class LightGrid extends Canvas {
             shiftSelectionAnchorItem = -1;
         }
 
-        List<GridPos> oldSelection = null;
+        GridSelection oldSelection = null;
         if (!shift && !ctrl) {
-            if (newCells.size() == 1 &&
-                newCells.size() == selectedCells.size() &&
-                newCells.get(0).equals(selectedCells.iterator().next()))
-            {
+            if (newCells.getCellCount() == 1 && newCells.equals(selectedCells)) {
                 return null;
             }
 
             selectedCells.clear();
-            for (GridPos newCell : newCells) {
-                addToCellSelection(newCell);
-            }
+            addToCellSelection(newCells);
 
         } else if (shift) {
 
-            GridPos newCell = newCells.get(0); //shift selection should only occur with one cell, ignoring others
-            oldSelection = new ArrayList<>(selectedCells);
+            GridPos newCell = newCells.getFirst(); //shift selection should only occur with one cell, ignoring others
+            if (newCell == null) {
+                return null;
+            }
+            oldSelection = new GridSelection(selectedCells);
 
             if ((focusColumn == null) || (focusItem < 0)) {
                 return null;
@@ -2886,8 +2887,7 @@ public abstract class LightGrid extends Canvas {
             shiftSelectionAnchorItem = newCell.row;
 
             if (ctrl) {
-                selectedCells.clear();
-                selectedCells.addAll(selectedCellsBeforeRangeSelect);
+                selectedCells.set(selectedCellsBeforeRangeSelect);
             } else {
                 selectedCells.clear();
             }
@@ -2899,58 +2899,12 @@ public abstract class LightGrid extends Canvas {
             GridColumn endColumn = getColumn(newCell.col);
             int endItem = newCell.row;
 
-            Point newRange = getSelectionRange(currentItem, currentColumn, endItem, endColumn);
+            Point newRange = getSelectionRange(currentColumn, endColumn);
 
             currentColumn = getColumn(newRange.x);
             endColumn = getColumn(newRange.y);
 
-            GridColumn startCol = currentColumn;
-
-            if (currentItem > endItem) {
-                int temp = currentItem;
-                currentItem = endItem;
-                endItem = temp;
-            }
-
-            boolean firstLoop = true;
-            do {
-                if (!firstLoop) {
-                    currentItem++;
-                }
-
-                firstLoop = false;
-
-                boolean firstLoop2 = true;
-
-                currentColumn = startCol;
-
-                do {
-                    if (!firstLoop2) {
-                        int index = indexOf(currentColumn) + 1;
-
-                        if (index < columns.size()) {
-                            currentColumn = columns.get(index);
-                        } else {
-                            currentColumn = null;
-                        }
-
-                        if (currentColumn != null)
-                            if (indexOf(currentColumn) > indexOf(endColumn))
-                                currentColumn = null;
-                    }
-
-                    firstLoop2 = false;
-
-                    if (currentColumn != null) {
-                        GridPos cell = new GridPos(indexOf(currentColumn), currentItem);
-                        addToCellSelection(cell);
-                    }
-                } while (currentColumn != endColumn && currentColumn != null);
-            } while (currentItem != endItem);
-
-            if (selectedCells.equals(newCells)) {
-                return null;
-            }
+            addToCellSelection(indexOf(currentColumn), currentItem, indexOf(endColumn), endItem);
 
         } else /*if (eventSource == EventSource.MOUSE)*/ {
             // Ctrl selection works only for mouse events
@@ -2960,35 +2914,24 @@ public abstract class LightGrid extends Canvas {
                 reverse = false;
 
             if (dragging) {
-                selectedCells.clear();
-                selectedCells.addAll(selectedCellsBeforeRangeSelect);
+                selectedCells.set(selectedCellsBeforeRangeSelect);
             }
 
             if (reverse) {
-                if (alt && newCells.size() == 1) {
+                if (alt && newCells.getCellCount() == 1) {
                     // Alt pressed - deselect all cells selected in other rows (#6613)
-                    int row = newCells.get(0).row;
-                    newCells = new ArrayList<>();
-                    for (GridColumn col : selectedColumns) {
-                        newCells.add(new GridPos(col.getIndex(), row));
-                    }
+                    newCells = getSelectedColumnsCells(newCells.getFirst().row);
                 }
                 selectedCells.removeAll(newCells);
             } else {
-                if (alt && newCells.size() == 1) {
+                if (alt && newCells.getCellCount() == 1) {
                     // Alt pressed - select all cells selected in other rows (#5988)
-                    int row = newCells.get(0).row;
-                    newCells = new ArrayList<>();
-                    for (GridColumn col : selectedColumns) {
-                        newCells.add(new GridPos(col.getIndex(), row));
-                    }
-                }
-                for (GridPos newCell : newCells) {
-                    addToCellSelection(newCell);
+                    newCells = getSelectedColumnsCells(newCells.getFirst().row);
                 }
+                addToCellSelection(newCells);
             }
         }
-        if (oldSelection != null && oldSelection.size() == selectedCells.size() && selectedCells.containsAll(oldSelection)) {
+        if (oldSelection != null && oldSelection.equals(selectedCells)) {
             return null;
         }
 
@@ -3018,25 +2961,43 @@ public abstract class LightGrid extends Canvas {
         return selectedCells.add(newCell);
     }
 
+    private void addToCellSelection(@NotNull GridSelection newCells)
+    {
+        for (GridSelection.Range range : newCells.getRanges()) {
+            addToCellSelection(range.firstCol, range.firstRow, range.lastCol, range.lastRow);
+        }
+    }
+
+    private void addToCellSelection(int firstCol, int firstRow, int lastCol, int lastRow)
+    {
+        int fromCol = Math.max(Math.min(firstCol, lastCol), 0);
+        int toCol = Math.min(Math.max(firstCol, lastCol), columns.size() - 1);
+        if (fromCol > toCol) {
+            return;
+        }
+        selectedCells.add(fromCol, firstRow, toCol, lastRow);
+    }
+
+    @NotNull
+    private GridSelection getSelectedColumnsCells(int row)
+    {
+        GridSelection cells = new GridSelection();
+        for (GridColumn col : selectedColumns) {
+            cells.add(col.getIndex(), row, col.getIndex(), row);
+        }
+        return cells;
+    }
+
     private void updateSelectionCache()
     {
         //Update the list of which columns have all their cells selected
         selectedColumns.clear();
-        selectedRows.clear();
 
-        IntKeyMap<Boolean> columnIndices = new IntKeyMap<>();
-        for (GridPos cell : selectedCells) {
-            if (cell.col >= 0) {
-                columnIndices.put(cell.col, Boolean.TRUE);
+        for (int columnIndex : selectedCells.getColumnIndexes()) {
+            if (columnIndex >= 0 && columnIndex < columns.size()) {
+                selectedColumns.add(columns.get(columnIndex));
             }
-            if (cell.row >= 0) {
-                selectedRows.put(cell.row, Boolean.TRUE);
-            }
-        }
-        for (Integer columnIndex : columnIndices.keySet()) {
-            selectedColumns.add(columns.get(columnIndex));
         }
-        selectedColumns.sort(Comparator.comparingInt(GridColumn::getIndex));
     }
 
     /**
@@ -3145,6 +3106,7 @@ public abstract class LightGrid extends Canvas {
         UIUtils.dispose(boldFont);
         UIUtils.dispose(italicFont);
         UIUtils.dispose(commentFont);
+        textExtentCache.clear();
     }
 
     /**
@@ -3243,7 +3205,7 @@ public abstract class LightGrid extends Canvas {
                     }
                 }
             } else if (hoveringOnRowHeader && hoveringRow != null) {
-                if (e.button == 1 && selectedRows.containsKey(hoveringRow) && dragDetect(e)) {
+                if (e.button == 1 && selectedCells.containsRow(hoveringRow) && dragDetect(e)) {
                     rowHeaderDragStarted = true;
                     return;
                 }
@@ -3257,7 +3219,7 @@ public abstract class LightGrid extends Canvas {
             col = getColumn(point);
             boolean isSelectedCell = false;
             if (col != null && !getContentProvider().isVoidCell(col, gridRows[row])) {
-                isSelectedCell = selectedCells.contains(new GridPos(col.getIndex(), row));
+                isSelectedCell = selectedCells.contains(col.getIndex(), row);
             }
 
             boolean altPressed = CommonUtils.isBitSet(e.stateMask, SWT.MOD3);
@@ -3280,7 +3242,7 @@ public abstract class LightGrid extends Canvas {
                         }
                     }
                 }
-                List<GridPos> cells = new ArrayList<>();
+                GridSelection cells = new GridSelection();
 
                 if (e.button == 1) {
                     if (shift) {
@@ -3350,7 +3312,7 @@ public abstract class LightGrid extends Canvas {
             }
 
             if (e.button == 1) {
-                List<GridPos> cells = new ArrayList<>();
+                GridSelection cells = new GridSelection();
                 getCells(col, cells);
                 selectionEvent = updateCellSelection(cells, e.stateMask, false, true, EventSource.MOUSE);
             }
@@ -3661,8 +3623,7 @@ public abstract class LightGrid extends Canvas {
                     setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
                     cellDragCTRL = ((e.stateMask & SWT.MOD1) != 0);
                     if (cellDragCTRL) {
-                        selectedCellsBeforeRangeSelect.clear();
-                        selectedCellsBeforeRangeSelect.addAll(selectedCells);
+                        selectedCellsBeforeRangeSelect.set(selectedCells);
                     }
                 }
                 if (!cellRowDragSelectionOccurring && cellRowSelectedOnLastMouseDown) {
@@ -3670,8 +3631,7 @@ public abstract class LightGrid extends Canvas {
                     setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
                     cellDragCTRL = ((e.stateMask & SWT.MOD1) != 0);
                     if (cellDragCTRL) {
-                        selectedCellsBeforeRangeSelect.clear();
-                        selectedCellsBeforeRangeSelect.addAll(selectedCells);
+                        selectedCellsBeforeRangeSelect.set(selectedCells);
                     }
                 }
 
@@ -3680,8 +3640,7 @@ public abstract class LightGrid extends Canvas {
                     setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
                     cellDragCTRL = ((e.stateMask & SWT.MOD1) != 0);
                     if (cellDragCTRL) {
-                        selectedCellsBeforeRangeSelect.clear();
-                        selectedCellsBeforeRangeSelect.addAll(selectedCells);
+                        selectedCellsBeforeRangeSelect.set(selectedCells);
                     }
                 }
 
@@ -3731,9 +3690,7 @@ public abstract class LightGrid extends Canvas {
                         }
                     }
 
-                    List<GridPos> cells = new ArrayList<>();
-
-                    getCells(intentItem, focusItem, cells);
+                    GridSelection cells = getCells(intentItem, focusItem);
 
                     showItem(intentItem);
                     selectionEvent = updateCellSelection(cells, ctrlFlag, true, false, EventSource.MOUSE);
@@ -3741,7 +3698,7 @@ public abstract class LightGrid extends Canvas {
                 final GridColumn prevHoveringColumn = hoveringColumn;
                 if (cellColumnDragSelectionOccurring && handleCellHover(e.x, e.y)) {
                     boolean dragging;
-                    List<GridPos> newSelected = new ArrayList<>();
+                    GridSelection newSelected = new GridSelection();
 
                     GridColumn iterCol = hoveringColumn;
                     if (iterCol != null) {
@@ -4452,8 +4409,12 @@ public abstract class LightGrid extends Canvas {
     {
         checkWidget();
 
-        for (GridPos cell : cells) {
-            addToCellSelection(cell);
+        if (cells instanceof GridSelection selection) {
+            addToCellSelection(selection);
+        } else {
+            for (GridPos cell : cells) {
+                addToCellSelection(cell);
+            }
         }
 
         updateSelectionCache();
@@ -4489,7 +4450,7 @@ public abstract class LightGrid extends Canvas {
         focusColumn = columns.get(0);
         focusItem = 0;
 
-        List<GridPos> cells = getAllCells();
+        GridSelection cells = getCells(0, getItemCount() - 1);
         Event selectionEvent = updateCellSelection(cells, stateMask, false, true, EventSource.KEYBOARD);
 
         focusColumn = oldFocusColumn;
@@ -4541,6 +4502,19 @@ public abstract class LightGrid extends Canvas {
         return Collections.unmodifiableCollection(selectedCells);
     }
 
+    /**
+     * Returns a copy of the current selection which is not affected by further selection changes
+     */
+    @NotNull
+    public GridSelection getSelectionCopy()
+    {
+        return new GridSelection(selectedCells);
+    }
+
+    /**
+     * Returns selected cells. Creates cell object for each selected cell,
+     * so consider iterating over {@link #getSelection()} for large selections.
+     */
     public List<GridCell> getCellSelection()
     {
         if (isDisposed() || selectedCells.isEmpty()) {
@@ -4576,134 +4550,90 @@ public abstract class LightGrid extends Canvas {
     }
 
     public boolean isRowSelected(int row) {
-        return selectedRows.containsKey(row);
+        return selectedCells.containsRow(row);
     }
 
     /**
      * Returns selected rows indexes
-     * @return indexes of selected rows
+     * @return indexes of selected rows in ascending order
      */
     public Collection<Integer> getRowSelection()
     {
-        return Collections.unmodifiableCollection(selectedRows.keySet());
+        return selectedCells.getRows();
     }
 
     public int getRowSelectionSize() {
-        return selectedRows.size();
+        return selectedCells.getRowCount();
+    }
+
+    /**
+     * Returns selected cells as a list of disjoint rectangular ranges
+     */
+    @NotNull
+    public List<GridSelection.Range> getSelectionRanges() {
+        return selectedCells.getRanges();
     }
 
-    private void getCells(GridColumn col, List<GridPos> cells)
+    private void getCells(GridColumn col, GridSelection cells)
     {
+        if (getItemCount() == 0) {
+            return;
+        }
         if (col.getChildren() != null) {
             // Get cells for all leafs
             for (int i = 0; i < columns.size(); i++) {
                 if (columns.get(i).isParent(col)) {
-                    for (int k = 0; k < getItemCount(); k++) {
-                        cells.add(new GridPos(i, k));
-                    }
+                    cells.add(i, 0, i, getItemCount() - 1);
                 }
             }
         } else {
             int colIndex = col.getIndex();
-
-            for (int i = 0; i < getItemCount(); i++) {
-                cells.add(new GridPos(colIndex, i));
-            }
+            cells.add(colIndex, 0, colIndex, getItemCount() - 1);
         }
     }
 
-    private void getCells(int row, List<GridPos> cells)
+    private void getCells(int row, GridSelection cells)
     {
-        for (int i = 0; i < columns.size(); i++) {
-            cells.add(new GridPos(i, row));
-        }
+        getCells(row, row, cells);
     }
 
-    private List<GridPos> getAllCells()
+    private GridSelection getCells(int startRow, int endRow)
     {
-        int itemCount = getItemCount();
-        int columnCount = columns.size();
-        List<GridPos> cells = new ArrayList<>(itemCount * columnCount);
-
-        for (int i = 0; i < itemCount; i++) {
-            for (int k = 0; k < columnCount; k++) {
-                cells.add(new GridPos(k, i));
-            }
-        }
+        GridSelection cells = new GridSelection();
+        getCells(startRow, endRow, cells);
         return cells;
     }
 
-    private List<GridPos> getCells(int row)
+    private void getCells(int startRow, int endRow, GridSelection cells)
     {
-        List<GridPos> cells = new ArrayList<>();
-        getCells(row, cells);
-        return cells;
+        if (!columns.isEmpty()) {
+            cells.add(0, startRow, columns.size() - 1, endRow);
+        }
     }
 
-
-    private void getCells(int startRow, int endRow, List<GridPos> cells)
+    private void selectRows(int startRow, int endRow)
     {
-        boolean descending = (startRow < endRow);
-
-        int iterItem = endRow;
-
-        do {
-            getCells(iterItem, cells);
-
-            if (iterItem == startRow) break;
-
-            if (descending) {
-                iterItem--;
-            } else {
-                iterItem++;
-            }
-        } while (true);
+        int fromRow = Math.max(startRow, 0);
+        int toRow = Math.min(endRow, getItemCount() - 1);
+        if (fromRow <= toRow) {
+            addToCellSelection(0, fromRow, columns.size() - 1, toRow);
+        }
+        updateSelectionCache();
+        redraw();
     }
 
     /**
      * Returns a point whose x and y values are the to and from column indexes of the new selection
      * range inclusive of all spanned columns.
      */
-    private Point getSelectionRange(int fromItem, GridColumn fromColumn, int toItem, GridColumn toColumn)
+    private Point getSelectionRange(GridColumn fromColumn, GridColumn toColumn)
     {
         if (indexOf(fromColumn) > indexOf(toColumn)) {
             GridColumn temp = fromColumn;
             fromColumn = toColumn;
             toColumn = temp;
         }
-
-        if (fromItem > toItem) {
-            int temp = fromItem;
-            fromItem = toItem;
-            toItem = temp;
-        }
-
-        boolean firstTime = true;
-        int iterItem = fromItem;
-
-        int fromIndex = fromColumn.getIndex();
-        int toIndex = toColumn.getIndex();
-
-        do {
-            if (!firstTime) {
-                iterItem++;
-            } else {
-                firstTime = false;
-            }
-
-            Point cols = getRowSelectionRange(fromColumn, toColumn);
-
-            //check and see if column spanning means that the range increased
-            if (cols.x != fromIndex || cols.y != toIndex) {
-                GridColumn newFrom = getColumn(cols.x);
-                GridColumn newTo = getColumn(cols.y);
-
-                //Unfortunately we have to start all over again from the top with the new range
-                return getSelectionRange(fromItem, newFrom, toItem, newTo);
-            }
-        } while (iterItem != toItem);
-
-        return new Point(fromColumn.getIndex(), toColumn.getIndex());
+        return getRowSelectionRange(fromColumn, toColumn);
     }
 
     /**
@@ -4746,6 +4676,7 @@ public abstract class LightGrid extends Canvas {
         sizingGC.setFont(font);
         fontMetrics = sizingGC.getFontMetrics();
         sizingGC.dispose();
+        textExtentCache.clear();
 
         normalFont = font;
         UIUtils.dispose(boldFont);
@@ -5015,7 +4946,7 @@ public abstract class LightGrid extends Canvas {
                         if (isDragSingleRow()) {
                             elements.add(getRowElement(draggingRow));
                         } else {
-                            for (Integer row : selectedRows.keySet()) {
+                            for (Integer row : selectedCells.getRows()) {
                                 elements.add(getRowElement(row));
                             }
                         }
@@ -5025,7 +4956,7 @@ public abstract class LightGrid extends Canvas {
                         if (columns.isEmpty()) {
                             columns = LightGrid.this.columns;
                         }
-                        Set<Integer> rows = selectedRows.keySet();
+                        Collection<Integer> rows = selectedCells.getRows();
                         if (rows.isEmpty()) {
                             rows = Collections.singleton(draggingRow);
                         }
@@ -5156,7 +5087,7 @@ public abstract class LightGrid extends Canvas {
     }
 
     private boolean isDragSingleRow() {
-        return draggingRow != null && !selectedRows.containsKey(draggingRow);
+        return draggingRow != null && !selectedCells.containsRow(draggingRow);
     }
 
     public final static class GridColumnTransfer extends LocalObjectTransfer<List<Object>> {
@@ -141,6 +141,11 @@ public interface IResultSetController extends IDataController, DBPContextProvide
      */
     void readNextSegment();
 
+    /**
+     * Starts background read of the next segment if the specified row passed read-ahead threshold of the current segment
+     */
+    void readAheadNextSegment(int rowNum);
+
     /**
      * Reads all rows from data container.
      * Note: in case of huge resultset this function may eventually throw {@link java.lang.OutOfMemoryError}
@@ -17,6 +17,11 @@
 
 package org.jkiss.dbeaver.ui.controls.resultset;
 
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.List;
+
 /**
  * Result set selection extension
  */
@@ -28,4 +33,23 @@ public interface IResultSetSelectionExt extends IResultSetSelection {
 
     int getSelectedCellCount();
 
+    /**
+     * Returns elements which were added to this selection since the previous selection.
+     * Returns null if previous selection is not a part of this one or if the underlying data has been changed since then.
+     */
+    @Nullable
+    default Iterable<?> getAddedElements(@NotNull IResultSetSelection previous) {
+        return null;
+    }
+
+    /**
+     * Returns selection elements (all selected cells or elements returned by {@link #getAddedElements})
+     * as blocks of attribute and row references. Cells are not enumerated, so it is cheap for large selections.
+     * Returns null if elements can't be represented as blocks.
+     */
+    @Nullable
+    default List<ResultSetCellBlock> getCellBlocks(@NotNull Iterable<?> elements) {
+        return null;
+    }
+
 }
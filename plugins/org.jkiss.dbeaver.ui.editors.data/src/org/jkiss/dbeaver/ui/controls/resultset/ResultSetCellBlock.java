@@ -0,0 +1,61 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+
+/**
+ * Rectangular block of selected cells: every cell of the block is an intersection of an attribute and a row.
+ * Block keeps only attribute and row references, so cell values may be read later outside of UI thread.
+ * Null references stand for grid elements which have no attribute or row (e.g. nested rows).
+ */
+public class ResultSetCellBlock {
+
+    private final DBDAttributeBinding[] attributes;
+    private final ResultSetRow[] rows;
+
+    public ResultSetCellBlock(@NotNull DBDAttributeBinding[] attributes, @NotNull ResultSetRow[] rows) {
+        this.attributes = attributes;
+        this.rows = rows;
+    }
+
+    @NotNull
+    public DBDAttributeBinding[] getAttributes() {
+        return attributes;
+    }
+
+    @NotNull
+    public ResultSetRow[] getRows() {
+        return rows;
+    }
+
+    public long getCellCount() {
+        return (long) attributes.length * rows.length;
+    }
+
+    @Nullable
+    public DBDAttributeBinding getAttribute(int index) {
+        return attributes[index];
+    }
+
+    @Nullable
+    public ResultSetRow getRow(int index) {
+        return rows[index];
+    }
+}
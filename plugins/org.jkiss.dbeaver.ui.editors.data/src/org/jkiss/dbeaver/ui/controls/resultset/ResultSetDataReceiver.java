@@ -43,12 +43,17 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
 
     private static final Log log = Log.getLog(ResultSetDataReceiver.class);
 
+    // When all rows are fetched, they are passed to the model by chunks. So model can keep memory usage within the limit
+    private static final int FETCH_ALL_CHUNK_SIZE = 10000;
+
     private ResultSetViewer resultSetViewer;
     private int columnsCount;
     private DBDAttributeBinding[] metaColumns;
     private List<Object[]> rows = new ArrayList<>();
     private boolean hasMoreData;
     private boolean nextSegmentRead;
+    // Some rows of the current segment were already passed to the model
+    private boolean rowsAppended;
     private long offset;
     private long maxRows;
 
@@ -94,6 +99,7 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
         throws DBCException {
         this.errorList.clear();
         this.rows.clear();
+        this.rowsAppended = false;
         this.offset = offset;
         this.maxRows = maxRows;
 
@@ -116,6 +122,17 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
 
     @Override
     public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+        rows.add(readRowValues(session, resultSet));
+        if (nextSegmentRead && maxRows <= 0 && rows.size() >= FETCH_ALL_CHUNK_SIZE) {
+            appendRows(session.getProgressMonitor());
+        }
+    }
+
+    /**
+     * Reads values of the current result set row using metadata of the last read
+     */
+    @NotNull
+    Object[] readRowValues(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
         Object[] row = new Object[columnsCount];
         for (int i = 0; i < columnsCount; i++) {
             try {
@@ -149,7 +166,22 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
                 }
             }
         }
-        rows.add(row);
+        return row;
+    }
+
+    private void appendRows(@NotNull DBRProgressMonitor monitor) {
+        boolean resetOldRows = !rowsAppended &&
+            getDataContainer().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING);
+        final List<Object[]> chunk = rows;
+        // Model rows are read by UI thread, so they are modified only in UI thread.
+        // Fetch waits for each chunk, so memory limit of the model is kept
+        UIUtils.syncExec(() -> {
+            if (!resultSetViewer.getControl().isDisposed()) {
+                resultSetViewer.appendData(monitor, chunk, resetOldRows);
+            }
+        });
+        rows = new ArrayList<>();
+        rowsAppended = true;
     }
 
     @Override
@@ -184,8 +216,7 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
             resultSetViewer.setData(monitor, tmpRows, focusRow);
         } else {
             monitor.subTask("Append data");
-            boolean resetOldRows = getDataContainer().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING);
-            resultSetViewer.appendData(monitor, tmpRows, resetOldRows);
+            appendRows(monitor);
         }
         // Check for more data
         hasMoreData = maxRows > 0 && tmpRows.size() >= maxRows;
@@ -27,10 +27,14 @@ import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.data.*;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.exec.trace.DBCTrace;
+import org.jkiss.dbeaver.model.impl.data.ColumnSortIndex;
+import org.jkiss.dbeaver.model.impl.data.ColumnarValueSpill;
+import org.jkiss.dbeaver.model.impl.data.ColumnarValueStore;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.struct.*;
+import org.jkiss.dbeaver.model.virtual.DBVColorCondition;
 import org.jkiss.dbeaver.model.virtual.DBVColorOverride;
 import org.jkiss.dbeaver.model.virtual.DBVEntity;
 import org.jkiss.dbeaver.model.virtual.DBVUtils;
@@ -40,7 +44,9 @@ import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Result set model
@@ -49,6 +55,9 @@ public class ResultSetModel implements DBDResultSetModel {
 
     private static final Log log = Log.getLog(ResultSetModel.class);
 
+    // Number of rows in value store which may be spilled to disk as a whole
+    private static final int SPILL_SEGMENT_SIZE = 10000;
+
     // Attributes
     private DBDAttributeBinding[] attributes = new DBDAttributeBinding[0];
     private List<DBDAttributeBinding> visibleAttributes = new ArrayList<>();
@@ -61,6 +70,21 @@ public class ResultSetModel implements DBDResultSetModel {
 
     // Data
     private List<ResultSetRow> curRows = new ArrayList<>();
+    // Compact storage of fetched rows values. Null if disabled
+    @Nullable
+    private ColumnarValueStore valueStore;
+    // Keeps complete value stores within the memory limit. Null if disabled or not needed yet
+    @Nullable
+    private ColumnarValueSpill valueSpill;
+    // Rows hidden by local filter
+    private List<ResultSetRow> hiddenRows = new ArrayList<>();
+    private boolean localFilter;
+    // Sort indexes of fetched rows. Null if not built yet or rows were changed
+    @Nullable
+    private volatile LocalRowsIndex localIndex;
+    // Incremented on any rows or values change
+    private volatile int contentVersion;
+    private boolean fetchedWithConditions;
     private Long totalRowCount = null;
     private int changesCount = 0;
     private volatile boolean hasData = false;
@@ -72,25 +96,46 @@ public class ResultSetModel implements DBDResultSetModel {
     private transient boolean metadataChanged;
     private transient boolean metadataDynamic;
 
+    /**
+     * All rows (including ones hidden by local filter) in their original order with sort indexes of their columns
+     */
+    private static class LocalRowsIndex {
+        private final ResultSetRow[] rows;
+        private final Map<DBDAttributeBinding, ColumnSortIndex> columns = new ConcurrentHashMap<>();
+
+        LocalRowsIndex(@NotNull ResultSetRow[] rows) {
+            this.rows = rows;
+        }
+    }
+
     public static class AttributeColorSettings {
-        private final DBCLogicalOperator operator;
+        private final DBVColorCondition condition;
         private final boolean rangeCheck;
         private final boolean singleColumn;
-        private final Object[] attributeValues;
+        private final double minValue;
+        private final double maxValue;
         private final Color colorForeground;
         private final Color colorForeground2;
         private final Color colorBackground;
         private final Color colorBackground2;
 
-        AttributeColorSettings(DBVColorOverride co) {
-            this.operator = co.getOperator();
-            this.rangeCheck = co.isRange();
+        AttributeColorSettings(DBVColorOverride co, DBPDataKind dataKind) {
+            this.condition = DBVColorCondition.compile(co, dataKind);
             this.singleColumn = co.isSingleColumn();
             this.colorForeground = getColor(co.getColorForeground());
             this.colorForeground2 = getColor(co.getColorForeground2());
             this.colorBackground = getColor(co.getColorBackground());
             this.colorBackground2 = getColor(co.getColorBackground2());
-            this.attributeValues = co.getAttributeValues();
+            this.rangeCheck = co.isRange();
+            Object[] attributeValues = co.getAttributeValues();
+            if (attributeValues != null && attributeValues.length > 1) {
+                this.minValue = DBExecUtils.makeNumericValue(attributeValues[0]);
+                this.maxValue = DBExecUtils.makeNumericValue(attributeValues[1]);
+            } else {
+                // Incomplete range matches nothing
+                this.minValue = Double.NaN;
+                this.maxValue = Double.NaN;
+            }
         }
 
         private static Color getColor(String color) {
@@ -101,7 +146,7 @@ public class ResultSetModel implements DBDResultSetModel {
         }
 
         public boolean evaluate(Object cellValue) {
-            return operator.evaluate(cellValue, attributeValues);
+            return condition.matches(cellValue);
         }
     }
 
@@ -124,6 +169,8 @@ public class ResultSetModel implements DBDResultSetModel {
 
     // Coloring
     private final Map<DBDAttributeBinding, List<AttributeColorSettings>> colorMapping = new TreeMap<>(POSITION_SORTER);
+    // Incremented on color mapping change. Row colors evaluated with other version are obsolete.
+    private int colorsVersion;
 
     public ResultSetModel() {
         this.hintContext = new ResultSetHintContext(this::getDataContainer, this::getSingleSource);
@@ -397,7 +444,7 @@ public class ResultSetModel implements DBDResultSetModel {
 
     @NotNull
     public Object[] getRowData(int index) {
-        return curRows.get(index).values;
+        return curRows.get(index).getValues();
     }
 
     @NotNull
@@ -430,6 +477,16 @@ public class ResultSetModel implements DBDResultSetModel {
         @Nullable int[] rowIndexes,
         boolean retrieveDeepestCollectionElement
     ) {
+        if (row instanceof ResultSetRow rsRow && !attribute.isCustom() && attribute.getLevel() == 0 &&
+            attribute.getTopParent() == attribute && (rowIndexes == null || rowIndexes.length == 0) &&
+            !retrieveDeepestCollectionElement)
+        {
+            // Plain top-level value. Read it directly to avoid materialization of the whole row
+            int index = attribute.getOrdinalPosition();
+            if (index < rsRow.getValueCount()) {
+                return rsRow.getValue(index);
+            }
+        }
         return DBUtils.getAttributeValue(
             attribute,
             attributes,
@@ -475,7 +532,7 @@ public class ResultSetModel implements DBDResultSetModel {
         }
 
         Object oldHistoricValue = updateChanges ? row.changes.get(topAttribute) : null;
-        Object currentValue = row.values[rootIndex];
+        Object currentValue = row.getValue(rootIndex);
         Object valueToEdit = currentValue;
 
         // Check for changes
@@ -524,7 +581,8 @@ public class ResultSetModel implements DBDResultSetModel {
         } else {
             valueToEdit = value;
         }
-        row.values[rootIndex] = valueToEdit;
+        row.setValue(rootIndex, valueToEdit);
+        invalidateContent();
 
         if (updateChanges && row.getState() == ResultSetRow.STATE_NORMAL) {
             changesCount++;
@@ -745,7 +803,7 @@ public class ResultSetModel implements DBDResultSetModel {
                 visibleAttributes.toArray(new DBDAttributeBinding[0]));
         }
 
-        updateColorMapping(false);
+        updateColorMapping();
         appendData(monitor, rows, true);
         updateDataFilter();
 
@@ -762,7 +820,7 @@ public class ResultSetModel implements DBDResultSetModel {
                 if (binding != null) {
                     List<AttributeColorSettings> cmList =
                             colorMapping.computeIfAbsent(binding, k -> new ArrayList<>());
-                    cmList.add(new AttributeColorSettings(co));
+                    cmList.add(new AttributeColorSettings(co, binding.getDataKind()));
                 } else {
                     log.debug("Attribute '" + co.getAttributeName() + "' not found in bindings. Skip colors.");
                 }
@@ -770,16 +828,15 @@ public class ResultSetModel implements DBDResultSetModel {
         }
     }
 
-    public void updateColorMapping(@NotNull DBVEntity virtualEntity, boolean reset) {
+    public void updateColorMapping(@NotNull DBVEntity virtualEntity) {
         colorMapping.clear();
+        colorsVersion++;
         processColorOverrides(virtualEntity);
-        if (reset) {
-            updateRowColors(true, curRows);
-        }
     }
 
-    public void updateColorMapping(boolean reset) {
+    public void updateColorMapping() {
         colorMapping.clear();
+        colorsVersion++;
 
         DBSDataContainer dataContainer = getDataContainer();
         if (dataContainer == null) {
@@ -790,116 +847,179 @@ public class ResultSetModel implements DBDResultSetModel {
             return;
         }
         processColorOverrides(virtualEntity);
-        if (reset) {
-            updateRowColors(true, curRows);
-        }
     }
 
-    private void updateRowColors(boolean reset, List<ResultSetRow> rows) {
-        if (colorMapping.isEmpty() || reset) {
-            for (ResultSetRow row : rows) {
-                row.colorInfo = null;
-            }
+    /**
+     * Returns color overrides of the row.
+     * Colors are evaluated on first request and cached in the row until color mapping or row values change.
+     */
+    @Nullable
+    public ResultSetRow.ColorInfo getRowColors(@NotNull ResultSetRow row) {
+        if (colorMapping.isEmpty()) {
+            return null;
         }
-        if (!colorMapping.isEmpty()) {
-            for (Map.Entry<DBDAttributeBinding, List<AttributeColorSettings>> entry : colorMapping.entrySet()) {
-                if (!ArrayUtils.contains(attributes, entry.getKey())) {
-                    // This may happen during FK navigation - attributes are already updated while colors mapping are still old
-                    continue;
-                }
+        ResultSetRow.ColorInfo colorInfo = row.colorInfo;
+        if (colorInfo == null || colorInfo.colorsVersion != colorsVersion) {
+            colorInfo = evaluateRowColors(row);
+            row.colorInfo = colorInfo;
+        }
+        return colorInfo.isEmpty() ? null : colorInfo;
+    }
 
-                for (ResultSetRow row : rows) {
-                    ResultSetCellLocation cellLocation = new ResultSetCellLocation(entry.getKey(), row);
-                    for (AttributeColorSettings acs : entry.getValue()) {
-                        Color background = null, foreground = null;
-                        if (acs.rangeCheck) {
-                            if (acs.attributeValues != null && acs.attributeValues.length > 1) {
-                                double minValue = DBExecUtils.makeNumericValue(acs.attributeValues[0]);
-                                double maxValue = DBExecUtils.makeNumericValue(acs.attributeValues[1]);
-                                final Object cellValue = getCellValue(cellLocation);
-                                double value = DBExecUtils.makeNumericValue(cellValue);
-                                if (value >= minValue && value <= maxValue) {
-                                    if (acs.colorBackground != null && acs.colorBackground2 != null && value >= minValue && value <= maxValue) {
-                                            RGB bgRowRGB = ResultSetUtils.makeGradientValue(acs.colorBackground.getRGB(), acs.colorBackground2.getRGB(), minValue, maxValue, value);
-                                            background = UIUtils.getSharedColor(bgRowRGB);
-
-                                        // FIXME: coloring value before and after range. Maybe we need an option for this.
-                                        /* else if (value < minValue) {
-                                            foreground = acs.colorForeground;
-                                            background = acs.colorBackground;
-                                        } else if (value > maxValue) {
-                                            foreground = acs.colorForeground2;
-                                            background = acs.colorBackground2;
-                                        }*/
-                                    }
-                                    if (acs.colorForeground != null && acs.colorForeground2 != null) {
-                                        RGB fgRowRGB1 = ResultSetUtils.makeGradientValue(acs.colorForeground.getRGB(), acs.colorForeground2.getRGB(), minValue, maxValue, value);
-                                        foreground = UIUtils.getSharedColor(fgRowRGB1);
-                                    } else if (acs.colorForeground != null || acs.colorForeground2 != null) {
-                                        foreground = acs.colorForeground != null ? acs.colorForeground : acs.colorForeground2;
-                                    }
-                                }
-                            }
-                        } else {
-                            final Object cellValue = getCellValue(cellLocation);
-                            if (acs.evaluate(cellValue)) {
+    @NotNull
+    private ResultSetRow.ColorInfo evaluateRowColors(@NotNull ResultSetRow row) {
+        ResultSetRow.ColorInfo colorInfo = new ResultSetRow.ColorInfo();
+        colorInfo.colorsVersion = colorsVersion;
+        for (Map.Entry<DBDAttributeBinding, List<AttributeColorSettings>> entry : colorMapping.entrySet()) {
+            if (!ArrayUtils.contains(attributes, entry.getKey())) {
+                // This may happen during FK navigation - attributes are already updated while colors mapping are still old
+                continue;
+            }
+            final Object cellValue = getCellValue(new ResultSetCellLocation(entry.getKey(), row));
+            for (AttributeColorSettings acs : entry.getValue()) {
+                Color background = null, foreground = null;
+                if (acs.rangeCheck) {
+                    double minValue = acs.minValue;
+                    double maxValue = acs.maxValue;
+                    double value = DBExecUtils.makeNumericValue(cellValue);
+                    if (value >= minValue && value <= maxValue) {
+                        if (acs.colorBackground != null && acs.colorBackground2 != null) {
+                            RGB bgRowRGB = ResultSetUtils.makeGradientValue(acs.colorBackground.getRGB(), acs.colorBackground2.getRGB(), minValue, maxValue, value);
+                            background = UIUtils.getSharedColor(bgRowRGB);
+
+                            // FIXME: coloring value before and after range. Maybe we need an option for this.
+                            /* else if (value < minValue) {
                                 foreground = acs.colorForeground;
                                 background = acs.colorBackground;
-                            }
+                            } else if (value > maxValue) {
+                                foreground = acs.colorForeground2;
+                                background = acs.colorBackground2;
+                            }*/
+                        }
+                        if (acs.colorForeground != null && acs.colorForeground2 != null) {
+                            RGB fgRowRGB1 = ResultSetUtils.makeGradientValue(acs.colorForeground.getRGB(), acs.colorForeground2.getRGB(), minValue, maxValue, value);
+                            foreground = UIUtils.getSharedColor(fgRowRGB1);
+                        } else if (acs.colorForeground != null || acs.colorForeground2 != null) {
+                            foreground = acs.colorForeground != null ? acs.colorForeground : acs.colorForeground2;
                         }
-                        if (foreground != null || background != null) {
-                            ResultSetRow.ColorInfo colorInfo = row.colorInfo;
-                            if (colorInfo == null) {
-                                colorInfo = new ResultSetRow.ColorInfo();
-                                row.colorInfo = colorInfo;
+                    }
+                } else if (acs.evaluate(cellValue)) {
+                    foreground = acs.colorForeground;
+                    background = acs.colorBackground;
+                }
+                if (foreground != null || background != null) {
+                    if (!acs.singleColumn) {
+                        colorInfo.rowForeground = foreground;
+                        colorInfo.rowBackground = background;
+                    } else {
+                        // Single column color
+                        if (foreground != null) {
+                            Color[] cellFgColors = colorInfo.cellFgColors;
+                            if (cellFgColors == null) {
+                                cellFgColors = new Color[attributes.length];
+                                colorInfo.cellFgColors = cellFgColors;
                             }
-                            if (!acs.singleColumn) {
-                                colorInfo.rowForeground = foreground;
-                                colorInfo.rowBackground = background;
-                            } else {
-                                // Single column color
-                                if (foreground != null) {
-                                    Color[] cellFgColors = colorInfo.cellFgColors;
-                                    if (cellFgColors == null) {
-                                        cellFgColors = new Color[attributes.length];
-                                        colorInfo.cellFgColors = cellFgColors;
-                                    }
-                                    cellFgColors[entry.getKey().getOrdinalPosition()] = foreground;
-                                }
-                                if (background != null) {
-                                    Color[] cellBgColors = colorInfo.cellBgColors;
-                                    if (cellBgColors == null) {
-                                        cellBgColors = new Color[attributes.length];
-                                        colorInfo.cellBgColors = cellBgColors;
-                                    }
-                                    cellBgColors[entry.getKey().getOrdinalPosition()] = background;
-                                }
+                            cellFgColors[entry.getKey().getOrdinalPosition()] = foreground;
+                        }
+                        if (background != null) {
+                            Color[] cellBgColors = colorInfo.cellBgColors;
+                            if (cellBgColors == null) {
+                                cellBgColors = new Color[attributes.length];
+                                colorInfo.cellBgColors = cellBgColors;
                             }
+                            cellBgColors[entry.getKey().getOrdinalPosition()] = background;
                         }
                     }
                 }
             }
         }
+        return colorInfo;
     }
 
     void appendData(@NotNull DBRProgressMonitor monitor, @NotNull List<Object[]> rows, boolean resetOldRows) {
+        invalidateContent();
         if (resetOldRows) {
             curRows.clear();
+            hiddenRows.clear();
+            localFilter = false;
+            // Old rows keep reference on their store
+            valueStore = null;
+            closeValueSpill();
         }
         int rowCount = rows.size();
         int firstRowNum = curRows.size();
+        if (valueStore == null && rowCount > 0 && isColumnarStorageEnabled()) {
+            valueStore = new ColumnarValueStore(rows.get(0).length);
+        }
+        long spillMemoryLimit = valueStore == null ? 0 : getSpillMemoryLimit();
         List<ResultSetRow> newRows = new ArrayList<>(rowCount);
         for (int i = 0; i < rowCount; i++) {
-            newRows.add(
-                new ResultSetRow(firstRowNum + i, rows.get(i)));
+            Object[] rowValues = rows.get(i);
+            if (valueStore != null && spillMemoryLimit > 0 && valueStore.getRowCount() >= SPILL_SEGMENT_SIZE &&
+                !spillValueStore(monitor, spillMemoryLimit))
+            {
+                spillMemoryLimit = 0;
+            }
+            if (valueStore != null && rowValues.length == valueStore.getColumnCount()) {
+                newRows.add(
+                    new ResultSetRow(firstRowNum + i, valueStore, valueStore.addRow(rowValues)));
+            } else {
+                newRows.add(
+                    new ResultSetRow(firstRowNum + i, rowValues));
+            }
         }
         curRows.addAll(newRows);
 
-        updateRowColors(resetOldRows, newRows);
-
         refreshHintsInfo(monitor, newRows, resetOldRows);
     }
 
+    private boolean isColumnarStorageEnabled() {
+        DBPPreferenceStore store = getDataSourcePreferenceStore();
+        return store != null && store.getBoolean(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE);
+    }
+
+    /**
+     * Returns memory limit (in bytes) of fetched values after which they are spilled to disk. 0 means no limit.
+     */
+    private long getSpillMemoryLimit() {
+        DBPPreferenceStore store = getDataSourcePreferenceStore();
+        return store == null ? 0 : store.getLong(ResultSetPreferences.RESULT_SET_SPILL_MEMORY_LIMIT) * 1024 * 1024;
+    }
+
+    @Nullable
+    private DBPPreferenceStore getDataSourcePreferenceStore() {
+        DBSDataContainer dataContainer = getDataContainer();
+        DBPDataSource dataSource = dataContainer == null ? null : dataContainer.getDataSource();
+        return dataSource == null ? null : dataSource.getContainer().getPreferenceStore();
+    }
+
+    /**
+     * Registers complete value store in spill and starts a new one
+     *
+     * @return false if spill can't be created
+     */
+    private boolean spillValueStore(@NotNull DBRProgressMonitor monitor, long memoryLimit) {
+        assert valueStore != null;
+        if (valueSpill == null) {
+            try {
+                valueSpill = ColumnarValueSpill.create(monitor, memoryLimit);
+            } catch (IOException e) {
+                log.warn("Error creating spill file for fetched rows. Rows will be kept in memory", e);
+                return false;
+            }
+        }
+        valueSpill.register(valueStore);
+        valueStore = new ColumnarValueStore(valueStore.getColumnCount());
+        return true;
+    }
+
+    private void closeValueSpill() {
+        if (valueSpill != null) {
+            valueSpill.close();
+            valueSpill = null;
+        }
+    }
+
     void refreshHintsInfo(@NotNull DBRProgressMonitor monitor, List<? extends DBDValueRow> newRows, boolean cleanupOldCache) {
         try {
             if (cleanupOldCache) {
@@ -915,6 +1035,11 @@ public class ResultSetModel implements DBDResultSetModel {
     void clearData() {
         // Refresh all rows
         this.curRows = new ArrayList<>();
+        this.hiddenRows = new ArrayList<>();
+        this.localFilter = false;
+        this.invalidateContent();
+        this.valueStore = null;
+        this.closeValueSpill();
         this.totalRowCount = null;
         this.singleSourceEntity = null;
 
@@ -925,6 +1050,19 @@ public class ResultSetModel implements DBDResultSetModel {
         return hasData;
     }
 
+    /**
+     * Returns version of rows and values. Version changes on any data modification,
+     * so values read in background are valid only while version remains the same.
+     */
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
+    private void invalidateContent() {
+        localIndex = null;
+        contentVersion++;
+    }
+
     public boolean isDirty() {
         return changesCount != 0;
     }
@@ -948,6 +1086,7 @@ public class ResultSetModel implements DBDResultSetModel {
         newRow.setState(ResultSetRow.STATE_ADDED);
         shiftRows(newRow, 1);
         curRows.add(rowNum, newRow);
+        invalidateContent();
         changesCount++;
         return newRow;
     }
@@ -977,6 +1116,7 @@ public class ResultSetModel implements DBDResultSetModel {
         if (this.curRows.size() > index) {
             this.curRows.remove(index);
             this.shiftRows(row, -1);
+            this.invalidateContent();
         } else {
             log.debug("Error removing row from list: invalid row index: " + index);
         }
@@ -1005,10 +1145,19 @@ public class ResultSetModel implements DBDResultSetModel {
                 row.setRowNumber(row.getRowNumber() + delta);
             }
         }
+        for (ResultSetRow row : hiddenRows) {
+            if (row.getRowNumber() >= relative.getRowNumber()) {
+                row.setRowNumber(row.getRowNumber() + delta);
+            }
+        }
     }
 
     void releaseAllData() {
-        final List<ResultSetRow> oldRows = curRows;
+        final List<ResultSetRow> oldRows = new ArrayList<>(curRows);
+        oldRows.addAll(hiddenRows);
+        // Spill file is deleted after values release
+        final ColumnarValueSpill oldSpill = valueSpill;
+        valueSpill = null;
         // Cleanup in separate job.
         // Sometimes model cleanup takes much time (e.g. freeing LOB values)
         // So let's do it in separate job to avoid UI locking
@@ -1016,6 +1165,9 @@ public class ResultSetModel implements DBDResultSetModel {
             for (ResultSetRow row : oldRows) {
                 row.release();
             }
+            if (oldSpill != null) {
+                oldSpill.close();
+            }
         }, "Release values", 5000);
     }
 
@@ -1053,7 +1205,7 @@ public class ResultSetModel implements DBDResultSetModel {
         }
         if (!newBindings.isEmpty() && !newBindings.equals(visibleAttributes)) {
             visibleAttributes = newBindings;
-            updateColorMapping(true);
+            updateColorMapping();
             return true;
         }
         return false;
@@ -1139,49 +1291,236 @@ public class ResultSetModel implements DBDResultSetModel {
         this.dataFilter.setOrder(filter.getOrder());
         this.dataFilter.setAnyConstraint(filter.isAnyConstraint());
 
-        updateColorMapping(true);
+        updateColorMapping();
     }
 
+    /**
+     * Orders rows locally according to the current data filter.
+     * Sort indexes of ordering columns are built if they were not prepared with {@link #buildLocalIndexes}.
+     */
     public void resetOrdering(@NotNull DBDAttributeBinding columnElement) {
-        final boolean hasOrdering = dataFilter.hasOrdering();
-
-        // First sort in original order to reset multi-column orderings
-        curRows.sort(Comparator.comparingInt(ResultSetRow::getRowNumber));
-
-        if (hasOrdering) {
-            // Sort locally
-            final List<DBDAttributeConstraint> orderConstraints = dataFilter.getOrderConstraints();
-            curRows.sort((row1, row2) -> {
-                int result = 0;
-                for (DBDAttributeConstraint co : orderConstraints) {
-                    final DBDAttributeBinding binding = getAttributeBinding(co.getAttribute());
-                    if (binding == null) {
-                        continue;
-                    }
-                    Object cell1 = getCellValue(new ResultSetCellLocation(binding, row1));
-                    Object cell2 = getCellValue(new ResultSetCellLocation(binding, row2));
-                    Comparator<Object> comparator = columnElement.getValueHandler().getComparator();
-                    if (comparator != null) {
-                        result = comparator.compare(cell1, cell2);
-                    } else if (cell1 instanceof String && cell2 instanceof String) {
-                    	result = (cell1.toString()).compareToIgnoreCase(cell2.toString());
-                    } else {
-                    	result = DBUtils.compareDataValues(cell1, cell2);
-                    }
+        applyLocalView();
+    }
+
+    /**
+     * Checks whether the fetched rows may be filtered locally with the specified filter.
+     * Only attribute constraints with operators are supported.
+     */
+    boolean isLocalFilterSupported(@NotNull DBDDataFilter filter) {
+        if (fetchedWithConditions || !CommonUtils.isEmpty(filter.getWhere()) || !CommonUtils.isEmpty(filter.getOrder())) {
+            return false;
+        }
+        for (DBDAttributeConstraint constraint : filter.getConstraints()) {
+            if (!constraint.hasCondition()) {
+                continue;
+            }
+            if (constraint.getOperator() == null || !CommonUtils.isEmpty(constraint.getCriteria()) ||
+                getAttributeBinding(constraint.getAttribute()) == null)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets flag saying that fetched rows were filtered on server side.
+     * Such rows can't be filtered locally with different conditions.
+     */
+    void setFetchedWithConditions(boolean fetchedWithConditions) {
+        this.fetchedWithConditions = fetchedWithConditions;
+    }
+
+    /**
+     * Hides rows which don't match the current data filter conditions. Rows are filtered locally, without reading them again.
+     */
+    void applyLocalFilter() {
+        localFilter = true;
+        applyLocalView();
+    }
+
+    /**
+     * Returns columns which indexes are used to order and filter rows locally with the specified filter.
+     * Current rows are captured to build indexes with {@link #buildLocalIndexes}.
+     */
+    @NotNull
+    Collection<DBDAttributeBinding> prepareLocalIndexes(@NotNull DBDDataFilter filter) {
+        getLocalIndex();
+        Set<DBDAttributeBinding> columns = new LinkedHashSet<>();
+        for (DBDAttributeConstraint constraint : filter.getOrderConstraints()) {
+            DBDAttributeBinding binding = getAttributeBinding(constraint.getAttribute());
+            if (binding != null) {
+                columns.add(binding);
+            }
+        }
+        for (DBDAttributeConstraint constraint : filter.getConstraints()) {
+            DBDAttributeBinding binding = getAttributeBinding(constraint.getAttribute());
+            if (binding != null && constraint.getOperator() != null && isValueOrderComparable(binding)) {
+                columns.add(binding);
+            }
+        }
+        return columns;
+    }
+
+    boolean hasLocalIndexes(@NotNull Collection<DBDAttributeBinding> columns) {
+        LocalRowsIndex index = localIndex;
+        return index != null && index.columns.keySet().containsAll(columns);
+    }
+
+    /**
+     * Builds sort indexes of the specified columns. May be called in any thread.
+     * Does nothing if rows were changed since {@link #prepareLocalIndexes}.
+     */
+    void buildLocalIndexes(@NotNull DBRProgressMonitor monitor, @NotNull Collection<DBDAttributeBinding> columns) {
+        LocalRowsIndex index = localIndex;
+        if (index == null) {
+            return;
+        }
+        monitor.beginTask("Build sort indexes", columns.size());
+        for (DBDAttributeBinding binding : columns) {
+            if (monitor.isCanceled() || index != localIndex) {
+                break;
+            }
+            monitor.subTask("Index " + binding.getName());
+            getColumnIndex(index, binding);
+            monitor.worked(1);
+        }
+        monitor.done();
+    }
+
+    private void applyLocalView() {
+        final LocalRowsIndex index = getLocalIndex();
+        final int rowCount = index.rows.length;
+
+        final List<DBDAttributeConstraint> orderConstraints = dataFilter.getOrderConstraints();
+        final List<ColumnSortIndex> orderIndexes = new ArrayList<>(orderConstraints.size());
+        final boolean[] descending = new boolean[orderConstraints.size()];
+        for (DBDAttributeConstraint co : orderConstraints) {
+            final DBDAttributeBinding binding = getAttributeBinding(co.getAttribute());
+            if (binding != null) {
+                descending[orderIndexes.size()] = co.isOrderDescending();
+                orderIndexes.add(getColumnIndex(index, binding));
+            }
+        }
+        final int[] positions = ColumnSortIndex.sortRows(
+            rowCount,
+            orderIndexes.toArray(new ColumnSortIndex[0]),
+            Arrays.copyOf(descending, orderIndexes.size()));
+        final BitSet matchedRows = localFilter ? filterRows(index) : null;
+
+        final List<ResultSetRow> visibleRows = new ArrayList<>(matchedRows == null ? rowCount : matchedRows.cardinality());
+        final List<ResultSetRow> filteredRows = new ArrayList<>();
+        for (int pos : positions) {
+            if (matchedRows == null || matchedRows.get(pos)) {
+                visibleRows.add(index.rows[pos]);
+            } else {
+                filteredRows.add(index.rows[pos]);
+            }
+        }
+        for (int i = 0; i < visibleRows.size(); i++) {
+            visibleRows.get(i).setVisualNumber(i);
+        }
+        curRows = visibleRows;
+        hiddenRows = filteredRows;
+        contentVersion++;
+    }
 
-                    if (co.isOrderDescending()) {
-                        result = -result;
+    @NotNull
+    private BitSet filterRows(@NotNull LocalRowsIndex index) {
+        final int rowCount = index.rows.length;
+        final boolean anyConstraint = dataFilter.isAnyConstraint();
+        BitSet result = null;
+        for (DBDAttributeConstraint constraint : dataFilter.getConstraints()) {
+            final DBCLogicalOperator operator = constraint.getOperator();
+            final DBDAttributeBinding binding = getAttributeBinding(constraint.getAttribute());
+            if (operator == null || binding == null) {
+                continue;
+            }
+            final Object value = constraint.getValue();
+            // Comparison of NULL with a value is unknown, such rows don't match neither operator nor its reverse
+            final boolean excludeNulls = value != null &&
+                operator != DBCLogicalOperator.IS_NULL && operator != DBCLogicalOperator.IS_NOT_NULL;
+            BitSet matched = null;
+            if (isValueOrderComparable(binding) && !(value instanceof Object[])) {
+                matched = getColumnIndex(index, binding).select(operator, value);
+            }
+            if (matched == null) {
+                final Object[] arguments = value instanceof Object[] array ? array : value == null ? null : new Object[]{value};
+                matched = new BitSet(rowCount);
+                for (int i = 0; i < rowCount; i++) {
+                    if (operator.evaluate(getCellValue(binding, index.rows[i]), arguments)) {
+                        matched.set(i);
                     }
-                    if (result != 0) {
-                        break;
+                }
+            }
+            if (constraint.isReverseOperator()) {
+                matched.flip(0, rowCount);
+            }
+            if (excludeNulls) {
+                for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                    if (DBUtils.isNullValue(getCellValue(binding, index.rows[i]))) {
+                        matched.clear(i);
                     }
                 }
-                return result;
-            });
+            }
+            if (result == null) {
+                result = matched;
+            } else if (anyConstraint) {
+                result.or(matched);
+            } else {
+                result.and(matched);
+            }
         }
-        for (int i = 0; i < curRows.size(); i++) {
-            curRows.get(i).setVisualNumber(i);
+        if (result == null) {
+            result = new BitSet(rowCount);
+            result.set(0, rowCount);
+        }
+        return result;
+    }
+
+    @NotNull
+    private LocalRowsIndex getLocalIndex() {
+        LocalRowsIndex index = localIndex;
+        if (index == null) {
+            // Indexes are built for the original order of rows
+            final List<ResultSetRow> allRows = new ArrayList<>(curRows.size() + hiddenRows.size());
+            allRows.addAll(curRows);
+            allRows.addAll(hiddenRows);
+            allRows.sort(Comparator.comparingInt(ResultSetRow::getRowNumber));
+            index = new LocalRowsIndex(allRows.toArray(new ResultSetRow[0]));
+            localIndex = index;
         }
+        return index;
+    }
+
+    @NotNull
+    private ColumnSortIndex getColumnIndex(@NotNull LocalRowsIndex index, @NotNull DBDAttributeBinding binding) {
+        return index.columns.computeIfAbsent(binding, attr -> {
+            final Object[] values = new Object[index.rows.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getCellValue(attr, index.rows[i]);
+            }
+            final Comparator<Object> comparator = attr.getValueHandler().getComparator();
+            if (comparator != null) {
+                return ColumnSortIndex.build(values, comparator);
+            }
+            if (isValueOrderComparable(attr)) {
+                return ColumnSortIndex.build(values, DBUtils::compareDataValues);
+            }
+            return ColumnSortIndex.build(values, (cell1, cell2) -> {
+                if (cell1 instanceof String str1 && cell2 instanceof String str2) {
+                    return str1.compareToIgnoreCase(str2);
+                }
+                return DBUtils.compareDataValues(cell1, cell2);
+            });
+        });
+    }
+
+    /**
+     * Column index order is the same as order of condition operators (case-sensitive values comparison)
+     */
+    private static boolean isValueOrderComparable(@NotNull DBDAttributeBinding binding) {
+        return binding.getValueHandler().getComparator() == null && binding.getDataKind() != DBPDataKind.STRING;
     }
 
     private void fillVisibleAttributes() {
@@ -37,8 +37,14 @@ public final class ResultSetPreferences {
     public static final String RS_EDIT_REFRESH_AFTER_UPDATE = "resultset.edit.refreshAfterUpdate"; //$NON-NLS-1$
     public static final String RS_GROUPING_DEFAULT_SORTING = "resultset.grouping.defaultSorting"; //$NON-NLS-1$
     public static final String RS_GROUPING_SHOW_DUPLICATES_ONLY = "resultset.grouping.showDuplicatesOnly"; //$NON-NLS-1$
+    // Group rows fetched in the results viewer instead of executing grouping query
+    public static final String RS_GROUPING_LOCAL = "resultset.grouping.local"; //$NON-NLS-1$
 
     public static final String RESULT_SET_AUTO_FETCH_NEXT_SEGMENT = "resultset.autofetch.next.segment"; //$NON-NLS-1$
+    // Percent of the current segment after which the next segment is read in background. 0 disables read-ahead
+    public static final String RESULT_SET_READ_AHEAD_THRESHOLD = "resultset.read.ahead.threshold"; //$NON-NLS-1$
+    // Memory limit (MB) of rows read ahead. 0 means no limit
+    public static final String RESULT_SET_READ_AHEAD_MEMORY_LIMIT = "resultset.read.ahead.memory.limit"; //$NON-NLS-1$
     public static final String RESULT_SET_AUTOMATIC_ROW_COUNT = "resultset.automatic.row.count"; //$NON-NLS-1$
     public static final String RESULT_SET_CANCEL_TIMEOUT = "resultset.cancel.timeout"; //$NON-NLS-1$
     public static final String RESULT_SET_BINARY_EDITOR_TYPE = "resultset.binary.editor"; //$NON-NLS-1$
@@ -76,6 +82,11 @@ public final class ResultSetPreferences {
     public static final String RESULT_SET_PRESENTATION = "resultset.presentation.active"; //$NON-NLS-1$
     public static final String RESULT_SET_STRING_USE_CONTENT_EDITOR = "resultset.string.use.content.editor"; //$NON-NLS-1$
     public static final String RESULT_SET_USE_NAVIGATOR_FILTERS = "resultset.filter.use.navigator"; //$NON-NLS-1$
+    // Filter fetched rows without re-reading them if all rows were fetched
+    public static final String RESULT_SET_LOCAL_FILTER = "resultset.filter.local"; //$NON-NLS-1$
+    public static final String RESULT_SET_COLUMNAR_STORAGE = "resultset.storage.columnar"; //$NON-NLS-1$
+    // Memory limit (MB) of fetched values after which they are spilled to disk. 0 disables spilling
+    public static final String RESULT_SET_SPILL_MEMORY_LIMIT = "resultset.storage.memory.limit"; //$NON-NLS-1$
 
     public static final String RESULT_SET_CONFIRM_BEFORE_SAVE = "resultset.confirm.beforeSave"; //$NON-NLS-1$
     public static final String RESULT_SET_SHOW_ERRORS_IN_DIALOG = "resultset.show.errorDialog"; //$NON-NLS-1$
@@ -0,0 +1,148 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.ui.UIUtils;
+
+/**
+ * Reads the next result set segment in background before user scrolls to the end of the current one.
+ * Rows are kept in a staging buffer (see {@link ResultSetReadAheadStage}) until the viewer requests the next segment.
+ * Read stops when staged rows exceed the memory limit, the rest of the segment is read on request.
+ */
+class ResultSetReadAhead extends ResultSetJobAbstract {
+
+    private static final Log log = Log.getLog(ResultSetReadAhead.class);
+
+    private final ResultSetViewer viewer;
+    private final ResultSetReadAheadStage stage;
+    // Accessed in UI thread only
+    private Runnable completeHandler;
+
+    ResultSetReadAhead(
+        @NotNull ResultSetViewer viewer,
+        @NotNull ResultSetExecutionSource executionSource,
+        @NotNull DBCExecutionContext executionContext,
+        int offset,
+        int maxRows,
+        long memoryLimit
+    ) {
+        super("Read ahead [" + executionSource.getDataContainer() + "]", executionSource, executionContext);
+        this.viewer = viewer;
+        this.stage = new ResultSetReadAheadStage(offset, maxRows, memoryLimit);
+        setSystem(true);
+    }
+
+    @NotNull
+    ResultSetReadAheadStage getStage() {
+        return stage;
+    }
+
+    boolean hasCompleteHandler() {
+        return completeHandler != null;
+    }
+
+    /**
+     * Sets handler which is called in UI thread after read completion
+     */
+    void setCompleteHandler(@Nullable Runnable completeHandler) {
+        this.completeHandler = completeHandler;
+    }
+
+    @Override
+    protected IStatus run(DBRProgressMonitor monitor) {
+        if (!viewer.acquireDataReadLock()) {
+            complete(new InterruptedException("Read ahead was canceled"));
+            return Status.CANCEL_STATUS;
+        }
+        // Stops the fetch loop when memory limit is reached or staged rows are discarded
+        DBRProgressMonitor readMonitor = new ProxyProgressMonitor(monitor) {
+            @Override
+            public boolean isCanceled() {
+                return stage.isTruncated() || stage.isDiscarded() || super.isCanceled();
+            }
+        };
+        final DBSDataContainer dataContainer = executionSource.getDataContainer();
+        Throwable error = null;
+        try (DBCSession session = getExecutionContext().openSession(readMonitor, DBCExecutionPurpose.USER, "Read ahead next segment")) {
+            dataContainer.readData(
+                executionSource,
+                session,
+                new StagingReceiver(),
+                executionSource.getUseDataFilter(),
+                stage.getOffset(),
+                stage.getMaxRows(),
+                DBSDataContainer.FLAG_READ_PSEUDO | DBSDataContainer.FLAG_FETCH_SEGMENT,
+                0);
+        } catch (Throwable e) {
+            log.debug("Error reading next segment ahead", e);
+            error = e;
+        } finally {
+            viewer.releaseDataReadLock();
+        }
+        if (monitor.isCanceled()) {
+            error = new InterruptedException("Read ahead was canceled");
+        }
+        complete(error);
+        return Status.OK_STATUS;
+    }
+
+    private void complete(@Nullable Throwable error) {
+        stage.complete(error);
+        UIUtils.asyncExec(() -> {
+            Runnable handler = completeHandler;
+            completeHandler = null;
+            if (handler != null) {
+                handler.run();
+            }
+        });
+    }
+
+    private class StagingReceiver implements DBDDataReceiver {
+        @Override
+        public void fetchStart(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, long offset, long maxRows) {
+        }
+
+        @Override
+        public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+            if (stage.isTruncated() || stage.isDiscarded()) {
+                return;
+            }
+            stage.addRow(viewer.getDataReceiver().readRowValues(session, resultSet));
+        }
+
+        @Override
+        public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
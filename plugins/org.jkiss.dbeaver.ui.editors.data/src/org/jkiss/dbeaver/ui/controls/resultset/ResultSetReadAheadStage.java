@@ -0,0 +1,128 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.impl.data.ColumnarValueStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rows of the next result set segment which were read ahead.
+ * Rows are filled by the read-ahead job and are consumed in UI thread after job completion.
+ * Discarded stage (e.g. after result set refresh) ignores all rows.
+ */
+public class ResultSetReadAheadStage {
+
+    private final int offset;
+    private final int maxRows;
+    private final long memoryLimit;
+
+    private final List<Object[]> rows = new ArrayList<>();
+    private long rowsSize;
+    private boolean truncated;
+    private Throwable error;
+    private volatile boolean completed;
+    private volatile boolean discarded;
+
+    public ResultSetReadAheadStage(int offset, int maxRows, long memoryLimit) {
+        this.offset = offset;
+        this.maxRows = maxRows;
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Row number of the first staged row in the result set
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Adds row to the stage.
+     * Returns false if the memory limit was reached or the stage was discarded, so no more rows should be read.
+     */
+    public boolean addRow(@NotNull Object[] values) {
+        if (truncated || discarded) {
+            return false;
+        }
+        rows.add(values);
+        rowsSize += ColumnarValueStore.estimateRowSize(values);
+        if (memoryLimit > 0 && rowsSize >= memoryLimit) {
+            truncated = true;
+        }
+        return !truncated;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Marks the read as completed. Must be called by the reading thread after the last row.
+     */
+    public void complete(@Nullable Throwable error) {
+        this.error = error;
+        this.completed = true;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @Nullable
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Marks staged rows as outdated. Rows read after this call are ignored.
+     */
+    public void discard() {
+        discarded = true;
+    }
+
+    public boolean isDiscarded() {
+        return discarded;
+    }
+
+    /**
+     * Returns true if staged rows directly follow rows of the result set with the specified row count
+     * and may be appended to it. May be called only after read completion.
+     */
+    public boolean canAppendTo(int rowCount) {
+        return completed && !discarded && error == null && !rows.isEmpty() && offset == rowCount;
+    }
+
+    @NotNull
+    public List<Object[]> getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns true if server has more rows after the staged ones
+     */
+    public boolean isHasMoreData() {
+        return truncated || rows.size() >= maxRows;
+    }
+}
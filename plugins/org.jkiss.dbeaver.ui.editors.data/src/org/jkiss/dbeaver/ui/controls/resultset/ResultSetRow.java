@@ -22,6 +22,7 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.DBDValueRow;
+import org.jkiss.dbeaver.model.impl.data.ColumnarValueStore;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -44,19 +45,29 @@ public class ResultSetRow implements DBDValueRow {
         public Color[] cellFgColors;
         @Nullable
         public Color[] cellBgColors;
+        // Version of color mapping the colors were evaluated with
+        int colorsVersion;
+
+        boolean isEmpty() {
+            return rowForeground == null && rowBackground == null && cellFgColors == null && cellBgColors == null;
+        }
     }
 
     // Physical row number
     private int rowNumber;
     // Row number in grid
     private int visualNumber;
-    // Column values
-    @NotNull
-    public Object[] values;
+    // Column values. Null if values are kept in the value store
+    @Nullable
+    private Object[] values;
+    @Nullable
+    private final ColumnarValueStore valueStore;
+    private final int valueIndex;
     @Nullable
     public Map<DBDAttributeBinding, Object> changes;
     // Row state
     private byte state;
+    // Cached colors, see ResultSetModel.getRowColors
     @Nullable
     public ColorInfo colorInfo;
 
@@ -64,13 +75,62 @@ public class ResultSetRow implements DBDValueRow {
         this.rowNumber = rowNumber;
         this.visualNumber = rowNumber;
         this.values = values;
+        this.valueStore = null;
+        this.valueIndex = -1;
         this.state = STATE_NORMAL;
     }
 
+    ResultSetRow(int rowNumber, @NotNull ColumnarValueStore valueStore, int valueIndex) {
+        this.rowNumber = rowNumber;
+        this.visualNumber = rowNumber;
+        this.valueStore = valueStore;
+        this.valueIndex = valueIndex;
+        this.state = STATE_NORMAL;
+    }
+
+    /**
+     * Returns row values. For rows kept in the value store a new array is created on each call,
+     * so use {@link #getValue(int)} to read separate values and {@link #setValue(int, Object)} to modify them.
+     */
     @Override
     @NotNull
     public Object[] getValues() {
-        return values;
+        if (values != null) {
+            return values;
+        }
+        assert valueStore != null;
+        return valueStore.getRowValues(valueIndex);
+    }
+
+    public int getValueCount() {
+        if (values != null) {
+            return values.length;
+        }
+        assert valueStore != null;
+        return valueStore.getColumnCount();
+    }
+
+    @Nullable
+    public Object getValue(int index) {
+        if (values != null) {
+            return values[index];
+        }
+        assert valueStore != null;
+        return valueStore.getValue(valueIndex, index);
+    }
+
+    public void setValue(int index, @Nullable Object value) {
+        if (values == null) {
+            // Row becomes independent of the value store once modified
+            values = getValues();
+        }
+        values[index] = value;
+        colorInfo = null;
+    }
+
+    void setValues(@NotNull Object[] values) {
+        this.values = values;
+        this.colorInfo = null;
     }
 
     public boolean isChanged() {
@@ -122,8 +182,13 @@ public class ResultSetRow implements DBDValueRow {
     }
 
     void release() {
-        for (Object value : values) {
-            DBUtils.releaseValue(value);
+        if (values != null) {
+            // Modified row owns all its values
+            for (Object value : values) {
+                DBUtils.releaseValue(value);
+            }
+        } else if (valueStore != null) {
+            valueStore.releaseRow(valueIndex);
         }
         if (changes != null) {
             for (Object oldValue : changes.values()) {
@@ -138,6 +138,8 @@ public class ResultSetViewer extends Viewer
     private static final String TOOLBAR_GROUP_ADDITIONS = IWorkbenchActionConstants.MB_ADDITIONS;
 
     private static final String SETTINGS_SECTION_PRESENTATIONS = "presentations";
+    // Sort indexes of bigger result sets are built in background
+    private static final int LOCAL_INDEX_JOB_ROWS = 10000;
 
     private static final String TOOLBAR_EDIT_CONTRIBUTION_ID = "toolbar:org.jkiss.dbeaver.ui.controls.resultset.status.editCmds";
     private static final String TOOLBAR_NAVIGATION_CONTRIBUTION_ID = "toolbar:org.jkiss.dbeaver.ui.controls.resultset.status.navCmds";
@@ -239,6 +241,8 @@ public class ResultSetViewer extends Viewer
     private volatile long lastThemeUpdateTime;
 
     private volatile boolean nextSegmentReadingBlocked;
+    // Next segment staged in background. Accessed in UI thread
+    private ResultSetReadAhead readAhead;
 
     public ResultSetViewer(@NotNull Composite parent, @NotNull IWorkbenchPartSite site, @NotNull IResultSetContainer container) {
         super();
@@ -2462,9 +2466,59 @@ public class ResultSetViewer extends Viewer
     private void reorderLocally(DBDAttributeBinding columnElement)
     {
         this.rejectChanges();
-        this.getModel().resetOrdering(columnElement);
-        this.getActivePresentation().refreshData(false, false, true);
-        this.updateFiltersText();
+        updateLocalView(model.getDataFilter(), () -> {
+            this.getModel().resetOrdering(columnElement);
+            this.getActivePresentation().refreshData(false, false, true);
+            this.updateFiltersText();
+        });
+    }
+
+    private boolean isLocalFilterApplicable(@NotNull DBDDataFilter filter) {
+        return getPreferenceStore().getBoolean(ResultSetPreferences.RESULT_SET_LOCAL_FILTER) &&
+            model.hasData() && !model.isDirty() && !isHasMoreData() &&
+            model.isLocalFilterSupported(filter);
+    }
+
+    private void filterLocally(@NotNull DBDDataFilter filter) {
+        updateLocalView(filter, () -> {
+            boolean visibilityChanged = !model.getDataFilter().equalVisibility(filter);
+            model.updateDataFilter(filter, true);
+            model.applyLocalFilter();
+            if (curRow != null && (curRow.getVisualNumber() >= model.getRowCount() || model.getRow(curRow.getVisualNumber()) != curRow)) {
+                curRow = model.getRowCount() == 0 ? null : model.getRow(0);
+                selectedRecords = curRow == null ? new int[0] : new int[] { curRow.getVisualNumber() };
+            }
+            activePresentation.refreshData(visibilityChanged, false, true);
+            updateFiltersText();
+            updateStatusMessage();
+            updatePanelsContent(true);
+        });
+    }
+
+    /**
+     * Orders or filters fetched rows. Column sort indexes of big result sets are built in background.
+     */
+    private void updateLocalView(@NotNull DBDDataFilter filter, @NotNull Runnable updater) {
+        Collection<DBDAttributeBinding> columns = model.prepareLocalIndexes(filter);
+        if (model.getRowCount() < LOCAL_INDEX_JOB_ROWS || model.hasLocalIndexes(columns)) {
+            updater.run();
+            return;
+        }
+        new AbstractJob("Index fetched rows") {
+            {
+                setUser(false);
+            }
+            @Override
+            protected IStatus run(DBRProgressMonitor monitor) {
+                model.buildLocalIndexes(monitor, columns);
+                UIUtils.asyncExec(() -> {
+                    if (!viewerPanel.isDisposed()) {
+                        updater.run();
+                    }
+                });
+                return Status.OK_STATUS;
+            }
+        }.schedule();
     }
 
 
@@ -4009,6 +4063,10 @@ public class ResultSetViewer extends Viewer
         if (!checkForChanges()) {
             return;
         }
+        if (isLocalFilterApplicable(filter)) {
+            filterLocally(filter);
+            return;
+        }
 
         DBSDataContainer dataContainer = getDataContainer();
         if (dataContainer != null) {
@@ -4107,25 +4165,108 @@ public class ResultSetViewer extends Viewer
                 nextSegmentReadingBlocked = false;
                 return;
             }
-            DBSDataContainer dataContainer = getDataContainer();
-            if (dataContainer != null && !model.isUpdateInProgress()) {
-                dataReceiver.setHasMoreData(false);
-                dataReceiver.setNextSegmentRead(true);
-
-                runDataPump(
-                    dataContainer,
-                    model.getDataFilter(),
-                    model.getRowCount(),
-                    getSegmentMaxRows(),
-                    -1,//curRow == null ? -1 : curRow.getRowNumber(), // Do not reposition cursor after next segment read!
-                    false,
-                    true,
-                    true,
-                    () -> nextSegmentReadingBlocked = false);
-            }
+            readNextSegmentData();
         });
     }
 
+    private void readNextSegmentData() {
+        DBSDataContainer dataContainer = getDataContainer();
+        if (dataContainer != null && !model.isUpdateInProgress()) {
+            ResultSetReadAhead staged = readAhead;
+            if (staged != null && staged.getStage().getOffset() == model.getRowCount()) {
+                if (!staged.getStage().isCompleted()) {
+                    // Wait for the read-ahead end
+                    staged.setCompleteHandler(this::readNextSegmentData);
+                    return;
+                }
+                readAhead = null;
+                if (staged.getStage().canAppendTo(model.getRowCount())) {
+                    appendReadAheadData(staged.getStage());
+                    return;
+                }
+            } else {
+                cancelReadAhead();
+            }
+            dataReceiver.setHasMoreData(false);
+            dataReceiver.setNextSegmentRead(true);
+
+            runDataPump(
+                dataContainer,
+                model.getDataFilter(),
+                model.getRowCount(),
+                getSegmentMaxRows(),
+                -1,//curRow == null ? -1 : curRow.getRowNumber(), // Do not reposition cursor after next segment read!
+                false,
+                true,
+                true,
+                () -> nextSegmentReadingBlocked = false);
+        }
+    }
+
+    @Override
+    public void readAheadNextSegment(int rowNum) {
+        if (readAhead != null || nextSegmentReadingBlocked || !dataReceiver.isHasMoreData() ||
+            isRefreshInProgress() || model.isUpdateInProgress())
+        {
+            return;
+        }
+        DBPPreferenceStore store = getPreferenceStore();
+        int threshold = store.getInt(ResultSetPreferences.RESULT_SET_READ_AHEAD_THRESHOLD);
+        int segmentSize = getSegmentMaxRows();
+        if (threshold <= 0 || segmentSize <= 0 || store.getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING)) {
+            return;
+        }
+        int rowCount = model.getRowCount();
+        int segmentStart = Math.max(0, rowCount - segmentSize);
+        if (rowNum < segmentStart + (long) (rowCount - segmentStart) * Math.min(threshold, 100) / 100) {
+            return;
+        }
+        DBSDataContainer dataContainer = getDataContainer();
+        DBCExecutionContext executionContext = getExecutionContext();
+        if (dataContainer == null || executionContext == null ||
+            dataContainer.isFeatureSupported(DBSDataContainer.FEATURE_DATA_MODIFIED_ON_REFRESH))
+        {
+            return;
+        }
+        readAhead = new ResultSetReadAhead(
+            this,
+            new ResultSetExecutionSource(dataContainer, this, this, model.getDataFilter()),
+            executionContext,
+            rowCount,
+            segmentSize,
+            store.getLong(ResultSetPreferences.RESULT_SET_READ_AHEAD_MEMORY_LIMIT) * 1024 * 1024);
+        readAhead.schedule();
+    }
+
+    /**
+     * Appends staged rows to the model. Called in UI thread, so model is never modified concurrently with presentation.
+     */
+    private void appendReadAheadData(@NotNull ResultSetReadAheadStage stage) {
+        try {
+            appendData(new VoidProgressMonitor(), stage.getRows(), false);
+            dataReceiver.setHasMoreData(stage.isHasMoreData());
+        } finally {
+            nextSegmentReadingBlocked = false;
+        }
+        if (!viewerPanel.isDisposed()) {
+            activePresentation.refreshData(false, true, true);
+        }
+    }
+
+    private void cancelReadAhead() {
+        ResultSetReadAhead staged = readAhead;
+        if (staged != null) {
+            readAhead = null;
+            if (staged.hasCompleteHandler()) {
+                // Next segment read was waiting for the read-ahead
+                staged.setCompleteHandler(null);
+                nextSegmentReadingBlocked = false;
+            }
+            staged.getStage().discard();
+            staged.cancel();
+        }
+    }
+
     private boolean verifyQuerySafety() {
         if (container.getDataContainer() == null || !container.getDataContainer().isFeatureSupported(DBSDataContainer.FEATURE_DATA_MODIFIED_ON_REFRESH) ) {
             return true;
@@ -4270,6 +4411,7 @@ public class ResultSetViewer extends Viewer
         }
         // Cancel any refresh jobs
         autoRefreshControl.cancelRefresh();
+        cancelReadAhead();
 
         // Read data
         Composite progressControl = viewerPanel;
@@ -5187,6 +5329,7 @@ public class ResultSetViewer extends Viewer
 
                 if (!scroll) {
                     final DBDDataFilter dataFilter = executionSource.getDataFilter();
+                    model.setFetchedWithConditions(dataFilter != null && dataFilter.hasConditions());
                     if (dataFilter != null) {
                         boolean visibilityChanged = !model.getDataFilter().equalVisibility(dataFilter);
                         model.updateDataFilter(dataFilter, true);
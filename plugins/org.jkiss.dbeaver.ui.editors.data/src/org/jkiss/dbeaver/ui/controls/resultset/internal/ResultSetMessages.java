@@ -44,6 +44,7 @@ public class ResultSetMessages extends NLS {
     public static String controls_resultset_grouping_clear;
     public static String controls_resultset_grouping_default_sorting;
     public static String controls_resultset_grouping_show_duplicates_only;
+    public static String controls_resultset_grouping_local;
     
     public static String controls_resultset_virtual_edit_action;
     public static String controls_resultset_virtual_add_virtual_foreign_key;
@@ -356,9 +357,21 @@ public class ResultSetMessages extends NLS {
     public static String pref_page_database_resultsets_label_read_metadata_tip;
     public static String pref_page_database_resultsets_label_read_references_tip;
     public static String pref_page_database_resultsets_label_fetch_size_tip;
+    public static String pref_page_database_resultsets_label_columnar_storage;
+    public static String pref_page_database_resultsets_label_read_ahead_threshold;
+    public static String pref_page_database_resultsets_label_read_ahead_threshold_tip;
+    public static String pref_page_database_resultsets_label_read_ahead_memory_limit;
+    public static String pref_page_database_resultsets_label_read_ahead_memory_limit_tip;
+    public static String pref_page_database_resultsets_label_local_filter;
+    public static String pref_page_database_resultsets_label_local_filter_tip;
+    public static String pref_page_database_resultsets_label_columnar_storage_tip;
+    public static String pref_page_database_resultsets_label_spill_memory_limit;
+    public static String pref_page_database_resultsets_label_spill_memory_limit_tip;
 
     public static String pref_page_content_cache_clob;
     public static String pref_page_content_cache_blob;
+    public static String pref_page_content_lazy_lob;
+    public static String pref_page_content_lazy_lob_tip;
     public static String pref_page_database_general_label_cache_max_size;
     public static String pref_page_database_general_checkbox_keep_cursor;
     public static String pref_page_database_general_group_queries;
@@ -430,6 +443,7 @@ public class ResultSetMessages extends NLS {
     public static String grouping_panel_error_title;
     public static String grouping_panel_error_change_sort_message;
     public static String grouping_panel_error_change_duplicate_presentation_message;
+    public static String grouping_panel_error_change_local_message;
 
     public static String refs_label;
     public static String refs_no_refs_text;
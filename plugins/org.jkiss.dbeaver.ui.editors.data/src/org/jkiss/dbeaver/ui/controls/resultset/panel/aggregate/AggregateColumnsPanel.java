@@ -16,6 +16,8 @@
  */
 package org.jkiss.dbeaver.ui.controls.resultset.panel.aggregate;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.action.*;
 import org.eclipse.jface.dialogs.IDialogSettings;
 import org.eclipse.jface.viewers.ISelection;
@@ -27,6 +29,7 @@ import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.*;
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBIcon;
@@ -34,6 +37,8 @@ import org.jkiss.dbeaver.model.DBPImage;
 import org.jkiss.dbeaver.model.DBValueFormatting;
 import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.aggregate.IAggregateFunction;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.registry.functions.AggregateFunctionDescriptor;
 import org.jkiss.dbeaver.registry.functions.FunctionsRegistry;
 import org.jkiss.dbeaver.ui.DBeaverIcons;
@@ -77,6 +82,10 @@ public class AggregateColumnsPanel implements IResultSetPanel {
     private final List<AggregateFunctionDescriptor> enabledFunctions = new ArrayList<>();
     private boolean featureTracked;
 
+    // State of the last completed aggregation. Used to aggregate appended cells only.
+    private AggregateState lastState;
+    private AggregateJob aggregateJob;
+
     public AggregateColumnsPanel() {
     }
 
@@ -199,18 +208,14 @@ public class AggregateColumnsPanel implements IResultSetPanel {
 
     @Override
     public void refresh(boolean force) {
-        aggregateTable.setRedraw(false);
-        try {
-            aggregateTable.removeAll();
-            if (this.presentation instanceof ISelectionProvider) {
-                ISelection selection = ((ISelectionProvider) presentation).getSelection();
-                if (selection instanceof IResultSetSelection) {
-                    aggregateSelection((IResultSetSelection)selection);
-                }
+        if (this.presentation instanceof ISelectionProvider) {
+            ISelection selection = ((ISelectionProvider) presentation).getSelection();
+            if (selection instanceof IResultSetSelection) {
+                aggregateSelection((IResultSetSelection) selection, force);
+            } else {
+                cancelAggregation();
+                aggregateTable.removeAll();
             }
-            UIUtils.packColumns(aggregateTable, false, null);
-        } finally {
-            aggregateTable.setRedraw(true);
         }
         saveSettings();
     }
@@ -220,7 +225,7 @@ public class AggregateColumnsPanel implements IResultSetPanel {
         fillToolBar(manager);
     }
 
-    private void aggregateSelection(@NotNull IResultSetSelection selection) {
+    private void aggregateSelection(@NotNull IResultSetSelection selection, boolean force) {
         if (!featureTracked) {
             DataEditorFeatures.RESULT_SET_PANEL_CALC.use(Map.of(
                 "functions", enabledFunctions.stream()
@@ -230,43 +235,91 @@ public class AggregateColumnsPanel implements IResultSetPanel {
             featureTracked = true;
         }
         ResultSetModel model = presentation.getController().getModel();
-        if (groupByColumns) {
-            Map<DBDAttributeBinding, List<Object>> attrValues = new LinkedHashMap<>();
-            for (Object element : selection.toList()) {
+        cancelAggregation();
+        AggregateState prevState = lastState;
+
+        // Aggregate only new cells if the previous selection is a part of the current one
+        Iterable<?> elements = selection;
+        AggregateState state = null;
+        if (!force && prevState != null && !prevState.modelDirty && !model.isDirty() &&
+            prevState.modelVersion == model.getContentVersion() &&
+            prevState.groupByColumns == groupByColumns &&
+            prevState.aggregateAsStrings == aggregateAsStrings &&
+            prevState.functions.equals(enabledFunctions) &&
+            selection instanceof IResultSetSelectionExt selectionExt)
+        {
+            Iterable<?> addedElements = selectionExt.getAddedElements(prevState.selection);
+            if (addedElements != null) {
+                elements = addedElements;
+                state = prevState.copyFor(selection);
+            }
+        }
+        if (state == null) {
+            state = new AggregateState(selection, model.isDirty(), model.getContentVersion());
+        }
+
+        // Only attribute and row references are resolved in UI thread (grid structure may change at any moment).
+        // Values are read by the job.
+        List<ResultSetCellBlock> blocks = selection instanceof IResultSetSelectionExt selectionExt ?
+            selectionExt.getCellBlocks(elements) : null;
+        if (blocks == null) {
+            blocks = new ArrayList<>();
+            for (Object element : elements) {
                 DBDAttributeBinding attr = selection.getElementAttribute(element);
                 ResultSetRow row = selection.getElementRow(element);
-                if (row != null) {
-                    Object cellValue = model.getCellValue(attr, row);
-                    List<Object> values = attrValues.computeIfAbsent(attr, k -> new ArrayList<>());
-                    values.add(cellValue);
+                if (attr != null && row != null) {
+                    blocks.add(new ResultSetCellBlock(new DBDAttributeBinding[] {attr}, new ResultSetRow[] {row}));
                 }
             }
+        }
+        long cellCount = 0;
+        for (ResultSetCellBlock block : blocks) {
+            cellCount += block.getCellCount();
+        }
 
-            for (Map.Entry<DBDAttributeBinding, List<Object>> entry : attrValues.entrySet()) {
-                TreeItem attrItem = new TreeItem(aggregateTable, SWT.NONE);
-                attrItem.setText(entry.getKey().getName());
-                attrItem.setImage(DBeaverIcons.getImage(DBValueFormatting.getObjectImage(entry.getKey())));
-                aggregateValues(attrItem, entry.getValue());
-                attrItem.setExpanded(true);
-            }
-        } else {
-            List<Object> allValues = new ArrayList<>(selection.size());
-            for (Object element : selection.toList()) {
-                DBDAttributeBinding attr = selection.getElementAttribute(element);
-                ResultSetRow row = selection.getElementRow(element);
-                if (row != null) {
-                    Object cellValue = model.getCellValue(attr, row);
-                    allValues.add(cellValue);
+        if (cellCount == 0) {
+            lastState = state;
+            showResults(state);
+            return;
+        }
+        aggregateJob = new AggregateJob(model, state, blocks, cellCount);
+        aggregateJob.schedule();
+    }
+
+    private void cancelAggregation() {
+        if (aggregateJob != null) {
+            aggregateJob.cancel();
+            aggregateJob = null;
+            // Running job may have modified its state partially
+            lastState = null;
+        }
+    }
+
+    private void showResults(@NotNull AggregateState state) {
+        aggregateTable.setRedraw(false);
+        try {
+            aggregateTable.removeAll();
+            for (Map.Entry<DBDAttributeBinding, AggregateGroup> entry : state.groups.entrySet()) {
+                DBDAttributeBinding attr = entry.getKey();
+                if (attr == null) {
+                    showGroupResults(state, null, entry.getValue());
+                } else {
+                    TreeItem attrItem = new TreeItem(aggregateTable, SWT.NONE);
+                    attrItem.setText(attr.getName());
+                    attrItem.setImage(DBeaverIcons.getImage(DBValueFormatting.getObjectImage(attr)));
+                    showGroupResults(state, attrItem, entry.getValue());
+                    attrItem.setExpanded(true);
                 }
             }
-            aggregateValues(null, allValues);
+            UIUtils.packColumns(aggregateTable, false, null);
+        } finally {
+            aggregateTable.setRedraw(true);
         }
     }
 
-    private void aggregateValues(TreeItem parentItem, Collection<Object> values) {
-        List<AggregateFunctionDescriptor> functions = enabledFunctions;
-        Map<IAggregateFunction, TreeItem> funcMap = new IdentityHashMap<>();
-        for (AggregateFunctionDescriptor funcDesc : functions) {
+    private void showGroupResults(@NotNull AggregateState state, @Nullable TreeItem parentItem, @NotNull AggregateGroup group) {
+        for (int i = 0; i < state.functions.size(); i++) {
+            AggregateFunctionDescriptor funcDesc = state.functions.get(i);
             TreeItem funcItem = (parentItem == null) ?
                 new TreeItem(aggregateTable, SWT.NONE) :
                 new TreeItem(parentItem, SWT.NONE);
@@ -276,31 +329,8 @@ public class AggregateColumnsPanel implements IResultSetPanel {
             if (icon != null) {
                 funcItem.setImage(0, DBeaverIcons.getImage(icon));
             }
-            try {
-                IAggregateFunction func = funcDesc.createFunction();
-                funcMap.put(func, funcItem);
-            } catch (DBException e) {
-                log.error(e);
-            }
-        }
-
-        IAggregateFunction[] funcs = funcMap.keySet().toArray(new IAggregateFunction[funcMap.size()]);
-        int[] funcCount = new int[funcs.length];
-        for (Object element : values) {
-            for (int i = 0; i < funcs.length; i++) {
-                if (funcs[i].accumulate(element, aggregateAsStrings)) {
-                    funcCount[i]++;
-                }
-            }
-        }
-        for (int i = 0; i < funcs.length; i++) {
-            if (funcCount[i] <= 0) {
-                continue;
-            }
-            IAggregateFunction func = funcs[i];
-            Object result = func.getResult(funcCount[i]);
+            Object result = group.results[i];
             if (result != null) {
-                TreeItem treeItem = funcMap.get(func);
                 String strValue;
                 if (result instanceof Double || result instanceof Float || result instanceof BigDecimal) {
                     strValue = DOUBLE_FORMAT.format(result);
@@ -310,7 +340,7 @@ public class AggregateColumnsPanel implements IResultSetPanel {
                     strValue = result.toString();
                 }
                 if (strValue != null) {
-                    treeItem.setText(1, strValue);
+                    funcItem.setText(1, strValue);
                 }
             }
         }
@@ -318,6 +348,8 @@ public class AggregateColumnsPanel implements IResultSetPanel {
 
     public void clearValue()
     {
+        cancelAggregation();
+        lastState = null;
         aggregateTable.removeAll();
     }
 
@@ -488,4 +520,162 @@ public class AggregateColumnsPanel implements IResultSetPanel {
         }
     }
 
+    /**
+     * Aggregate functions state of a single group (column or entire selection)
+     */
+    private static class AggregateGroup {
+        private final IAggregateFunction[] functions;
+        private final int[] counts;
+        private final Object[] results;
+
+        AggregateGroup(@NotNull List<AggregateFunctionDescriptor> descriptors) {
+            this.functions = new IAggregateFunction[descriptors.size()];
+            this.counts = new int[functions.length];
+            this.results = new Object[functions.length];
+            for (int i = 0; i < functions.length; i++) {
+                try {
+                    functions[i] = descriptors.get(i).createFunction();
+                } catch (DBException e) {
+                    log.error(e);
+                }
+            }
+        }
+
+        void accumulate(Object value, boolean aggregateAsStrings) {
+            for (int i = 0; i < functions.length; i++) {
+                if (functions[i] != null && functions[i].accumulate(value, aggregateAsStrings)) {
+                    counts[i]++;
+                }
+            }
+        }
+
+        void computeResults() {
+            for (int i = 0; i < functions.length; i++) {
+                results[i] = functions[i] == null || counts[i] <= 0 ? null : functions[i].getResult(counts[i]);
+            }
+        }
+    }
+
+    private class AggregateState {
+        private final IResultSetSelection selection;
+        private final boolean modelDirty;
+        private final int modelVersion;
+        private final boolean groupByColumns;
+        private final boolean aggregateAsStrings;
+        private final List<AggregateFunctionDescriptor> functions;
+        private final Map<DBDAttributeBinding, AggregateGroup> groups;
+
+        AggregateState(@NotNull IResultSetSelection selection, boolean modelDirty, int modelVersion) {
+            this(selection, modelDirty, modelVersion, new ArrayList<>(enabledFunctions), new LinkedHashMap<>());
+        }
+
+        private AggregateState(
+            @NotNull IResultSetSelection selection,
+            boolean modelDirty,
+            int modelVersion,
+            @NotNull List<AggregateFunctionDescriptor> functions,
+            @NotNull Map<DBDAttributeBinding, AggregateGroup> groups
+        ) {
+            this.selection = selection;
+            this.modelDirty = modelDirty;
+            this.modelVersion = modelVersion;
+            this.groupByColumns = AggregateColumnsPanel.this.groupByColumns;
+            this.aggregateAsStrings = AggregateColumnsPanel.this.aggregateAsStrings;
+            this.functions = functions;
+            this.groups = groups;
+        }
+
+        /**
+         * Continues aggregation with the same functions state. Previous state becomes invalid.
+         */
+        AggregateState copyFor(@NotNull IResultSetSelection newSelection) {
+            return new AggregateState(newSelection, modelDirty, modelVersion, functions, groups);
+        }
+    }
+
+    private class AggregateJob extends AbstractJob {
+        private final ResultSetModel model;
+        private final AggregateState state;
+        private final List<ResultSetCellBlock> blocks;
+        private final long cellCount;
+
+        AggregateJob(
+            @NotNull ResultSetModel model,
+            @NotNull AggregateState state,
+            @NotNull List<ResultSetCellBlock> blocks,
+            long cellCount
+        ) {
+            super("Aggregate selected values");
+            this.model = model;
+            this.state = state;
+            this.blocks = blocks;
+            this.cellCount = cellCount;
+            setUser(false);
+            setSystem(true);
+            setSkipErrorOnCanceling(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            monitor.beginTask("Aggregate values", (int) Math.min(cellCount, Integer.MAX_VALUE));
+            long processed = 0;
+            try {
+                readValues:
+                for (ResultSetCellBlock block : blocks) {
+                    for (ResultSetRow row : block.getRows()) {
+                        if (monitor.isCanceled()) {
+                            return Status.CANCEL_STATUS;
+                        }
+                        if (model.getContentVersion() != state.modelVersion) {
+                            // No need to read the rest, results are discarded anyway
+                            break readValues;
+                        }
+                        if (row == null) {
+                            continue;
+                        }
+                        for (DBDAttributeBinding attr : block.getAttributes()) {
+                            if (attr == null) {
+                                continue;
+                            }
+                            AggregateGroup group = state.groups.computeIfAbsent(
+                                state.groupByColumns ? attr : null,
+                                k -> new AggregateGroup(state.functions));
+                            group.accumulate(model.getCellValue(attr, row), state.aggregateAsStrings);
+                        }
+                        processed += block.getAttributes().length;
+                        if (processed >= 10000) {
+                            monitor.worked((int) processed);
+                            processed = 0;
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                // Rows were modified concurrently. Results will be discarded by the content version check.
+                log.debug("Error reading aggregated values", e);
+            }
+            for (AggregateGroup group : state.groups.values()) {
+                group.computeResults();
+            }
+            monitor.done();
+            if (monitor.isCanceled()) {
+                return Status.CANCEL_STATUS;
+            }
+            UIUtils.asyncExec(() -> {
+                if (aggregateJob != this || aggregateTable.isDisposed()) {
+                    return;
+                }
+                aggregateJob = null;
+                if (model.getContentVersion() != state.modelVersion) {
+                    // Values were changed while they were read, aggregate them again
+                    lastState = null;
+                    refresh(true);
+                    return;
+                }
+                lastState = state;
+                showResults(state);
+            });
+            return Status.OK_STATUS;
+        }
+    }
+
 }
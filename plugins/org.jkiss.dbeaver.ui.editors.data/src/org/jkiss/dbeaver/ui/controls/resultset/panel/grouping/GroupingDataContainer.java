@@ -25,6 +25,8 @@ import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.data.DBDDataReceiver;
 import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.local.LocalResultSet;
+import org.jkiss.dbeaver.model.impl.local.LocalStatement;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.sql.SQLGroupingAttribute;
@@ -35,6 +37,7 @@ import org.jkiss.dbeaver.ui.controls.resultset.IResultSetController;
 import org.jkiss.utils.ArrayUtils;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class GroupingDataContainer implements DBSDataContainer {
@@ -44,6 +47,7 @@ public class GroupingDataContainer implements DBSDataContainer {
     private IResultSetController parentController;
     private String query;
     private SQLGroupingAttribute[] attributes;
+    private LocalGroupingData localData;
 
     public GroupingDataContainer(IResultSetController parentController) {
         this.parentController = parentController;
@@ -76,6 +80,10 @@ public class GroupingDataContainer implements DBSDataContainer {
 
     @Override
     public String[] getSupportedFeatures() {
+        if (localData != null) {
+            // Only ordering is supported for fetched rows grouping
+            return new String[] {FEATURE_DATA_SELECT};
+        }
         return new String[] {FEATURE_DATA_SELECT, FEATURE_DATA_FILTER};
     }
 
@@ -91,6 +99,10 @@ public class GroupingDataContainer implements DBSDataContainer {
         long flags,
         int fetchSize
     ) throws DBCException {
+        LocalGroupingData localData = this.localData;
+        if (localData != null) {
+            return readLocalData(session, localData, dataReceiver, dataFilter, firstRow, maxRows);
+        }
         DBCStatistics statistics = new DBCStatistics();
         if (query == null) {
             statistics.addMessage("Empty query");
@@ -170,6 +182,57 @@ public class GroupingDataContainer implements DBSDataContainer {
         }
     }
 
+    @NotNull
+    private DBCStatistics readLocalData(
+        @NotNull DBCSession session,
+        @NotNull LocalGroupingData localData,
+        @NotNull DBDDataReceiver dataReceiver,
+        @Nullable DBDDataFilter dataFilter,
+        long firstRow,
+        long maxRows
+    ) throws DBCException {
+        DBCStatistics statistics = new DBCStatistics();
+        DBRProgressMonitor monitor = session.getProgressMonitor();
+        monitor.subTask("Group fetched rows");
+
+        long startTime = System.currentTimeMillis();
+        List<Object[]> rows = localData.getRows(monitor, dataFilter);
+        statistics.setExecuteTime(System.currentTimeMillis() - startTime);
+
+        LocalStatement statement = new LocalStatement(session, getName());
+        try (LocalResultSet<LocalStatement> resultSet = new LocalResultSet<>(session, statement)) {
+            localData.addColumns(resultSet);
+            int fromRow = firstRow > 0 ? (int) Math.min(firstRow, rows.size()) : 0;
+            int toRow = maxRows > 0 ? (int) Math.min(rows.size(), fromRow + maxRows) : rows.size();
+            for (Object[] row : rows.subList(fromRow, toRow)) {
+                resultSet.addRow(row);
+            }
+            try {
+                dataReceiver.fetchStart(session, resultSet, firstRow, maxRows);
+                startTime = System.currentTimeMillis();
+                long rowCount = 0;
+                while (resultSet.nextRow()) {
+                    if (monitor.isCanceled()) {
+                        break;
+                    }
+                    dataReceiver.fetchRow(session, resultSet);
+                    rowCount++;
+                }
+                statistics.setFetchTime(System.currentTimeMillis() - startTime);
+                statistics.setRowsFetched(rowCount);
+            } finally {
+                try {
+                    dataReceiver.fetchEnd(session, resultSet);
+                } catch (Throwable e) {
+                    log.error("Error while finishing result set fetch", e); //$NON-NLS-1$
+                }
+            }
+        } finally {
+            dataReceiver.close();
+        }
+        return statistics;
+    }
+
     @Override
     public long countData(@NotNull DBCExecutionSource source, @NotNull DBCSession session, @Nullable DBDDataFilter dataFilter, long flags) throws DBCException {
         return 0;
@@ -184,6 +247,13 @@ public class GroupingDataContainer implements DBSDataContainer {
         this.query = sql;
     }
 
+    /**
+     * Sets grouping of fetched rows. If set then grouping query is not executed.
+     */
+    void setLocalData(@Nullable LocalGroupingData localData) {
+        this.localData = localData;
+    }
+
     public void setGroupingAttributes(@Nullable SQLGroupingAttribute[] attributes) {
         this.attributes = attributes;
     }
@@ -174,6 +174,7 @@ public class GroupingPanel implements IResultSetPanel {
     {
         contributionManager.add(new DefaultSortingAction());
         contributionManager.add(new DuplicatesOnlyAction());
+        contributionManager.add(new LocalGroupingAction());
         contributionManager.add(new Separator());
         contributionManager.add(new EditColumnsAction(getGroupingResultsContainer()));
         contributionManager.add(new DeleteColumnAction(getGroupingResultsContainer()));
@@ -360,6 +361,34 @@ public class GroupingPanel implements IResultSetPanel {
         }
     }
 
+    class LocalGroupingAction extends Action {
+        LocalGroupingAction() {
+            super(ResultSetMessages.controls_resultset_grouping_local, Action.AS_CHECK_BOX);
+            setImageDescriptor(DBeaverIcons.getImageDescriptor(UIIcon.GROUP_BY_ATTR));
+        }
+
+        @Override
+        public boolean isChecked() {
+            DBPDataSource dataSource = getGroupingResultsContainer().getDataContainer().getDataSource();
+            return dataSource != null && dataSource.getContainer().getPreferenceStore().getBoolean(ResultSetPreferences.RS_GROUPING_LOCAL);
+        }
+
+        @Override
+        public void run() {
+            boolean newValue = !isChecked();
+            DBPDataSource dataSource = getGroupingResultsContainer().getDataContainer().getDataSource();
+            if (dataSource == null) {
+                return;
+            }
+            dataSource.getContainer().getPreferenceStore().setValue(ResultSetPreferences.RS_GROUPING_LOCAL, newValue);
+            try {
+                getGroupingResultsContainer().rebuildGrouping();
+            } catch (DBException e) {
+                DBWorkbench.getPlatformUI().showError(ResultSetMessages.grouping_panel_error_title, ResultSetMessages.grouping_panel_error_change_local_message, e);
+            }
+        }
+    }
+
     private class PresentationToggleAction extends Action {
         private final ResultSetPresentationDescriptor presentationDescriptor;
 
@@ -27,6 +27,7 @@ import org.jkiss.dbeaver.model.app.DBPProject;
 import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.exec.DBCStatistics;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.sql.*;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
@@ -185,6 +186,7 @@ public class GroupingResultsContainer implements IResultSetContainer {
         groupingViewer.clearDataFilter(false);
         groupingViewer.resetHistory();
         dataContainer.setGroupingQuery(null);
+        dataContainer.setLocalData(null);
         dataContainer.setGroupingAttributes(null);
         if (!(groupingViewer.getActivePresentation() instanceof EmptyPresentation)) {
             groupingViewer.showEmptyPresentation();
@@ -196,53 +198,76 @@ public class GroupingResultsContainer implements IResultSetContainer {
             groupingViewer.showEmptyPresentation();
             return;
         }
-        DBCStatistics statistics = presentation.getController().getModel().getStatistics();
-        if (statistics == null) {
-            throw new DBException("No main query - can't perform grouping");
-        }
-        DBSDataContainer dbsDataContainer = presentation.getController().getDataContainer();
+        IResultSetController ownerController = presentation.getController();
+        DBCStatistics statistics = ownerController.getModel().getStatistics();
+        DBSDataContainer dbsDataContainer = ownerController.getDataContainer();
         boolean isCustomQuery = !(dbsDataContainer instanceof DBSEntity);
         DBPDataSource dataSource = dataContainer.getDataSource();
         if (dataSource == null) {
             throw new DBException("No active datasource");
         }
-        SQLDialect dialect = SQLUtils.getDialectFromDataSource(dataSource);
-        SQLSyntaxManager syntaxManager = new SQLSyntaxManager();
-        syntaxManager.init(dialect, presentation.getController().getPreferenceStore());
-        String queryText = statistics.getQueryText();
-        boolean isShowDuplicatesOnly = dataSource.getContainer().getPreferenceStore().getBoolean(ResultSetPreferences.RS_GROUPING_SHOW_DUPLICATES_ONLY);
-
-        var groupingQueryGenerator = new SQLGroupingQueryGenerator(dataSource, dbsDataContainer, dialect, syntaxManager, groupAttributes, groupFunctions, isShowDuplicatesOnly);
-        dataContainer.setGroupingQuery(groupingQueryGenerator.generateGroupingQuery(queryText));
+        DBPPreferenceStore dsPreferenceStore = dataSource.getContainer().getPreferenceStore();
+        boolean isShowDuplicatesOnly = dsPreferenceStore.getBoolean(ResultSetPreferences.RS_GROUPING_SHOW_DUPLICATES_ONLY);
+        boolean isDefaultGrouping = groupFunctions.size() == 1 && groupFunctions.get(0).equalsIgnoreCase(getDefaultFunction());
+        String defaultSorting = dsPreferenceStore.getString(ResultSetPreferences.RS_GROUPING_DEFAULT_SORTING);
+
+        // Group fetched rows if requested or if re-execution of a custom query can be avoided
+        LocalGroupingData localData = null;
+        boolean allRowsFetched = ownerController instanceof ResultSetViewer viewer && !viewer.isHasMoreData();
+        if (statistics == null || dsPreferenceStore.getBoolean(ResultSetPreferences.RS_GROUPING_LOCAL) || (isCustomQuery && allRowsFetched)) {
+            localData = LocalGroupingData.create(
+                ownerController.getModel(),
+                dataSource,
+                groupAttributes,
+                groupFunctions,
+                isShowDuplicatesOnly,
+                isDefaultGrouping ? defaultSorting : null);
+        }
+        dataContainer.setLocalData(localData);
         dataContainer.setGroupingAttributes(groupAttributes.toArray(SQLGroupingAttribute[]::new));
+
         DBDDataFilter dataFilter;
-        if (presentation.getController().getModel().isMetadataChanged()) {
+        if (ownerController.getModel().isMetadataChanged()) {
             dataFilter = new DBDDataFilter();
         } else {
             dataFilter = new DBDDataFilter(groupingViewer.getModel().getDataFilter());
         }
 
-        boolean isDefaultGrouping = groupFunctions.size() == 1 && groupFunctions.get(0).equalsIgnoreCase(getDefaultFunction());
-        String defaultSorting = dataSource.getContainer().getPreferenceStore().getString(ResultSetPreferences.RS_GROUPING_DEFAULT_SORTING);
-        if (!CommonUtils.isEmpty(defaultSorting) && isDefaultGrouping) {
-            if (false/*dialect.supportsOrderByIndex()*/) {
-                // By default sort by count in desc order
-                int countPosition = groupAttributes.size() + 1;
-                StringBuilder orderBy = new StringBuilder();
-                orderBy.append(countPosition).append(" ").append(defaultSorting);
-                for (int i = 0; i < groupAttributes.size(); i++) {
-                    orderBy.append(",").append(i + 1);
+        if (localData == null) {
+            if (statistics == null) {
+                throw new DBException("No main query - can't perform grouping");
+            }
+            SQLDialect dialect = SQLUtils.getDialectFromDataSource(dataSource);
+            SQLSyntaxManager syntaxManager = new SQLSyntaxManager();
+            syntaxManager.init(dialect, ownerController.getPreferenceStore());
+            String queryText = statistics.getQueryText();
+
+            var groupingQueryGenerator = new SQLGroupingQueryGenerator(dataSource, dbsDataContainer, dialect, syntaxManager, groupAttributes, groupFunctions, isShowDuplicatesOnly);
+            dataContainer.setGroupingQuery(groupingQueryGenerator.generateGroupingQuery(queryText));
+
+            if (!CommonUtils.isEmpty(defaultSorting) && isDefaultGrouping) {
+                if (false/*dialect.supportsOrderByIndex()*/) {
+                    // By default sort by count in desc order
+                    int countPosition = groupAttributes.size() + 1;
+                    StringBuilder orderBy = new StringBuilder();
+                    orderBy.append(countPosition).append(" ").append(defaultSorting);
+                    for (int i = 0; i < groupAttributes.size(); i++) {
+                        orderBy.append(",").append(i + 1);
+                    }
+                    dataFilter.setOrder(orderBy.toString());
+                } else {
+                    var funcAliases = groupingQueryGenerator.getFuncAliases();
+                    dataFilter.setOrder(funcAliases[funcAliases.length - 1] + " " + defaultSorting);
                 }
-                dataFilter.setOrder(orderBy.toString());
-            } else {
-                var funcAliases = groupingQueryGenerator.getFuncAliases();
-                dataFilter.setOrder(funcAliases[funcAliases.length - 1] + " " + defaultSorting);
             }
+        } else {
+            dataContainer.setGroupingQuery(null);
         }
         DataEditorFeatures.RESULT_SET_PANEL_GROUPING.use(Map.of(
             "custom", isCustomQuery,
             "default", isDefaultGrouping,
-            "dups", isShowDuplicatesOnly));
+            "dups", isShowDuplicatesOnly,
+            "local", localData != null));
         groupingViewer.setDataFilter(dataFilter, true);
         //groupingViewer.refresh();
     }
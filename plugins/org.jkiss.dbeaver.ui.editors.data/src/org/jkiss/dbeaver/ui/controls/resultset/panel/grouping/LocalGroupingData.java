@@ -0,0 +1,247 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset.panel.grouping;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDAttributeConstraint;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.data.aggregate.GroupingAggregator;
+import org.jkiss.dbeaver.model.impl.local.LocalResultSet;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLGroupingAttribute;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetCellLocation;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetModel;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetRow;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Grouping of rows fetched in the owner result set viewer.
+ * Used instead of grouping query when source query can't (or shouldn't) be executed again.
+ */
+class LocalGroupingData {
+
+    private static final Pattern FUNCTION_PATTERN = Pattern.compile("(\\w+)\\s*\\(\\s*(DISTINCT\\s+)?(.+?)\\s*\\)", Pattern.CASE_INSENSITIVE);
+
+    private final GroupingAggregator aggregator;
+    // Values of source columns. Read in UI thread, aggregated in background.
+    private final Object[][] columns;
+    private final int rowCount;
+    private final String[] labels;
+    // Result column types. Null means numeric aggregate value.
+    private final DBDAttributeBinding[] types;
+    private final int defaultOrderColumn;
+    private final boolean defaultOrderDescending;
+    private volatile List<Object[]> groupedRows;
+
+    private LocalGroupingData(
+        @NotNull GroupingAggregator aggregator,
+        @NotNull Object[][] columns,
+        int rowCount,
+        @NotNull String[] labels,
+        @NotNull DBDAttributeBinding[] types,
+        int defaultOrderColumn,
+        boolean defaultOrderDescending
+    ) {
+        this.aggregator = aggregator;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.labels = labels;
+        this.types = types;
+        this.defaultOrderColumn = defaultOrderColumn;
+        this.defaultOrderDescending = defaultOrderDescending;
+    }
+
+    /**
+     * Reads grouped columns values from the model. Must be called in UI thread.
+     *
+     * @param defaultSorting default sorting of the last aggregate (ASC or DESC). Empty means no sorting.
+     * @return grouping data or null if some grouping attributes or functions can't be evaluated locally
+     */
+    @Nullable
+    static LocalGroupingData create(
+        @NotNull ResultSetModel model,
+        @NotNull DBPDataSource dataSource,
+        @NotNull List<SQLGroupingAttribute> groupAttributes,
+        @NotNull List<String> groupFunctions,
+        boolean duplicatesOnly,
+        @Nullable String defaultSorting
+    ) {
+        List<DBDAttributeBinding> sourceAttributes = new ArrayList<>();
+        List<String> labels = new ArrayList<>();
+        List<DBDAttributeBinding> types = new ArrayList<>();
+
+        int[] groupColumns = new int[groupAttributes.size()];
+        for (int i = 0; i < groupAttributes.size(); i++) {
+            SQLGroupingAttribute attribute = groupAttributes.get(i);
+            DBDAttributeBinding binding;
+            if (attribute instanceof SQLGroupingAttribute.BoundAttribute bound) {
+                binding = bound.getBinding();
+            } else if (attribute instanceof SQLGroupingAttribute.CustomAttribute custom) {
+                // Only plain column references are supported
+                binding = findAttribute(model, dataSource, custom.getExpressionString());
+            } else {
+                binding = null;
+            }
+            if (binding == null) {
+                return null;
+            }
+            groupColumns[i] = addSourceAttribute(sourceAttributes, binding);
+            labels.add(binding.getName());
+            types.add(binding);
+        }
+
+        String defaultGroupAttribute = dataSource.getSQLDialect().getDefaultGroupAttribute();
+        List<GroupingAggregator.Aggregate> aggregates = new ArrayList<>();
+        for (String function : groupFunctions) {
+            Matcher matcher = FUNCTION_PATTERN.matcher(function.trim());
+            if (!matcher.matches()) {
+                return null;
+            }
+            GroupingAggregator.Function aggFunction = GroupingAggregator.getFunction(matcher.group(1), matcher.group(2) != null);
+            if (aggFunction == null) {
+                return null;
+            }
+            String argument = matcher.group(3);
+            DBDAttributeBinding binding = null;
+            int column;
+            if (aggFunction == GroupingAggregator.Function.COUNT &&
+                (argument.equals("*") || argument.equals(defaultGroupAttribute) || CommonUtils.isInt(argument)))
+            {
+                column = -1;
+            } else {
+                binding = findAttribute(model, dataSource, argument);
+                if (binding == null) {
+                    return null;
+                }
+                column = addSourceAttribute(sourceAttributes, binding);
+            }
+            aggregates.add(new GroupingAggregator.Aggregate(aggFunction, column));
+            labels.add(function);
+            types.add(aggFunction == GroupingAggregator.Function.MIN || aggFunction == GroupingAggregator.Function.MAX ? binding : null);
+        }
+
+        List<ResultSetRow> rows = model.getAllRows();
+        Object[][] columns = new Object[sourceAttributes.size()][rows.size()];
+        for (int i = 0; i < sourceAttributes.size(); i++) {
+            DBDAttributeBinding binding = sourceAttributes.get(i);
+            Object[] values = columns[i];
+            for (int k = 0; k < rows.size(); k++) {
+                values[k] = model.getCellValue(new ResultSetCellLocation(binding, rows.get(k)));
+            }
+        }
+
+        return new LocalGroupingData(
+            new GroupingAggregator(groupColumns, aggregates, duplicatesOnly ? 2 : 0),
+            columns,
+            rows.size(),
+            labels.toArray(new String[0]),
+            types.toArray(new DBDAttributeBinding[0]),
+            CommonUtils.isEmpty(defaultSorting) || aggregates.isEmpty() ? -1 : labels.size() - 1,
+            "DESC".equalsIgnoreCase(defaultSorting));
+    }
+
+    @Nullable
+    private static DBDAttributeBinding findAttribute(
+        @NotNull ResultSetModel model,
+        @NotNull DBPDataSource dataSource,
+        @NotNull String name
+    ) {
+        return DBUtils.findObject(model.getAttributes(), DBUtils.getUnQuotedIdentifier(dataSource, name));
+    }
+
+    private static int addSourceAttribute(@NotNull List<DBDAttributeBinding> attributes, @NotNull DBDAttributeBinding binding) {
+        int index = attributes.indexOf(binding);
+        if (index < 0) {
+            attributes.add(binding);
+            index = attributes.size() - 1;
+        }
+        return index;
+    }
+
+    void addColumns(@NotNull LocalResultSet<?> resultSet) {
+        for (int i = 0; i < labels.length; i++) {
+            if (types[i] != null) {
+                resultSet.addColumn(labels[i], types[i]);
+            } else {
+                resultSet.addColumn(labels[i], DBPDataKind.NUMERIC);
+            }
+        }
+    }
+
+    /**
+     * Returns grouped rows ordered by the data filter.
+     * Groups are evaluated on the first call.
+     */
+    @NotNull
+    List<Object[]> getRows(@NotNull DBRProgressMonitor monitor, @Nullable DBDDataFilter dataFilter) {
+        List<Object[]> rows = groupedRows;
+        if (rows == null) {
+            rows = aggregator.aggregate(monitor, columns, rowCount);
+            if (monitor.isCanceled()) {
+                return rows;
+            }
+            groupedRows = rows;
+        }
+        Comparator<Object[]> comparator = null;
+        if (dataFilter != null) {
+            for (DBDAttributeConstraint constraint : dataFilter.getOrderConstraints()) {
+                int index = getColumnIndex(constraint.getAttributeName());
+                if (index >= 0) {
+                    comparator = thenComparing(comparator, index, constraint.isOrderDescending());
+                }
+            }
+        }
+        if (comparator == null && defaultOrderColumn >= 0) {
+            comparator = thenComparing(null, defaultOrderColumn, defaultOrderDescending);
+        }
+        if (comparator != null) {
+            rows = new ArrayList<>(rows);
+            rows.sort(comparator);
+        }
+        return rows;
+    }
+
+    private int getColumnIndex(@NotNull String label) {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equals(label)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @NotNull
+    private static Comparator<Object[]> thenComparing(@Nullable Comparator<Object[]> comparator, int index, boolean descending) {
+        Comparator<Object[]> columnComparator = (row1, row2) -> DBUtils.compareDataValues(row1[index], row2[index]);
+        if (descending) {
+            columnComparator = columnComparator.reversed();
+        }
+        return comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+    }
+
+}
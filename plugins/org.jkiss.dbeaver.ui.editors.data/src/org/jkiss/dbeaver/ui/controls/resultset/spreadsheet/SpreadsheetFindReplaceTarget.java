@@ -46,6 +46,7 @@ import org.jkiss.dbeaver.ui.UIStyles;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.ui.controls.lightgrid.GridCell;
 import org.jkiss.dbeaver.ui.controls.lightgrid.GridPos;
+import org.jkiss.dbeaver.ui.controls.lightgrid.GridSelection;
 import org.jkiss.dbeaver.ui.controls.resultset.ResultSetCellLocation;
 import org.jkiss.dbeaver.ui.controls.resultset.ResultSetModel;
 import org.jkiss.dbeaver.ui.controls.resultset.ResultSetValueController;
@@ -74,7 +75,7 @@ class SpreadsheetFindReplaceTarget implements IFindReplaceTarget, IFindReplaceTa
     private boolean replaceAll;
     private boolean sessionActive = false;
     private boolean firstSearchInSession = true;
-    private List<GridPos> originalSelection = new ArrayList<>();
+    private GridSelection originalSelection = new GridSelection();
     private final Set<DBDValueRow> updatedRows = new LinkedHashSet<>();
     private final Set<DBDAttributeBinding> updatedAttributes = new LinkedHashSet<>();
     private final Set<GridPos> processedCells = new HashSet<>();
@@ -163,7 +164,7 @@ class SpreadsheetFindReplaceTarget implements IFindReplaceTarget, IFindReplaceTa
         }
         this.sessionActive = true;
         owner.getControl().redraw();
-        this.originalSelection = new ArrayList<>(owner.getSpreadsheet().getSelection());
+        this.originalSelection = owner.getSpreadsheet().getSelectionCopy();
         owner.highlightRows(-1, -1, null);
     }
 
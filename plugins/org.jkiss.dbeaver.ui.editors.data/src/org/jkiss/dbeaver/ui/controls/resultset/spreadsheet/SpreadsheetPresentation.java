@@ -510,12 +510,16 @@ public class SpreadsheetPresentation extends AbstractPresentation
 
         if (copyHTML) html.append("<tbody>");
 
-        List<GridCell> selectedCells = spreadsheet.getCellSelection();
-        boolean quoteCells = settings.isQuoteCells() && selectedCells.size() > 1;
+        // Cells are iterated lazily, selection may be huge
+        boolean quoteCells = settings.isQuoteCells() && spreadsheet.getCellSelectionSize() > 1;
         boolean forceQuotes = settings.isForceQuotes();
 
         GridCell prevCell = null;
-        for (GridCell cell : selectedCells) {
+        for (GridPos pos : spreadsheet.getSelection()) {
+            GridCell cell = spreadsheet.posToCell(pos);
+            if (cell == null) {
+                continue;
+            }
             if (prevCell == null || cell.row != prevCell.row) {
                 // Next row
                 if (prevCell != null && prevCell.col != cell.col) {
@@ -630,7 +634,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
                     // A special case when the grid is empty
                     targetRange = new Pair<>(new GridPos(0, 0), null);
                 } else {
-                    targetRange = getContinuousRange(List.copyOf(spreadsheet.getSelection()));
+                    targetRange = getContinuousRange(spreadsheet.getSelectionRanges());
                 }
                 if (targetRange == null) {
                     DBWorkbench.getPlatformUI().showWarningMessageBox(
@@ -780,27 +784,16 @@ public class SpreadsheetPresentation extends AbstractPresentation
      * </ul>
      */
     @Nullable
-    private Pair<GridPos, GridPos> getContinuousRange(@NotNull List<GridPos> selection) {
-        return switch (selection.size()) {
-            case 0 -> null;
-            case 1 -> new Pair<>(selection.get(0), null);
-            default -> {
-                GridPos min = selection.get(0);
-                GridPos max = new GridPos(min);
-
-                for (int i = 0; i < selection.size(); i++) {
-                    final GridPos cur = selection.get(i);
-
-                    if (i > 0 && (cur.row - max.row > 1 || cur.col - max.col > 1)) {
-                        yield null;
-                    }
-
-                    max = cur;
-                }
-
-                yield new Pair<>(min, max);
-            }
-        };
+    private Pair<GridPos, GridPos> getContinuousRange(@NotNull List<GridSelection.Range> selection) {
+        if (selection.size() != 1) {
+            return null;
+        }
+        GridSelection.Range range = selection.get(0);
+        GridPos min = new GridPos(range.firstCol, range.firstRow);
+        if (range.getCellCount() == 1) {
+            return new Pair<>(min, null);
+        }
+        return new Pair<>(min, new GridPos(range.lastCol, range.lastRow));
     }
 
     private String[][] parseGridLines(String strValue, boolean splitRows, boolean ignoreQuotes) {
@@ -1763,40 +1756,40 @@ public class SpreadsheetPresentation extends AbstractPresentation
 
     class SpreadsheetSelectionImpl implements IResultSetSelection, IResultSetSelectionExt {
 
+        // Selected cells at the moment of selection creation. Copy of ranges is cheap.
+        private final GridSelection cells = spreadsheet.getSelectionCopy();
+        private final int contentVersion = spreadsheet.getContentVersion();
+
         @Nullable
         @Override
         public GridPos getFirstElement() {
-            Collection<GridPos> ssSelection = spreadsheet.getSelection();
-            if (ssSelection.isEmpty()) {
-                return null;
-            }
-            return ssSelection.iterator().next();
+            return cells.getFirst();
         }
 
         @NotNull
         @Override
         public Iterator<GridPos> iterator() {
-            return spreadsheet.getSelection().iterator();
+            return cells.iterator();
         }
 
         @Override
         public int size() {
-            return spreadsheet.getSelection().size();
+            return cells.size();
         }
 
         @Override
         public Object[] toArray() {
-            return spreadsheet.getSelection().toArray();
+            return cells.toArray();
         }
 
         @Override
         public List<GridPos> toList() {
-            return new ArrayList<>(spreadsheet.getSelection());
+            return new ArrayList<>(cells);
         }
 
         @Override
         public boolean isEmpty() {
-            return spreadsheet.getSelection().isEmpty();
+            return cells.isEmpty();
         }
 
         @NotNull
@@ -1841,10 +1834,11 @@ public class SpreadsheetPresentation extends AbstractPresentation
                         }
                     }
                 } else {
+                    // Row selection is ordered, so nested rows of the same result set row come together
                     for (Integer row : spreadsheet.getRowSelection()) {
                         IGridRow gridRow = spreadsheet.getRow(row);
                         ResultSetRow rsr = (ResultSetRow) gridRow.getElement();
-                        if (!rows.contains(rsr)) {
+                        if (rows.isEmpty() || !rows.get(rows.size() - 1).equals(rsr)) {
                             rows.add(rsr);
                         }
                     }
@@ -1892,6 +1886,71 @@ public class SpreadsheetPresentation extends AbstractPresentation
         public int getSelectedCellCount() {
             return spreadsheet.getCellSelectionSize();
         }
+
+        @Nullable
+        @Override
+        public Iterable<GridPos> getAddedElements(@NotNull IResultSetSelection previous) {
+            if (!(previous instanceof SpreadsheetSelectionImpl prevSelection) ||
+                prevSelection.getController() != getController() ||
+                prevSelection.contentVersion != contentVersion ||
+                contentVersion != spreadsheet.getContentVersion() ||
+                !cells.containsAll(prevSelection.cells))
+            {
+                return null;
+            }
+            GridSelection addedCells = new GridSelection(cells);
+            addedCells.removeAll(prevSelection.cells);
+            return addedCells;
+        }
+
+        @Nullable
+        @Override
+        public List<ResultSetCellBlock> getCellBlocks(@NotNull Iterable<?> elements) {
+            GridSelection selection;
+            if (elements == this) {
+                selection = cells;
+            } else if (elements instanceof GridSelection gs) {
+                selection = gs;
+            } else {
+                return null;
+            }
+            if (contentVersion != spreadsheet.getContentVersion()) {
+                // Grid was changed since selection creation
+                return null;
+            }
+            boolean recordMode = controller.isRecordMode();
+            int columnCount = spreadsheet.getColumnCount();
+            int rowCount = spreadsheet.getItemCount();
+            List<ResultSetCellBlock> blocks = new ArrayList<>(selection.getRanges().size());
+            for (GridSelection.Range range : selection.getRanges()) {
+                int lastCol = Math.min(range.lastCol, columnCount - 1);
+                int lastRow = Math.min(range.lastRow, rowCount - 1);
+                if (range.firstCol > lastCol || range.firstRow > lastRow) {
+                    continue;
+                }
+                // Attribute depends only on the grid column (or on the grid row in record mode), row depends on the other one
+                DBDAttributeBinding[] attributes = new DBDAttributeBinding[(recordMode ? lastRow - range.firstRow : lastCol - range.firstCol) + 1];
+                ResultSetRow[] rows = new ResultSetRow[(recordMode ? lastCol - range.firstCol : lastRow - range.firstRow) + 1];
+                for (int col = range.firstCol; col <= lastCol; col++) {
+                    GridColumn gridColumn = spreadsheet.getColumn(col);
+                    if (recordMode) {
+                        rows[col - range.firstCol] = getResultRowFromGrid(gridColumn, null);
+                    } else {
+                        attributes[col - range.firstCol] = getAttributeFromGrid(gridColumn, null);
+                    }
+                }
+                for (int row = range.firstRow; row <= lastRow; row++) {
+                    IGridRow gridRow = spreadsheet.getRow(row);
+                    if (recordMode) {
+                        attributes[row - range.firstRow] = getAttributeFromGrid(null, gridRow);
+                    } else {
+                        rows[row - range.firstRow] = getResultRowFromGrid(null, gridRow);
+                    }
+                }
+                blocks.add(new ResultSetCellBlock(attributes, rows));
+            }
+            return blocks;
+        }
     }
 
     private class ContentProvider implements IGridContentProvider {
@@ -2190,6 +2249,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
             // Check for next segment read
             ResultSetRow row = getResultRowFromGrid(gridColumn, gridRow);
             int rowNum = row.getVisualNumber();
+            controller.readAheadNextSegment(rowNum);
             if (rowNum > 0 &&
                 rowNum == controller.getModel().getRowCount() - 1 &&
                 autoFetchSegments &&
@@ -2476,15 +2536,16 @@ public class SpreadsheetPresentation extends AbstractPresentation
             }
 
             {
-                if (row.colorInfo != null) {
-                    if (row.colorInfo.cellFgColors != null) {
-                        Color cellFG = row.colorInfo.cellFgColors[attribute.getOrdinalPosition()];
+                ResultSetRow.ColorInfo colorInfo = controller.getModel().getRowColors(row);
+                if (colorInfo != null) {
+                    if (colorInfo.cellFgColors != null) {
+                        Color cellFG = colorInfo.cellFgColors[attribute.getOrdinalPosition()];
                         if (cellFG != null) {
                             return cellFG;
                         }
                     }
-                    if (row.colorInfo.rowForeground != null) {
-                        return row.colorInfo.rowForeground;
+                    if (colorInfo.rowForeground != null) {
+                        return colorInfo.rowForeground;
                     }
                 }
 
@@ -2606,15 +2667,16 @@ public class SpreadsheetPresentation extends AbstractPresentation
             }
 
             {
-                if (row.colorInfo != null) {
-                    if (row.colorInfo.cellBgColors != null) {
-                        Color cellBG = row.colorInfo.cellBgColors[attribute.getOrdinalPosition()];
+                ResultSetRow.ColorInfo colorInfo = controller.getModel().getRowColors(row);
+                if (colorInfo != null) {
+                    if (colorInfo.cellBgColors != null) {
+                        Color cellBG = colorInfo.cellBgColors[attribute.getOrdinalPosition()];
                         if (cellBG != null) {
                             return cellBG;
                         }
                     }
-                    if (row.colorInfo.rowBackground != null) {
-                        return row.colorInfo.rowBackground;
+                    if (colorInfo.rowBackground != null) {
+                        return colorInfo.rowBackground;
                     }
                 }
 
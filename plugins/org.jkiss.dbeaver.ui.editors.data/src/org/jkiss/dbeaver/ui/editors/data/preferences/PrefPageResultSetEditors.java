@@ -54,6 +54,7 @@ public class PrefPageResultSetEditors extends TargetPrefPage
     private Combo encodingCombo;
     private Button contentCacheClob;
     private Button contentCacheBlob;
+    private Button contentLazyLobCheck;
     private Spinner contentCacheMaxSize;
 
     private Spinner maxTextContentSize;
@@ -83,6 +84,7 @@ public class PrefPageResultSetEditors extends TargetPrefPage
             store.contains(ModelPreferences.CONTENT_CACHE_CLOB) ||
             store.contains(ModelPreferences.CONTENT_CACHE_BLOB) ||
             store.contains(ModelPreferences.CONTENT_CACHE_MAX_SIZE) ||
+            store.contains(ModelPreferences.CONTENT_LAZY_LOB) ||
             store.contains(ResultSetPreferences.RS_EDIT_LONG_AS_LOB) ||
 
             store.contains(ResultSetPreferences.RS_EDIT_MAX_TEXT_SIZE) ||
@@ -148,6 +150,10 @@ public class PrefPageResultSetEditors extends TargetPrefPage
             contentCacheMaxSize.setDigits(0);
             contentCacheMaxSize.setIncrement(100000);
             contentCacheMaxSize.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+            contentLazyLobCheck = UIUtils.createLabelCheckbox(binaryGroup,
+                ResultSetMessages.pref_page_content_lazy_lob,
+                ResultSetMessages.pref_page_content_lazy_lob_tip,
+                false);
             editLongAsLobCheck = UIUtils.createLabelCheckbox(binaryGroup, ResultSetMessages.pref_page_content_editor_checkbox_edit_long_as_lobs, false);
         }
 
@@ -196,6 +202,7 @@ public class PrefPageResultSetEditors extends TargetPrefPage
             contentCacheClob.setSelection(store.getBoolean(ModelPreferences.CONTENT_CACHE_CLOB));
             contentCacheBlob.setSelection(store.getBoolean(ModelPreferences.CONTENT_CACHE_BLOB));
             contentCacheMaxSize.setSelection(store.getInt(ModelPreferences.CONTENT_CACHE_MAX_SIZE));
+            contentLazyLobCheck.setSelection(store.getBoolean(ModelPreferences.CONTENT_LAZY_LOB));
             editLongAsLobCheck.setSelection(store.getBoolean(ResultSetPreferences.RS_EDIT_LONG_AS_LOB));
 
             maxTextContentSize.setSelection(store.getInt(ResultSetPreferences.RS_EDIT_MAX_TEXT_SIZE));
@@ -231,6 +238,7 @@ public class PrefPageResultSetEditors extends TargetPrefPage
             store.setValue(ModelPreferences.CONTENT_CACHE_CLOB, contentCacheClob.getSelection());
             store.setValue(ModelPreferences.CONTENT_CACHE_BLOB, contentCacheBlob.getSelection());
             store.setValue(ModelPreferences.CONTENT_CACHE_MAX_SIZE, contentCacheMaxSize.getSelection());
+            store.setValue(ModelPreferences.CONTENT_LAZY_LOB, contentLazyLobCheck.getSelection());
             store.setValue(ResultSetPreferences.RS_EDIT_LONG_AS_LOB, editLongAsLobCheck.getSelection());
 
             store.setValue(ResultSetPreferences.RS_EDIT_MAX_TEXT_SIZE, maxTextContentSize.getSelection());
@@ -255,6 +263,7 @@ public class PrefPageResultSetEditors extends TargetPrefPage
         store.setToDefault(ModelPreferences.CONTENT_CACHE_CLOB);
         store.setToDefault(ModelPreferences.CONTENT_CACHE_BLOB);
         store.setToDefault(ModelPreferences.CONTENT_CACHE_MAX_SIZE);
+        store.setToDefault(ModelPreferences.CONTENT_LAZY_LOB);
         store.setToDefault(ResultSetPreferences.RS_EDIT_LONG_AS_LOB);
 
         store.setToDefault(ResultSetPreferences.RS_EDIT_MAX_TEXT_SIZE);
@@ -274,6 +283,7 @@ public class PrefPageResultSetEditors extends TargetPrefPage
         contentCacheClob.setSelection(store.getDefaultBoolean(ModelPreferences.CONTENT_CACHE_CLOB));
         contentCacheBlob.setSelection(store.getDefaultBoolean(ModelPreferences.CONTENT_CACHE_BLOB));
         contentCacheMaxSize.setSelection(store.getDefaultInt(ModelPreferences.CONTENT_CACHE_MAX_SIZE));
+        contentLazyLobCheck.setSelection(store.getDefaultBoolean(ModelPreferences.CONTENT_LAZY_LOB));
         maxTextContentSize.setSelection(store.getDefaultInt(ResultSetPreferences.RS_EDIT_MAX_TEXT_SIZE));
         editLongAsLobCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.RS_EDIT_LONG_AS_LOB));
         commitOnEditApplyCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.RS_COMMIT_ON_EDIT_APPLY));
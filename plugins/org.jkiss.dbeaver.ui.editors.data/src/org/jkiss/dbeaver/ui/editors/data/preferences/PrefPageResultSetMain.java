@@ -54,6 +54,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
     public static final String PAGE_ID = "org.jkiss.dbeaver.preferences.main.resultset"; //$NON-NLS-1$
 
     private Button autoFetchNextSegmentCheck;
+    private Text readAheadThresholdText;
+    private Text readAheadMemoryLimitText;
     private Button automaticRowCountCheck;
     private Button rereadOnScrollingCheck;
     private Text resultSetSize;
@@ -61,6 +63,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
     private Combo orderingModeCombo;
     private Text queryCancelTimeout;
     private Button filterForceSubselect;
+    private Button filterLocalCheck;
 
     private Button keepStatementOpenCheck;
     private Button alwaysUseAllColumns;
@@ -74,6 +77,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
     private Button markCellValueOccurrences;
 
     private Button advUseFetchSize;
+    private Button advColumnarStorage;
+    private Text advSpillMemoryLimit;
 
     private Button ignoreColumnLabelCheck;
     private Button useDateTimeEditor;
@@ -90,6 +95,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
         DBPPreferenceStore store = dataSourceDescriptor.getPreferenceStore();
         return
             store.contains(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT) ||
+            store.contains(ResultSetPreferences.RESULT_SET_READ_AHEAD_THRESHOLD) ||
+            store.contains(ResultSetPreferences.RESULT_SET_READ_AHEAD_MEMORY_LIMIT) ||
             store.contains(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING) ||
             store.contains(ModelPreferences.RESULT_SET_MAX_ROWS) ||
             store.contains(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL) ||
@@ -103,7 +110,10 @@ public class PrefPageResultSetMain extends TargetPrefPage
             store.contains(ResultSetPreferences.KEEP_STATEMENT_OPEN) ||
             store.contains(ResultSetPreferences.RESULT_SET_ORDERING_MODE) ||
             store.contains(ModelPreferences.RESULT_SET_USE_FETCH_SIZE) ||
+            store.contains(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE) ||
+            store.contains(ResultSetPreferences.RESULT_SET_SPILL_MEMORY_LIMIT) ||
             store.contains(ResultSetPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS) ||
+            store.contains(ResultSetPreferences.RESULT_SET_LOCAL_FILTER) ||
             store.contains(ResultSetPreferences.RESULT_SET_CONFIRM_BEFORE_SAVE) ||
             store.contains(ResultSetPreferences.RESULT_SET_SHOW_ERRORS_IN_DIALOG) ||
             store.contains(ResultSetPreferences.RESULT_SET_MARK_CELL_VALUE_OCCURRENCES) ||
@@ -143,6 +153,12 @@ public class PrefPageResultSetMain extends TargetPrefPage
             });
 
             autoFetchNextSegmentCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_auto_fetch_segment, ResultSetMessages.pref_page_database_resultsets_label_auto_fetch_segment_tip, true, 2);
+            readAheadThresholdText = UIUtils.createLabelText(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_read_ahead_threshold, "0");
+            readAheadThresholdText.setToolTipText(ResultSetMessages.pref_page_database_resultsets_label_read_ahead_threshold_tip);
+            readAheadThresholdText.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.getDefault()));
+            readAheadMemoryLimitText = UIUtils.createLabelText(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_read_ahead_memory_limit, "0");
+            readAheadMemoryLimitText.setToolTipText(ResultSetMessages.pref_page_database_resultsets_label_read_ahead_memory_limit_tip);
+            readAheadMemoryLimitText.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.getDefault()));
             rereadOnScrollingCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_reread_on_scrolling, ResultSetMessages.pref_page_database_resultsets_label_reread_on_scrolling_tip, true, 2);
             resultSetUseSQLCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_use_sql, ResultSetMessages.pref_page_database_resultsets_label_use_sql_tip, false, 2);
             automaticRowCountCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_automatic_row_count, ResultSetMessages.pref_page_database_resultsets_label_automatic_row_count_tip, false, 2);
@@ -157,12 +173,24 @@ public class PrefPageResultSetMain extends TargetPrefPage
 
             filterForceSubselect = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_filter_force_subselect,
                 ResultSetMessages.pref_page_database_resultsets_label_filter_force_subselect_tip, false, 2);
+            filterLocalCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_local_filter,
+                ResultSetMessages.pref_page_database_resultsets_label_local_filter_tip, false, 2);
         }
         {
-            Group advGroup = UIUtils.createControlGroup(leftPane, ResultSetMessages.pref_page_results_group_advanced, 1, GridData.VERTICAL_ALIGN_BEGINNING, 0);
-
-            ignoreColumnLabelCheck = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_general_use_column_names, ResultSetMessages.pref_page_database_general_use_column_names_tip, false, 1);
-            advUseFetchSize = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_resultsets_label_fetch_size, ResultSetMessages.pref_page_database_resultsets_label_fetch_size_tip, false, 1);
+            Group advGroup = UIUtils.createControlGroup(leftPane, ResultSetMessages.pref_page_results_group_advanced, 2, GridData.VERTICAL_ALIGN_BEGINNING, 0);
+
+            ignoreColumnLabelCheck = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_general_use_column_names, ResultSetMessages.pref_page_database_general_use_column_names_tip, false, 2);
+            advUseFetchSize = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_resultsets_label_fetch_size, ResultSetMessages.pref_page_database_resultsets_label_fetch_size_tip, false, 2);
+            advColumnarStorage = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_resultsets_label_columnar_storage, ResultSetMessages.pref_page_database_resultsets_label_columnar_storage_tip, false, 2);
+            advSpillMemoryLimit = UIUtils.createLabelText(advGroup, ResultSetMessages.pref_page_database_resultsets_label_spill_memory_limit, "0");
+            advSpillMemoryLimit.setToolTipText(ResultSetMessages.pref_page_database_resultsets_label_spill_memory_limit_tip);
+            advSpillMemoryLimit.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.getDefault()));
+            advColumnarStorage.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    advSpillMemoryLimit.setEnabled(advColumnarStorage.getSelection());
+                }
+            });
         }
 
 
@@ -248,6 +276,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
     {
         try {
             autoFetchNextSegmentCheck.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT));
+            readAheadThresholdText.setText(store.getString(ResultSetPreferences.RESULT_SET_READ_AHEAD_THRESHOLD));
+            readAheadMemoryLimitText.setText(store.getString(ResultSetPreferences.RESULT_SET_READ_AHEAD_MEMORY_LIMIT));
             rereadOnScrollingCheck.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING));
             useDateTimeEditor.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR));
             int rsSegmentSize = store.getInt(ModelPreferences.RESULT_SET_MAX_ROWS);
@@ -260,6 +290,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
             orderingModeCombo.select(CommonUtils.valueOf(ResultSetUtils.OrderingMode.class, store.getString(ResultSetPreferences.RESULT_SET_ORDERING_MODE), ResultSetUtils.OrderingMode.SMART).ordinal());
             queryCancelTimeout.setText(store.getString(ResultSetPreferences.RESULT_SET_CANCEL_TIMEOUT));
             filterForceSubselect.setSelection(store.getBoolean(ModelPreferences.SQL_FILTER_FORCE_SUBSELECT));
+            filterLocalCheck.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_LOCAL_FILTER));
             useBrowserCheckbox.setSelection(store.getBoolean(ResultSetPreferences.RESULT_IMAGE_USE_BROWSER_BASED_RENDERER));
 
             keepStatementOpenCheck.setSelection(store.getBoolean(ResultSetPreferences.KEEP_STATEMENT_OPEN));
@@ -270,6 +301,9 @@ public class PrefPageResultSetMain extends TargetPrefPage
             useNavigatorFilters.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS));
 
             advUseFetchSize.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_USE_FETCH_SIZE));
+            advColumnarStorage.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE));
+            advSpillMemoryLimit.setText(store.getString(ResultSetPreferences.RESULT_SET_SPILL_MEMORY_LIMIT));
+            advSpillMemoryLimit.setEnabled(advColumnarStorage.getSelection());
             ignoreColumnLabelCheck.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL));
 
             if (confirmDataSave != null) {
@@ -289,6 +323,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
         try {
             store.setValue(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR, useDateTimeEditor.getSelection());
             store.setValue(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT, autoFetchNextSegmentCheck.getSelection());
+            store.setValue(ResultSetPreferences.RESULT_SET_READ_AHEAD_THRESHOLD, Math.min(CommonUtils.toInt(readAheadThresholdText.getText()), 100));
+            store.setValue(ResultSetPreferences.RESULT_SET_READ_AHEAD_MEMORY_LIMIT, CommonUtils.toInt(readAheadMemoryLimitText.getText()));
             store.setValue(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING, rereadOnScrollingCheck.getSelection());
             store.setValue(ModelPreferences.RESULT_SET_MAX_ROWS, resultSetSize.getText());
             store.setValue(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL, resultSetUseSQLCheck.getSelection());
@@ -296,6 +332,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
             store.setValue(ResultSetPreferences.RESULT_SET_ORDERING_MODE, ResultSetUtils.OrderingMode.values()[orderingModeCombo.getSelectionIndex()].toString());
             store.setValue(ResultSetPreferences.RESULT_SET_CANCEL_TIMEOUT, queryCancelTimeout.getText());
             store.setValue(ModelPreferences.SQL_FILTER_FORCE_SUBSELECT, filterForceSubselect.getSelection());
+            store.setValue(ResultSetPreferences.RESULT_SET_LOCAL_FILTER, filterLocalCheck.getSelection());
             store.setValue(ResultSetPreferences.RESULT_IMAGE_USE_BROWSER_BASED_RENDERER, useBrowserCheckbox.getSelection());
 
             store.setValue(ResultSetPreferences.KEEP_STATEMENT_OPEN, keepStatementOpenCheck.getSelection());
@@ -306,6 +343,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
             store.setValue(ResultSetPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS, useNavigatorFilters.getSelection());
 
             store.setValue(ModelPreferences.RESULT_SET_USE_FETCH_SIZE, advUseFetchSize.getSelection());
+            store.setValue(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE, advColumnarStorage.getSelection());
+            store.setValue(ResultSetPreferences.RESULT_SET_SPILL_MEMORY_LIMIT, CommonUtils.toInt(advSpillMemoryLimit.getText()));
             store.setValue(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL, ignoreColumnLabelCheck.getSelection());
 
             if (confirmDataSave != null) {
@@ -324,6 +363,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
         store.setToDefault(ResultSetPreferences.RESULT_IMAGE_USE_BROWSER_BASED_RENDERER);
         store.setToDefault(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR);
         store.setToDefault(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_READ_AHEAD_THRESHOLD);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_READ_AHEAD_MEMORY_LIMIT);
         store.setToDefault(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING);
         store.setToDefault(ModelPreferences.RESULT_SET_MAX_ROWS);
         store.setToDefault(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL);
@@ -331,6 +372,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
         store.setToDefault(ResultSetPreferences.RESULT_SET_ORDERING_MODE);
         store.setToDefault(ResultSetPreferences.RESULT_SET_CANCEL_TIMEOUT);
         store.setToDefault(ModelPreferences.SQL_FILTER_FORCE_SUBSELECT);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_LOCAL_FILTER);
 
         store.setToDefault(ResultSetPreferences.KEEP_STATEMENT_OPEN);
         store.setToDefault(ResultSetPreferences.RS_EDIT_USE_ALL_COLUMNS);
@@ -340,6 +382,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
         store.setToDefault(ResultSetPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS);
 
         store.setToDefault(ModelPreferences.RESULT_SET_USE_FETCH_SIZE);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_SPILL_MEMORY_LIMIT);
         store.setToDefault(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL);
 
         store.setToDefault(ResultSetPreferences.RESULT_SET_CONFIRM_BEFORE_SAVE);
@@ -353,6 +397,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
     protected void performDefaults() {
         DBPPreferenceStore store = DBWorkbench.getPlatform().getPreferenceStore();
         autoFetchNextSegmentCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT));
+        readAheadThresholdText.setText(String.valueOf(store.getDefaultInt(ResultSetPreferences.RESULT_SET_READ_AHEAD_THRESHOLD)));
+        readAheadMemoryLimitText.setText(String.valueOf(store.getDefaultInt(ResultSetPreferences.RESULT_SET_READ_AHEAD_MEMORY_LIMIT)));
         rereadOnScrollingCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING));
         resultSetSize.setText(String.valueOf(store.getDefaultInt(ModelPreferences.RESULT_SET_MAX_ROWS)));
         resultSetUseSQLCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL));
@@ -360,6 +406,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
         orderingModeCombo.select(ResultSetUtils.OrderingMode.SMART.ordinal());
         queryCancelTimeout.setText(String.valueOf(store.getDefaultInt(ResultSetPreferences.RESULT_SET_CANCEL_TIMEOUT)));
         filterForceSubselect.setSelection(store.getDefaultBoolean(ModelPreferences.SQL_FILTER_FORCE_SUBSELECT));
+        filterLocalCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_LOCAL_FILTER));
         keepStatementOpenCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.KEEP_STATEMENT_OPEN));
         alwaysUseAllColumns.setSelection(store.getDefaultBoolean(ResultSetPreferences.RS_EDIT_USE_ALL_COLUMNS));
         disableEditingOnMissingKey.setSelection(store.getDefaultBoolean(ResultSetPreferences.RS_EDIT_DISABLE_IF_KEY_MISSING));
@@ -372,6 +419,9 @@ public class PrefPageResultSetMain extends TargetPrefPage
         showErrorsInDialog.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_SHOW_ERRORS_IN_DIALOG));
         markCellValueOccurrences.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_MARK_CELL_VALUE_OCCURRENCES));
         advUseFetchSize.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_USE_FETCH_SIZE));
+        advColumnarStorage.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_COLUMNAR_STORAGE));
+        advSpillMemoryLimit.setText(String.valueOf(store.getDefaultInt(ResultSetPreferences.RESULT_SET_SPILL_MEMORY_LIMIT)));
+        advSpillMemoryLimit.setEnabled(advColumnarStorage.getSelection());
         ignoreColumnLabelCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL));
         useDateTimeEditor.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR));
         useBrowserCheckbox.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_IMAGE_USE_BROWSER_BASED_RENDERER));
@@ -0,0 +1,225 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.duckdb.model;
+
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.ext.generic.model.GenericTableBase;
+import org.jkiss.dbeaver.ext.generic.model.GenericTableColumn;
+import org.jkiss.dbeaver.model.exec.DBCExecutionSource;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.impl.data.DefaultValueHandler;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Appender loader test against a fake DuckDB connection.
+ * Fake appender stores values the same way as DuckDB appender does: local date time appended to TIMESTAMPTZ is UTC.
+ */
+public class DuckDBAppenderLoaderTest extends DBeaverUnitTest {
+
+    private static final Instant TIMESTAMP_INSTANT = Instant.parse("2024-03-10T07:30:00.123456Z");
+    private static final LocalDateTime LOCAL_TIMESTAMP = LocalDateTime.parse("2024-03-10T01:30:00.123456");
+
+    @Test
+    public void testTimestampWithTimeZoneRoundTrip() throws Exception {
+        FakeAppender appender = new OffsetDateTimeAppender();
+        Timestamp timestamp = Timestamp.from(TIMESTAMP_INSTANT);
+        Object[][] rows = {{1L, timestamp, LOCAL_TIMESTAMP}, {2L, null, null}};
+        loadInTimeZone(appender, rows);
+
+        Assert.assertEquals(2, appender.rows.size());
+        Assert.assertEquals(1L, appender.rows.get(0).get(0));
+        Assert.assertTrue(appender.rows.get(0).get(1) instanceof OffsetDateTime);
+        Assert.assertEquals(TIMESTAMP_INSTANT, appender.readInstant(0, 1));
+        Assert.assertEquals(LOCAL_TIMESTAMP, appender.rows.get(0).get(2));
+        Assert.assertNull(appender.rows.get(1).get(1));
+        Assert.assertNull(appender.rows.get(1).get(2));
+    }
+
+    @Test
+    public void testTimestampWithTimeZoneAsString() throws Exception {
+        // Older drivers can't append OffsetDateTime
+        FakeAppender appender = new FakeAppender();
+        Object[][] rows = {
+            {1L, Timestamp.from(TIMESTAMP_INSTANT), null},
+            {2L, TIMESTAMP_INSTANT.atZone(ZoneId.of("America/New_York")), null},
+            {3L, TIMESTAMP_INSTANT.atOffset(ZoneOffset.ofHours(5)), null},
+        };
+        loadInTimeZone(appender, rows);
+
+        Assert.assertEquals(3, appender.rows.size());
+        for (int i = 0; i < rows.length; i++) {
+            Assert.assertTrue(appender.rows.get(i).get(1) instanceof String);
+            Assert.assertEquals(TIMESTAMP_INSTANT, appender.readInstant(i, 1));
+        }
+    }
+
+    @Test
+    public void testToOffsetDateTime() {
+        OffsetDateTime expected = TIMESTAMP_INSTANT.atOffset(ZoneOffset.UTC);
+        Assert.assertEquals(expected, DuckDBAppenderLoader.toOffsetDateTime(Timestamp.from(TIMESTAMP_INSTANT)));
+        Assert.assertEquals(expected, DuckDBAppenderLoader.toOffsetDateTime(TIMESTAMP_INSTANT));
+        Assert.assertEquals(expected, DuckDBAppenderLoader.toOffsetDateTime(TIMESTAMP_INSTANT.atZone(ZoneId.of("Europe/Berlin"))));
+        Assert.assertEquals(expected, DuckDBAppenderLoader.toOffsetDateTime(TIMESTAMP_INSTANT.atOffset(ZoneOffset.ofHours(-3))));
+        Assert.assertNull(DuckDBAppenderLoader.toOffsetDateTime(LocalDateTime.ofInstant(TIMESTAMP_INSTANT, ZoneOffset.UTC)));
+        Assert.assertNull(DuckDBAppenderLoader.toOffsetDateTime(java.sql.Date.valueOf("2024-03-10")));
+        Assert.assertNull(DuckDBAppenderLoader.toOffsetDateTime("2024-03-10 07:30:00"));
+    }
+
+    @Test
+    public void testIsTimestampWithTimeZone() {
+        Assert.assertTrue(DuckDBAppenderLoader.isTimestampWithTimeZone(createColumn("TIMESTAMPTZ", Types.TIMESTAMP)));
+        Assert.assertTrue(DuckDBAppenderLoader.isTimestampWithTimeZone(createColumn("timestamp with time zone", Types.OTHER)));
+        Assert.assertTrue(DuckDBAppenderLoader.isTimestampWithTimeZone(createColumn("TIMESTAMP_TZ", Types.TIMESTAMP_WITH_TIMEZONE)));
+        Assert.assertFalse(DuckDBAppenderLoader.isTimestampWithTimeZone(createColumn("TIMESTAMP", Types.TIMESTAMP)));
+        Assert.assertFalse(DuckDBAppenderLoader.isTimestampWithTimeZone(createColumn(null, Types.OTHER)));
+    }
+
+    private void loadInTimeZone(FakeAppender appender, Object[][] rows) throws DBException {
+        // Local time zone must not affect loaded instants
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+        try {
+            loadRows(appender, rows);
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    private void loadRows(FakeAppender appender, Object[][] rows) throws DBException {
+        GenericTableColumn[] columns = {
+            createColumn("BIGINT", Types.BIGINT),
+            createColumn("TIMESTAMPTZ", Types.TIMESTAMP_WITH_TIMEZONE),
+            createColumn("TIMESTAMP", Types.TIMESTAMP),
+        };
+        GenericTableBase table = Mockito.mock(GenericTableBase.class);
+        Mockito.when(table.getName()).thenReturn("test_table");
+        Mockito.doReturn(List.of(columns)).when(table).getAttributes(any());
+
+        FakeConnection connection = Mockito.mock(
+            FakeConnection.class,
+            Mockito.withSettings().useConstructor(appender).defaultAnswer(Mockito.CALLS_REAL_METHODS));
+        JDBCSession session = Mockito.mock(JDBCSession.class);
+        Mockito.when(session.getProgressMonitor()).thenReturn(new VoidProgressMonitor());
+        Mockito.when(session.getDefaultValueHandler()).thenReturn(DefaultValueHandler.INSTANCE);
+        Mockito.when(session.getOriginal()).thenReturn(connection);
+
+        try (DuckDBAppenderLoader loader = new DuckDBAppenderLoader(Mockito.mock(DuckDBDataSource.class))) {
+            loader.createBulkLoad(session, table, columns, Mockito.mock(DBCExecutionSource.class), 100, null);
+            for (Object[] row : rows) {
+                loader.addRow(session, row);
+            }
+            loader.finishBulkLoad(session);
+        }
+        Assert.assertTrue(appender.flushed);
+        Assert.assertTrue(appender.closed);
+    }
+
+    private static GenericTableColumn createColumn(String typeName, int typeId) {
+        GenericTableColumn column = Mockito.mock(GenericTableColumn.class);
+        Mockito.when(column.getTypeName()).thenReturn(typeName);
+        Mockito.when(column.getTypeID()).thenReturn(typeId);
+        return column;
+    }
+
+    public abstract static class FakeConnection implements Connection {
+        private final FakeAppender appender;
+
+        public FakeConnection(FakeAppender appender) {
+            this.appender = appender;
+        }
+
+        public FakeAppender createAppender(String schemaName, String tableName) {
+            return appender;
+        }
+    }
+
+    public static class FakeAppender implements AutoCloseable {
+        private static final DateTimeFormatter TIMESTAMP_TZ_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSSSSSxxx");
+
+        final List<List<Object>> rows = new ArrayList<>();
+        List<Object> row;
+        boolean flushed;
+        boolean closed;
+
+        public void beginRow() {
+            row = new ArrayList<>();
+        }
+
+        public void endRow() {
+            rows.add(row);
+            row = null;
+        }
+
+        public void appendNull() {
+            row.add(null);
+        }
+
+        public void append(long value) {
+            row.add(value);
+        }
+
+        public void append(String value) {
+            row.add(value);
+        }
+
+        public void append(LocalDateTime value) {
+            row.add(value);
+        }
+
+        public void flush() {
+            flushed = true;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        Instant readInstant(int rowIndex, int columnIndex) {
+            Object value = rows.get(rowIndex).get(columnIndex);
+            if (value instanceof OffsetDateTime odt) {
+                return odt.toInstant();
+            } else if (value instanceof String str) {
+                return OffsetDateTime.parse(str, TIMESTAMP_TZ_FORMAT).toInstant();
+            } else if (value instanceof LocalDateTime ldt) {
+                return ldt.toInstant(ZoneOffset.UTC);
+            }
+            throw new IllegalStateException("Not a timestamp: " + value);
+        }
+    }
+
+    public static class OffsetDateTimeAppender extends FakeAppender {
+        public void append(OffsetDateTime value) {
+            row.add(value);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.postgresql.model;
+
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class PostgreCopyBinaryEncoderTest extends DBeaverUnitTest {
+
+    @Test
+    public void writeNumeric_whenFraction_thenBase10000Digits() throws Exception {
+        // 12345.678 = 1 * 10000^1 + 2345 * 10000^0 + 6780 * 10000^-1
+        ByteBuffer buffer = encode(PostgreOid.NUMERIC, new BigDecimal("12345.678"));
+        Assert.assertEquals(8 + 3 * 2, buffer.getInt());
+        Assert.assertEquals(3, buffer.getShort());
+        Assert.assertEquals(1, buffer.getShort());
+        Assert.assertEquals(0, buffer.getShort());
+        Assert.assertEquals(3, buffer.getShort());
+        Assert.assertEquals(1, buffer.getShort());
+        Assert.assertEquals(2345, buffer.getShort());
+        Assert.assertEquals(6780, buffer.getShort());
+    }
+
+    @Test
+    public void writeNumeric_whenSmallNegative_thenNegativeWeight() throws Exception {
+        ByteBuffer buffer = encode(PostgreOid.NUMERIC, new BigDecimal("-0.00001"));
+        Assert.assertEquals(8 + 2, buffer.getInt());
+        Assert.assertEquals(1, buffer.getShort());
+        Assert.assertEquals(-2, buffer.getShort());
+        Assert.assertEquals(0x4000, buffer.getShort());
+        Assert.assertEquals(5, buffer.getShort());
+        Assert.assertEquals(1000, buffer.getShort());
+    }
+
+    @Test
+    public void writeNumeric_whenZero_thenNoDigits() throws Exception {
+        ByteBuffer buffer = encode(PostgreOid.NUMERIC, new BigDecimal("0.00"));
+        Assert.assertEquals(8, buffer.getInt());
+        Assert.assertEquals(0, buffer.getShort());
+        Assert.assertEquals(0, buffer.getShort());
+        Assert.assertEquals(0, buffer.getShort());
+        Assert.assertEquals(2, buffer.getShort());
+    }
+
+    @Test
+    public void writeNumeric_whenSpecialValue_thenSignCode() throws Exception {
+        assertSpecialNumeric(0xC000, Double.NaN);
+        assertSpecialNumeric(0xC000, Float.NaN);
+        assertSpecialNumeric(0xD000, Double.POSITIVE_INFINITY);
+        assertSpecialNumeric(0xF000, Float.NEGATIVE_INFINITY);
+        assertSpecialNumeric(0xD000, "Infinity");
+        assertSpecialNumeric(0xF000, " -inf ");
+        assertSpecialNumeric(0xC000, "NaN");
+    }
+
+    @Test
+    public void writeValue_whenIntegerFits_thenNarrowed() throws Exception {
+        ByteBuffer buffer = encode(PostgreOid.INT2, -32768L);
+        Assert.assertEquals(2, buffer.getInt());
+        Assert.assertEquals(Short.MIN_VALUE, buffer.getShort());
+
+        buffer = encode(PostgreOid.INT4, new BigDecimal("2147483647.00"));
+        Assert.assertEquals(4, buffer.getInt());
+        Assert.assertEquals(Integer.MAX_VALUE, buffer.getInt());
+
+        buffer = encode(PostgreOid.INT8, "-9223372036854775808");
+        Assert.assertEquals(8, buffer.getInt());
+        Assert.assertEquals(Long.MIN_VALUE, buffer.getLong());
+    }
+
+    @Test
+    public void writeValue_whenIntegerDoesNotFit_thenError() {
+        Assert.assertThrows(DBCException.class, () -> encode(PostgreOid.INT2, 32768));
+        Assert.assertThrows(DBCException.class, () -> encode(PostgreOid.INT2, "-40000"));
+        Assert.assertThrows(DBCException.class, () -> encode(PostgreOid.INT4, 1L << 31));
+        Assert.assertThrows(DBCException.class, () -> encode(PostgreOid.INT8, new BigInteger("9223372036854775808")));
+        Assert.assertThrows(DBCException.class, () -> encode(PostgreOid.INT4, 1.5));
+        Assert.assertThrows(DBCException.class, () -> encode(PostgreOid.INT8, Double.NaN));
+    }
+
+    @Test
+    public void writeValue_whenTimestamp_thenMicrosSince2000() throws Exception {
+        ByteBuffer buffer = encode(PostgreOid.TIMESTAMP, LocalDateTime.of(2000, 1, 2, 0, 0, 1, 500_000));
+        Assert.assertEquals(8, buffer.getInt());
+        Assert.assertEquals(86_401_000_500L, buffer.getLong());
+
+        Assert.assertEquals(-1_000_000L, PostgreCopyBinaryEncoder.getTimestampMicros(Instant.parse("1999-12-31T23:59:59Z")));
+    }
+
+    @Test
+    public void writeValue_whenDate_thenDaysSince2000() throws Exception {
+        ByteBuffer buffer = encode(PostgreOid.DATE, LocalDate.of(1999, 12, 1));
+        Assert.assertEquals(4, buffer.getInt());
+        Assert.assertEquals(-31, buffer.getInt());
+    }
+
+    @Test
+    public void writeValue_whenNull_thenMinusOneLength() throws Exception {
+        ByteBuffer buffer = encode(PostgreOid.BYTEA, null);
+        Assert.assertEquals(-1, buffer.getInt());
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    private static void assertSpecialNumeric(int sign, Object value) throws Exception {
+        ByteBuffer buffer = encode(PostgreOid.NUMERIC, value);
+        Assert.assertEquals(8, buffer.getInt());
+        Assert.assertEquals(0, buffer.getShort());
+        Assert.assertEquals(0, buffer.getShort());
+        Assert.assertEquals(sign, buffer.getShort() & 0xFFFF);
+        Assert.assertEquals(0, buffer.getShort());
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    private static ByteBuffer encode(int typeId, Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            PostgreCopyBinaryEncoder.writeValue(out, typeId, value);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.sqlite.model;
+
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.DBCExecutionSource;
+import org.jkiss.dbeaver.model.exec.DBCStatementType;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
+import org.jkiss.dbeaver.model.impl.jdbc.JDBCExecutionContext;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLDialect;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+import org.jkiss.dbeaver.model.struct.DBSDataBulkLoader;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+
+/**
+ * Bulk loader test against a fake SQLite connection.
+ * Fake connection follows SQLite rules: journal mode isn't changed and synchronous pragma fails inside a transaction.
+ */
+public class SQLiteBulkLoaderTest extends DBeaverUnitTest {
+
+    private static final Map<String, Object> RELAXED_OPTIONS = Map.of(DBSDataBulkLoader.OPTION_RELAXED_DURABILITY, true);
+
+    private FakeDatabase database;
+    private JDBCSession session;
+    private DBSAttributeBase[] attributes;
+    private DBSDataContainer table;
+    private SQLiteBulkLoader loader;
+
+    @Before
+    public void setUp() throws Exception {
+        database = new FakeDatabase();
+
+        SQLDialect dialect = Mockito.mock(SQLDialect.class);
+        Mockito.when(dialect.getQuotedIdentifier(anyString(), anyBoolean(), anyBoolean())).thenAnswer(inv -> inv.getArgument(0));
+        SQLiteDataSource dataSource = Mockito.mock(SQLiteDataSource.class);
+        Mockito.when(dataSource.getSQLDialect()).thenReturn(dialect);
+
+        JDBCExecutionContext context = Mockito.mock(JDBCExecutionContext.class);
+        Mockito.when(context.isConnected()).thenReturn(true);
+        Mockito.when(context.isAutoCommit()).thenAnswer(inv -> database.autoCommit);
+        Mockito.doAnswer(inv -> {
+            database.setAutoCommit(inv.getArgument(1));
+            return null;
+        }).when(context).setAutoCommit(any(), anyBoolean());
+        Mockito.doAnswer(inv -> {
+            database.commit();
+            return null;
+        }).when(context).commit(any());
+        Mockito.doAnswer(inv -> {
+            database.rollback();
+            return null;
+        }).when(context).rollback(any(), any());
+
+        DBDValueHandler valueHandler = Mockito.mock(DBDValueHandler.class);
+        Mockito.doAnswer(inv -> {
+            database.bind(inv.getArgument(3), inv.getArgument(4));
+            return null;
+        }).when(valueHandler).bindValueObject(any(), any(), any(), anyInt(), any());
+
+        JDBCStatement insertStatement = Mockito.mock(JDBCStatement.class);
+        Mockito.doAnswer(inv -> {
+            database.addToBatch();
+            return null;
+        }).when(insertStatement).addToBatch();
+        Mockito.when(insertStatement.executeStatementBatch()).thenAnswer(inv -> database.executeBatch());
+
+        session = Mockito.mock(JDBCSession.class);
+        Mockito.when(session.getProgressMonitor()).thenReturn(new VoidProgressMonitor());
+        Mockito.when(session.getExecutionContext()).thenReturn(context);
+        Mockito.when(session.getDefaultValueHandler()).thenReturn(valueHandler);
+        Mockito.when(session.prepareStatement(any(DBCStatementType.class), anyString(), anyBoolean(), anyBoolean(), anyBoolean()))
+            .thenReturn(insertStatement);
+        Mockito.when(session.prepareStatement(anyString())).thenAnswer(inv -> createQuery(inv.getArgument(0)));
+        Mockito.when(session.createStatement()).thenAnswer(inv -> {
+            JDBCStatement statement = Mockito.mock(JDBCStatement.class);
+            Mockito.when(statement.execute(anyString())).thenAnswer(inv2 -> {
+                database.execute(inv2.getArgument(0));
+                return false;
+            });
+            return statement;
+        });
+
+        attributes = new DBSAttributeBase[] {createAttribute("id"), createAttribute("name")};
+        table = Mockito.mock(DBSDataContainer.class, Mockito.withSettings().extraInterfaces(DBSEntity.class));
+        Mockito.when(((DBSEntity) table).getFullyQualifiedName(DBPEvaluationContext.DML)).thenReturn("test_table");
+
+        loader = new SQLiteBulkLoader(dataSource);
+    }
+
+    @Test
+    public void testRowsAreCommitted() throws DBException {
+        loadRows(Map.of(), 3);
+
+        Assert.assertEquals(3, database.committedRows.size());
+        Assert.assertArrayEquals(new Object[] {2, "row 2"}, database.committedRows.get(2));
+        Assert.assertTrue(database.autoCommit);
+    }
+
+    @Test
+    public void testPragmasAreChangedOutsideOfTransaction() throws DBException {
+        loadRows(RELAXED_OPTIONS, 2);
+
+        Assert.assertEquals(2, database.committedRows.size());
+        Assert.assertEquals(List.of("delete", "memory", "delete"), database.journalModes);
+        Assert.assertEquals(List.of(2, 0, 2), database.synchronousModes);
+        Assert.assertEquals("delete", database.journalMode);
+        Assert.assertEquals(2, database.synchronous);
+        Assert.assertTrue(database.autoCommit);
+    }
+
+    @Test
+    public void testPragmasAreNotChangedInManualCommitMode() throws DBException {
+        database.autoCommit = false;
+        loadRows(RELAXED_OPTIONS, 2);
+
+        Assert.assertEquals(2, database.committedRows.size());
+        Assert.assertEquals(List.of("delete"), database.journalModes);
+        Assert.assertEquals(List.of(2), database.synchronousModes);
+        Assert.assertFalse(database.autoCommit);
+    }
+
+    @Test
+    public void testFailedLoadIsRolledBack() throws DBException {
+        loader.createBulkLoad(session, table, attributes, Mockito.mock(DBCExecutionSource.class), 100, RELAXED_OPTIONS);
+        loader.addRow(session, new Object[] {1, "row 1"});
+        loader.flushRows(session);
+        // Load fails before commit
+        loader.close();
+
+        Assert.assertTrue(database.committedRows.isEmpty());
+        Assert.assertEquals("delete", database.journalMode);
+        Assert.assertEquals(2, database.synchronous);
+        Assert.assertTrue(database.autoCommit);
+    }
+
+    @Test
+    public void testRestoreFailureDoesNotBreakLoad() throws DBException {
+        loader.createBulkLoad(session, table, attributes, Mockito.mock(DBCExecutionSource.class), 100, RELAXED_OPTIONS);
+        loader.addRow(session, new Object[] {1, "row 1"});
+        loader.finishBulkLoad(session);
+        database.failPragmas = true;
+        // Restore errors are logged
+        loader.close();
+
+        Assert.assertEquals(1, database.committedRows.size());
+        Assert.assertEquals("memory", database.journalMode);
+        Assert.assertTrue(database.autoCommit);
+    }
+
+    private void loadRows(Map<String, Object> options, int rowCount) throws DBException {
+        loader.createBulkLoad(session, table, attributes, Mockito.mock(DBCExecutionSource.class), 100, options);
+        try {
+            for (int i = 0; i < rowCount; i++) {
+                loader.addRow(session, new Object[] {i, "row " + i});
+            }
+            loader.finishBulkLoad(session);
+        } finally {
+            loader.close();
+        }
+    }
+
+    private JDBCPreparedStatement createQuery(String sql) throws SQLException {
+        String result = database.query(sql);
+        JDBCResultSet resultSet = Mockito.mock(JDBCResultSet.class);
+        Mockito.when(resultSet.next()).thenReturn(true, false);
+        Mockito.when(resultSet.getString(1)).thenReturn(result);
+        JDBCPreparedStatement statement = Mockito.mock(JDBCPreparedStatement.class);
+        Mockito.when(statement.executeQuery()).thenReturn(resultSet);
+        return statement;
+    }
+
+    private static DBSAttributeBase createAttribute(String name) {
+        DBSAttributeBase attribute = Mockito.mock(DBSAttributeBase.class);
+        Mockito.when(attribute.getName()).thenReturn(name);
+        return attribute;
+    }
+
+    private static class FakeDatabase {
+        private final List<Object[]> committedRows = new ArrayList<>();
+        private final List<Object[]> pendingRows = new ArrayList<>();
+        private final List<Object[]> batch = new ArrayList<>();
+        private final List<String> journalModes = new ArrayList<>();
+        private final List<Integer> synchronousModes = new ArrayList<>();
+        private Object[] currentRow = new Object[2];
+        private boolean autoCommit = true;
+        private boolean inTransaction;
+        private boolean failPragmas;
+        private String journalMode = "delete";
+        private int synchronous = 2;
+
+        FakeDatabase() {
+            journalModes.add(journalMode);
+            synchronousModes.add(synchronous);
+        }
+
+        void setAutoCommit(boolean autoCommit) {
+            if (autoCommit && !this.autoCommit) {
+                commit();
+            }
+            this.autoCommit = autoCommit;
+        }
+
+        void commit() {
+            committedRows.addAll(pendingRows);
+            pendingRows.clear();
+            inTransaction = false;
+        }
+
+        void rollback() {
+            pendingRows.clear();
+            inTransaction = false;
+        }
+
+        void bind(int index, Object value) {
+            currentRow[index] = value;
+        }
+
+        void addToBatch() {
+            batch.add(currentRow);
+            currentRow = new Object[2];
+        }
+
+        long[] executeBatch() {
+            long[] result = new long[batch.size()];
+            pendingRows.addAll(batch);
+            batch.clear();
+            if (autoCommit) {
+                commit();
+            } else {
+                inTransaction = true;
+            }
+            return result;
+        }
+
+        String query(String sql) throws SQLException {
+            checkPragma();
+            if (sql.equals("PRAGMA journal_mode")) {
+                return journalMode;
+            } else if (sql.equals("PRAGMA synchronous")) {
+                return String.valueOf(synchronous);
+            } else if (sql.startsWith("PRAGMA journal_mode = ")) {
+                // Journal mode can't be changed inside a transaction, current mode is returned
+                if (!inTransaction) {
+                    journalMode = sql.substring("PRAGMA journal_mode = ".length()).toLowerCase();
+                    journalModes.add(journalMode);
+                }
+                return journalMode;
+            }
+            throw new SQLException("Unexpected query: " + sql);
+        }
+
+        void execute(String sql) throws SQLException {
+            checkPragma();
+            if (!sql.startsWith("PRAGMA synchronous = ")) {
+                throw new SQLException("Unexpected statement: " + sql);
+            }
+            if (inTransaction) {
+                throw new SQLException("Safety level may not be changed inside a transaction");
+            }
+            synchronous = Integer.parseInt(sql.substring("PRAGMA synchronous = ".length()).replace("OFF", "0"));
+            synchronousModes.add(synchronous);
+        }
+
+        private void checkPragma() throws SQLException {
+            if (failPragmas) {
+                throw new SQLException("database is locked");
+            }
+        }
+    }
+}
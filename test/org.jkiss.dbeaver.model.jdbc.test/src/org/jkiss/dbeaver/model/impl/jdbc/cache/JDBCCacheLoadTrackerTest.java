@@ -0,0 +1,194 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.cache;
+
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JDBCCacheLoadTrackerTest extends DBeaverUnitTest {
+
+    private static final long TIMEOUT_SEC = 10;
+
+    private final DBRProgressMonitor monitor = new VoidProgressMonitor();
+    private final JDBCCacheLoadTracker<Object> tracker = new JDBCCacheLoadTracker<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @Test
+    public void runOrJoin_whenSameKeyRequestedConcurrently_thenOneLoad() throws Exception {
+        Object key = new Object();
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<Boolean> first = executor.submit(() -> tracker.runOrJoin(monitor, key, () -> {
+                loadCount.incrementAndGet();
+                started.countDown();
+                await(release);
+            }));
+            Assert.assertTrue(started.await(TIMEOUT_SEC, TimeUnit.SECONDS));
+
+            List<Future<Boolean>> others = new ArrayList<>();
+            List<Thread> waiters = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                others.add(executor.submit(() -> {
+                    waiters.add(Thread.currentThread());
+                    return tracker.runOrJoin(monitor, key, loadCount::incrementAndGet);
+                }));
+            }
+            // Load of another key is not blocked
+            Assert.assertTrue(tracker.runOrJoin(monitor, new Object(), () -> {}));
+            awaitWaiting(waiters, others.size());
+
+            release.countDown();
+            Assert.assertTrue(first.get(TIMEOUT_SEC, TimeUnit.SECONDS));
+            for (Future<Boolean> other : others) {
+                // Joined requests check the cache themselves
+                Assert.assertFalse(other.get(TIMEOUT_SEC, TimeUnit.SECONDS));
+            }
+            Assert.assertEquals(1, loadCount.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void join_whenContainerLoadInProgress_thenWaitsForIt() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Assert.assertFalse("Nothing to wait for", tracker.join(monitor, null));
+
+            Future<Boolean> containerLoad = executor.submit(() -> tracker.runOrJoin(monitor, null, () -> {
+                started.countDown();
+                await(release);
+                loadCount.incrementAndGet();
+            }));
+            Assert.assertTrue(started.await(TIMEOUT_SEC, TimeUnit.SECONDS));
+
+            // Per-parent request waits for the whole container load and sees its result
+            List<Thread> waiters = new CopyOnWriteArrayList<>();
+            Future<Integer> parentRequest = executor.submit(() -> {
+                waiters.add(Thread.currentThread());
+                Assert.assertTrue(tracker.join(monitor, null));
+                return loadCount.get();
+            });
+            awaitWaiting(waiters, 1);
+            Assert.assertFalse(parentRequest.isDone());
+
+            release.countDown();
+            Assert.assertTrue(containerLoad.get(TIMEOUT_SEC, TimeUnit.SECONDS));
+            Assert.assertEquals(1, parentRequest.get(TIMEOUT_SEC, TimeUnit.SECONDS).intValue());
+            Assert.assertFalse(tracker.join(monitor, null));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void runOrJoin_whenNestedInSameThread_thenLoadsDirectly() throws Exception {
+        Object key = new Object();
+        AtomicInteger loadCount = new AtomicInteger();
+        boolean[] nestedResult = new boolean[2];
+        Assert.assertTrue(tracker.runOrJoin(monitor, key, () -> {
+            loadCount.incrementAndGet();
+            nestedResult[0] = tracker.runOrJoin(monitor, key, loadCount::incrementAndGet);
+            // Thread doesn't wait for its own load
+            nestedResult[1] = tracker.join(monitor, key);
+        }));
+        Assert.assertTrue(nestedResult[0]);
+        Assert.assertFalse(nestedResult[1]);
+        Assert.assertEquals(2, loadCount.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void runOrJoin_whenLoaderFails_thenNextRequestRetries() throws Exception {
+        Object key = new Object();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<Boolean> failedLoad = executor.submit(() -> tracker.runOrJoin(monitor, key, () -> {
+                started.countDown();
+                await(release);
+                throw new DBException("Test failure");
+            }));
+            Assert.assertTrue(started.await(TIMEOUT_SEC, TimeUnit.SECONDS));
+
+            AtomicInteger retryCount = new AtomicInteger();
+            List<Thread> waiters = new CopyOnWriteArrayList<>();
+            Future<boolean[]> waiter = executor.submit(() -> {
+                waiters.add(Thread.currentThread());
+                boolean joined = !tracker.runOrJoin(monitor, key, retryCount::incrementAndGet);
+                // Failed load leaves nothing in cache, so the waiter requests it again like cache callers do
+                boolean retried = tracker.runOrJoin(monitor, key, retryCount::incrementAndGet);
+                return new boolean[]{joined, retried};
+            });
+            awaitWaiting(waiters, 1);
+
+            release.countDown();
+            try {
+                failedLoad.get(TIMEOUT_SEC, TimeUnit.SECONDS);
+                Assert.fail("Loader error must be propagated");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof DBException);
+            }
+            boolean[] waiterResult = waiter.get(TIMEOUT_SEC, TimeUnit.SECONDS);
+            Assert.assertTrue(waiterResult[0]);
+            Assert.assertTrue(waiterResult[1]);
+            Assert.assertEquals(1, retryCount.get());
+            Assert.assertFalse("Failed load must not stay registered", tracker.join(monitor, key));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) throws DBException {
+        try {
+            if (!latch.await(TIMEOUT_SEC, TimeUnit.SECONDS)) {
+                throw new DBException("Test timeout");
+            }
+        } catch (InterruptedException e) {
+            throw new DBException("Test interrupted", e);
+        }
+    }
+
+    /**
+     * Waits until all threads wait for another load
+     */
+    private static void awaitWaiting(List<Thread> threads, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_SEC * 1000;
+        while (threads.size() < count || !threads.stream().allMatch(t -> t.getState() == Thread.State.TIMED_WAITING)) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("Requests didn't start waiting");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
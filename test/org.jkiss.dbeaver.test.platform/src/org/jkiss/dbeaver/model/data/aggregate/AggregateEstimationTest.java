@@ -0,0 +1,83 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class AggregateEstimationTest extends DBeaverUnitTest {
+
+    private static final int VALUE_COUNT = 1_000_000;
+
+    @Test
+    public void testExactBelowLimit() {
+        FunctionMedian median = new FunctionMedian();
+        FunctionCountDistinct distinct = new FunctionCountDistinct();
+        FunctionMode mode = new FunctionMode();
+        for (int value : new int[]{5, 1, 4, 4, 2, 3}) {
+            median.accumulate(value, false);
+            distinct.accumulate(value, false);
+            mode.accumulate(value, false);
+        }
+        Assert.assertEquals(3.5, median.getResult(6));
+        Assert.assertEquals(5, distinct.getResult(6));
+        Assert.assertEquals(4, mode.getResult(6));
+    }
+
+    @Test
+    public void testMedianEstimation() {
+        Random random = new Random(1);
+        FunctionMedian median = new FunctionMedian();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            median.accumulate(random.nextGaussian() * 100 + 1000, false);
+        }
+        Assert.assertEquals(1000.0, (Double) median.getResult(VALUE_COUNT), 1.0);
+    }
+
+    @Test
+    public void testCountDistinctEstimation() {
+        FunctionCountDistinct distinct = new FunctionCountDistinct();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            distinct.accumulate("value " + (i % 500_000), false);
+        }
+        long result = ((Number) distinct.getResult(VALUE_COUNT)).longValue();
+        Assert.assertEquals(500_000, result, 500_000 * 0.03);
+    }
+
+    @Test
+    public void testModeEstimation() {
+        FunctionMode mode = new FunctionMode();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            // Every tenth value is the same, others are unique
+            mode.accumulate(i % 10 == 0 ? "frequent" : "value " + i, false);
+        }
+        Assert.assertEquals("frequent", mode.getResult(VALUE_COUNT));
+    }
+
+    @Test
+    public void testCompensatedSum() {
+        FunctionSum sum = new FunctionSum();
+        sum.accumulate(1e16, false);
+        for (int i = 0; i < 1000; i++) {
+            sum.accumulate(1.0, false);
+        }
+        Assert.assertEquals(1e16 + 1000, (Double) sum.getResult(1001), 0.0);
+    }
+}
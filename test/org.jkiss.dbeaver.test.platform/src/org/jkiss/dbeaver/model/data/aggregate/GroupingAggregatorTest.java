@@ -0,0 +1,137 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+public class GroupingAggregatorTest extends DBeaverUnitTest {
+
+    @Test
+    public void testGroupBy() {
+        Object[][] columns = {
+            {"a", "b", "a", null, "b", "a"},
+            {1, 2, 3, 4, null, 5},
+        };
+        GroupingAggregator aggregator = new GroupingAggregator(
+            new int[]{0},
+            List.of(
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.COUNT, -1),
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.COUNT, 1),
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.SUM, 1),
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.AVG, 1),
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.MIN, 1),
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.MAX, 1)),
+            0);
+        List<Object[]> groups = aggregator.aggregate(new VoidProgressMonitor(), columns, 6);
+        Assert.assertEquals(3, groups.size());
+        Assert.assertArrayEquals(new Object[]{"a", 3L, 3L, 9L, 3.0, 1, 5}, groups.get(0));
+        Assert.assertArrayEquals(new Object[]{"b", 2L, 1L, 2L, 2.0, 2, 2}, groups.get(1));
+        Assert.assertArrayEquals(new Object[]{null, 1L, 1L, 4L, 4.0, 4, 4}, groups.get(2));
+    }
+
+    @Test
+    public void testExactSums() {
+        int rowCount = 200_000;
+        Object[][] columns = new Object[4][rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            columns[0][i] = i % 2;
+            // Sum doesn't fit in double mantissa
+            columns[1][i] = Long.MAX_VALUE / rowCount - i;
+            columns[2][i] = new BigDecimal("0.10");
+            columns[3][i] = 0.1;
+        }
+        GroupingAggregator aggregator = new GroupingAggregator(
+            new int[]{0},
+            List.of(
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.SUM, 1),
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.SUM, 2),
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.AVG, 2),
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.SUM, 3)),
+            0);
+        List<Object[]> groups = aggregator.aggregate(new VoidProgressMonitor(), columns, rowCount);
+        Assert.assertEquals(2, groups.size());
+        long expectedSum = 0;
+        for (int i = 0; i < rowCount; i += 2) {
+            expectedSum += Long.MAX_VALUE / rowCount - i;
+        }
+        Object[] group = groups.get(0);
+        Assert.assertEquals(expectedSum, group[1]);
+        Assert.assertEquals(new BigDecimal("10000.00"), group[2]);
+        Assert.assertEquals(0, new BigDecimal("0.1").compareTo((BigDecimal) group[3]));
+        Assert.assertEquals(10000.0, (Double) group[4], 1e-6);
+
+        // Long overflow switches to decimal sum
+        Object[][] bigColumns = {{1, 1, 1}, {Long.MAX_VALUE, Long.MAX_VALUE, 1L}};
+        GroupingAggregator bigAggregator = new GroupingAggregator(
+            new int[]{0},
+            List.of(new GroupingAggregator.Aggregate(GroupingAggregator.Function.SUM, 1)),
+            0);
+        Assert.assertEquals(
+            BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1).add(BigInteger.ONE),
+            bigAggregator.aggregate(new VoidProgressMonitor(), bigColumns, 3).get(0)[1]);
+    }
+
+    @Test
+    public void testParallelChunks() {
+        int rowCount = 500_000;
+        Object[][] columns = new Object[2][rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            columns[0][i] = "g" + (i % 7);
+            columns[1][i] = i % 3 == 0 ? null : (long) i;
+        }
+        GroupingAggregator aggregator = new GroupingAggregator(
+            new int[]{0},
+            List.of(
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.COUNT, -1),
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.COUNT_DISTINCT, 1),
+                new GroupingAggregator.Aggregate(GroupingAggregator.Function.MAX, 1)),
+            0);
+        List<Object[]> groups = aggregator.aggregate(new VoidProgressMonitor(), columns, rowCount);
+        Assert.assertEquals(7, groups.size());
+        long totalRows = 0;
+        long totalDistinct = 0;
+        for (int i = 0; i < groups.size(); i++) {
+            Object[] group = groups.get(i);
+            Assert.assertEquals("g" + i, group[0]);
+            totalRows += (Long) group[1];
+            totalDistinct += (Long) group[2];
+        }
+        Assert.assertEquals(rowCount, totalRows);
+        Assert.assertEquals(rowCount - (rowCount + 2) / 3, totalDistinct);
+        Assert.assertEquals(499_999L, groups.get(499_999 % 7)[3]);
+    }
+
+    @Test
+    public void testMinGroupRows() {
+        Object[][] columns = {{1, 2, 1, 3, 1, 2}};
+        GroupingAggregator aggregator = new GroupingAggregator(
+            new int[]{0},
+            List.of(new GroupingAggregator.Aggregate(GroupingAggregator.Function.COUNT, -1)),
+            2);
+        List<Object[]> groups = aggregator.aggregate(new VoidProgressMonitor(), columns, 6);
+        Assert.assertEquals(2, groups.size());
+        Assert.assertArrayEquals(new Object[]{1, 3L}, groups.get(0));
+        Assert.assertArrayEquals(new Object[]{2, 2L}, groups.get(1));
+    }
+}
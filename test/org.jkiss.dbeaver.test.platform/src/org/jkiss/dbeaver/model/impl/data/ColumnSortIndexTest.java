@@ -0,0 +1,113 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCLogicalOperator;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+public class ColumnSortIndexTest extends DBeaverUnitTest {
+
+    @Test
+    public void testMultiColumnSort() {
+        Object[] groups = {"b", "a", "b", null, "a", "b"};
+        Object[] amounts = {3, 1, 1, 2, 1, 2};
+        ColumnSortIndex groupIndex = ColumnSortIndex.build(groups, DBUtils::compareDataValues);
+        ColumnSortIndex amountIndex = ColumnSortIndex.build(amounts, DBUtils::compareDataValues);
+        Assert.assertEquals(3, groupIndex.getRankCount());
+
+        // Equal values keep original order
+        Assert.assertArrayEquals(new int[]{1, 4, 0, 2, 5, 3},
+            ColumnSortIndex.sortRows(6, new ColumnSortIndex[]{groupIndex}, new boolean[]{false}));
+        Assert.assertArrayEquals(new int[]{1, 4, 2, 5, 0, 3},
+            ColumnSortIndex.sortRows(6, new ColumnSortIndex[]{groupIndex, amountIndex}, new boolean[]{false, false}));
+        Assert.assertArrayEquals(new int[]{3, 0, 5, 2, 1, 4},
+            ColumnSortIndex.sortRows(6, new ColumnSortIndex[]{groupIndex, amountIndex}, new boolean[]{true, true}));
+        Assert.assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5},
+            ColumnSortIndex.sortRows(6, new ColumnSortIndex[0], new boolean[0]));
+    }
+
+    @Test
+    public void testSortMatchesComparator() {
+        Random random = new Random(7);
+        int rowCount = 100_000;
+        Object[] values = new Object[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            values[i] = random.nextInt(10) == 0 ? null : random.nextInt(1000);
+        }
+        ColumnSortIndex index = ColumnSortIndex.build(values, DBUtils::compareDataValues);
+        int[] sorted = ColumnSortIndex.sortRows(rowCount, new ColumnSortIndex[]{index}, new boolean[]{false});
+
+        Integer[] expected = new Integer[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            expected[i] = i;
+        }
+        Arrays.sort(expected, (pos1, pos2) -> DBUtils.compareDataValues(values[pos1], values[pos2]));
+        for (int i = 0; i < rowCount; i++) {
+            Assert.assertEquals(expected[i].intValue(), sorted[i]);
+        }
+    }
+
+    @Test
+    public void testSelect() {
+        Object[] values = {5, null, 1, 7, 5, 3};
+        ColumnSortIndex index = ColumnSortIndex.build(values, DBUtils::compareDataValues);
+        for (DBCLogicalOperator operator : List.of(
+            DBCLogicalOperator.EQUALS,
+            DBCLogicalOperator.NOT_EQUALS,
+            DBCLogicalOperator.GREATER,
+            DBCLogicalOperator.GREATER_EQUALS,
+            DBCLogicalOperator.LESS,
+            DBCLogicalOperator.LESS_EQUALS))
+        {
+            for (Object value : List.of(0, 3, 5, 8)) {
+                BitSet expected = new BitSet();
+                for (int i = 0; i < values.length; i++) {
+                    // NULL doesn't match any comparison
+                    if (values[i] != null && operator.evaluate(values[i], new Object[]{value})) {
+                        expected.set(i);
+                    }
+                }
+                Assert.assertEquals(operator + " " + value, expected, index.select(operator, value));
+            }
+        }
+        Assert.assertNull(index.select(DBCLogicalOperator.IS_NULL, null));
+        Assert.assertNull(index.select(DBCLogicalOperator.LIKE, "5%"));
+    }
+
+    @Test
+    public void testSelectExcludesNulls() {
+        Object[] values = {null, 2, null, 4, 6, null};
+        // Nulls last
+        ColumnSortIndex index = ColumnSortIndex.build(values, DBUtils::compareDataValues);
+        // Nulls first
+        ColumnSortIndex nullsFirstIndex = ColumnSortIndex.build(values, Comparator.nullsFirst((o1, o2) -> DBUtils.compareDataValues(o1, o2)));
+        for (ColumnSortIndex idx : List.of(index, nullsFirstIndex)) {
+            Assert.assertEquals(BitSet.valueOf(new long[]{0b11000}), idx.select(DBCLogicalOperator.GREATER, 2));
+            Assert.assertEquals(BitSet.valueOf(new long[]{0b11010}), idx.select(DBCLogicalOperator.GREATER_EQUALS, 2));
+            Assert.assertEquals(BitSet.valueOf(new long[]{0b01010}), idx.select(DBCLogicalOperator.LESS, 6));
+            Assert.assertEquals(BitSet.valueOf(new long[]{0b11010}), idx.select(DBCLogicalOperator.LESS_EQUALS, 6));
+            Assert.assertEquals(BitSet.valueOf(new long[]{0b10010}), idx.select(DBCLogicalOperator.NOT_EQUALS, 4));
+            Assert.assertEquals(BitSet.valueOf(new long[]{0b01000}), idx.select(DBCLogicalOperator.EQUALS, 4));
+            Assert.assertTrue(idx.select(DBCLogicalOperator.GREATER, 10).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.dbeaver.model.data.DBDValue;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ColumnarValueStoreTest extends DBeaverUnitTest {
+
+    private static final String[] STATUSES = {"NEW", "PAID", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+    @Test
+    public void testRoundTrip() {
+        Timestamp timestamp = Timestamp.valueOf("2024-02-29 13:45:10.123456789");
+        List<Object[]> rows = List.of(
+            new Object[]{null, null, null, null, null, null, null, null},
+            new Object[]{1, 10L, 1.5, new BigDecimal("12.30"), true, "a", timestamp, (short) 7},
+            new Object[]{null, Long.MIN_VALUE, Double.NaN, new BigDecimal("-0.001"), false, null, null, null},
+            // Values which don't fit specialized columns
+            new Object[]{"x", 5, 2.5f, new BigDecimal(BigInteger.TEN.pow(30)), "true", 3, new java.util.Date(0), 8}
+        );
+        ColumnarValueStore store = new ColumnarValueStore(8);
+        for (Object[] row : rows) {
+            store.addRow(row.clone());
+        }
+        Assert.assertEquals(rows.size(), store.getRowCount());
+        for (int i = 0; i < rows.size(); i++) {
+            Assert.assertArrayEquals(rows.get(i), store.getRowValues(i));
+            for (int k = 0; k < 8; k++) {
+                Object value = store.getValue(i, k);
+                Assert.assertEquals(rows.get(i)[k] == null ? null : rows.get(i)[k].getClass(), value == null ? null : value.getClass());
+            }
+        }
+        Assert.assertEquals(timestamp.getNanos(), ((Timestamp) store.getValue(1, 6)).getNanos());
+        Assert.assertEquals(2, ((BigDecimal) store.getValue(1, 3)).scale());
+    }
+
+    @Test
+    public void testReleaseRow() {
+        DBDValue value = Mockito.mock(DBDValue.class);
+        ColumnarValueStore store = new ColumnarValueStore(2);
+        store.addRow(new Object[]{1, value});
+        store.releaseRow(0);
+        Mockito.verify(value).release();
+        Assert.assertNull(store.getValue(0, 1));
+        Assert.assertEquals(1, store.getValue(0, 0));
+    }
+
+    @Test
+    public void testSpill() throws IOException {
+        Path file = Files.createTempFile("dbeaver-test", ".tmp");
+        ColumnarValueSpill spill = new ColumnarValueSpill(file, 100_000);
+        DBDValue value = Mockito.mock(DBDValue.class);
+        List<ColumnarValueStore> stores = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ColumnarValueStore store = new ColumnarValueStore(4);
+            for (int row = 0; row < 1000; row++) {
+                int id = i * 1000 + row;
+                store.addRow(new Object[]{id, "value " + id, BigDecimal.valueOf(id, 2), i == 0 ? value : null});
+            }
+            spill.register(store);
+            stores.add(store);
+        }
+        Assert.assertTrue(spill.getFileSize() > 0);
+        Assert.assertFalse(stores.get(1).isResident());
+        Assert.assertTrue(stores.get(4).isResident());
+        // Columns with values which can't be serialized stay in memory
+        Assert.assertSame(value, stores.get(0).getValue(10, 3));
+
+        // Only accessed column of spilled store is loaded back
+        Assert.assertEquals("value 1500", stores.get(1).getValue(500, 1));
+        Assert.assertTrue(stores.get(1).isColumnResident(1));
+        Assert.assertFalse(stores.get(1).isColumnResident(0));
+        Assert.assertFalse(stores.get(1).isResident());
+        Assert.assertEquals(1, spill.getMappedSegmentCount());
+        for (int i = 0; i < stores.size(); i++) {
+            Object[] row = stores.get(i).getRowValues(999);
+            int id = i * 1000 + 999;
+            Assert.assertEquals(id, row[0]);
+            Assert.assertEquals(BigDecimal.valueOf(id, 2), row[2]);
+        }
+        Assert.assertTrue(spill.getResidentStoreCount() < stores.size());
+        ColumnarValueStore spilledStore = stores.stream().filter(store -> !store.isResident()).findFirst().orElseThrow();
+
+        spill.close();
+        Assert.assertFalse(Files.exists(file));
+
+        // Values of the closed spill can't be loaded, store reports it and stays non-resident
+        Assert.assertThrows(IllegalStateException.class, () -> spilledStore.getValue(0, 1));
+        Assert.assertThrows(IllegalStateException.class, () -> spilledStore.getRowValues(0));
+        Assert.assertFalse(spilledStore.isResident());
+    }
+
+    @Test
+    public void testSpilledColumnsReload() throws IOException {
+        Path file = Files.createTempFile("dbeaver-test", ".tmp");
+        // Only the last accessed store fits
+        ColumnarValueSpill spill = new ColumnarValueSpill(file, 1);
+        try {
+            ColumnarValueStore first = new ColumnarValueStore(3);
+            ColumnarValueStore second = new ColumnarValueStore(3);
+            for (int row = 0; row < 100; row++) {
+                first.addRow(new Object[]{row, "first " + row, (long) row});
+                second.addRow(new Object[]{row, "second " + row, (long) row});
+            }
+            spill.register(first);
+            spill.register(second);
+            Assert.assertFalse(first.isColumnResident(1));
+
+            Assert.assertEquals("first 10", first.getValue(10, 1));
+            Assert.assertEquals("second 20", second.getValue(20, 1));
+            // Loading of the second store moved the first one out again
+            Assert.assertFalse(first.isColumnResident(1));
+            Assert.assertEquals("first 30", first.getValue(30, 1));
+            // Segment of the first store column was mapped once
+            Assert.assertEquals(2, spill.getMappedSegmentCount());
+            Assert.assertFalse(first.isColumnResident(0));
+            Assert.assertFalse(first.isColumnResident(2));
+
+            Assert.assertArrayEquals(new Object[]{40, "second 40", 40L}, second.getRowValues(40));
+            Assert.assertTrue(second.isResident());
+            Assert.assertEquals(4, spill.getMappedSegmentCount());
+        } finally {
+            spill.close();
+        }
+    }
+
+    /**
+     * Reads back a large result set with typical columns, including a low cardinality string column
+     * and a string column which becomes too diverse for the dictionary.
+     */
+    @Test
+    public void testLargeStore() {
+        final int rowCount = 200_000;
+        final long baseTime = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+
+        List<Object[]> rows = new ArrayList<>(rowCount);
+        ColumnarValueStore store = new ColumnarValueStore(7);
+        for (int i = 0; i < rowCount; i++) {
+            Object[] row = {
+                i,
+                (long) i * 31,
+                i % 10 == 0 ? null : i * 0.25,
+                BigDecimal.valueOf(i % 100_000, 2),
+                // JDBC drivers create new string for each row
+                new String(STATUSES[i % STATUSES.length]),
+                new Timestamp(baseTime + i * 1000L),
+                "comment " + i
+            };
+            rows.add(row);
+            Assert.assertEquals(i, store.addRow(row.clone()));
+        }
+        Assert.assertEquals(rowCount, store.getRowCount());
+
+        for (int i = 0; i < rowCount; i++) {
+            Object[] row = rows.get(i);
+            for (int k = 0; k < row.length; k++) {
+                Assert.assertEquals(row[k], store.getValue(i, k));
+            }
+        }
+        Assert.assertArrayEquals(rows.get(rowCount - 1), store.getRowValues(rowCount - 1));
+        Assert.assertNull(store.getValue(0, 2));
+        // Dictionary keeps one instance of each string
+        Assert.assertSame(store.getValue(1, 4), store.getValue(1 + STATUSES.length, 4));
+    }
+}
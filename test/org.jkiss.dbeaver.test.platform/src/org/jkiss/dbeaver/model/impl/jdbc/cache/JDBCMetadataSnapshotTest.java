@@ -0,0 +1,144 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.cache;
+
+import org.jkiss.dbeaver.model.impl.jdbc.JDBCArrayImpl;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.stream.Stream;
+
+public class JDBCMetadataSnapshotTest extends DBeaverUnitTest {
+
+    private Path snapshotFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        snapshotFolder = Files.createTempDirectory("dbeaver-test");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(snapshotFolder)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(snapshotFolder);
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Path file = snapshotFolder.resolve("snapshot.bin");
+        Timestamp created = Timestamp.valueOf("2024-05-01 10:20:30.123456789");
+
+        JDBCMetadataSnapshot snapshot = new JDBCMetadataSnapshot(file, "16.2", "25.0");
+        snapshot.recordRows("tables", "v1", makeSource(created));
+        snapshot.save();
+
+        JDBCMetadataSnapshot loaded = new JDBCMetadataSnapshot(file, "16.2", "25.0");
+        Assert.assertNull(loaded.readRows("tables", "v2"));
+
+        loaded = new JDBCMetadataSnapshot(file, "16.2", "25.0");
+        ResultSet rows = loaded.readRows("tables", "v1");
+        Assert.assertNotNull(rows);
+        Assert.assertTrue(rows.next());
+        Assert.assertEquals("orders", rows.getString("relname"));
+        Assert.assertEquals(42L, rows.getLong("oid"));
+        Assert.assertEquals(new BigDecimal("10.50"), rows.getBigDecimal("size"));
+        Assert.assertEquals(created, rows.getTimestamp("created"));
+        // Arrays keep their element type
+        String[] acl = (String[]) rows.getArray("relacl").getArray();
+        Assert.assertArrayEquals(new String[]{"postgres=arwdDxt/postgres", "reader=r/postgres"}, acl);
+        // Long columns are read as strings
+        Assert.assertEquals("nextval('orders_id_seq'::regclass)", rows.getString("data_default"));
+        // Driver specific values are kept as strings
+        Assert.assertEquals("(1,2)", rows.getString("point"));
+        Assert.assertTrue(rows.next());
+        Assert.assertNull(rows.getString("relname"));
+        Assert.assertNull(rows.getArray("relacl"));
+        Assert.assertFalse(rows.next());
+        // Entry is served only once per session
+        Assert.assertNull(loaded.readRows("tables", "v1"));
+    }
+
+    @Test
+    public void testOutdatedServerVersion() throws Exception {
+        Path file = snapshotFolder.resolve("snapshot.bin");
+        JDBCMetadataSnapshot snapshot = new JDBCMetadataSnapshot(file, "16.2", "25.0");
+        snapshot.recordRows("tables", "v1", makeSource(new Timestamp(0)));
+        snapshot.save();
+
+        Assert.assertNull(new JDBCMetadataSnapshot(file, "17.0", "25.0").readRows("tables", "v1"));
+        Assert.assertNull(new JDBCMetadataSnapshot(file, "16.2", "25.1").readRows("tables", "v1"));
+    }
+
+    private static ResultSet makeSource(Timestamp created) throws SQLException {
+        String[] labels = {"relname", "oid", "size", "created", "relacl", "data_default", "point"};
+        int[] types = {Types.VARCHAR, Types.BIGINT, Types.NUMERIC, Types.TIMESTAMP, Types.ARRAY, Types.LONGVARCHAR, Types.OTHER};
+        CachedRowSet rowSet = RowSetProvider.newFactory().createCachedRowSet();
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            metaData.setColumnName(i + 1, labels[i]);
+            metaData.setColumnLabel(i + 1, labels[i]);
+            metaData.setColumnType(i + 1, types[i]);
+        }
+        rowSet.setMetaData(metaData);
+
+        rowSet.moveToInsertRow();
+        rowSet.updateObject(1, "orders");
+        rowSet.updateObject(2, 42L);
+        rowSet.updateObject(3, new BigDecimal("10.50"));
+        rowSet.updateObject(4, created);
+        rowSet.updateObject(5, new JDBCArrayImpl("aclitem", Types.OTHER, new String[]{"postgres=arwdDxt/postgres", "reader=r/postgres"}));
+        rowSet.updateObject(6, "nextval('orders_id_seq'::regclass)");
+        rowSet.updateObject(7, new DriverPoint());
+        rowSet.insertRow();
+
+        rowSet.moveToInsertRow();
+        for (int i = 0; i < labels.length; i++) {
+            rowSet.updateNull(i + 1);
+        }
+        rowSet.insertRow();
+
+        rowSet.moveToCurrentRow();
+        rowSet.beforeFirst();
+        return rowSet;
+    }
+
+    private static class DriverPoint {
+        @Override
+        public String toString() {
+            return "(1,2)";
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.cache;
+
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class JDBCObjectChangeTrackerTest extends DBeaverUnitTest {
+
+    @Test
+    public void testFirstRead() {
+        Assert.assertNull(JDBCObjectChangeTracker.diffMarkers(null, Map.of("orders", "100:a")));
+    }
+
+    @Test
+    public void testNoChanges() {
+        Map<String, String> markers = Map.of("orders", "100:a", "customers", "101:b");
+        Assert.assertEquals(Set.of(), JDBCObjectChangeTracker.diffMarkers(markers, new HashMap<>(markers)));
+    }
+
+    @Test
+    public void testChanges() {
+        Map<String, String> prevMarkers = Map.of(
+            "orders", "100:a",
+            "customers", "101:b",
+            "invoices", "102:c");
+        Map<String, String> newMarkers = Map.of(
+            "orders", "100:a",
+            "customers", "101:d",
+            "payments", "103:e");
+        Assert.assertEquals(
+            Set.of("customers", "invoices", "payments"),
+            JDBCObjectChangeTracker.diffMarkers(prevMarkers, newMarkers));
+    }
+
+    @Test
+    public void testTooManyChanges() {
+        Map<String, String> prevMarkers = new HashMap<>();
+        Map<String, String> newMarkers = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            prevMarkers.put("table" + i, "1");
+            newMarkers.put("table" + i, i < 50 ? "2" : "1");
+        }
+        Assert.assertEquals(50, JDBCObjectChangeTracker.diffMarkers(prevMarkers, newMarkers).size());
+        newMarkers.put("table50", "2");
+        Assert.assertNull(JDBCObjectChangeTracker.diffMarkers(prevMarkers, newMarkers));
+    }
+}
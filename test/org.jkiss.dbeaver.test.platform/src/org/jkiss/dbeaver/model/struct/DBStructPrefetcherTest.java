@@ -0,0 +1,146 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.struct;
+
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.connection.DBPDriver;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class DBStructPrefetcherTest extends DBeaverUnitTest {
+
+    private static final int CONTAINER_COUNT = 6;
+
+    private final DBRProgressMonitor monitor = new VoidProgressMonitor();
+    private final List<DBCExecutionContext> isolatedContexts = Collections.synchronizedList(new ArrayList<>());
+    // Contexts used by running tasks
+    private final Set<DBCExecutionContext> busyContexts = Collections.synchronizedSet(new HashSet<>());
+    private final Set<DBCExecutionContext> usedContexts = Collections.synchronizedSet(new HashSet<>());
+    private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+    private DBPDriver driver;
+    private DBPDataSource dataSource;
+    private DBSInstance instance;
+    private DBCExecutionContext defaultContext;
+
+    @Before
+    public void setUp() throws Exception {
+        DBPPreferenceStore preferenceStore = Mockito.mock(DBPPreferenceStore.class);
+        Mockito.when(preferenceStore.getInt(ModelPreferences.META_PREFETCH_CONNECTIONS)).thenReturn(2);
+        driver = Mockito.mock(DBPDriver.class);
+        DBPDataSourceContainer dataSourceContainer = Mockito.mock(DBPDataSourceContainer.class);
+        Mockito.when(dataSourceContainer.getPreferenceStore()).thenReturn(preferenceStore);
+        Mockito.when(dataSourceContainer.getDriver()).thenReturn(driver);
+        dataSource = Mockito.mock(DBPDataSource.class);
+        Mockito.when(dataSource.getContainer()).thenReturn(dataSourceContainer);
+        instance = Mockito.mock(DBSInstance.class);
+        Mockito.when(instance.getDataSource()).thenReturn(dataSource);
+        Mockito.when(dataSource.getDefaultInstance()).thenReturn(instance);
+
+        defaultContext = createContext();
+        Mockito.when(instance.getDefaultContext(any(), eq(true))).thenReturn(defaultContext);
+        // Mocks are not created while another mock is invoked
+        Deque<DBCExecutionContext> newContexts = new ArrayDeque<>();
+        for (int i = 0; i < CONTAINER_COUNT; i++) {
+            newContexts.add(createContext());
+        }
+        Mockito.when(instance.openIsolatedContext(any(), anyString(), any())).thenAnswer(invocation -> {
+            DBCExecutionContext context;
+            synchronized (newContexts) {
+                context = newContexts.remove();
+            }
+            isolatedContexts.add(context);
+            return context;
+        });
+    }
+
+    @Test
+    public void cacheStructure_whenManyContainers_thenContextsAreLimitedAndReused() throws Exception {
+        // First tasks hold their contexts at the same time, so the second context is always opened
+        CountDownLatch parallelStart = new CountDownLatch(2);
+        DBStructPrefetcher.cacheStructure(monitor, createContainers(parallelStart), DBSObjectContainer.STRUCT_ALL);
+
+        Assert.assertEquals(List.of(), errors);
+        Assert.assertEquals(1, isolatedContexts.size());
+        Assert.assertEquals(Set.of(defaultContext, isolatedContexts.get(0)), usedContexts);
+        // Default context stays open, isolated one is closed after the read
+        Mockito.verify(isolatedContexts.get(0)).close();
+        Mockito.verify(defaultContext, Mockito.never()).close();
+    }
+
+    @Test
+    public void cacheStructure_whenEmbeddedDriver_thenDefaultContextOnly() throws Exception {
+        Mockito.when(driver.isEmbedded()).thenReturn(true);
+        DBStructPrefetcher.cacheStructure(monitor, createContainers(new CountDownLatch(0)), DBSObjectContainer.STRUCT_ALL);
+
+        Assert.assertEquals(List.of(), errors);
+        Assert.assertEquals(List.of(), isolatedContexts);
+        Assert.assertEquals(Set.of(defaultContext), usedContexts);
+    }
+
+    private List<DBSObjectContainer> createContainers(CountDownLatch parallelStart) throws Exception {
+        List<DBSObjectContainer> containers = new ArrayList<>();
+        for (int i = 0; i < CONTAINER_COUNT; i++) {
+            DBSObjectContainer container = Mockito.mock(DBSObjectContainer.class);
+            Mockito.when(container.getDataSource()).thenReturn(dataSource);
+            Mockito.when(container.getName()).thenReturn("schema" + i);
+            Mockito.doAnswer(invocation -> {
+                DBCExecutionContext context = DBStructPrefetcher.getBoundMetaContext(container);
+                if (context == null) {
+                    errors.add("No context bound to " + container.getName());
+                    return null;
+                }
+                if (!busyContexts.add(context)) {
+                    errors.add("Context is used by several tasks at once");
+                }
+                usedContexts.add(context);
+                parallelStart.countDown();
+                if (!parallelStart.await(10, TimeUnit.SECONDS)) {
+                    errors.add("Tasks didn't run in parallel");
+                }
+                busyContexts.remove(context);
+                return null;
+            }).when(container).cacheStructure(any(), anyInt());
+            containers.add(container);
+        }
+        return containers;
+    }
+
+    private DBCExecutionContext createContext() {
+        DBCExecutionContext context = Mockito.mock(DBCExecutionContext.class);
+        Mockito.when(context.getOwnerInstance()).thenReturn(instance);
+        return context;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.struct.cache;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AbstractObjectCacheTest extends DBeaverUnitTest {
+
+    @Test
+    public void testSnapshots() {
+        SimpleObjectCache<DBSObject, TestObject> cache = new SimpleObjectCache<>();
+        Assert.assertTrue(cache.isEmpty());
+        Assert.assertNull(cache.getCachedObject("a"));
+
+        TestObject a = new TestObject("a");
+        TestObject b = new TestObject("b");
+        cache.cacheObject(a);
+        List<TestObject> snapshot = cache.getCachedObjects();
+        Assert.assertSame(a, cache.getCachedObject("a"));
+
+        cache.cacheObject(b);
+        Assert.assertEquals(List.of(a), snapshot);
+        Assert.assertEquals(List.of(a, b), cache.getCachedObjects());
+        Assert.assertSame(b, cache.getCachedObject("b"));
+
+        // Duplicates are kept in list, first object is found by name
+        TestObject a2 = new TestObject("a");
+        cache.cacheObject(a2);
+        Assert.assertEquals(3, cache.getCacheSize());
+        Assert.assertSame(a, cache.getCachedObject("a"));
+
+        cache.removeObject(a, false);
+        Assert.assertEquals(List.of(b, a2), cache.getCachedObjects());
+        Assert.assertNull(cache.getCachedObject("a"));
+
+        b.name = "c";
+        cache.renameObject(b, "b", "c");
+        Assert.assertNull(cache.getCachedObject("b"));
+        Assert.assertSame(b, cache.getCachedObject("c"));
+
+        List<TestObject> newObjects = new ArrayList<>(List.of(a));
+        cache.setCache(newObjects);
+        newObjects.add(b);
+        Assert.assertTrue(cache.isFullyCached());
+        Assert.assertEquals(List.of(a), cache.getCachedObjects());
+        Assert.assertNull(cache.getCachedObject("c"));
+
+        cache.clearCache();
+        Assert.assertTrue(cache.isEmpty());
+        Assert.assertFalse(cache.isFullyCached());
+    }
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        SimpleObjectCache<DBSObject, TestObject> cache = new SimpleObjectCache<>();
+        int objectCount = 20_000;
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    while (cache.getCacheSize() < objectCount) {
+                        List<TestObject> objects = cache.getCachedObjects();
+                        for (int k = 0; k < objects.size(); k++) {
+                            TestObject object = objects.get(k);
+                            Assert.assertEquals("o" + k, object.getName());
+                            Assert.assertSame(object, cache.getCachedObject(object.getName()));
+                        }
+                    }
+                } catch (Throwable e) {
+                    error.compareAndSet(null, e);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        for (int i = 0; i < objectCount; i++) {
+            cache.cacheObject(new TestObject("o" + i));
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        if (error.get() != null) {
+            throw new AssertionError(error.get());
+        }
+        Assert.assertEquals(objectCount, cache.getCachedObjects().size());
+        Assert.assertEquals("o" + (objectCount - 1), cache.getCachedObject("o" + (objectCount - 1)).getName());
+    }
+
+    private static class TestObject implements DBSObject {
+        private String name;
+
+        TestObject(String name) {
+            this.name = name;
+        }
+
+        @NotNull
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Nullable
+        @Override
+        public String getDescription() {
+            return null;
+        }
+
+        @Override
+        public boolean isPersisted() {
+            return true;
+        }
+
+        @Nullable
+        @Override
+        public DBSObject getParentObject() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public DBPDataSource getDataSource() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.virtual;
+
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.exec.DBCLogicalOperator;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+public class DBVColorConditionTest extends DBeaverUnitTest {
+
+    private static final List<DBCLogicalOperator> OPERATORS = List.of(
+        DBCLogicalOperator.EQUALS,
+        DBCLogicalOperator.NOT_EQUALS,
+        DBCLogicalOperator.GREATER,
+        DBCLogicalOperator.GREATER_EQUALS,
+        DBCLogicalOperator.LESS,
+        DBCLogicalOperator.LESS_EQUALS,
+        DBCLogicalOperator.IS_NULL,
+        DBCLogicalOperator.IS_NOT_NULL,
+        DBCLogicalOperator.IN,
+        DBCLogicalOperator.LIKE,
+        DBCLogicalOperator.NOT_LIKE);
+
+    @Test
+    public void testNumericConditions() {
+        List<Object> values = Arrays.asList(null, 1, 5, 10L, 7.5, 42.0f, new BigDecimal("5.00"), -3);
+        for (DBCLogicalOperator operator : OPERATORS) {
+            for (Object[] arguments : List.of(new Object[]{"5"}, new Object[]{5}, new Object[]{"7.5"}, new Object[]{"1", "10"})) {
+                if (arguments.length > 1 && operator != DBCLogicalOperator.EQUALS) {
+                    continue;
+                }
+                checkCondition(operator, arguments, DBPDataKind.NUMERIC, values);
+            }
+        }
+    }
+
+    @Test
+    public void testStringConditions() {
+        List<Object> values = Arrays.asList(null, "abc", "Abc", "b", "", "abcd");
+        for (DBCLogicalOperator operator : OPERATORS) {
+            for (Object[] arguments : List.of(new Object[]{"abc"}, new Object[]{"a%"}, new Object[]{"abc", "b"})) {
+                if (arguments.length > 1 && operator != DBCLogicalOperator.EQUALS && operator != DBCLogicalOperator.IN) {
+                    continue;
+                }
+                checkCondition(operator, arguments, DBPDataKind.STRING, values);
+            }
+        }
+    }
+
+    @Test
+    public void testBadPattern() {
+        DBVColorOverride colorOverride = new DBVColorOverride("c", DBCLogicalOperator.REGEX, new Object[]{"[a"}, null, null);
+        Assert.assertFalse(DBVColorCondition.compile(colorOverride, DBPDataKind.STRING).matches("[a"));
+    }
+
+    private static void checkCondition(DBCLogicalOperator operator, Object[] arguments, DBPDataKind dataKind, List<Object> values) {
+        DBVColorOverride colorOverride = new DBVColorOverride("c", operator, arguments, null, null);
+        DBVColorCondition condition = DBVColorCondition.compile(colorOverride, dataKind);
+        for (Object value : values) {
+            Assert.assertEquals(
+                value + " " + operator + " " + Arrays.toString(arguments),
+                operator.evaluate(value, arguments),
+                condition.matches(value));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.tools.transfer.stream.importer.CSVParallelReader;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.jkiss.utils.csv.CSVReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CSVParallelReaderTest extends DBeaverUnitTest {
+
+    @Test
+    public void readsRecordsInOrder() throws IOException {
+        StringBuilder data = new StringBuilder("id,name,comment\n");
+        for (int i = 0; i < 20_000; i++) {
+            data.append(i).append(",\"name \"\"").append(i).append("\"\",");
+            if (i % 10 == 0) {
+                // Quoted value with line feeds and delimiters must not be split between chunks
+                data.append("\"multi\nline, text\"");
+            } else {
+                data.append("plain text ").append(i);
+            }
+            data.append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+
+        List<String[]> expected = new ArrayList<>();
+        try (CSVReader reader = new CSVReader(new StringReader(data.toString()), ',', '"', '\\')) {
+            for (String[] line = reader.readNext(); line != null; line = reader.readNext()) {
+                expected.add(line);
+            }
+        }
+
+        Path file = Files.createTempFile("dbeaver-test", ".csv");
+        try {
+            Files.writeString(file, data, StandardCharsets.UTF_8);
+            int count = 0;
+            try (CSVParallelReader reader = new CSVParallelReader(file, StandardCharsets.UTF_8, ',', '"', '\\', 3, 16 * 1024)) {
+                for (String[] line = reader.readNext(); line != null; line = reader.readNext()) {
+                    Assert.assertArrayEquals(expected.get(count), line);
+                    count++;
+                }
+            }
+            Assert.assertEquals(expected.size(), count);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void supportedCharsets() {
+        Assert.assertTrue(CSVParallelReader.isSupported(StandardCharsets.UTF_8, ',', '"'));
+        Assert.assertTrue(CSVParallelReader.isSupported(StandardCharsets.ISO_8859_1, ';', '"'));
+        Assert.assertFalse(CSVParallelReader.isSupported(StandardCharsets.UTF_16, ',', '"'));
+        Assert.assertFalse(CSVParallelReader.isSupported(StandardCharsets.UTF_8, '§', '"'));
+    }
+}
@@ -17,7 +17,10 @@
 package org.jkiss.dbeaver.tools.transfer;
 
 import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
 import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.impl.data.DefaultValueHandler;
 import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataExporterSite;
 import org.jkiss.dbeaver.tools.transfer.stream.exporter.DataExporterCSV;
 import org.jkiss.junit.DBeaverUnitTest;
@@ -31,6 +34,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.HashMap;
+import java.util.Map;
 
 @RunnerProxy(MockitoJUnitRunner.Silent.class)
 public class DataExporterCSVTest extends DBeaverUnitTest {
@@ -84,4 +88,133 @@ public class DataExporterCSVTest extends DBeaverUnitTest {
             Assert.fail("Exception occurred: " + e.getMessage());
         }
     }
+
+    @Test
+    public void testExportRowDefaultQuoting() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("rowDelimiter", "\\n");
+        exportRows(properties, new Object[][] {
+            {"plain", "a,b", "say \"hi\"", "12abc", null, 42, ""}
+        });
+        Assert.assertEquals("plain,\"a,b\",\"say \"\"hi\"\"\",\"12abc\",,42,\"\"\n", stringWriter.toString());
+    }
+
+    @Test
+    public void testExportRowLineBreaks() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("rowDelimiter", "\\n");
+        exportRows(properties, new Object[][] {
+            {"a\nb", "a\r\nb", "a\rb"}
+        });
+        Assert.assertEquals("\"a\nb\",\"a\r\nb\",\"a\rb\"\n", stringWriter.toString());
+    }
+
+    @Test
+    public void testExportRowLineFeedEscape() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("rowDelimiter", "\\n");
+        properties.put("lineFeedEscapeString", "<br>");
+        exportRows(properties, new Object[][] {
+            {"a\r\nb\nc", "a\rb", "x\"\ny", "\n"}
+        });
+        Assert.assertEquals("a<br>b<br>c,\"a\rb\",\"x\"\"<br>y\",<br>\n", stringWriter.toString());
+    }
+
+    @Test
+    public void testExportRowLineFeedEscapeToSpace() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("rowDelimiter", "\\r\\n");
+        properties.put("lineFeedEscapeString", "\\t");
+        exportRows(properties, new Object[][] {
+            {"first\r\nsecond", "a;b"},
+            {"last\n", "c"}
+        });
+        Assert.assertEquals("first\tsecond,a;b\r\nlast\t,c\r\n", stringWriter.toString());
+    }
+
+    @Test
+    public void testExportRowQuoteAll() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("rowDelimiter", "\\n");
+        properties.put("delimiter", ";");
+        properties.put("quoteAlways", "all");
+        properties.put("nullString", "NULL");
+        exportRows(properties, new Object[][] {
+            {"text", 10, null, "q\"q"}
+        });
+        Assert.assertEquals("\"text\";\"10\";\"NULL\";\"q\"\"q\"\n", stringWriter.toString());
+    }
+
+    @Test
+    public void testExportRowQuoteStrings() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("rowDelimiter", "\\n");
+        properties.put("quoteAlways", "strings");
+        properties.put("nullString", "NULL");
+        exportRows(properties, new Object[][] {
+            {"text", 10, null, ""}
+        });
+        Assert.assertEquals("\"text\",10,NULL,\"\"\n", stringWriter.toString());
+    }
+
+    @Test
+    public void testExportRowQuoteAllButNumbersAndNulls() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("rowDelimiter", "\\n");
+        properties.put("quoteAlways", "all but numbers");
+        exportRows(properties, new Object[][] {
+            {"text", 10}
+        });
+        Assert.assertEquals("\"text\",10\n", stringWriter.toString());
+
+        stringWriter.getBuffer().setLength(0);
+        properties.put("quoteAlways", "all but nulls");
+        properties.put("nullString", "NULL");
+        exportRows(properties, new Object[][] {
+            {"text", 10, null}
+        });
+        Assert.assertEquals("\"text\",\"10\",NULL\n", stringWriter.toString());
+    }
+
+    @Test
+    public void testExportRowCustomQuoteChar() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("rowDelimiter", "\\n");
+        properties.put("quoteChar", "'");
+        exportRows(properties, new Object[][] {
+            {"it's", "say \"hi\"", "a,b"}
+        });
+        Assert.assertEquals("'it''s',say \"hi\",'a,b'\n", stringWriter.toString());
+
+        stringWriter.getBuffer().setLength(0);
+        properties.put("quoteNever", "true");
+        exportRows(properties, new Object[][] {
+            {"it's", "a,b", ""}
+        });
+        Assert.assertEquals("it's,a,b,\n", stringWriter.toString());
+    }
+
+    private void exportRows(Map<String, Object> properties, Object[][] rows) throws Exception {
+        properties.put("header", "none");
+        Mockito.when(site.getProperties()).thenReturn(properties);
+        Mockito.when(site.getExportFormat()).thenReturn(DBDDisplayFormat.NATIVE);
+
+        int columnCount = rows[0].length;
+        DBDAttributeBinding[] columns = new DBDAttributeBinding[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = Mockito.mock(DBDAttributeBinding.class);
+            Mockito.when(columns[i].getName()).thenReturn("C" + i);
+            Mockito.when(columns[i].getValueHandler()).thenReturn(DefaultValueHandler.INSTANCE);
+        }
+        Mockito.when(site.getAttributes()).thenReturn(columns);
+
+        DataExporterCSV exporter = new DataExporterCSV();
+        exporter.init(site);
+        DBCSession session = Mockito.mock(DBCSession.class);
+        exporter.exportHeader(session);
+        for (Object[] row : rows) {
+            exporter.exportRow(session, Mockito.mock(DBCResultSet.class), row);
+        }
+        site.getWriter().flush();
+    }
 }
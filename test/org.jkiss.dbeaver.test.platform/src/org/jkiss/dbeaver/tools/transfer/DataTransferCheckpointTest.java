@@ -0,0 +1,121 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.model.task.DBTTask;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.jkiss.junit.osgi.annotation.RunnerProxy;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+@RunnerProxy(MockitoJUnitRunner.Silent.class)
+public class DataTransferCheckpointTest extends DBeaverUnitTest {
+
+    private static final String PIPE_TABLE = "public.orders -> target.orders";
+    private static final String PIPE_FILE = "orders.csv -> target.orders";
+
+    private Path stateFolder;
+    private DBTTask task;
+
+    @Before
+    public void setUp() throws IOException {
+        stateFolder = Files.createTempDirectory("dbeaver-test");
+        task = Mockito.mock(DBTTask.class);
+        Mockito.when(task.getRunStateFolder()).thenReturn(stateFolder);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(stateFolder)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(stateFolder);
+    }
+
+    @Test
+    public void testResumeState() {
+        DataTransferCheckpoint checkpoint = DataTransferCheckpoint.open(task);
+        Assert.assertNotNull(checkpoint);
+        Assert.assertNull(checkpoint.getCommittedKey(PIPE_TABLE));
+        Assert.assertEquals(0, checkpoint.getCommittedRows(PIPE_FILE));
+
+        checkpoint.commit(PIPE_TABLE, "10000", 10000);
+        checkpoint.commit(PIPE_TABLE, "20000", 20000);
+        checkpoint.commit(PIPE_FILE, null, 5000);
+
+        // Next run reads state of the interrupted one
+        DataTransferCheckpoint resumed = DataTransferCheckpoint.open(task);
+        Assert.assertNotNull(resumed);
+        Assert.assertEquals("20000", resumed.getCommittedKey(PIPE_TABLE));
+        Assert.assertEquals(20000, resumed.getCommittedRows(PIPE_TABLE));
+        Assert.assertNull(resumed.getCommittedKey(PIPE_FILE));
+        Assert.assertEquals(5000, resumed.getCommittedRows(PIPE_FILE));
+        Assert.assertFalse(resumed.isCompleted(PIPE_TABLE));
+
+        resumed.complete(PIPE_TABLE);
+        Assert.assertTrue(DataTransferCheckpoint.open(task).isCompleted(PIPE_TABLE));
+
+        resumed.delete();
+        DataTransferCheckpoint restarted = DataTransferCheckpoint.open(task);
+        Assert.assertFalse(restarted.isCompleted(PIPE_TABLE));
+        Assert.assertEquals(0, restarted.getCommittedRows(PIPE_FILE));
+    }
+
+    @Test
+    public void testResumeAfterFailedBulkLoad() {
+        DataTransferCheckpoint checkpoint = DataTransferCheckpoint.open(task);
+        Assert.assertNotNull(checkpoint);
+        checkpoint.commit(PIPE_TABLE, "10000", 10000);
+
+        // Bulk loader flushed rows but failed before the final commit
+        checkpoint.prepare(PIPE_TABLE, "20000", 20000);
+        checkpoint.prepare(PIPE_TABLE, "30000", 30000);
+        Assert.assertEquals("10000", checkpoint.getCommittedKey(PIPE_TABLE));
+
+        DataTransferCheckpoint resumed = DataTransferCheckpoint.open(task);
+        Assert.assertNotNull(resumed);
+        Assert.assertEquals("10000", resumed.getCommittedKey(PIPE_TABLE));
+        Assert.assertEquals(10000, resumed.getCommittedRows(PIPE_TABLE));
+
+        // Next run finishes bulk load
+        resumed.prepare(PIPE_TABLE, "40000", 40000);
+        resumed.commitPrepared(PIPE_TABLE);
+        Assert.assertEquals("40000", DataTransferCheckpoint.open(task).getCommittedKey(PIPE_TABLE));
+        Assert.assertEquals(40000, DataTransferCheckpoint.open(task).getCommittedRows(PIPE_TABLE));
+
+        // Nothing is prepared anymore
+        resumed.commitPrepared(PIPE_TABLE);
+        Assert.assertEquals(40000, DataTransferCheckpoint.open(task).getCommittedRows(PIPE_TABLE));
+    }
+
+    @Test
+    public void testTemporaryTask() {
+        Mockito.when(task.getRunStateFolder()).thenReturn(null);
+        Assert.assertNull(DataTransferCheckpoint.open(task));
+    }
+}
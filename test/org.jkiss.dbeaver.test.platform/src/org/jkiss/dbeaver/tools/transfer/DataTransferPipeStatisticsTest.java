@@ -0,0 +1,105 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.model.exec.DBCStatistics;
+import org.jkiss.dbeaver.tools.transfer.DataTransferPipeStatistics.Stage;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class DataTransferPipeStatisticsTest extends DBeaverUnitTest {
+
+    @Test
+    public void testBatches() {
+        DataTransferPipeStatistics statistics = new DataTransferPipeStatistics();
+        statistics.addBatch(100);
+        statistics.addBatch(0);
+        statistics.addBatch(20);
+        statistics.addBatch(30);
+        // Empty batches are not counted
+        Assert.assertEquals(3, statistics.getBatchCount());
+        Assert.assertEquals(50, statistics.getAverageBatchSize());
+        Assert.assertEquals(100, statistics.getMaxBatchSize());
+        Assert.assertTrue(statistics.getSummary().endsWith("; 3 batches, avg 50 rows, max 100 rows"));
+    }
+
+    @Test
+    public void testStageTimes() {
+        DataTransferPipeStatistics statistics = new DataTransferPipeStatistics();
+        // Fetch without start is not accounted
+        statistics.endFetch();
+        Assert.assertEquals(0, statistics.getStageTime(Stage.FETCH));
+
+        long startTime = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(30);
+        long writeStart = statistics.addTime(Stage.TRANSFORM, startTime);
+        statistics.addTime(Stage.WRITE, writeStart - TimeUnit.MILLISECONDS.toNanos(10));
+        Assert.assertTrue(statistics.getStageTime(Stage.TRANSFORM) >= 30);
+        Assert.assertTrue(statistics.getStageTime(Stage.WRITE) >= 10);
+        Assert.assertEquals(0, statistics.getStageTime(Stage.COMMIT));
+
+        statistics.addRows(5);
+        String message = statistics.getProgressMessage();
+        Assert.assertTrue(message, message.startsWith("5 rows ("));
+        Assert.assertTrue(message, message.contains("transform "));
+        Assert.assertFalse(message, message.contains("commit"));
+    }
+
+    @Test
+    public void testCounters() {
+        DataTransferPipeStatistics statistics = new DataTransferPipeStatistics();
+        Assert.assertTrue(statistics.isEmpty());
+        statistics.addRows(10);
+        statistics.addRows(15);
+        Assert.assertFalse(statistics.isEmpty());
+        Assert.assertEquals(25, statistics.getRows());
+
+        // Bytes are a total, not an increment
+        statistics.setBytes(1000);
+        statistics.setBytes(1500);
+        Assert.assertEquals(1500, statistics.getBytes());
+
+        statistics.start();
+        statistics.finish();
+        long elapsedTime = statistics.getElapsedTime();
+        statistics.finish();
+        Assert.assertEquals(elapsedTime, statistics.getElapsedTime());
+    }
+
+    @Test
+    public void testAccumulateInfo() {
+        DataTransferPipeStatistics first = new DataTransferPipeStatistics();
+        first.setBytes(100);
+        first.addBatch(10);
+        DataTransferPipeStatistics second = new DataTransferPipeStatistics();
+        second.setBytes(50);
+        second.addBatch(10);
+        second.addBatch(5);
+        DataTransferPipeStatistics empty = new DataTransferPipeStatistics();
+
+        DBCStatistics statistics = new DBCStatistics();
+        first.accumulateInfo(statistics);
+        second.accumulateInfo(statistics);
+        empty.accumulateInfo(statistics);
+        // Values of all pipes are summed
+        Assert.assertEquals(150L, statistics.getInfo().get("Bytes written"));
+        Assert.assertEquals(3L, statistics.getInfo().get("Batches executed"));
+        Assert.assertEquals(0L, statistics.getInfo().get("Transfer commit time (ms)"));
+    }
+}
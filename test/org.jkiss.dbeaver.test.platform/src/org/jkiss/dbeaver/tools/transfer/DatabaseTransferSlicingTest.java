@@ -0,0 +1,127 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.tools.transfer.database.DatabaseTransferUtils;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class DatabaseTransferSlicingTest extends DBeaverUnitTest {
+
+    private static final Pattern LOWER_BOUND = Pattern.compile("id>=(-?\\d+)");
+    private static final Pattern UPPER_BOUND = Pattern.compile("id<(-?\\d+)");
+
+    @Test
+    public void testBoundaries() {
+        List<String> conditions = DatabaseTransferUtils.makeKeyRangeConditions(
+            "id", BigInteger.ONE, BigInteger.valueOf(100), 4);
+        Assert.assertEquals(
+            List.of("id<25", "id>=25 AND id<49", "id>=49 AND id<73", "id>=73"),
+            conditions);
+    }
+
+    @Test
+    public void testNegativeKeys() {
+        List<String> conditions = DatabaseTransferUtils.makeKeyRangeConditions(
+            "id", BigInteger.valueOf(-100), BigInteger.valueOf(-1), 3);
+        Assert.assertEquals(
+            List.of("id<-67", "id>=-67 AND id<-34", "id>=-34"),
+            conditions);
+        assertCoversRange(conditions, -100, -1);
+
+        conditions = DatabaseTransferUtils.makeKeyRangeConditions(
+            "id", BigInteger.valueOf(-50), BigInteger.valueOf(50), 4);
+        assertCoversRange(conditions, -50, 50);
+    }
+
+    @Test
+    public void testOverflow() {
+        List<String> conditions = DatabaseTransferUtils.makeKeyRangeConditions(
+            "id", BigInteger.valueOf(Long.MIN_VALUE), BigInteger.valueOf(Long.MAX_VALUE), 2);
+        // MAX - MIN doesn't fit into long
+        Assert.assertEquals(List.of("id<-1", "id>=-1"), conditions);
+
+        conditions = DatabaseTransferUtils.makeKeyRangeConditions(
+            "id", BigInteger.valueOf(Long.MIN_VALUE), BigInteger.valueOf(Long.MAX_VALUE), 4);
+        Assert.assertNotNull(conditions);
+        Assert.assertEquals("id<-4611686018427387905", conditions.get(0));
+        Assert.assertEquals("id>=4611686018427387901", conditions.get(3));
+
+        // NUMERIC(38) keys exceed long range
+        BigInteger hugeMax = new BigInteger("99999999999999999999999999999999999999");
+        conditions = DatabaseTransferUtils.makeKeyRangeConditions("id", BigInteger.ZERO, hugeMax, 3);
+        Assert.assertNotNull(conditions);
+        Assert.assertEquals("id<33333333333333333333333333333333333333", conditions.get(0));
+        Assert.assertEquals("id>=66666666666666666666666666666666666666", conditions.get(2));
+    }
+
+    @Test
+    public void testNarrowRange() {
+        Assert.assertNull(DatabaseTransferUtils.makeKeyRangeConditions("id", BigInteger.TEN, BigInteger.TEN, 2));
+        Assert.assertNull(DatabaseTransferUtils.makeKeyRangeConditions("id", BigInteger.ONE, BigInteger.valueOf(3), 4));
+        Assert.assertNull(DatabaseTransferUtils.makeKeyRangeConditions("id", BigInteger.ONE, BigInteger.valueOf(100), 1));
+        assertCoversRange(DatabaseTransferUtils.makeKeyRangeConditions("id", BigInteger.ONE, BigInteger.valueOf(5), 4), 1, 5);
+    }
+
+    @Test
+    public void testIntegralKeyValues() {
+        Assert.assertEquals(BigInteger.valueOf(42), DatabaseTransferUtils.toIntegralKeyValue(42));
+        Assert.assertEquals(BigInteger.valueOf(Long.MIN_VALUE), DatabaseTransferUtils.toIntegralKeyValue(Long.MIN_VALUE));
+        Assert.assertEquals(BigInteger.valueOf(-7), DatabaseTransferUtils.toIntegralKeyValue((short) -7));
+        Assert.assertEquals(
+            new BigInteger("12345678901234567890123"),
+            DatabaseTransferUtils.toIntegralKeyValue(new BigDecimal("12345678901234567890123")));
+        Assert.assertEquals(BigInteger.valueOf(100), DatabaseTransferUtils.toIntegralKeyValue(new BigDecimal("100.000")));
+        // Fractional values are not truncated
+        Assert.assertNull(DatabaseTransferUtils.toIntegralKeyValue(new BigDecimal("100.5")));
+        Assert.assertNull(DatabaseTransferUtils.toIntegralKeyValue(1.5d));
+        Assert.assertNull(DatabaseTransferUtils.toIntegralKeyValue(null));
+        Assert.assertNull(DatabaseTransferUtils.toIntegralKeyValue("10"));
+    }
+
+    /**
+     * Checks that every key of the range matches exactly one slice condition
+     */
+    private static void assertCoversRange(List<String> conditions, long minValue, long maxValue) {
+        Assert.assertNotNull(conditions);
+        for (long key = minValue - 10; key <= maxValue + 10; key++) {
+            int matches = 0;
+            for (String condition : conditions) {
+                if (matches(condition, key)) {
+                    matches++;
+                }
+            }
+            Assert.assertEquals("Key " + key, 1, matches);
+        }
+    }
+
+    private static boolean matches(String condition, long key) {
+        Matcher lower = LOWER_BOUND.matcher(condition);
+        if (lower.find() && key < Long.parseLong(lower.group(1))) {
+            return false;
+        }
+        Matcher upper = UPPER_BOUND.matcher(condition);
+        return !upper.find() || key < Long.parseLong(upper.group(1));
+    }
+}
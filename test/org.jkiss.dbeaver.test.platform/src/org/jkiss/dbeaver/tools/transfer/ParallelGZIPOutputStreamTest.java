@@ -0,0 +1,118 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.tools.transfer.stream.ParallelGZIPOutputStream;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+public class ParallelGZIPOutputStreamTest extends DBeaverUnitTest {
+
+    @Test
+    public void testEmptyStream() throws IOException {
+        Assert.assertArrayEquals(new byte[0], compressAndRead(new byte[0]));
+    }
+
+    @Test
+    public void testMultipleBlocks() throws IOException {
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; data.length() < ParallelGZIPOutputStream.DEFAULT_BLOCK_SIZE * 10 + 100; i++) {
+            data.append(i).append(",\"name ").append(i % 97).append("\"\n");
+        }
+        byte[] bytes = data.toString().getBytes(StandardCharsets.UTF_8);
+        Assert.assertArrayEquals(bytes, compressAndRead(bytes));
+    }
+
+    @Test
+    public void testInterleavedStreams() throws IOException {
+        byte[] first = createData(ParallelGZIPOutputStream.DEFAULT_BLOCK_SIZE * 5, "first");
+        byte[] second = createData(ParallelGZIPOutputStream.DEFAULT_BLOCK_SIZE * 3, "second");
+        ByteArrayOutputStream firstBuffer = new ByteArrayOutputStream();
+        ByteArrayOutputStream secondBuffer = new ByteArrayOutputStream();
+        // Both streams compress their blocks on the shared executor
+        try (ParallelGZIPOutputStream firstOut = new ParallelGZIPOutputStream(firstBuffer);
+             ParallelGZIPOutputStream secondOut = new ParallelGZIPOutputStream(secondBuffer)) {
+            int portion = 10_000;
+            for (int offset = 0; offset < first.length || offset < second.length; offset += portion) {
+                if (offset < first.length) {
+                    firstOut.write(first, offset, Math.min(portion, first.length - offset));
+                }
+                if (offset < second.length) {
+                    secondOut.write(second, offset, Math.min(portion, second.length - offset));
+                }
+            }
+        }
+        Assert.assertArrayEquals(first, decompress(firstBuffer.toByteArray()));
+        Assert.assertArrayEquals(second, decompress(secondBuffer.toByteArray()));
+    }
+
+    @Test
+    public void testCustomExecutor() throws IOException {
+        byte[] data = createData(ParallelGZIPOutputStream.DEFAULT_BLOCK_SIZE * 2, "custom");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (ParallelGZIPOutputStream out = new ParallelGZIPOutputStream(
+                buffer, Deflater.BEST_SPEED, ParallelGZIPOutputStream.DEFAULT_BLOCK_SIZE, 2, executor)) {
+                out.write(data);
+            }
+            // Executor belongs to the caller
+            Assert.assertFalse(executor.isShutdown());
+            Assert.assertArrayEquals(data, decompress(buffer.toByteArray()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static byte[] createData(int size, String prefix) {
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; data.length() < size; i++) {
+            data.append(prefix).append(i).append(",\"name ").append(i % 89).append("\"\n");
+        }
+        return data.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] compressAndRead(byte[] data) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ParallelGZIPOutputStream out = new ParallelGZIPOutputStream(buffer, 3)) {
+            // Write in uneven portions with flushes between them
+            for (int offset = 0; offset < data.length; ) {
+                int length = Math.min(data.length - offset, 7000 + offset % 5000);
+                out.write(data, offset, length);
+                out.flush();
+                offset += length;
+            }
+        }
+        return decompress(buffer.toByteArray());
+    }
+
+    private static byte[] decompress(byte[] data) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetColumn;
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetFileReader;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads fixtures written by another Parquet writer (see parquet/generate_fixtures.py).
+ * Fixtures use dictionary and data page v2 layouts, SNAPPY and GZIP pages, nulls and nested columns.
+ */
+public class ParquetFileReaderTest extends DBeaverUnitTest {
+
+    private Path file;
+
+    @After
+    public void tearDown() throws IOException {
+        if (file != null) {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFlatFile() throws IOException {
+        try (SeekableByteChannel channel = openFixture("flat.parquet")) {
+            ParquetFileReader reader = new ParquetFileReader(channel);
+            Assert.assertEquals(1000, reader.getRowCount());
+            Assert.assertEquals(2, reader.getRowGroupCount());
+
+            List<ParquetColumn> columns = reader.getColumns();
+            Assert.assertEquals(
+                List.of("id", "name", "category", "amount", "ts", "flag", "day"),
+                columns.stream().map(ParquetColumn::getName).toList());
+            Assert.assertEquals(ParquetColumn.LogicalType.STRING, columns.get(1).getLogicalType());
+            Assert.assertEquals(ParquetColumn.LogicalType.STRING, columns.get(2).getLogicalType());
+            Assert.assertEquals(ParquetColumn.LogicalType.DECIMAL, columns.get(3).getLogicalType());
+            Assert.assertEquals(9, columns.get(3).getPrecision());
+            Assert.assertEquals(2, columns.get(3).getScale());
+            Assert.assertEquals(ParquetColumn.LogicalType.TIMESTAMP_MICROS, columns.get(4).getLogicalType());
+            Assert.assertEquals(ParquetColumn.LogicalType.DATE, columns.get(6).getLogicalType());
+
+            int row = 0;
+            Object[] values = new Object[columns.size()];
+            for (int rowGroup = 0; rowGroup < reader.getRowGroupCount(); rowGroup++) {
+                ParquetFileReader.RowGroupReader rowGroupReader = reader.openRowGroup(rowGroup, null);
+                while (rowGroupReader.nextRow(values)) {
+                    Assert.assertArrayEquals("Row " + row, makeFlatRow(row), values);
+                    row++;
+                }
+            }
+            Assert.assertEquals(1000, row);
+        }
+    }
+
+    @Test
+    public void testFlatFileProjection() throws IOException {
+        try (SeekableByteChannel channel = openFixture("flat.parquet")) {
+            ParquetFileReader reader = new ParquetFileReader(channel);
+            boolean[] projection = {false, false, false, false, true, true, false};
+            ParquetFileReader.RowGroupReader rowGroupReader = reader.openRowGroup(1, projection);
+            Assert.assertEquals(400, rowGroupReader.getRowCount());
+
+            Object[] values = new Object[projection.length];
+            for (int row = 600; row < 1000; row++) {
+                Assert.assertTrue(rowGroupReader.nextRow(values));
+                Object[] expected = makeFlatRow(row);
+                for (int i = 0; i < projection.length; i++) {
+                    Assert.assertEquals(projection[i] ? expected[i] : null, values[i]);
+                }
+            }
+            Assert.assertFalse(rowGroupReader.nextRow(values));
+        }
+    }
+
+    @Test
+    public void testNestedColumnsAreSkipped() throws IOException {
+        try (SeekableByteChannel channel = openFixture("nested.parquet")) {
+            ParquetFileReader reader = new ParquetFileReader(channel);
+            Assert.assertEquals(
+                List.of("id", "score"),
+                reader.getColumns().stream().map(ParquetColumn::getName).toList());
+
+            ParquetFileReader.RowGroupReader rowGroupReader = reader.openRowGroup(0, null);
+            Object[] values = new Object[2];
+            int row = 0;
+            while (rowGroupReader.nextRow(values)) {
+                Assert.assertEquals(row, values[0]);
+                Assert.assertEquals(row % 6 == 0 ? null : row / 4.0, values[1]);
+                row++;
+            }
+            Assert.assertEquals(20, row);
+        }
+    }
+
+    private SeekableByteChannel openFixture(String name) throws IOException {
+        file = Files.createTempFile("dbeaver-test", ".parquet");
+        try (InputStream is = ParquetFileReaderTest.class.getResourceAsStream("parquet/" + name)) {
+            Assert.assertNotNull("Fixture " + name + " not found", is);
+            Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return Files.newByteChannel(file);
+    }
+
+    private static Object[] makeFlatRow(int row) {
+        LocalDateTime timestamp = LocalDateTime.of(2024, 1, 1, 0, 0)
+            .plusSeconds(row / 10)
+            .plusNanos((row % 10) * 1_000_000L);
+        return new Object[]{
+            (long) row,
+            row % 7 == 0 ? null : "name" + (row % 13),
+            "cat" + (row % 3),
+            row % 5 == 0 ? null : BigDecimal.valueOf(row * 101L - 5000, 2),
+            row % 4 == 0 ? null : Timestamp.valueOf(timestamp),
+            row % 3 == 0 ? null : row % 2 == 0,
+            Date.valueOf(LocalDate.of(2024, 2, 29).plusDays(row % 10))
+        };
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetColumn;
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetCompression;
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetFileReader;
+import org.jkiss.dbeaver.tools.transfer.stream.parquet.ParquetFileWriter;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.channels.SeekableByteChannel;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+
+public class ParquetFileWriterTest extends DBeaverUnitTest {
+
+    private static final List<ParquetColumn> COLUMNS = List.of(
+        new ParquetColumn("id", ParquetColumn.PhysicalType.INT64, ParquetColumn.LogicalType.NONE),
+        new ParquetColumn("name", ParquetColumn.PhysicalType.BYTE_ARRAY, ParquetColumn.LogicalType.STRING),
+        new ParquetColumn("flag", ParquetColumn.PhysicalType.BOOLEAN, ParquetColumn.LogicalType.NONE),
+        new ParquetColumn("amount", ParquetColumn.PhysicalType.BYTE_ARRAY, ParquetColumn.LogicalType.DECIMAL, 20, 2, 0),
+        new ParquetColumn("created", ParquetColumn.PhysicalType.INT32, ParquetColumn.LogicalType.DATE),
+        new ParquetColumn("updated", ParquetColumn.PhysicalType.INT64, ParquetColumn.LogicalType.TIMESTAMP_MICROS));
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        for (ParquetCompression compression : new ParquetCompression[]{ParquetCompression.UNCOMPRESSED, ParquetCompression.GZIP}) {
+            for (boolean dictionary : new boolean[]{false, true}) {
+                checkRoundTrip(compression, dictionary);
+            }
+        }
+    }
+
+    @Test
+    public void testProjection() throws IOException {
+        Path file = writeFile(ParquetCompression.GZIP, true, 100);
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            ParquetFileReader reader = new ParquetFileReader(channel);
+            ParquetFileReader.RowGroupReader rowGroupReader = reader.openRowGroup(0, new boolean[]{false, true, false, false, false, false});
+            Object[] row = new Object[COLUMNS.size()];
+            Assert.assertTrue(rowGroupReader.nextRow(row));
+            Assert.assertTrue(rowGroupReader.nextRow(row));
+            Assert.assertNull(row[0]);
+            Assert.assertEquals("name1", row[1]);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testBadFile() throws IOException {
+        Path file = Files.createTempFile("dbeaver-test", ".parquet");
+        try {
+            Files.writeString(file, "id,name\n1,test\n");
+            try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+                new ParquetFileReader(channel);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private void checkRoundTrip(ParquetCompression compression, boolean dictionary) throws IOException {
+        int rowCount = 25_000;
+        Path file = writeFile(compression, dictionary, rowCount);
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            ParquetFileReader reader = new ParquetFileReader(channel);
+            Assert.assertEquals(rowCount, reader.getRowCount());
+            Assert.assertEquals(3, reader.getRowGroupCount());
+            Assert.assertEquals(COLUMNS.size(), reader.getColumns().size());
+            Assert.assertEquals(ParquetColumn.LogicalType.DECIMAL, reader.getColumns().get(3).getLogicalType());
+
+            int row = 0;
+            Object[] values = new Object[COLUMNS.size()];
+            for (int rowGroup = 0; rowGroup < reader.getRowGroupCount(); rowGroup++) {
+                ParquetFileReader.RowGroupReader rowGroupReader = reader.openRowGroup(rowGroup, null);
+                while (rowGroupReader.nextRow(values)) {
+                    Assert.assertArrayEquals(makeRow(row), values);
+                    row++;
+                }
+            }
+            Assert.assertEquals(rowCount, row);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private Path writeFile(ParquetCompression compression, boolean dictionary, int rowCount) throws IOException {
+        Path file = Files.createTempFile("dbeaver-test", ".parquet");
+        try (var out = Files.newOutputStream(file)) {
+            ParquetFileWriter writer = new ParquetFileWriter(out, COLUMNS, compression, 10_000, dictionary);
+            for (int i = 0; i < rowCount; i++) {
+                writer.writeRow(makeRow(i));
+            }
+            writer.finish();
+        }
+        return file;
+    }
+
+    private static Object[] makeRow(int row) {
+        return new Object[]{
+            (long) row,
+            row % 5 == 0 ? null : "name" + (row % 50),
+            row % 3 == 0 ? null : row % 2 == 0,
+            new BigDecimal(row).movePointLeft(2).negate().setScale(2),
+            Date.valueOf("2024-02-29"),
+            row % 7 == 0 ? null : Timestamp.valueOf("2024-03-04 05:06:07.123456")
+        };
+    }
+}
@@ -0,0 +1,458 @@
+#!/usr/bin/env python3
+#
+# DBeaver - Universal Database Manager
+# Copyright (C) 2010-2025 DBeaver Corp and others
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+"""
+Generates Parquet fixtures for ParquetFileReaderTest.
+
+Files are written from the format specification (https://github.com/apache/parquet-format)
+without DBeaver Parquet classes. They use page layouts of other writers which DBeaver writer doesn't produce:
+dictionary fallback, PLAIN_DICTIONARY v1 pages, data pages v2, RLE booleans, SNAPPY, legacy converted types,
+nested groups and repeated columns.
+
+Values must match ParquetFileReaderTest.
+Usage: python3 generate_fixtures.py (writes files to the script directory)
+"""
+
+import datetime
+import gzip
+import os
+import struct
+
+# Thrift compact protocol types
+T_TRUE, T_FALSE, T_I32, T_I64, T_DOUBLE, T_BINARY, T_LIST, T_STRUCT = 1, 2, 5, 6, 7, 8, 9, 12
+
+INT32, INT64, BOOLEAN, DOUBLE, BYTE_ARRAY = 1, 2, 0, 5, 6
+REQUIRED, OPTIONAL, REPEATED = 0, 1, 2
+PLAIN, PLAIN_DICTIONARY, RLE, RLE_DICTIONARY = 0, 2, 3, 8
+DATA_PAGE, DICTIONARY_PAGE, DATA_PAGE_V2 = 0, 2, 3
+UNCOMPRESSED, SNAPPY, GZIP = 0, 1, 2
+CONVERTED_UTF8, CONVERTED_LIST = 0, 3
+
+
+def varint(value):
+    out = bytearray()
+    while True:
+        if value < 0x80:
+            out.append(value)
+            return bytes(out)
+        out.append((value & 0x7F) | 0x80)
+        value >>= 7
+
+
+def zigzag(value):
+    return (value << 1) ^ (value >> 63)
+
+
+class Struct:
+    """Thrift struct: list of (field id, type, value)"""
+
+    def __init__(self, *fields):
+        self.fields = [f for f in fields if f[2] is not None]
+
+    def encode(self):
+        out = bytearray()
+        last_id = 0
+        for field_id, field_type, value in sorted(self.fields, key=lambda f: f[0]):
+            if field_type == T_TRUE:
+                field_type = T_TRUE if value else T_FALSE
+            delta = field_id - last_id
+            if 0 < delta <= 15:
+                out.append((delta << 4) | field_type)
+            else:
+                out.append(field_type)
+                out += varint(zigzag(field_id))
+            last_id = field_id
+            out += encode_value(field_type, value)
+        out.append(0)
+        return bytes(out)
+
+
+def encode_value(field_type, value):
+    if field_type in (T_TRUE, T_FALSE):
+        return b''
+    if field_type in (T_I32, T_I64):
+        return varint(zigzag(value))
+    if field_type == T_BINARY:
+        data = value.encode('utf-8') if isinstance(value, str) else value
+        return varint(len(data)) + data
+    if field_type == T_STRUCT:
+        return value.encode()
+    if field_type == T_LIST:
+        element_type, items = value
+        header = bytes([(len(items) << 4) | element_type]) if len(items) < 15 else bytes([0xF0 | element_type]) + varint(len(items))
+        return header + b''.join(element_type == T_STRUCT and item.encode() or encode_value(element_type, item) for item in items)
+    raise ValueError(field_type)
+
+
+def bit_width(max_value):
+    return max_value.bit_length()
+
+
+def rle_run(value, count, width):
+    return varint(count << 1) + value.to_bytes((width + 7) // 8, 'little')
+
+
+def bit_packed_run(values, width):
+    values = list(values) + [0] * (-len(values) % 8)
+    bits = 0
+    for i, value in enumerate(values):
+        bits |= value << (i * width)
+    return varint(((len(values) // 8) << 1) | 1) + bits.to_bytes(len(values) * width // 8, 'little')
+
+
+def hybrid(values, width):
+    """RLE for runs of 8 and more repeated values, bit packing for the rest"""
+    out = bytearray()
+    pending = []
+    i = 0
+    while i < len(values):
+        run = 1
+        while i + run < len(values) and values[i + run] == values[i]:
+            run += 1
+        if run >= 8 and len(pending) % 8 == 0:
+            if pending:
+                out += bit_packed_run(pending, width)
+                pending = []
+            out += rle_run(values[i], run, width)
+            i += run
+        else:
+            pending.append(values[i])
+            i += 1
+    if pending:
+        out += bit_packed_run(pending, width)
+    return bytes(out)
+
+
+def plain(physical_type, values):
+    if physical_type == INT32:
+        return b''.join(struct.pack('<i', v) for v in values)
+    if physical_type == INT64:
+        return b''.join(struct.pack('<q', v) for v in values)
+    if physical_type == DOUBLE:
+        return b''.join(struct.pack('<d', v) for v in values)
+    if physical_type == BYTE_ARRAY:
+        return b''.join(struct.pack('<i', len(v.encode())) + v.encode() for v in values)
+    if physical_type == BOOLEAN:
+        bits = sum(1 << i for i, v in enumerate(values) if v)
+        return bits.to_bytes((len(values) + 7) // 8, 'little')
+    raise ValueError(physical_type)
+
+
+def snappy_compress(data):
+    """Greedy snappy block compression with 2-byte offset copies"""
+    out = bytearray(varint(len(data)))
+    table = {}
+    literal_start = 0
+    pos = 0
+
+    def emit_literal(start, end):
+        while start < end:
+            length = min(end - start, 65536)
+            if length <= 60:
+                out.append((length - 1) << 2)
+            else:
+                out.append(61 << 2)
+                out.extend((length - 1).to_bytes(2, 'little'))
+            out.extend(data[start:start + length])
+            start += length
+
+    while pos + 4 <= len(data):
+        key = data[pos:pos + 4]
+        candidate = table.get(key)
+        table[key] = pos
+        if candidate is not None and pos - candidate < 65536:
+            length = 4
+            while pos + length < len(data) and length < 64 and data[candidate + length] == data[pos + length]:
+                length += 1
+            emit_literal(literal_start, pos)
+            out.append(((length - 1) << 2) | 2)
+            out.extend((pos - candidate).to_bytes(2, 'little'))
+            pos += length
+            literal_start = pos
+        else:
+            pos += 1
+    emit_literal(literal_start, len(data))
+    return bytes(out)
+
+
+def compress(codec, data):
+    if codec == SNAPPY:
+        return snappy_compress(data)
+    if codec == GZIP:
+        return gzip.compress(data, mtime=0)
+    return data
+
+
+class Column:
+    def __init__(self, path, physical_type, codec, max_def=0, max_rep=0):
+        self.path = path
+        self.physical_type = physical_type
+        self.codec = codec
+        self.max_def = max_def
+        self.max_rep = max_rep
+        self.pages = []
+        self.num_values = 0
+        self.encodings = set()
+
+    def page(self, header, body):
+        self.pages.append(Struct((1, T_I32, header[0]), (2, T_I32, header[1]), (3, T_I32, len(body)), *header[2:]).encode() + body)
+
+    def dictionary_page(self, values):
+        raw = plain(self.physical_type, values)
+        body = compress(self.codec, raw)
+        self.encodings.add(PLAIN)
+        self.page((DICTIONARY_PAGE, len(raw), (7, T_STRUCT, Struct((1, T_I32, len(values)), (2, T_I32, PLAIN)))), body)
+
+    def levels_v1(self, levels, max_level):
+        if max_level == 0:
+            return b''
+        data = hybrid(levels, bit_width(max_level))
+        return struct.pack('<i', len(data)) + data
+
+    def data_page_v1(self, values, encoding, dictionary=None, def_levels=None, rep_levels=None):
+        raw = self.levels_v1(rep_levels, self.max_rep) + self.levels_v1(def_levels, self.max_def)
+        raw += self.encode_values(values, encoding, dictionary)
+        count = len(def_levels) if def_levels is not None else len(values)
+        self.num_values += count
+        header = Struct((1, T_I32, count), (2, T_I32, encoding), (3, T_I32, RLE), (4, T_I32, RLE))
+        self.page((DATA_PAGE, len(raw), (5, T_STRUCT, header)), compress(self.codec, raw))
+
+    def data_page_v2(self, values, encoding, dictionary=None, def_levels=None):
+        levels = hybrid(def_levels, bit_width(self.max_def)) if self.max_def > 0 else b''
+        raw = self.encode_values(values, encoding, dictionary)
+        count = len(def_levels) if def_levels is not None else len(values)
+        self.num_values += count
+        header = Struct(
+            (1, T_I32, count), (2, T_I32, count - len(values)), (3, T_I32, count), (4, T_I32, encoding),
+            (5, T_I32, len(levels)), (6, T_I32, 0), (7, T_TRUE, True))
+        self.page((DATA_PAGE_V2, len(levels) + len(raw), (8, T_STRUCT, header)), levels + compress(self.codec, raw))
+
+    def encode_values(self, values, encoding, dictionary):
+        self.encodings.add(encoding)
+        if encoding in (PLAIN_DICTIONARY, RLE_DICTIONARY):
+            width = bit_width(len(dictionary) - 1)
+            return bytes([width]) + hybrid([dictionary.index(v) for v in values], width)
+        if encoding == RLE:
+            data = hybrid([1 if v else 0 for v in values], 1)
+            return struct.pack('<i', len(data)) + data
+        return plain(self.physical_type, values)
+
+
+def optional(values):
+    return [v for v in values if v is not None], [0 if v is None else 1 for v in values]
+
+
+def chunks(values, size):
+    return [values[i:i + size] for i in range(0, len(values), size)]
+
+
+def write_file(path, schema, row_groups, created_by):
+    out = bytearray(b'PAR1')
+    row_group_meta = []
+    total_rows = 0
+    for rows, columns in row_groups:
+        chunks_meta = []
+        for column in columns:
+            offset = len(out)
+            data = b''.join(column.pages)
+            out += data
+            has_dictionary = PLAIN in column.encodings and column.encodings != {PLAIN}
+            meta = Struct(
+                (1, T_I32, column.physical_type),
+                (2, T_LIST, (T_I32, sorted(column.encodings | {RLE}))),
+                (3, T_LIST, (T_BINARY, column.path)),
+                (4, T_I32, column.codec),
+                (5, T_I64, column.num_values),
+                (6, T_I64, len(data)),
+                (7, T_I64, len(data)),
+                (9, T_I64, offset + len(column.pages[0]) if has_dictionary else offset),
+                (11, T_I64, offset if has_dictionary else None))
+            chunks_meta.append(Struct((2, T_I64, offset), (3, T_STRUCT, meta)))
+        row_group_meta.append(Struct((1, T_LIST, (T_STRUCT, chunks_meta)), (2, T_I64, 0), (3, T_I64, rows)))
+        total_rows += rows
+    footer = Struct(
+        (1, T_I32, 1),
+        (2, T_LIST, (T_STRUCT, schema)),
+        (3, T_I64, total_rows),
+        (4, T_LIST, (T_STRUCT, row_group_meta)),
+        (6, T_BINARY, created_by)).encode()
+    out += footer + struct.pack('<i', len(footer)) + b'PAR1'
+    with open(path, 'wb') as f:
+        f.write(out)
+
+
+def element(name, physical_type=None, repetition=None, children=None, converted=None, logical=None, scale=None, precision=None):
+    return Struct(
+        (1, T_I32, physical_type), (3, T_I32, repetition), (4, T_BINARY, name), (5, T_I32, children),
+        (6, T_I32, converted), (7, T_I32, scale), (8, T_I32, precision), (10, T_STRUCT, logical))
+
+
+# Row values, see ParquetFileReaderTest
+def flat_row(i):
+    ts = datetime.datetime(2024, 1, 1) + datetime.timedelta(seconds=i // 10, microseconds=(i % 10) * 1000)
+    return (
+        i,
+        None if i % 7 == 0 else 'name' + str(i % 13),
+        'cat' + str(i % 3),
+        None if i % 5 == 0 else i * 101 - 5000,
+        None if i % 4 == 0 else (ts - datetime.datetime(1970, 1, 1)) // datetime.timedelta(microseconds=1),
+        None if i % 3 == 0 else i % 2 == 0,
+        (datetime.date(2024, 2, 29) + datetime.timedelta(days=i % 10) - datetime.date(1970, 1, 1)).days,
+    )
+
+
+def flat_row_group(first_row, rows):
+    values = list(zip(*[flat_row(i) for i in range(first_row, first_row + rows)]))
+    columns = []
+
+    # Required INT64, PLAIN, v1 pages
+    column = Column(['id'], INT64, UNCOMPRESSED)
+    for page in chunks(list(values[0]), 250):
+        column.data_page_v1(page, PLAIN)
+    columns.append(column)
+
+    # Optional string with legacy UTF8 converted type, PLAIN_DICTIONARY v1 pages
+    column = Column(['name'], BYTE_ARRAY, SNAPPY, max_def=1)
+    dictionary = sorted({v for v in values[1] if v is not None})
+    column.dictionary_page(dictionary)
+    for page in chunks(list(values[1]), 250):
+        non_null, levels = optional(page)
+        column.data_page_v1(non_null, PLAIN_DICTIONARY, dictionary, levels)
+    columns.append(column)
+
+    # Required STRING, RLE_DICTIONARY v2 pages
+    column = Column(['category'], BYTE_ARRAY, SNAPPY)
+    dictionary = ['cat2', 'cat0', 'cat1']
+    column.dictionary_page(dictionary)
+    for page in chunks(list(values[2]), 300):
+        column.data_page_v2(page, RLE_DICTIONARY, dictionary)
+    columns.append(column)
+
+    # Optional DECIMAL(9,2) INT32, PLAIN v2 pages
+    column = Column(['amount'], INT32, GZIP, max_def=1)
+    for page in chunks(list(values[3]), 200):
+        non_null, levels = optional(page)
+        column.data_page_v2(non_null, PLAIN, def_levels=levels)
+    columns.append(column)
+
+    # Optional local TIMESTAMP(MICROS), dictionary falls back to PLAIN after the first page
+    column = Column(['ts'], INT64, SNAPPY, max_def=1)
+    pages = chunks(list(values[4]), 100)
+    dictionary = sorted({v for v in pages[0] if v is not None})
+    column.dictionary_page(dictionary)
+    for index, page in enumerate(pages):
+        non_null, levels = optional(page)
+        if index == 0:
+            column.data_page_v1(non_null, RLE_DICTIONARY, dictionary, levels)
+        else:
+            column.data_page_v1(non_null, PLAIN, def_levels=levels)
+    columns.append(column)
+
+    # Optional BOOLEAN, RLE v2 pages
+    column = Column(['flag'], BOOLEAN, UNCOMPRESSED, max_def=1)
+    for page in chunks(list(values[5]), 400):
+        non_null, levels = optional(page)
+        column.data_page_v2(non_null, RLE, def_levels=levels)
+    columns.append(column)
+
+    # Required DATE, PLAIN v1 page
+    column = Column(['day'], INT32, GZIP)
+    column.data_page_v1(list(values[6]), PLAIN)
+    columns.append(column)
+    return rows, columns
+
+
+def write_flat(directory):
+    timestamp = Struct((8, T_STRUCT, Struct((1, T_TRUE, False), (2, T_STRUCT, Struct((2, T_STRUCT, Struct()))))))
+    schema = [
+        element('schema', children=7),
+        element('id', INT64, REQUIRED),
+        element('name', BYTE_ARRAY, OPTIONAL, converted=CONVERTED_UTF8),
+        element('category', BYTE_ARRAY, REQUIRED, logical=Struct((1, T_STRUCT, Struct()))),
+        element('amount', INT32, OPTIONAL, logical=Struct((5, T_STRUCT, Struct((1, T_I32, 2), (2, T_I32, 9)))), scale=2, precision=9),
+        element('ts', INT64, OPTIONAL, logical=timestamp),
+        element('flag', BOOLEAN, OPTIONAL),
+        element('day', INT32, REQUIRED, logical=Struct((6, T_STRUCT, Struct()))),
+    ]
+    write_file(os.path.join(directory, 'flat.parquet'), schema, [flat_row_group(0, 600), flat_row_group(600, 400)], 'DBeaver test fixture generator')
+
+
+def write_nested(directory):
+    # id, address {street, zip}, tags list<string>, score
+    rows = 20
+    ids = list(range(rows))
+    streets = [None if i % 4 == 0 else ('street' + str(i) if i % 3 else None) for i in ids]
+    zips = [None if i % 4 == 0 else 10000 + i for i in ids]
+    tags = [None if i % 5 == 0 else ['tag' + str(j) for j in range(i % 3)] for i in ids]
+    scores = [None if i % 6 == 0 else i / 4 for i in ids]
+
+    columns = []
+    column = Column(['id'], INT32, UNCOMPRESSED)
+    column.data_page_v1(ids, PLAIN)
+    columns.append(column)
+
+    column = Column(['address', 'street'], BYTE_ARRAY, UNCOMPRESSED, max_def=2)
+    levels = [0 if i % 4 == 0 else (2 if streets[i] is not None else 1) for i in ids]
+    column.data_page_v1([s for s in streets if s is not None], PLAIN, def_levels=levels)
+    columns.append(column)
+
+    column = Column(['address', 'zip'], INT32, UNCOMPRESSED, max_def=1)
+    non_null, levels = optional(zips)
+    column.data_page_v1(non_null, PLAIN, def_levels=levels)
+    columns.append(column)
+
+    column = Column(['tags', 'list', 'element'], BYTE_ARRAY, SNAPPY, max_def=3, max_rep=1)
+    values, def_levels, rep_levels = [], [], []
+    for row in tags:
+        if row is None:
+            def_levels.append(0)
+            rep_levels.append(0)
+        elif not row:
+            def_levels.append(1)
+            rep_levels.append(0)
+        else:
+            for index, tag in enumerate(row):
+                values.append(tag)
+                def_levels.append(3)
+                rep_levels.append(0 if index == 0 else 1)
+    column.data_page_v1(values, PLAIN, def_levels=def_levels, rep_levels=rep_levels)
+    columns.append(column)
+
+    column = Column(['score'], DOUBLE, SNAPPY, max_def=1)
+    non_null, levels = optional(scores)
+    column.data_page_v1(non_null, PLAIN, def_levels=levels)
+    columns.append(column)
+
+    string = Struct((1, T_STRUCT, Struct()))
+    schema = [
+        element('schema', children=4),
+        element('id', INT32, REQUIRED),
+        element('address', repetition=OPTIONAL, children=2),
+        element('street', BYTE_ARRAY, OPTIONAL, logical=string),
+        element('zip', INT32, REQUIRED),
+        element('tags', repetition=OPTIONAL, children=1, converted=CONVERTED_LIST, logical=Struct((3, T_STRUCT, Struct()))),
+        element('list', repetition=REPEATED, children=1),
+        element('element', BYTE_ARRAY, OPTIONAL, logical=string),
+        element('score', DOUBLE, OPTIONAL),
+    ]
+    write_file(os.path.join(directory, 'nested.parquet'), schema, [(rows, columns)], 'DBeaver test fixture generator')
+
+
+if __name__ == '__main__':
+    target = os.path.dirname(os.path.abspath(__file__))
+    write_flat(target)
+    write_nested(target)
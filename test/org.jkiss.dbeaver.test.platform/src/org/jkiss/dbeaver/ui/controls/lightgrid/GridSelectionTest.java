@@ -0,0 +1,171 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.lightgrid;
+
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+public class GridSelectionTest extends DBeaverUnitTest {
+
+    @Test
+    public void testMergeAdjacentRanges() {
+        GridSelection selection = new GridSelection();
+        Assert.assertTrue(selection.add(0, 0, 2, 1));
+        Assert.assertTrue(selection.add(0, 2, 2, 4));
+        Assert.assertTrue(selection.add(3, 0, 3, 4));
+        // Overlapping and already selected cells don't change selection
+        Assert.assertFalse(selection.add(1, 1, 3, 3));
+        Assert.assertEquals(new GridSelection.Range(0, 0, 3, 4), selection.getSingleRange());
+        Assert.assertEquals(20, selection.getCellCount());
+    }
+
+    @Test
+    public void testRemoveSplitsRange() {
+        GridSelection selection = new GridSelection();
+        selection.add(0, 0, 4, 4);
+        Assert.assertTrue(selection.remove(1, 1, 2, 2));
+        Assert.assertFalse(selection.remove(1, 1, 2, 2));
+        Assert.assertNull(selection.getSingleRange());
+        Assert.assertEquals(21, selection.getCellCount());
+        Assert.assertFalse(selection.contains(2, 1));
+        Assert.assertTrue(selection.contains(3, 1));
+        // Rows stay selected while they have selected cells
+        Assert.assertEquals(List.of(0, 1, 2, 3, 4), new ArrayList<>(selection.getRows()));
+
+        // Restoring the hole makes a single range again
+        selection.add(1, 1, 2, 2);
+        Assert.assertEquals(25, selection.getCellCount());
+        Assert.assertEquals(new GridSelection.Range(0, 0, 4, 4), selection.getSingleRange());
+    }
+
+    @Test
+    public void testLargeSelection() {
+        GridSelection selection = new GridSelection();
+        selection.add(0, 0, 999, 999_999);
+        Assert.assertEquals(1_000_000_000L, selection.getCellCount());
+        Assert.assertEquals(1_000_000, selection.getRowCount());
+        Assert.assertTrue(selection.containsRow(999_999));
+        Assert.assertFalse(selection.containsRow(1_000_000));
+
+        selection.removeRowsAfter(9);
+        Assert.assertEquals(10_000, selection.getCellCount());
+        Assert.assertEquals(new GridSelection.Range(0, 0, 999, 9), selection.getSingleRange());
+        Iterator<GridPos> cells = selection.iterator();
+        Assert.assertEquals(new GridPos(0, 0), cells.next());
+        Assert.assertEquals(new GridPos(1, 0), cells.next());
+    }
+
+    @Test
+    public void testRowsAndColumns() {
+        GridSelection selection = new GridSelection();
+        Assert.assertNull(selection.getFirst());
+        Assert.assertEquals(0, selection.getRows().size());
+        selection.add(5, 10, 6, 12);
+        selection.add(1, 11, 1, 11);
+        selection.add(3, 20, 3, 21);
+        Assert.assertEquals(new GridPos(5, 10), selection.getFirst());
+        Assert.assertArrayEquals(new int[]{1, 3, 5, 6}, selection.getColumnIndexes());
+        Assert.assertEquals(List.of(10, 11, 12, 20, 21), new ArrayList<>(selection.getRows()));
+        Assert.assertEquals(5, selection.getRowCount());
+        Assert.assertTrue(selection.containsRow(11));
+        Assert.assertFalse(selection.containsRow(13));
+        Assert.assertEquals(
+            List.of(new GridPos(5, 10), new GridPos(6, 10), new GridPos(1, 11), new GridPos(5, 11), new GridPos(6, 11),
+                new GridPos(5, 12), new GridPos(6, 12), new GridPos(3, 20), new GridPos(3, 21)),
+            new ArrayList<>(selection));
+    }
+
+    @Test
+    public void testSetOperations() {
+        GridSelection selection = new GridSelection();
+        selection.add(0, 0, 3, 3);
+        GridSelection copy = new GridSelection(selection);
+        selection.remove(0, 0, 0, 0);
+        Assert.assertEquals(16, copy.getCellCount());
+        Assert.assertTrue(copy.containsAll(selection));
+        Assert.assertFalse(selection.containsAll(copy));
+
+        // Equal selections may consist of different ranges
+        GridSelection cells = new GridSelection();
+        for (GridPos pos : selection) {
+            cells.add(pos);
+        }
+        Assert.assertEquals(selection, cells);
+
+        copy.removeAll(selection);
+        Assert.assertEquals(List.of(new GridPos(0, 0)), new ArrayList<>(copy));
+        copy.addAll(selection);
+        Assert.assertEquals(new GridSelection.Range(0, 0, 3, 3), copy.getSingleRange());
+    }
+
+    /**
+     * Compares selection with a set of cells after random modifications
+     */
+    @Test
+    public void testRandomModifications() {
+        Random random = new Random(12345);
+        GridSelection selection = new GridSelection();
+        TreeSet<GridPos> cells = new TreeSet<>(new GridPos.PosComparator());
+        for (int i = 0; i < 2000; i++) {
+            int firstCol = random.nextInt(12);
+            int firstRow = random.nextInt(12);
+            int lastCol = firstCol + random.nextInt(4);
+            int lastRow = firstRow + random.nextInt(4);
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                selection.add(firstCol, firstRow, lastCol, lastRow);
+                forEachCell(firstCol, firstRow, lastCol, lastRow, cells::add);
+            } else if (operation < 9) {
+                selection.remove(firstCol, firstRow, lastCol, lastRow);
+                forEachCell(firstCol, firstRow, lastCol, lastRow, cells::remove);
+            } else {
+                selection.removeRowsAfter(firstRow);
+                cells.removeIf(pos -> pos.row > firstRow);
+            }
+
+            Assert.assertEquals(cells.size(), selection.getCellCount());
+            Assert.assertEquals(new ArrayList<>(cells), new ArrayList<>(selection));
+            Assert.assertEquals(cells.isEmpty() ? null : cells.first(), selection.getFirst());
+            SortedSet<Integer> rows = new TreeSet<>();
+            for (GridPos pos : cells) {
+                rows.add(pos.row);
+            }
+            Assert.assertEquals(new ArrayList<>(rows), new ArrayList<>(selection.getRows()));
+            for (int row = 0; row < 16; row++) {
+                Assert.assertEquals(rows.contains(row), selection.containsRow(row));
+            }
+            // Ranges stay disjoint
+            long rangeCells = 0;
+            for (GridSelection.Range range : selection.getRanges()) {
+                rangeCells += range.getCellCount();
+            }
+            Assert.assertEquals(selection.getCellCount(), rangeCells);
+        }
+    }
+
+    private static void forEachCell(int firstCol, int firstRow, int lastCol, int lastRow, Consumer<GridPos> action) {
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                action.accept(new GridPos(col, row));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResultSetReadAheadStageTest extends DBeaverUnitTest {
+
+    @Test
+    public void testStagedRowsAppendedAfterCompletion() {
+        List<Object[]> model = createRows(0, 100);
+        ResultSetReadAheadStage stage = new ResultSetReadAheadStage(model.size(), 100, 0);
+        for (Object[] row : createRows(100, 100)) {
+            Assert.assertTrue(stage.addRow(row));
+        }
+        // Rows can't be used while read is in progress
+        Assert.assertFalse(stage.canAppendTo(model.size()));
+
+        stage.complete(null);
+        Assert.assertTrue(stage.canAppendTo(model.size()));
+        Assert.assertTrue(stage.isHasMoreData());
+        model.addAll(stage.getRows());
+
+        Assert.assertEquals(200, model.size());
+        for (int i = 0; i < model.size(); i++) {
+            Assert.assertEquals(i, model.get(i)[0]);
+        }
+        // Stage is not appended twice
+        Assert.assertFalse(stage.canAppendTo(model.size()));
+    }
+
+    @Test
+    public void testLastSegment() {
+        ResultSetReadAheadStage stage = new ResultSetReadAheadStage(100, 100, 0);
+        for (Object[] row : createRows(100, 30)) {
+            stage.addRow(row);
+        }
+        stage.complete(null);
+        Assert.assertTrue(stage.canAppendTo(100));
+        Assert.assertFalse(stage.isHasMoreData());
+        Assert.assertEquals(30, stage.getRows().size());
+    }
+
+    @Test
+    public void testMemoryLimit() {
+        ResultSetReadAheadStage stage = new ResultSetReadAheadStage(0, 1000, 1);
+        Assert.assertFalse(stage.addRow(new Object[] {1, "first"}));
+        Assert.assertTrue(stage.isTruncated());
+        Assert.assertFalse(stage.addRow(new Object[] {2, "second"}));
+        stage.complete(null);
+
+        Assert.assertEquals(1, stage.getRows().size());
+        // Rest of the segment must be read on request
+        Assert.assertTrue(stage.isHasMoreData());
+        Assert.assertTrue(stage.canAppendTo(0));
+    }
+
+    @Test
+    public void testDiscardedAfterRefresh() {
+        ResultSetReadAheadStage stage = new ResultSetReadAheadStage(100, 100, 0);
+        for (Object[] row : createRows(100, 50)) {
+            stage.addRow(row);
+        }
+        // Refresh discards the stage while it is still being read
+        stage.discard();
+        Assert.assertFalse(stage.addRow(new Object[] {150}));
+        stage.complete(null);
+
+        Assert.assertTrue(stage.isDiscarded());
+        Assert.assertFalse(stage.canAppendTo(100));
+        Assert.assertEquals(50, stage.getRows().size());
+    }
+
+    @Test
+    public void testOffsetMismatchAfterRefresh() {
+        ResultSetReadAheadStage stage = new ResultSetReadAheadStage(100, 100, 0);
+        for (Object[] row : createRows(100, 100)) {
+            stage.addRow(row);
+        }
+        stage.complete(null);
+        // Refreshed result set has different row count, so staged rows do not continue it
+        Assert.assertFalse(stage.canAppendTo(40));
+        Assert.assertTrue(stage.canAppendTo(100));
+    }
+
+    @Test
+    public void testFailedRead() {
+        ResultSetReadAheadStage stage = new ResultSetReadAheadStage(0, 100, 0);
+        stage.addRow(new Object[] {0});
+        stage.complete(new IllegalStateException("Connection lost"));
+        Assert.assertFalse(stage.canAppendTo(0));
+        Assert.assertNotNull(stage.getError());
+
+        ResultSetReadAheadStage empty = new ResultSetReadAheadStage(0, 100, 0);
+        empty.complete(null);
+        Assert.assertFalse(empty.canAppendTo(0));
+    }
+
+    private static List<Object[]> createRows(int start, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = start; i < start + count; i++) {
+            rows.add(new Object[] {i, "row " + i});
+        }
+        return rows;
+    }
+}